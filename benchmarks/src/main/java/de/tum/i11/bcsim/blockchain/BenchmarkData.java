@@ -0,0 +1,82 @@
+package de.tum.i11.bcsim.blockchain;
+
+import com.google.protobuf.Timestamp;
+import de.tum.i11.bcsim.proto.Messages.Block;
+import de.tum.i11.bcsim.proto.Messages.Transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible synthetic block trees and transaction streams for the blockchain benchmarks
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Generate transactions with consecutive ids, random fees and increasing timestamps
+     * @param from id of the first transaction
+     * @param n number of transactions
+     * @param rnd source of the fees
+     * @return the transactions
+     */
+    static List<Transaction> transactions(int from, int n, Random rnd) {
+        List<Transaction> txs = new ArrayList<>(n);
+        for(int i = from; i < from+n; i++) {
+            txs.add(Transaction.newBuilder().setTxId(i).setTxFee(rnd.nextInt(10))
+                    .setTs(Timestamp.newBuilder().setSeconds(i)).build());
+        }
+        return txs;
+    }
+
+    /**
+     * Generate a block tree in arrival order. Each block extends the current tip, except that with probability
+     * [forkRate] a competing block is mined on the tip's parent, containing the same transactions as the tip. The fork
+     * is resolved by the next block extending the first tip.
+     * @param blocks number of blocks (excluding genesis)
+     * @param forkRate probability of a block competing with the current tip
+     * @param blockSize transactions per block
+     * @param seed random seed
+     * @return the blocks
+     */
+    static List<Block> blockTree(int blocks, double forkRate, int blockSize, long seed) {
+        Random rnd = new Random(seed);
+        List<Block> res = new ArrayList<>(blocks);
+        int tip = 0, tipParent = 0, nextTx = 1;
+        List<Transaction> tipTx = List.of();
+        for(int id = 1; id <= blocks; id++) {
+            if(id > 1 && rnd.nextDouble() < forkRate) {
+                res.add(block(id, tipParent, tipTx));
+            } else {
+                tipTx = transactions(nextTx, blockSize, rnd);
+                nextTx += blockSize;
+                res.add(block(id, tip, tipTx));
+                tipParent = tip;
+                tip = id;
+            }
+        }
+        return res;
+    }
+
+    private static Block block(int id, int parent, List<Transaction> txs) {
+        return Block.newBuilder().setBlockId(id).setParentId(parent).setCreator(0)
+                .setTs(Timestamp.newBuilder().setSeconds(id)).addAllTransaction(txs).build();
+    }
+
+    /**
+     * @param forkResolution LCR or GHOST
+     * @param blockSize maximum block size
+     * @param poolSize maximum pool size
+     * @param capacity expected number of blocks
+     * @return an empty blockchain with the given fork resolution
+     */
+    static Blockchain blockchain(String forkResolution, int blockSize, int poolSize, int capacity) {
+        if("GHOST".equals(forkResolution)) {
+            return new GHOSTBlockchain(blockSize, poolSize, 6, capacity, false, 8);
+        }
+        return new LCRBlockchain(blockSize, poolSize, 6, capacity, false);
+    }
+}
@@ -0,0 +1,61 @@
+package de.tum.i11.bcsim.blockchain;
+
+import de.tum.i11.bcsim.proto.Messages.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a blockchain from a synthetic block tree (Blockchain.addBlock including fork choices and tx pool updates)
+ * and selecting the tips of a complete chain (LCRBlockchain/GHOSTBlockchain.getTips)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BlockchainBenchmark {
+
+    @Param({"1000", "10000"})
+    public int chainLength;
+
+    @Param({"0.0", "0.1", "0.3"})
+    public double forkRate;
+
+    @Param({"10", "100"})
+    public int blockSize;
+
+    @Param({"LCR", "GHOST"})
+    public String forkResolution;
+
+    private List<Block> blocks;
+    private Blockchain chain;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        blocks = BenchmarkData.blockTree(chainLength, forkRate, blockSize, 42);
+        chain = newBlockchain();
+        blocks.forEach(chain::addBlock);
+    }
+
+    private Blockchain newBlockchain() {
+        // transactions only arrive within blocks, the pool holds those of stale branches
+        return BenchmarkData.blockchain(forkResolution, blockSize, 10000, chainLength);
+    }
+
+    @Benchmark
+    public Blockchain addBlocks() {
+        Blockchain bc = newBlockchain();
+        for(Block b : blocks) {
+            bc.addBlock(b);
+        }
+        return bc;
+    }
+
+    @Benchmark
+    public List<Blockchain.BlockEntry> getTips() {
+        return chain.getTips();
+    }
+}
@@ -0,0 +1,78 @@
+package de.tum.i11.bcsim.blockchain;
+
+import de.tum.i11.bcsim.proto.Messages;
+import de.tum.i11.bcsim.proto.Messages.Transaction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selecting the transactions of a new block from a full pool (TransactionPool.fillBlock) and updating the pool after
+ * the main branch switched between two competing blocks (TransactionPool.switchForks)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionPoolBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int poolSize;
+
+    @Param({"100", "1000"})
+    public int blockSize;
+
+    private List<Transaction> txs;
+    private TransactionPool switchPool;
+    private final HashMap<Integer, Transaction> branchA = new HashMap<>();
+    private final HashMap<Integer, Transaction> branchB = new HashMap<>();
+    private boolean onA;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        txs = BenchmarkData.transactions(1, poolSize, new Random(42));
+        // the transactions of block A are in the chain, those of the competing block B are still in the pool
+        switchPool = new TransactionPool(poolSize);
+        txs.forEach(switchPool::addTransaction);
+        switchPool.fillBlock(Messages.Block.newBuilder(), blockSize).getTransactionList().forEach(t -> branchA.put(t.getTxId(), t));
+        for(Transaction t : switchPool.getPoolMap().values()) {
+            if(branchB.size() >= blockSize) {
+                break;
+            }
+            branchB.put(t.getTxId(), t);
+        }
+        onA = true;
+    }
+
+    @State(Scope.Thread)
+    public static class FullPool {
+        TransactionPool pool;
+
+        @Setup(Level.Invocation)
+        public void fill(TransactionPoolBenchmark b) {
+            pool = new TransactionPool(b.poolSize);
+            b.txs.forEach(pool::addTransaction);
+        }
+    }
+
+    @Benchmark
+    public Messages.Block.Builder fillBlock(FullPool p) {
+        return p.pool.fillBlock(Messages.Block.newBuilder(), blockSize);
+    }
+
+    @Benchmark
+    public TransactionPool switchForks() {
+        if(onA) {
+            switchPool.switchForks(branchB, branchA);
+        } else {
+            switchPool.switchForks(branchA, branchB);
+        }
+        onA = !onA;
+        return switchPool;
+    }
+}
@@ -0,0 +1,50 @@
+package de.tum.i11.bcsim.graph;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * All-pairs shortest paths (GraphUtil.apsp) and the graph statistics computed from them, as done once per run and
+ * repeatedly while searching for a graph with a given average propagation delay. The apsp matrix needs nodes² ints.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AllPairsBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int nodes;
+
+    @Param({"4", "8", "40"})
+    public int avgDegree;
+
+    private ArrayList<List<Edge>> graph;
+    private ArrayList<List<Edge>> digraph;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        graph = GraphData.rndGraph(nodes, avgDegree, 100, 42);
+        digraph = GraphUtil.toDiGraph(graph);
+    }
+
+    @Benchmark
+    public int[][] apsp() {
+        return GraphUtil.apsp(digraph);
+    }
+
+    @Benchmark
+    public double getAvgPropDelay() {
+        return GraphUtil.getAvgPropDelay(graph);
+    }
+
+    @Benchmark
+    public int[][] apspHops() {
+        return GraphUtil.apspHops(digraph);
+    }
+}
@@ -0,0 +1,51 @@
+package de.tum.i11.bcsim.graph;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible connected graphs as input of the path benchmarks, independent of the generators benchmarked
+ */
+final class GraphData {
+
+    private GraphData() {
+    }
+
+    /**
+     * Generate a ring with random chords, so that the graph is connected and nodes have the given average degree
+     * @param nodes number of nodes
+     * @param avgDegree average number of neighbours per node (at least 2)
+     * @param latency maximum edge latency
+     * @param seed random seed
+     * @return the undirected graph (one entry per edge)
+     */
+    static ArrayList<List<Edge>> rndGraph(int nodes, int avgDegree, int latency, long seed) {
+        Random rnd = new Random(seed);
+        ArrayList<List<Edge>> graph = new ArrayList<>(nodes);
+        for(int i = 0; i < nodes; i++) {
+            graph.add(new LinkedList<>());
+        }
+        HashSet<Long> edges = new HashSet<>();
+        for(int i = 0; i < nodes; i++) {
+            addEdge(graph, edges, i, (i+1) % nodes, 1+rnd.nextInt(latency));
+        }
+        long target = Math.min((long) nodes*(nodes-1)/2, (long) nodes*avgDegree/2);
+        while(edges.size() < target) {
+            int a = rnd.nextInt(nodes);
+            int b = rnd.nextInt(nodes);
+            if(a != b) {
+                addEdge(graph, edges, a, b, 1+rnd.nextInt(latency));
+            }
+        }
+        return graph;
+    }
+
+    private static void addEdge(ArrayList<List<Edge>> graph, HashSet<Long> edges, int a, int b, int latency) {
+        if(edges.add((long) Math.min(a, b) << 32 | Math.max(a, b))) {
+            graph.get(a).add(new Edge(a, b, latency));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package de.tum.i11.bcsim.graph;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation of the network graphs created by coordinators during startup: random graphs (GraphUtil.create),
+ * random graphs searched for an average propagation delay and scale-free graphs (Barabási–Albert).
+ * Densities and m values are those used in src/config.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GraphGenerationBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int nodes;
+
+    @State(Scope.Benchmark)
+    public static class Density {
+        @Param({"0.01"})
+        public double density;
+    }
+
+    @State(Scope.Benchmark)
+    public static class ScaleFree {
+        @Param({"2", "4", "20"})
+        public int m;
+    }
+
+    @Benchmark
+    public Collection<?> rndSpanningTree() {
+        return GraphUtil.rndSpanningTree(nodes);
+    }
+
+    @Benchmark
+    public Collection<?> create(Density d) {
+        return GraphUtil.create(nodes, d.density);
+    }
+
+    @Benchmark
+    public ArrayList<List<Edge>> rndGraphWithAvgPropagationDelay(Density d) {
+        return new RndGraphWithAvgPropagationDelay(nodes, 100, d.density, 2000).getEdges();
+    }
+
+    @Benchmark
+    public ArrayList<List<Edge>> scaleFree(ScaleFree s) {
+        return new ScaleFreeStrategy(nodes, s.m, 100, 2000).getEdges();
+    }
+}
@@ -0,0 +1,50 @@
+package de.tum.i11.bcsim.graph;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-source shortest paths by latency and by hops (GraphUtil.dijkstra/dijkstraHops). Average degrees correspond
+ * to scale-free graphs with m = 2, 4 and 20.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ShortestPathBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int nodes;
+
+    @Param({"4", "8", "40"})
+    public int avgDegree;
+
+    private ArrayList<List<Edge>> digraph;
+    private int source;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        digraph = GraphUtil.toDiGraph(GraphData.rndGraph(nodes, avgDegree, 100, 42));
+    }
+
+    // vary the source, some nodes are closer to the rest of the graph than others
+    private int nextSource() {
+        source = (source + 7919) % nodes;
+        return source;
+    }
+
+    @Benchmark
+    public int[] dijkstra() {
+        return GraphUtil.dijkstra(digraph, nextSource());
+    }
+
+    @Benchmark
+    public int[] dijkstraHops() {
+        return GraphUtil.dijkstraHops(digraph, nextSource());
+    }
+}
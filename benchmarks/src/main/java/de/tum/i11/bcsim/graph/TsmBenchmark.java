@@ -0,0 +1,40 @@
+package de.tum.i11.bcsim.graph;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ordering the block producers of DPoS along a short round trip (GraphUtil.tsm) on a 2000 node graph
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TsmBenchmark {
+
+    @Param({"21", "100", "1000"})
+    public int producers;
+
+    private int[][] weights;
+    private List<Integer> ids;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int nodes = 2000;
+        weights = GraphUtil.apsp(GraphUtil.toDiGraph(GraphData.rndGraph(nodes, 8, 100, 42)));
+        ids = new ArrayList<>(producers);
+        for(int i = 0; i < producers; i++) {
+            ids.add(i * (nodes / producers));
+        }
+    }
+
+    @Benchmark
+    public List<Integer> tsm() {
+        return GraphUtil.tsm(weights, ids);
+    }
+}
@@ -0,0 +1,191 @@
+package de.tum.i11.bcsim.main;
+
+import de.tum.i11.bcsim.config.Config;
+import de.tum.i11.bcsim.config.ConfigYAML;
+import de.tum.i11.bcsim.coordinator.ProofBasedCoordinator;
+import de.tum.i11.bcsim.util.LogSetup;
+import de.tum.i11.bcsim.util.Result;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs a single coordinator with increasing numbers of peers and tx rates and reports whether each load is sustained,
+ * i.e. the created tx rate reaches the configured rate and all scheduled actions stay within the lag tolerance.
+ * For each step it records the achieved tx rate, scheduling lag, peak heap, peak threads and the CPU cores used, and
+ * finally the maximum sustained load per core. Higher tx rates are skipped once a peer count is not sustained.
+ * Usage: ScaleBenchmark [config=scale.yaml] [peers=25,50,100,200,400] [txRates=10,100,1000,5000] [seconds=30]
+ *                       [port=5151] [out=target/scale]
+ */
+public class ScaleBenchmark {
+
+    static {
+        System.setProperty("java.util.logging.manager", LogSetup.NoShutdownLogManager.class.getName());
+    }
+
+    private static final double SUSTAINED_SHARE = 0.95; // created tx rate required relative to the configured rate
+
+    private static class Step {
+        int peers;
+        double txRate;
+        double createdTxRate;
+        double confirmedTxRate;
+        double lagP99;
+        String fidelity;
+        double heapMB;
+        int threads;
+        double cores;
+        double cpuLoad;
+        double seconds;
+
+        boolean sustained() {
+            return createdTxRate >= SUSTAINED_SHARE*txRate && "ACCURATE".equals(fidelity);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> opts = new HashMap<>(Map.of(
+                "config", "scale.yaml",
+                "peers", "25,50,100,200,400",
+                "txRates", "10,100,1000,5000",
+                "seconds", "30",
+                "port", "5151",
+                "out", "target/scale"));
+        for(String a : args) {
+            String[] kv = a.split("=", 2);
+            if(kv.length != 2 || !opts.containsKey(kv[0])) {
+                System.out.println("ScaleBenchmark [config=<yaml>] [peers=<n,...>] [txRates=<tx/s,...>] [seconds=<s>] [port=<port>] [out=<dir>]");
+                return;
+            }
+            opts.put(kv[0], kv[1]);
+        }
+        Path out = Path.of(opts.get("out"));
+        Files.createDirectories(out);
+        LogSetup.setupLogging(out.resolve("scale.log"), Level.WARNING);
+        Logger.getLogger("io.netty").setLevel(Level.OFF);
+        Logger.getLogger("org.hibernate").setLevel(Level.OFF);
+
+        InetSocketAddress addr = new InetSocketAddress("127.0.0.1", Integer.parseInt(opts.get("port")));
+        int seconds = Integer.parseInt(opts.get("seconds"));
+        List<Step> steps = new ArrayList<>();
+        System.out.println(header());
+        for(String p : opts.get("peers").split(",")) {
+            for(String t : opts.get("txRates").split(",")) {
+                Step s = run(opts.get("config"), addr, Integer.parseInt(p.trim()), Double.parseDouble(t.trim()), seconds, out);
+                steps.add(s);
+                System.out.println(row(s));
+                if(!s.sustained()) {
+                    break;
+                }
+            }
+        }
+
+        String summary = summary(steps);
+        System.out.println(summary);
+        try(PrintWriter w = new PrintWriter(Files.newBufferedWriter(out.resolve("scale.txt")))) {
+            w.println(header());
+            steps.forEach(s -> w.println(row(s)));
+            w.println(summary);
+        }
+        System.exit(0);
+    }
+
+    private static Step run(String configPath, InetSocketAddress addr, int peers, double txRate, int seconds, Path out) throws IOException {
+        Config c = new Config(configPath);
+        ConfigYAML y = c.getConfigYAML();
+        y.random.nodes = peers;
+        y.blockchainDefaults.txRate = txRate;
+        y.blockchainDefaults.blocks = Math.max(1, (int) Math.round(y.blockchainDefaults.miningRate*seconds)) + y.skipBlocks;
+        y.manualStart = false;
+        c.setCoordinatorAddresses(List.of(addr));
+        c.setGraphStrategy();
+        c.createProofBasedPeerConfigs();
+        c.validate();
+        c.prefix = out.resolve("scale_"+peers+"_"+(long) txRate).toString();
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        threads.resetPeakThreadCount();
+        AtomicLong peakHeap = new AtomicLong();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0, 200, TimeUnit.MILLISECONDS);
+
+        ProofBasedCoordinator co = new ProofBasedCoordinator(addr, c);
+        long[] cpu = new long[2];
+        long[] wall = new long[2];
+        co.startedFuture().thenRun(() -> {
+            cpu[0] = processCpuTime();
+            wall[0] = System.nanoTime();
+        });
+        co.startAsOrchestrator();
+        co.closedFuture().join();
+        cpu[1] = processCpuTime();
+        wall[1] = System.nanoTime();
+        sampler.shutdownNow();
+        Result r = co.getResult().join();
+
+        Step s = new Step();
+        s.peers = peers;
+        s.txRate = txRate;
+        s.createdTxRate = r.avgTxCreatedPerPeerPerSec*peers;
+        s.confirmedTxRate = r.avgConfirmedTxPerPeerPerSec;
+        s.lagP99 = r.schedulingLags.stream().mapToDouble(l -> l.p99).max().orElse(0);
+        s.fidelity = r.fidelity;
+        s.heapMB = peakHeap.get()/1e6;
+        s.threads = threads.getPeakThreadCount();
+        s.seconds = (wall[1]-wall[0])/1e9;
+        s.cores = cpu[0] < 0 || s.seconds <= 0 ? -1 : (cpu[1]-cpu[0])/1e9/s.seconds;
+        s.cpuLoad = r.cpuLoads.stream().mapToDouble(l -> l.avgCPULoad).max().orElse(-1);
+        return s;
+    }
+
+    // CPU time of this process in ns or -1 if not supported by the JVM
+    private static long processCpuTime() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if(os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime();
+        }
+        return -1;
+    }
+
+    private static String header() {
+        return String.format("%7s %9s %9s %9s %9s %12s %9s %8s %7s %7s %8s %9s",
+                "peers", "tx/s", "created", "confirmed", "lag p99", "fidelity", "heap MB", "threads", "cores", "cpu %", "seconds", "sustained");
+    }
+
+    private static String row(Step s) {
+        return String.format(Locale.ROOT, "%7d %9.1f %9.1f %9.1f %9.2f %12s %9.0f %8d %7.2f %7.1f %8.1f %9s",
+                s.peers, s.txRate, s.createdTxRate, s.confirmedTxRate, s.lagP99, s.fidelity, s.heapMB, s.threads,
+                s.cores, s.cpuLoad, s.seconds, s.sustained() ? "yes" : "NO");
+    }
+
+    private static String summary(List<Step> steps) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        Optional<Step> maxPeers = steps.stream().filter(Step::sustained)
+                .max(Comparator.comparingInt((Step s) -> s.peers).thenComparingDouble(s -> s.txRate));
+        Optional<Step> maxTx = steps.stream().filter(Step::sustained)
+                .max(Comparator.comparingDouble((Step s) -> s.txRate).thenComparingInt(s -> s.peers));
+        if(maxPeers.isEmpty()) {
+            return "No load was sustained on "+cores+" cores";
+        }
+        return String.format(Locale.ROOT, "Sustained on %d cores: %d peers at %.1f tx/s (%.1f peers per core), %.1f tx/s with %d peers (%.1f tx/s per core)",
+                cores, maxPeers.get().peers, maxPeers.get().txRate, maxPeers.get().peers*1.0/cores,
+                maxTx.get().txRate, maxTx.get().peers, maxTx.get().txRate/cores);
+    }
+}
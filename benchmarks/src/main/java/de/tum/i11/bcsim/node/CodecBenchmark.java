@@ -0,0 +1,97 @@
+package de.tum.i11.bcsim.node;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
+import de.tum.i11.bcsim.proto.Messages;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding a P2PMessage carrying a block, as protobuf (ProtobufEncoder/ProtobufDecoder) and with the
+ * CompactP2PCodec. As in the emulation, all tx of a peer share the same payload of txSize bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+    @Param({"500", "5000"})
+    public int txs;
+
+    @Param({"0", "250"})
+    public int txSize;
+
+    @Param({"1", "100"})
+    public int creators;
+
+    private Messages.P2PMessage msg;
+    private byte[] protobuf;
+    private ByteBuf compact;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Random rnd = new Random(42);
+        ByteString[] payloads = new ByteString[creators];
+        for(int i = 0; i < creators; i++) {
+            byte[] p = new byte[txSize];
+            rnd.nextBytes(p);
+            payloads[i] = ByteString.copyFrom(p);
+        }
+        long now = System.currentTimeMillis();
+        Messages.Block.Builder b = Messages.Block.newBuilder().setBlockId(4000007).setParentId(3000001).setCreator(4)
+                .setTs(Timestamp.newBuilder().setSeconds(now/1000).setNanos((int) (now % 1000)*1000000));
+        for(int i = 0; i < txs; i++) {
+            int creator = rnd.nextInt(creators);
+            long ts = now - rnd.nextInt(60000);
+            Messages.Transaction.Builder t = Messages.Transaction.newBuilder().setTxId(creator*1000000+i).setTxFee(1+rnd.nextInt(3))
+                    .setTs(Timestamp.newBuilder().setSeconds(ts/1000).setNanos((int) (ts % 1000)*1000000+rnd.nextInt(1000000)));
+            if(txSize > 0) {
+                t.setData(payloads[creator]);
+            }
+            b.addTransaction(t);
+        }
+        msg = Messages.P2PMessage.newBuilder().setBlock(b).build();
+        protobuf = msg.toByteArray();
+        compact = PooledByteBufAllocator.DEFAULT.buffer();
+        CompactP2PCodec.encode(msg, compact);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        compact.release();
+    }
+
+    @Benchmark
+    public byte[] protobufEncode() {
+        return msg.toByteArray();
+    }
+
+    @Benchmark
+    public Messages.P2PMessage protobufDecode() throws IOException {
+        return Messages.P2PMessage.parseFrom(protobuf);
+    }
+
+    @Benchmark
+    public int compactEncode() throws IOException {
+        ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer();
+        try {
+            CompactP2PCodec.encode(msg, buf);
+            return buf.readableBytes();
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Benchmark
+    public Messages.P2PMessage compactDecode() throws IOException {
+        return CompactP2PCodec.decode(compact.duplicate());
+    }
+}
@@ -1,6 +1,8 @@
 package de.tum.i11.bcsim.blockchain;
 
 import com.google.protobuf.Timestamp;
+import de.tum.i11.bcsim.jfr.BlockAddedEvent;
+import de.tum.i11.bcsim.jfr.ForkChoiceEvent;
 import de.tum.i11.bcsim.proto.Messages;
 import de.tum.i11.bcsim.proto.Messages.Block;
 import de.tum.i11.bcsim.util.Pair;
@@ -12,6 +14,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 import java.util.logging.Logger;
 
 public abstract class Blockchain {
@@ -95,6 +98,7 @@ public abstract class Blockchain {
     protected int confirmations; // number of blocks needed to confirm a transaction (1st confirmation == tx mined into a block)
     protected final HashMap<Integer, Consumer<Messages.Transaction>> txListeners; // consumers to be executed once a tx was confirmed
     protected final boolean rndForkResolution; // in case of multiple tips, break ties randomly (true) or select earliest block (false)
+    private volatile ObjIntConsumer<BlockEntry> forkChoiceListener; // called with the new main tip and the number of tips chosen from
 
     private final ThroughputMeasure confirmedBlocks = new ThroughputMeasure();
     private final ThroughputMeasure confirmedTx = new ThroughputMeasure();
@@ -123,6 +127,26 @@ public abstract class Blockchain {
         heightMap.put(1, l);
     }
 
+    /**
+     * Additionally record throughput and pool size per time window
+     * @param windowMs length of a window in ms
+     * @param windows number of most recent windows kept
+     */
+    public void enableThroughputWindows(int windowMs, int windows) {
+        confirmedBlocks.enableWindows(windowMs, windows);
+        confirmedTx.enableWindows(windowMs, windows);
+        confirmedBytes.enableWindows(windowMs, windows);
+        totalBlocks.enableWindows(windowMs, windows);
+        txPool.enableWindows(windowMs, windows);
+    }
+
+    /**
+     * @param listener called whenever a fork is resolved, with the tip of the new main branch and the number of tips chosen from
+     */
+    public void setForkChoiceListener(ObjIntConsumer<BlockEntry> listener) {
+        this.forkChoiceListener = listener;
+    }
+
     public int getBlockSize() {
         return blockSize;
     }
@@ -159,6 +183,13 @@ public abstract class Blockchain {
         return heightMap;
     }
 
+    /**
+     * @return the height of the highest block
+     */
+    public synchronized int getHeight() {
+        return heightMap.size();
+    }
+
     public synchronized BlockEntry getBlock(int id) {
         return idMap.get(id);
     }
@@ -335,7 +366,7 @@ public abstract class Blockchain {
      */
     private synchronized void executeListeners(BlockEntry e) {
         BlockEntry target = e;
-        long time = System.currentTimeMillis();
+        long time = System.nanoTime();
         // traverse backwards through the blockchain until the block confirmed by the new entry is reached
         // if the required number of confirmations is <= 1, the given entry confirms itself
         for(int i = 1; i < confirmations; i++) {
@@ -379,6 +410,8 @@ public abstract class Blockchain {
         if(getBlock(b.getBlockId()) != null) {
             return false;
         }
+        BlockAddedEvent event = new BlockAddedEvent();
+        event.begin();
         BlockEntry parent = idMap.get(b.getParentId());
         if(parent == null) {
             // Parent is unknown, add this block as an orphan
@@ -393,6 +426,7 @@ public abstract class Blockchain {
                     return list;
                 }
             });
+            commit(event, b, -1, false);
             return true;
         }
 
@@ -441,9 +475,21 @@ public abstract class Blockchain {
             }
             orphans.remove(b.getBlockId());
         }
+        commit(event, b, newBlock.height, extendsTip);
         return true;
     }
 
+    private static void commit(BlockAddedEvent event, Block b, int height, boolean extendsTip) {
+        if(event.shouldCommit()) {
+            event.blockId = b.getBlockId();
+            event.parentId = b.getParentId();
+            event.height = height;
+            event.txCount = b.getTransactionCount();
+            event.extendsTip = extendsTip;
+            event.commit();
+        }
+    }
+
     /**
      * Find the least common ancestor of the given blocks. Used to switch between forks of the blockchain
      * @param blocks the blocks to find an ancestor of
@@ -480,6 +526,8 @@ public abstract class Blockchain {
      * @param forks leafs of the forks chosen from
      */
     private synchronized void onForkChoice(BlockEntry entry, List<BlockEntry> forks) {
+        ForkChoiceEvent event = new ForkChoiceEvent();
+        event.begin();
         // Prepare maps to store transactions of the main branch and all (now) stale branches
         HashMap<Integer, Messages.Transaction> inChain = new HashMap<>();
         HashMap<Integer, Messages.Transaction> inForks = new HashMap<>();
@@ -503,6 +551,20 @@ public abstract class Blockchain {
 
         // instruct the txPool to update its view according to the maps
         txPool.switchForks(inChain, inForks);
+
+        if(event.shouldCommit()) {
+            event.blockId = entry.block.getBlockId();
+            event.height = entry.height;
+            event.forks = forks.size();
+            event.txToChain = inChain.size();
+            event.txToPool = inForks.size();
+            event.commit();
+        }
+
+        var listener = forkChoiceListener;
+        if(listener != null) {
+            listener.accept(entry, forks.size());
+        }
     }
 
     /**
@@ -1,8 +1,12 @@
 package de.tum.i11.bcsim.blockchain;
 
+import de.tum.i11.bcsim.jfr.FillBlockEvent;
+import de.tum.i11.bcsim.jfr.SwitchForksEvent;
 import de.tum.i11.bcsim.proto.Messages;
 import de.tum.i11.bcsim.proto.Messages.Transaction;
 import de.tum.i11.bcsim.util.ThroughputMeasure;
+import de.tum.i11.bcsim.util.Util;
+import de.tum.i11.bcsim.util.WindowedSeries;
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -16,6 +20,7 @@ public class TransactionPool {
     private LinkedHashMap<Integer, Transaction> inPool; // mapping txIDs to transactions not currently in the main chain
     private final int maxSize; // maximum size of the txPool
     private final ThroughputMeasure totalTx = new ThroughputMeasure();
+    private WindowedSeries poolSize; // pool size over time, null if disabled
 
     TransactionPool(int maxSize) {
         double loadFactor = 0.75;
@@ -44,6 +49,29 @@ public class TransactionPool {
         return inPool.size();
     }
 
+    /**
+     * Record registered transactions and the pool size per time window
+     * @param windowMs length of a window in ms
+     * @param windows number of most recent windows kept
+     */
+    synchronized void enableWindows(int windowMs, int windows) {
+        totalTx.enableWindows(windowMs, windows);
+        poolSize = new WindowedSeries(windowMs, windows, true);
+    }
+
+    /**
+     * @return the pool size at the end of each window or null if windows are disabled
+     */
+    public synchronized Messages.TimeSeries getPoolSizeSeries() {
+        return poolSize == null ? null : poolSize.toProto(false);
+    }
+
+    private void updatePoolSize() {
+        if(poolSize != null) {
+            poolSize.set(inPool.size(), Util.toEpochMillis(System.nanoTime()));
+        }
+    }
+
     public HashMap<Integer, Transaction> getChainMap() {
         return inChain;
     }
@@ -62,6 +90,7 @@ public class TransactionPool {
             inChain.put(t.getTxId(), t);
             inPool.remove(t.getTxId(), t);
         }
+        updatePoolSize();
     }
 
     /**
@@ -72,6 +101,9 @@ public class TransactionPool {
      */
     synchronized Messages.Block.Builder fillBlock(Messages.Block.Builder builder, int max) {
         LOGGER.finest("Filling block with transactions");
+        FillBlockEvent event = new FillBlockEvent();
+        event.begin();
+        int poolSize = inPool.size();
         // sort txPool by their transaction fees and creation time (descending)
         LinkedList<Transaction> pool = new LinkedList<>(inPool.values());
         pool.sort((t1, t2) -> {
@@ -96,6 +128,12 @@ public class TransactionPool {
             inPool.remove(t.getTxId());
             inChain.put(t.getTxId(), t);
         }
+        updatePoolSize();
+        if(event.shouldCommit()) {
+            event.txCount = l.size();
+            event.poolSize = poolSize;
+            event.commit();
+        }
         // add transactions to block builder
         return builder.addAllTransaction(l);
     }
@@ -107,6 +145,8 @@ public class TransactionPool {
      */
     synchronized void switchForks(HashMap<Integer, Transaction> inChain, HashMap<Integer, Transaction> inPool) {
         LOGGER.finest("Updating pool after switch");
+        SwitchForksEvent event = new SwitchForksEvent();
+        event.begin();
         for(Transaction t : inChain.values()) {
             this.inChain.put(t.getTxId(), t);
             this.inPool.remove(t.getTxId());
@@ -115,6 +155,13 @@ public class TransactionPool {
             this.inChain.remove(t.getTxId());
             this.inPool.put(t.getTxId(), t);
         }
+        updatePoolSize();
+        if(event.shouldCommit()) {
+            event.txToChain = inChain.size();
+            event.txToPool = inPool.size();
+            event.poolSize = this.inPool.size();
+            event.commit();
+        }
     }
 
     /**
@@ -127,6 +174,7 @@ public class TransactionPool {
         }
         totalTx.registerPackets(1);
         inPool.put(t.getTxId(), t);
+        updatePoolSize();
         return true;
     }
 
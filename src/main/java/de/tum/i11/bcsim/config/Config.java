@@ -5,10 +5,13 @@ import de.tum.i11.bcsim.blockchain.Blockchain;
 import de.tum.i11.bcsim.blockchain.GHOSTBlockchain;
 import de.tum.i11.bcsim.blockchain.LCRBlockchain;
 import de.tum.i11.bcsim.graph.*;
+import de.tum.i11.bcsim.node.WireFormat;
 import de.tum.i11.bcsim.util.Util;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.function.Supplier;
@@ -150,29 +153,59 @@ public class Config {
     public void setGraphStrategy() {
         switch (yaml.networkType) {
             case "random":
-                if(yaml.random.perEdge)
-                    this.graphStrategy = new RndGraphStrategy(yaml.random.nodes, yaml.random.latency, yaml.random.density, yaml.random.bandwidth);
-                else
-                    this.graphStrategy = new RndGraphWithAvgPropagationDelay(yaml.random.nodes, yaml.random.latency, yaml.random.density, yaml.random.bandwidth);
+                setGraphStrategy(() -> {
+                    if(yaml.random.perEdge)
+                        return new RndGraphStrategy(yaml.random.nodes, yaml.random.latency, yaml.random.density, yaml.random.bandwidth);
+                    else
+                        return new RndGraphWithAvgPropagationDelay(yaml.random.nodes, yaml.random.latency, yaml.random.density, yaml.random.bandwidth);
+                }, "random nodes="+yaml.random.nodes+" density="+yaml.random.density+" latency="+yaml.random.latency+" perEdge="+yaml.random.perEdge,
+                        yaml.random.bandwidth);
                 break;
             case "explicit":
                 if(yaml.explicit.fileName != null) {
-                    this.graphStrategy = new ExplicitGraphStrategy(yaml.explicit.fileName, yaml.explicit.bandwidth);
+                    setGraphStrategy(() -> new ExplicitGraphStrategy(yaml.explicit.fileName, yaml.explicit.bandwidth),
+                            "explicit file="+fileKey(yaml.explicit.fileName), yaml.explicit.bandwidth);
                 } else {
                     this.graphStrategy = new ExplicitGraphStrategy(yaml.explicit.peers, yaml.explicit.bandwidth);
                 }
                 break;
             case "scaleFree":
-                if(yaml.scaleFree.perEdge)
-                    this.graphStrategy = new ScaleFreeStrategy(yaml.scaleFree.nodes, yaml.scaleFree.m, yaml.scaleFree.latency, yaml.scaleFree.bandwidth);
-                else
-                    this.graphStrategy = new ScaleFreeGraphWithAvgPropagationDelay(yaml.scaleFree.nodes, yaml.scaleFree.m, yaml.scaleFree.latency, yaml.scaleFree.bandwidth);
+                setGraphStrategy(() -> {
+                    if(yaml.scaleFree.perEdge)
+                        return new ScaleFreeStrategy(yaml.scaleFree.nodes, yaml.scaleFree.m, yaml.scaleFree.latency, yaml.scaleFree.bandwidth);
+                    else
+                        return new ScaleFreeGraphWithAvgPropagationDelay(yaml.scaleFree.nodes, yaml.scaleFree.m, yaml.scaleFree.latency, yaml.scaleFree.bandwidth);
+                }, "scaleFree nodes="+yaml.scaleFree.nodes+" m="+yaml.scaleFree.m+" latency="+yaml.scaleFree.latency+" perEdge="+yaml.scaleFree.perEdge,
+                        yaml.scaleFree.bandwidth);
+                break;
+            case "geo":
+                setGraphStrategy(() -> new GeoGraphStrategy(yaml.geo.nodes, yaml.geo.m, yaml.geo.regionsFile, yaml.geo.rttFile, yaml.geo.jitter, yaml.geo.bandwidth),
+                        "geo nodes="+yaml.geo.nodes+" m="+yaml.geo.m+" regions="+fileKey(yaml.geo.regionsFile)+" rtt="+fileKey(yaml.geo.rttFile)
+                                +" jitter="+yaml.geo.jitter, yaml.geo.bandwidth);
                 break;
             default:
                 throw new UnsupportedOperationException();
         }
     }
 
+    // identifies the content of a file in graph cache keys
+    private static String fileKey(String fileName) {
+        if(fileName == null) {
+            return null;
+        }
+        File f = new File(fileName);
+        return f.getAbsolutePath()+" size="+f.length()+" modified="+f.lastModified();
+    }
+
+    // use the strategy directly or, if a graph cache is configured, load its graph from the cache
+    private void setGraphStrategy(Supplier<GraphStrategy> strategy, String key, double bandwidth) {
+        if(yaml.graphCache == null) {
+            this.graphStrategy = strategy.get();
+        } else {
+            this.graphStrategy = new CachedGraphStrategy(Path.of(yaml.graphCache), key+" variant="+yaml.graphVariant, strategy, bandwidth);
+        }
+    }
+
     public String getBlockchainType() {
         return yaml.blockchainType;
     }
@@ -225,6 +258,38 @@ public class Config {
         return yaml.renderBlockchain;
     }
 
+    public boolean latencyHistograms() {
+        return yaml.latencyHistograms;
+    }
+
+    public int getLatencySamples() {
+        return yaml.latencySamples;
+    }
+
+    public int getThroughputWindow() {
+        return yaml.throughputWindow;
+    }
+
+    public boolean linkTraffic() {
+        return yaml.linkTraffic;
+    }
+
+    public int getLagTolerance() {
+        return yaml.lagTolerance;
+    }
+
+    public int getMetricsPortOffset() {
+        return yaml.metricsPortOffset;
+    }
+
+    public WireFormat getWireFormat() {
+        return WireFormat.of(yaml.wireFormat);
+    }
+
+    public boolean traceEvents() {
+        return yaml.traceEvents;
+    }
+
     public boolean simulateFullBlocks() {
         return yaml.blockchainDefaults.simulateFullBlocks;
     }
@@ -308,10 +373,16 @@ public class Config {
 
     public Blockchain newBlockchain(int poolSize, int confirmations) {
         boolean rndTieResolution = "random".equalsIgnoreCase(getBlockchainDefaults().tieResolution);
+        Blockchain b;
         switch(getBlockchainDefaults().forkResolution) {
-            case "GHOST": return new GHOSTBlockchain(getBlockchainDefaults().blockSize, poolSize, confirmations, getBlockchainDefaults().blocks, rndTieResolution, getBlockchainDefaults().ghostDepth);
-            default: return new LCRBlockchain(getBlockchainDefaults().blockSize, poolSize, confirmations, getBlockchainDefaults().blocks, rndTieResolution);
+            case "GHOST": b = new GHOSTBlockchain(getBlockchainDefaults().blockSize, poolSize, confirmations, getBlockchainDefaults().blocks, rndTieResolution, getBlockchainDefaults().ghostDepth);
+                break;
+            default: b = new LCRBlockchain(getBlockchainDefaults().blockSize, poolSize, confirmations, getBlockchainDefaults().blocks, rndTieResolution);
+        }
+        if(yaml.throughputWindow > 0) {
+            b.enableThroughputWindows(yaml.throughputWindow, yaml.throughputWindows);
         }
+        return b;
     }
 
     public String toString() {
@@ -55,12 +55,13 @@ public class ConfigYAML {
     public Random random = new Random();
     public Explicit explicit = new Explicit();
     public ScaleFree scaleFree = new ScaleFree();
+    public Geo geo = new Geo();
 
     public ProofBased proofBased = new ProofBased();
     public DPosBFT dPoSBFT = new DPosBFT();
 
-    @NotNull(message = "Invalid network type, choose any of: random|scaleFree|explicit")
-    @Pattern(regexp = "random|scaleFree|explicit", message = "Invalid network type, choose any of: random|scaleFree|explicit")
+    @NotNull(message = "Invalid network type, choose any of: random|scaleFree|explicit|geo")
+    @Pattern(regexp = "random|scaleFree|explicit|geo", message = "Invalid network type, choose any of: random|scaleFree|explicit|geo")
     public String networkType = "random";
 
     @NotNull(message = "Invalid blockchain type, choose any of: proofBased|dPoSBFT")
@@ -84,6 +85,24 @@ public class ConfigYAML {
     public boolean manualStart = true;
     public boolean exportAsJson = true;
     public boolean renderBlockchain = false;
+    public boolean latencyHistograms = false;
+    @PositiveOrZero(message = "latencySamples must be non-negative")
+    public int latencySamples = 100;
+    @PositiveOrZero(message = "throughputWindow must be non-negative")
+    public int throughputWindow = 0;
+    @Min(value = 1, message = "At least 1 throughput window required")
+    public int throughputWindows = 600;
+    public boolean linkTraffic = false;
+    @PositiveOrZero(message = "lagTolerance must be non-negative")
+    public int lagTolerance = 10;
+    @PositiveOrZero(message = "metricsPortOffset must be non-negative")
+    public int metricsPortOffset = 0;
+    public boolean traceEvents = false;
+    @NotNull(message = "Invalid wire format, choose any of: protobuf|compact")
+    @Pattern(regexp = "protobuf|compact", message = "Invalid wire format, choose any of: protobuf|compact")
+    public String wireFormat = "protobuf";
+    public String graphCache;
+    public int graphVariant = 0;
 
 
     public static class Random {
@@ -132,6 +151,32 @@ public class ConfigYAML {
         }
     }
 
+    public static class Geo {
+        @Min(value = 1, message = "At least 1 node required")
+        public int nodes = 100;
+        @Min(value = 1, message = "Parameter m must be at least 1")
+        public int m = 2;
+        @NotNull(message = "Specify a regions file")
+        public String regionsFile = "src/config/regions.csv";
+        public String rttFile = "src/config/rtt.csv";
+        @PositiveOrZero(message = "jitter must be non-negative")
+        public double jitter = 0.1;
+        @Positive(message = "bandwidth must be positive")
+        public double bandwidth = 2000;
+
+        @Override
+        public String toString() {
+            return "Geo{" +
+                    "nodes=" + nodes +
+                    ", m=" + m +
+                    ", regionsFile='" + regionsFile + '\'' +
+                    ", rttFile='" + rttFile + '\'' +
+                    ", jitter=" + jitter +
+                    ", bandwidth=" + bandwidth +
+                    '}';
+        }
+    }
+
     public static class Explicit {
         @Positive(message = "bandwidth must be positive")
         public double bandwidth = 2000;
@@ -426,6 +471,9 @@ public class ConfigYAML {
         if(scaleFree != null) {
             violations.addAll(validator.validate(scaleFree));
         }
+        if(geo != null) {
+            violations.addAll(validator.validate(geo));
+        }
         if(proofBased != null) {
             violations.addAll(validator.validate(proofBased));
             violations.addAll(validator.validate(proofBased.miningDistribution));
@@ -472,6 +520,7 @@ public class ConfigYAML {
                 ("random".equals(networkType)? "\nrandom=" + random : "") +
                 ("explicit".equals(networkType)? "\nexplicit=" + explicit : "") +
                 ("scaleFree".equals(networkType)? "\nscaleFree=" + scaleFree : "") +
+                ("geo".equals(networkType)? "\ngeo=" + geo : "") +
                 ("proofBased".equals(blockchainType)? "\nproofBased=" + proofBased : "") +
                 ("dPoSBFT".equals(blockchainType)? "\ndPoSBFT=" + dPoSBFT : "") +
 //                "\nnetworkType='" + networkType + '\'' +
@@ -484,6 +533,17 @@ public class ConfigYAML {
                 "\nruns=" + runs +
                 "\nmanualStart=" + manualStart +
                 "\nrenderBlockchain=" + renderBlockchain +
+                "\nlatencyHistograms=" + latencyHistograms +
+                "\nlatencySamples=" + latencySamples +
+                "\nthroughputWindow=" + throughputWindow +
+                "\nthroughputWindows=" + throughputWindows +
+                "\nlinkTraffic=" + linkTraffic +
+                "\nlagTolerance=" + lagTolerance +
+                "\nmetricsPortOffset=" + metricsPortOffset +
+                "\ntraceEvents=" + traceEvents +
+                "\nwireFormat=" + wireFormat +
+                "\ngraphCache=" + graphCache +
+                "\ngraphVariant=" + graphVariant +
                 '}';
     }
 }
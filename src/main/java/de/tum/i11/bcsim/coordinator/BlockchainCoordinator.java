@@ -6,14 +6,24 @@ import de.tum.i11.bcsim.blockchain.LCRBlockchain;
 import de.tum.i11.bcsim.graph.GraphUtil;
 import de.tum.i11.bcsim.peer.BlockchainPeer;
 import de.tum.i11.bcsim.peer.PeerSupplier;
+import de.tum.i11.bcsim.peer.TrafficCounter;
 import de.tum.i11.bcsim.proto.Messages;
 import de.tum.i11.bcsim.config.Config;
+import de.tum.i11.bcsim.util.Histogram;
+import de.tum.i11.bcsim.util.LatencyRecorder;
+import de.tum.i11.bcsim.util.MetricsWriter;
 import de.tum.i11.bcsim.util.Result;
+import de.tum.i11.bcsim.util.Util;
+import de.tum.i11.bcsim.util.WindowedSeries;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 
 import java.io.*;
 import java.net.InetSocketAddress;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
@@ -43,6 +53,44 @@ public class BlockchainCoordinator<P extends BlockchainPeer> extends Coordinator
         }
     }
 
+    @Override
+    protected void writeMetrics(MetricsWriter w) {
+        super.writeMetrics(w);
+        if(!startedFuture().isDone() || peers.isEmpty()) {
+            return;
+        }
+        int minHeight = Integer.MAX_VALUE, maxHeight = 0;
+        long poolSize = 0, orphans = 0, unconfirmed = 0;
+        long createdBlocks = 0, createdTx = 0, confirmedBlocks = 0, confirmedTx = 0, confirmedBytes = 0;
+        double confirmedTxPerSec = 0;
+        for(P p : peers.values()) {
+            Blockchain bc = p.getBlockchain();
+            int height = bc.getHeight();
+            minHeight = Math.min(minHeight, height);
+            maxHeight = Math.max(maxHeight, height);
+            poolSize += bc.getTxPool().inPoolSize();
+            orphans += bc.getOrphans().size();
+            unconfirmed += bc.getNumberOfUnconfirmedTx();
+            createdBlocks += p.getCreatedBlocks().getPackets();
+            createdTx += p.getCreatedTx().getPackets();
+            confirmedBlocks += bc.getConfirmedBlockThroughput().getPackets();
+            confirmedTx += bc.getConfirmedTxThroughput().getPackets();
+            confirmedBytes += bc.getConfirmedByteThroughput().getPackets();
+            confirmedTxPerSec += bc.getConfirmedTxThroughput().getThroughput();
+        }
+        w.gauge("bcsim_block_height", "height of the peers' blockchains", minHeight, "stat", "min");
+        w.gauge("bcsim_block_height", "height of the peers' blockchains", maxHeight, "stat", "max");
+        w.gauge("bcsim_pool_size", "transactions in the pools of all peers", poolSize);
+        w.gauge("bcsim_orphans", "orphaned blocks of all peers", orphans);
+        w.gauge("bcsim_unconfirmed_tx", "created transactions of all peers waiting for confirmation", unconfirmed);
+        w.counter("bcsim_created_blocks_total", "blocks created by all peers", createdBlocks);
+        w.counter("bcsim_created_tx_total", "transactions created by all peers", createdTx);
+        w.counter("bcsim_confirmed_blocks_total", "blocks confirmed, summed over all peers", confirmedBlocks);
+        w.counter("bcsim_confirmed_tx_total", "transactions confirmed, summed over all peers", confirmedTx);
+        w.counter("bcsim_confirmed_bytes_total", "bytes confirmed, summed over all peers", confirmedBytes);
+        w.gauge("bcsim_confirmed_tx_per_second", "average confirmed transactions per second and peer since the first confirmation", confirmedTxPerSec/peers.size());
+    }
+
     @Override
     protected CompletableFuture<Void> onPreClose() {
         // called after peers were closed but coordinators still active
@@ -50,9 +98,31 @@ public class BlockchainCoordinator<P extends BlockchainPeer> extends Coordinator
         rb.setAvgCPULoad(cpuMeasure.getAvgLoad());
         rb.setMaxCPULoad(cpuMeasure.getMaxLoad());
         rb.setCoordAddress(address.toString());
+        LatencyRecorder latencies = config.latencyHistograms() ? new LatencyRecorder(0) : null;
+        TreeMap<String, List<Messages.TimeSeries>> series = new TreeMap<>();
         for (P p : peers.values()) {
-            rb.addEntry(p.getResultEntry());
+            Messages.ResultEntry entry = p.getResultEntry();
+            // only the average series of all peers on this coordinator are sent to the orchestrator
+            entry.getSeriesList().forEach(s -> series.computeIfAbsent(s.getName(), n -> new LinkedList<>()).add(s.getSeries()));
+            rb.addEntry(entry.toBuilder().clearSeries());
+            if(latencies != null && p.getLatencyRecorder() != null) {
+                latencies.merge(p.getLatencyRecorder());
+            }
         }
+        if(latencies != null) {
+            rb.addAllTxLatencyHistogram(latencies.toProto());
+        }
+        series.forEach((name, s) -> rb.addSeries(Messages.NamedTimeSeries.newBuilder().setName(name).setSeries(WindowedSeries.average(s))));
+        addBlockPropagation(rb);
+        LinkedList<Messages.Traffic> traffic = new LinkedList<>();
+        for (P p : peers.values()) {
+            traffic.addAll(p.getTraffic().getKindTraffic());
+            if(config.linkTraffic()) {
+                rb.addAllLinkTraffic(p.getTraffic().getLinkTraffic(p.getId()));
+            }
+        }
+        rb.addAllTraffic(TrafficCounter.sum(traffic));
+        rb.addAllSchedulingLag(fidelity.toProto());
 
         if(isOrchestrator) {
             results.put(address.toString(), rb.build());
@@ -70,6 +140,42 @@ public class BlockchainCoordinator<P extends BlockchainPeer> extends Coordinator
         return readyToClose;
     }
 
+    /**
+     * Add the delays between creation of each block and the first time each peer on this coordinator saw it
+     * @param rb the result builder
+     */
+    private void addBlockPropagation(Messages.Result.Builder rb) {
+        TreeSet<Integer> blockIds = new TreeSet<>();
+        for (P p : peers.values()) {
+            for(int id : p.getFirstSeen().keys()) {
+                blockIds.add(id);
+            }
+        }
+        for(int id : blockIds) {
+            // creation time of the block, taken from any peer that added it to its blockchain
+            Blockchain.BlockEntry block = null;
+            for (P p : peers.values()) {
+                if((block = p.getBlockchain().getBlock(id)) != null) {
+                    break;
+                }
+            }
+            if(block == null) {
+                continue;
+            }
+            long created = Util.toMicros(block.block.getTs());
+            Histogram delays = new Histogram();
+            for (P p : peers.values()) {
+                long seen = p.getFirstSeen().get(id, -1);
+                if(seen >= 0) {
+                    delays.record(seen/1000 - created);
+                }
+            }
+            if(delays.getCount() > 0) {
+                rb.addBlockPropagation(Messages.BlockPropagation.newBuilder().setBlockId(id).setDelay(delays.toProto()));
+            }
+        }
+    }
+
     @Override
     protected void onStop() {
         if(isOrchestrator) {
@@ -78,13 +184,13 @@ public class BlockchainCoordinator<P extends BlockchainPeer> extends Coordinator
             if(getPeers().isEmpty()) {
                 LOGGER.severe("No peers on orchestrator: no Blockchain results included!");
             }
-            if(cpuMeasure.getAvgLoad() >= 60 || cpuMeasure.getMaxLoad() >= 80) {
-                LOGGER.severe("High CPU load detected, results may be inaccurate");
-            }
             Blockchain b = getPeers().isEmpty()? new LCRBlockchain(0,0,0,0,false)
                     : getPeers().values().iterator().next().getBlockchain();
 
             Result r = new Result(b, config, results, executionTime);
+            for(String issue : r.fidelityIssues) {
+                LOGGER.severe(issue+", results may be inaccurate");
+            }
             String s;
             boolean json = config.getExportAsJson();
             try {
@@ -114,7 +220,7 @@ public class BlockchainCoordinator<P extends BlockchainPeer> extends Coordinator
 
             if(config.renderGraph()) {
                 try {
-                    GraphUtil.renderGraphiz(config.prefix+"_graph.svg", adjList);
+                    GraphUtil.renderGraphiz(config.prefix+"_graph.svg", getAdjList());
                 } catch (IOException e) {
                     e.printStackTrace();
                 }
@@ -1,18 +1,28 @@
 package de.tum.i11.bcsim.coordinator;
 
+import de.tum.i11.bcsim.graph.CSRGraph;
 import de.tum.i11.bcsim.graph.Edge;
-import de.tum.i11.bcsim.graph.GraphUtil;
+import de.tum.i11.bcsim.jfr.CoordinatorPhaseEvent;
+import de.tum.i11.bcsim.node.MetricsServer;
 import de.tum.i11.bcsim.node.Node;
+import de.tum.i11.bcsim.node.WireFormat;
 import de.tum.i11.bcsim.peer.Peer;
 import de.tum.i11.bcsim.peer.PeerSupplier;
+import de.tum.i11.bcsim.peer.TrafficCounter;
 import de.tum.i11.bcsim.proto.Messages;
 import de.tum.i11.bcsim.config.Config;
 import de.tum.i11.bcsim.util.CPULoadMeasure;
+import de.tum.i11.bcsim.util.FidelityMonitor;
+import de.tum.i11.bcsim.util.Histogram;
+import de.tum.i11.bcsim.util.MetricsWriter;
 import de.tum.i11.bcsim.util.Pair;
 import de.tum.i11.bcsim.util.Timeout;
+import de.tum.i11.bcsim.util.TraceWriter;
 import io.netty.channel.*;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -25,9 +35,12 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
 
     protected final Config config;
     private final Node node;
+    private MetricsServer metricsServer; // serves live metrics during a run, null if disabled
+    private TraceWriter trace; // binary trace of block and tx events of all peers, null if disabled
     protected boolean isOrchestrator;
 
     protected final CPULoadMeasure cpuMeasure;
+    protected final FidelityMonitor fidelity; // lags of scheduled actions of all peers of this coordinator
 
     protected final List<Config.CoordinatorEntry> coordinators;     // list of all coordinator addresses (including this one's)
     protected final HashMap<InetSocketAddress, Channel> channels;
@@ -36,7 +49,7 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
 
     protected Pair<Integer, Integer> peerIdBounds;              // inclusive bounds of nodeIds this coordinator is responsible for
 
-    protected ArrayList<List<Edge>> adjList;               // adjacency list of peers this coordinator is responsible for (or all peers if this is the orchestrator)
+    protected CSRGraph graph;                              // the network graph with both directions of each edge, set by the orchestrator when assigning nodes and at other coordinators when connecting peers
 
     private final Object nodesLock = new Object();
     private List<Messages.Node> nodeList;                   // list maintained by orchestrator to aggregate all node assignment responses
@@ -53,6 +66,7 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
     protected long executionTime; // hold timestamp to calculate total execution time
 
     protected final double bandwidth;
+    protected final WireFormat wireFormat; // encoding of messages between peers
 
     protected final InetSocketAddress address;
 
@@ -76,8 +90,25 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
         this.startWait = config.getNetworkDelay();
         this.announceTimeout = new Timeout(this::onAllPeersAnnounced, config.getNetworkDelay());
         this.bandwidth = config.getGraphStrategy().getBandWidth();
+        this.wireFormat = config.getWireFormat();
 
         this.cpuMeasure = new CPULoadMeasure(5000);
+        this.fidelity = new FidelityMonitor(200);
+
+        if(config.traceEvents()) {
+            try {
+                this.trace = new TraceWriter(Path.of(config.prefix+"_"+addr.getPort()+"_trace.bin"));
+            } catch (IOException e) {
+                LOGGER.warning("Could not create trace file, continuing without trace: "+e.getMessage());
+            }
+        }
+        if(config.getMetricsPortOffset() > 0) {
+            try {
+                this.metricsServer = new MetricsServer(new InetSocketAddress(addr.getAddress(), addr.getPort()+config.getMetricsPortOffset()), this::getMetrics);
+            } catch (IllegalStateException e) {
+                LOGGER.warning(e.getMessage()+", continuing without metrics");
+            }
+        }
     }
 
     public CompletableFuture<Boolean> closedFuture() {
@@ -87,8 +118,77 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
         return startedFuture;
     }
 
+    public FidelityMonitor getFidelity() {
+        return fidelity;
+    }
+
+    /**
+     * @return the trace writer shared by all peers of this coordinator or null if tracing is disabled
+     */
+    public TraceWriter getTrace() {
+        return trace;
+    }
+
+    /**
+     * @return the current metrics of this coordinator and its peers in Prometheus text format
+     */
+    public String getMetrics() {
+        MetricsWriter w = new MetricsWriter();
+        writeMetrics(w);
+        return w.toString();
+    }
+
+    /**
+     * Write the current metrics of this coordinator. Peer metrics are only written once the emulation started, i.e.
+     * all peers were created. Called from the metrics server thread while the emulation is running.
+     * @param w the writer
+     */
+    protected void writeMetrics(MetricsWriter w) {
+        boolean started = startedFuture.isDone();
+        w.gauge("bcsim_running", "1 while the emulation is running", started && !closing ? 1 : 0);
+        w.gauge("bcsim_cpu_load_percent", "system CPU load of this coordinator's host", cpuMeasure.getLastLoad(), "stat", "last");
+        w.gauge("bcsim_cpu_load_percent", "system CPU load of this coordinator's host", cpuMeasure.getAvgLoad(), "stat", "avg");
+        w.gauge("bcsim_cpu_load_percent", "system CPU load of this coordinator's host", cpuMeasure.getMaxLoad(), "stat", "max");
+        for(FidelityMonitor.Category c : FidelityMonitor.Category.values()) {
+            Histogram lag = fidelity.getLags(c);
+            w.counter("bcsim_scheduled_actions_total", "scheduled actions whose lag was recorded", lag.getCount(), "category", c.name());
+        }
+        for(FidelityMonitor.Category c : FidelityMonitor.Category.values()) {
+            Histogram lag = fidelity.getLags(c);
+            w.gauge("bcsim_scheduling_lag_p99_ms", "99th percentile lag of scheduled actions behind their intended time", lag.getValueAtPercentile(99)/1000.0, "category", c.name());
+        }
+        if(!started) {
+            return;
+        }
+        w.gauge("bcsim_peers", "peers on this coordinator", peers.size());
+        LinkedList<Messages.Traffic> traffic = new LinkedList<>();
+        for(P p : peers.values()) {
+            traffic.addAll(p.getTraffic().getKindTraffic());
+        }
+        List<Messages.Traffic> sum = TrafficCounter.sum(traffic);
+        for(Messages.Traffic t : sum) {
+            w.counter("bcsim_messages_total", "messages sent/received by all peers", t.getSentMsgs(), "kind", t.getKind(), "direction", "sent");
+            w.counter("bcsim_messages_total", "messages sent/received by all peers", t.getReceivedMsgs(), "kind", t.getKind(), "direction", "received");
+        }
+        for(Messages.Traffic t : sum) {
+            w.counter("bcsim_bytes_total", "bytes on the wire sent/received by all peers", t.getSentBytes(), "kind", t.getKind(), "direction", "sent");
+            w.counter("bcsim_bytes_total", "bytes on the wire sent/received by all peers", t.getReceivedBytes(), "kind", t.getKind(), "direction", "received");
+        }
+        for(Messages.Traffic t : sum) {
+            w.counter("bcsim_simulated_bytes_total", "simulated bytes sent/received by all peers", t.getSentSimulatedBytes(), "kind", t.getKind(), "direction", "sent");
+            w.counter("bcsim_simulated_bytes_total", "simulated bytes sent/received by all peers", t.getReceivedSimulatedBytes(), "kind", t.getKind(), "direction", "received");
+        }
+    }
+
+    /**
+     * @return a new adjacency list of the network graph with each edge stored once, null if the graph is not known yet
+     */
     public ArrayList<List<Edge>> getAdjList() {
-        return adjList;
+        return graph == null ? null : graph.toUndirectedAdjList();
+    }
+
+    public CSRGraph getGraph() {
+        return graph;
     }
 
     public HashMap<Integer, P> getPeers() {
@@ -99,6 +199,10 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
         return bandwidth;
     }
 
+    public WireFormat getWireFormat() {
+        return wireFormat;
+    }
+
     /**
      * First operation to be called on a coordinator. The callee assumes the orchestrator role for the remaining coordinators
      */
@@ -122,9 +226,9 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
      */
     private void assignNodes() {
         // Compute P2P network graph
-        adjList = config.getGraphStrategy().getEdges();
+        graph = config.getGraphStrategy().getGraph();
 
-        int totalPeers = adjList.size();
+        int totalPeers = graph.size();
         int[] peersForCoordinator = calcPeersPerCoordinator(totalPeers, coordinators);
 
         // Send assignments of peerID ranges to remote peers
@@ -196,6 +300,7 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
         // store range of peers handled on this coordinator
         peerIdBounds = new Pair<>(from, to);
         LOGGER.info("Starting peers: "+ peerIdBounds);
+        CoordinatorPhaseEvent.commit(address, CoordinatorPhaseEvent.Phase.INIT_PEERS);
         for(int i = from; i <= to; i++) {
             P peer = peerSupplier.get(i, node.getListenAddr().getAddress(), this);
             peers.put(i, peer);
@@ -234,7 +339,7 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
 
             nodeList.addAll(nodes);
 
-            if(nodeList.size()+ peerIdBounds._2- peerIdBounds._1+1 == adjList.size()) {
+            if(nodeList.size()+ peerIdBounds._2- peerIdBounds._1+1 == graph.size()) {
                 LOGGER.info("All peers initialized, sending adjLists");
                 sendAdjList();
             }
@@ -243,7 +348,7 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
 
     // All peers were initialized, send adjacency lists to coordinators to connect peers among each other
     protected void sendAdjList() {
-        HashMap<Integer, String> addresses = new HashMap<>(adjList.size());
+        HashMap<Integer, String> addresses = new HashMap<>(graph.size());
         if(nodeList != null) {
             for (Messages.Node n : nodeList) {
                 addresses.put(n.getNodeId(), n.getAddress());
@@ -260,11 +365,13 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
         }
         var initBuilder = Messages.InitP2POverlay.newBuilder();
         initBuilder.addAllNode(nodes);
-        for(int i = 0; i < adjList.size(); i++) {
+        for(int i = 0; i < graph.size(); i++) {
             var edgeListBuilder = Messages.Edge.newBuilder().setNode(i);
-            // add all edges from that peer
-            for(Edge n : adjList.get(i)) {
-                edgeListBuilder.addEdge(Messages.Latency.newBuilder().setTo(n.to).setLatency(n.latency).build());
+            // add all edges to peers with larger ids, so that each edge is sent once
+            for(int e = graph.begin(i); e < graph.end(i); e++) {
+                if(graph.target(e) > i) {
+                    edgeListBuilder.addEdge(Messages.Latency.newBuilder().setTo(graph.target(e)).setLatency(graph.latency(e)).build());
+                }
             }
             initBuilder.addAdjacency(edgeListBuilder.build());
         }
@@ -273,16 +380,32 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
         // for each remote coordinator
         channels.values().forEach(c -> c.writeAndFlush(msg));
 
-        connectPeers(nodes, adjList);
+        connectPeers(nodes);
+    }
+
+    // build the network graph from the adjacency lists sent by the orchestrator
+    private static CSRGraph toGraph(List<Messages.Edge> adjacency) {
+        int m = adjacency.stream().mapToInt(Messages.Edge::getEdgeCount).sum();
+        int[] endpoints = new int[2*m];
+        int[] latencies = new int[m];
+        int k = 0;
+        for(int from = 0; from < adjacency.size(); from++) {
+            for(Messages.Latency lat : adjacency.get(from).getEdgeList()) {
+                endpoints[2*k] = from;
+                endpoints[2*k+1] = lat.getTo();
+                latencies[k++] = lat.getLatency();
+            }
+        }
+        return CSRGraph.of(adjacency.size(), endpoints, latencies);
     }
 
     /**
-     * Establish connections among peer nodes
+     * Establish connections among peer nodes according to the graph
      * @param nodes the list of node ids and their corresponding IP addresses
-     * @param adL the adjacency list indicating how to connect peers
      */
-    protected void connectPeers(List<Messages.Node> nodes, ArrayList<List<Edge>> adL) {
+    protected void connectPeers(List<Messages.Node> nodes) {
         LOGGER.info("Connecting peers");
+        CoordinatorPhaseEvent.commit(address, CoordinatorPhaseEvent.Phase.CONNECT_PEERS);
         int numNodes = peerIdBounds._2- peerIdBounds._1+1;
 
         for(Messages.Node n : nodes) {
@@ -292,28 +415,23 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
         announceTimeout.start();
 
         // populate peers' latency map according to graph
-        for(List<Edge> edges : adL) {
-            for(Edge e : edges) {
-                if(e.from>= peerIdBounds._1 && e.from<= peerIdBounds._2) {
-                    peers.get(e.from).getLatencyMap().put(e.to, e.latency);
-                }
-                if(e.to>= peerIdBounds._1 && e.to<= peerIdBounds._2) {
-                    peers.get(e.to).getLatencyMap().put(e.from, e.latency);
-                }
+        for(int i = peerIdBounds._1; i <= peerIdBounds._2; i++) {
+            var latencies = peers.get(i).getLatencyMap();
+            for(int e = graph.begin(i); e < graph.end(i); e++) {
+                latencies.put(graph.target(e), graph.latency(e));
             }
         }
 
-        // connect peers according to graph
+        // connect peers according to graph, each edge from its smaller node
         for(int i = 0; i < numNodes; i++) {
-            Peer peer = peers.get(peerIdBounds._1+i);
-            for(Edge e : adL.get(peerIdBounds._1+i)) {
-                peer.connect(peerAddresses[e.to]).syncUninterruptibly();
+            int id = peerIdBounds._1+i;
+            Peer peer = peers.get(id);
+            for(int e = graph.begin(id); e < graph.end(id); e++) {
+                if(graph.target(e) > id) {
+                    peer.connect(peerAddresses[graph.target(e)]).syncUninterruptibly();
+                }
             }
         }
-
-        if(adjList == null) {
-            adjList = adL;
-        }
     }
 
     /**
@@ -326,12 +444,10 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
     // called once announceTimeout runs out
     private void onAllPeersAnnounced() {
         // ensure that all peers were connected properly to their neighbors
-        var digraph = GraphUtil.toDiGraph(adjList);
         for(int i = peerIdBounds._1; i <= peerIdBounds._2; i++) {
             Peer p = peers.get(i);
-            List<Edge> adjacency = digraph.get(i);
-            for(Edge e : adjacency) {
-                if(!p.isConnectedTo(e.to)) {
+            for(int e = graph.begin(i); e < graph.end(i); e++) {
+                if(!p.isConnectedTo(graph.target(e))) {
                     stop(null, getListenAddress().toString(), "Failed to connect peers according to graph.", false);
                     return;
                 }
@@ -341,11 +457,13 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
             if(error != null) {
                 stop(null, getListenAddress().toString(), error.getMessage(), false);
             } else if(!isOrchestrator) {
+                CoordinatorPhaseEvent.commit(address, CoordinatorPhaseEvent.Phase.READY);
                 LOGGER.info("Sending Ready");
                 // Non-Orchestrator coordinators inform orchestrator that they are ready to start
                 channels.values().iterator().next().writeAndFlush(Messages.CoordinatorMessage.newBuilder()
                         .setReady(Messages.P2PReady.newBuilder()).build());
             } else {
+                CoordinatorPhaseEvent.commit(address, CoordinatorPhaseEvent.Phase.READY);
                 onReady();
             }
         });
@@ -375,11 +493,17 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
     }
 
     private void start(long startTime) {
+        CoordinatorPhaseEvent.commit(address, CoordinatorPhaseEvent.Phase.START);
         startedFuture.complete(null);
         executionTime = System.currentTimeMillis();
         // Operations after "Start" are delegated to subclasses
         onStart(startTime);
         cpuMeasure.startAfter((int) (Math.max(0, startTime-executionTime)+startWait));
+        fidelity.startAfter((int) Math.max(0, startTime-executionTime), () -> {
+            for(P p : peers.values()) {
+                p.probeEventLoops(fidelity);
+            }
+        });
     }
 
     /**
@@ -398,7 +522,9 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
     public void stop(Channel from, String initiator, String reason, boolean fatal) {
         if(closing)
             return;
+        CoordinatorPhaseEvent.commit(address, CoordinatorPhaseEvent.Phase.STOP);
         cpuMeasure.stop();
+        fidelity.stop();
         var msg = Messages.CoordinatorMessage.newBuilder()
                 .setStop(Messages.Stop.newBuilder().setInitiator(initiator).setReason(reason).setFatal(fatal)).build();
         // Coordinators are arranged in a star topology around the orchestrator. If this is the initiator, send "stop" to
@@ -428,16 +554,19 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
             return;
         closing = true;
         LOGGER.info("Close in Coordinator "+node.getListenAddr());
+        CoordinatorPhaseEvent.commit(address, CoordinatorPhaseEvent.Phase.CLOSE);
         announceTimeout.cancel();
         executionTime = System.currentTimeMillis() - executionTime;
         //node.close();
-        closeAllPeers().thenCompose(v -> onPreClose()).whenComplete((s, e) -> {
+        closeAllPeers().thenRun(this::closeTrace).thenCompose(v -> onPreClose()).whenComplete((s, e) -> {
             LOGGER.info("Finally closing Coordinator "+node.getListenAddr());
             for(Channel c : channels.values()) {
                 c.close();
             }
-            node.close().whenComplete((success, error) -> {
+            CompletableFuture<Void> metricsClosed = metricsServer == null ? CompletableFuture.completedFuture(null) : metricsServer.close();
+            node.close().thenCombine(metricsClosed, (a, b) -> a).whenComplete((success, error) -> {
                 LOGGER.info("Coordinator closed "+node.getListenAddr());
+                CoordinatorPhaseEvent.commit(address, CoordinatorPhaseEvent.Phase.CLOSED);
                 // Pass control flow to implementing classes after closing
                 onStop();
                 closedFuture.complete(fatal);
@@ -445,6 +574,17 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
         });
     }
 
+    private void closeTrace() {
+        if(trace != null) {
+            try {
+                trace.close();
+                LOGGER.info("Wrote "+trace.getRecordCount()+" trace records to "+trace.getPath());
+            } catch (IOException e) {
+                LOGGER.severe("Could not write trace file: "+e.getMessage());
+            }
+        }
+    }
+
     public boolean isClosing() {
         return closing;
     }
@@ -495,18 +635,8 @@ public abstract class Coordinator<P extends Peer> extends SimpleChannelInboundHa
         } else if(message.hasNodesAssigned()) {
             onAssigned(message.getNodesAssigned().getNodeList());
         } else if(message.hasInitP2P()) {
-            var edges = message.getInitP2P().getAdjacencyList();
-            ArrayList<List<Edge>> adL = new ArrayList<>(edges.size());
-            int from = 0;
-            for(Messages.Edge e : edges) {
-                LinkedList<Edge> l = new LinkedList<>();
-                for(Messages.Latency lat : e.getEdgeList()) {
-                    l.add(new Edge(from, lat.getTo(), lat.getLatency()));
-                }
-                adL.add(l);
-                from++;
-            }
-            connectPeers(message.getInitP2P().getNodeList(), adL);
+            graph = toGraph(message.getInitP2P().getAdjacencyList());
+            connectPeers(message.getInitP2P().getNodeList());
         } else if(message.hasStop()) {
             stop(ctx.channel(), message.getStop().getInitiator(), message.getStop().getReason(), message.getStop().getFatal());
         } else if(message.hasReady()) {
@@ -1,5 +1,6 @@
 package de.tum.i11.bcsim.coordinator;
 
+import de.tum.i11.bcsim.graph.CSRGraph;
 import de.tum.i11.bcsim.graph.Edge;
 import de.tum.i11.bcsim.graph.GraphUtil;
 import de.tum.i11.bcsim.peer.DPoSPeer;
@@ -15,6 +16,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class DPoSCoordinator extends BlockchainCoordinator<DPoSPeer> {
     private static final Logger LOGGER = Logger.getLogger(DPoSCoordinator.class.getName());
@@ -30,21 +33,45 @@ public class DPoSCoordinator extends BlockchainCoordinator<DPoSPeer> {
         return consensusNodes;
     }
 
-    private double getAvgPropDelayInConsensus() {
-        return GraphUtil.getAvgPropDelayBetweenNodes(consensusNodes, adjList);
+    // shortest path latencies between consensus nodes, [i][j] is the latency between consensusNodes.get(i) and .get(j).
+    // Only the rows of the consensus nodes are computed, so no all-pairs matrix is kept
+    private int[][] getConsensusLatencies(CSRGraph g) {
+        int[][] latencies = new int[consensusNodes.size()][];
+        for(int i = 0; i < latencies.length; i++) {
+            int[] dist = g.dijkstra(consensusNodes.get(i));
+            latencies[i] = consensusNodes.stream().mapToInt(j -> dist[j]).toArray();
+        }
+        return latencies;
+    }
+
+    private static double getAvgPropDelay(int[][] latencies) {
+        double total = 0;
+        for(int i = 0; i < latencies.length; i++) {
+            for(int j = 0; j < latencies.length; j++) {
+                if(i != j) {
+                    total += latencies[i][j];
+                }
+            }
+        }
+        return total / ((double) latencies.length * (latencies.length - 1));
     }
 
     @Override
     protected void sendAdjList() {
         // before sending the network graph, select and store consensus nodes (BPS)
         if(isOrchestrator) {
-            calcConsensusNodes(adjList);
+            calcConsensusNodes();
             if(config.getDPoSStrat().consensusOnOrchestrator) {
                 ArrayList<Integer> oldConsensus = new ArrayList<>(consensusNodes);
                 LinkedList<Integer> newConsensus = new LinkedList<>();
+                // nodeAt[i] is the node that is renamed to i
+                int[] nodeAt = IntStream.range(0, graph.size()).toArray();
                 for(int i = 0; i < consensusNodes.size(); i++) {
                     newConsensus.add(i);
-                    GraphUtil.swap(i,oldConsensus.get(i),adjList);
+                    int other = oldConsensus.get(i);
+                    int x = nodeAt[i];
+                    nodeAt[i] = nodeAt[other];
+                    nodeAt[other] = x;
                     for(int j = i+1; j < consensusNodes.size(); j++) {
                         if(oldConsensus.get(j) == i) {
                             oldConsensus.set(j, oldConsensus.get(i));
@@ -52,19 +79,24 @@ public class DPoSCoordinator extends BlockchainCoordinator<DPoSPeer> {
                     }
                 }
                 consensusNodes = newConsensus;
+                int[] newId = new int[nodeAt.length];
+                for(int i = 0; i < nodeAt.length; i++) {
+                    newId[nodeAt[i]] = i;
+                }
+                graph = graph.relabel(newId);
             }
         }
         super.sendAdjList();
     }
 
-    private void calcConsensusNodes(ArrayList<List<Edge>> adL) {
+    private void calcConsensusNodes() {
         if(config.getDPoSStrat().consensusNodes != null && config.getDPoSStrat().consensusNodes.size() > 0) {
             // consensus nodes were explicitly defined in config
             this.consensusNodes = config.getDPoSStrat().consensusNodes;
         } else {
             // consensus nodes are to be selected automatically
             // create a copy of the graph as an edge list
-            ArrayList<List<Edge>> digraph = GraphUtil.toDiGraph(adL);
+            ArrayList<List<Edge>> digraph = graph.toAdjList();
             ArrayList<Pair<Integer, List<Edge>>> adLcopy = new ArrayList<>(digraph.size());
             for(int i = 0; i < digraph.size(); i++) {
                 adLcopy.add(new Pair<>(i, digraph.get(i)));
@@ -74,46 +106,52 @@ public class DPoSCoordinator extends BlockchainCoordinator<DPoSPeer> {
             this.consensusNodes = GraphUtil.selectNodes(adLcopy, config.getDPoSStrat().getNodeSelection(), config.getDPoSStrat().consensusNodeNum);
             LOGGER.info("Automatically picked consensus Nodes with Strategy "+config.getDPoSStrat().getNodeSelection()+": "+consensusNodes);
 
-            LOGGER.info("Avg Prop delay between consensus Nodes: "+getAvgPropDelayInConsensus());
+            int[][] weights = getConsensusLatencies(graph);
+            LOGGER.info("Avg Prop delay between consensus Nodes: "+getAvgPropDelay(weights));
             if(!config.getDPoSStrat().randomShuffle) {
-                consensusNodes = GraphUtil.tsm(GraphUtil.apsp(digraph), consensusNodes);
+                // order indices into the latency matrix of the consensus nodes, then map them back to node ids
+                List<Integer> order = GraphUtil.tsm(weights, IntStream.range(0, consensusNodes.size()).boxed().collect(Collectors.toList()));
+                List<Integer> sorted = new ArrayList<>(order.size());
+                for(int i : order) {
+                    sorted.add(consensusNodes.get(i));
+                }
+                consensusNodes = sorted;
                 LOGGER.info("Sorted nodes according to TSM: "+consensusNodes);
             }
         }
     }
 
     @Override
-    protected void connectPeers(List<Messages.Node> nodes, ArrayList<List<Edge>> adL) {
+    protected void connectPeers(List<Messages.Node> nodes) {
         LOGGER.info("Connecting peers");
         if(isOrchestrator) {
             // before connecting peers, send consensusNodes
             var msg = Messages.CoordinatorMessage.newBuilder().setConsensusNodes(Messages.ConsensusNodes.newBuilder().addAllNode(consensusNodes)).build();
             LOGGER.info("Sending consensus Nodes");
             channels.values().forEach(c -> c.writeAndFlush(msg));
-            doConnectPeers(nodes, adL);
+            doConnectPeers(nodes);
         } else {
             // wait until consensus nodes received, then connect peers
-            consensusNodesReceived.whenComplete((s, e) -> doConnectPeers(nodes, adL));
+            consensusNodesReceived.whenComplete((s, e) -> doConnectPeers(nodes));
         }
     }
 
-    private void doConnectPeers(List<Messages.Node> nodes, ArrayList<List<Edge>> adL) {
+    private void doConnectPeers(List<Messages.Node> nodes) {
         for(Integer id : consensusNodes) {
             DPoSPeer peer = peers.get(id);
             if(peer != null) {
                 peer.setBlockProducer();
             }
         }
-        super.connectPeers(nodes, adL);
+        super.connectPeers(nodes);
         LOGGER.info("Connecting consensus nodes directly");
 
-        var digraph = GraphUtil.toDiGraph(adL);
         for(int i = 0; i < consensusNodes.size(); i++ ) {
             int a = consensusNodes.get(i);
             Peer p = peers.get(a);
             if(p == null)
                 continue;
-            int[] weights = GraphUtil.dijkstra(digraph, a);
+            int[] weights = graph.dijkstra(a);
             for (int b : consensusNodes) {
                 if (a >= b) {
                     p.setLatency(b, weights[b]);
@@ -141,7 +179,7 @@ public class DPoSCoordinator extends BlockchainCoordinator<DPoSPeer> {
                 }
             }
         }
-        LOGGER.info("Avg Prop delay between consensus Nodes: "+getAvgPropDelayInConsensus());
+        LOGGER.info("Avg Prop delay between consensus Nodes: "+getAvgPropDelay(getConsensusLatencies(graph)));
         return CompletableFuture.completedFuture(null);
     }
 
@@ -0,0 +1,410 @@
+package de.tum.i11.bcsim.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable directed graph in compressed sparse row format: the edges of node i are stored at the indices
+ * [begin(i), end(i)) of the target and latency arrays. Undirected graphs are stored with both directions of each
+ * edge. Compared to adjacency lists of Edge objects, this needs 8 byte per directed edge and iterating the
+ * neighbors of a node reads contiguous memory.
+ * <pre>
+ * for(int e = graph.begin(i); e &lt; graph.end(i); e++) {
+ *     int neighbor = graph.target(e);
+ *     int latency = graph.latency(e);
+ * }
+ * </pre>
+ */
+public final class CSRGraph {
+    private static final int UNSEEN = -1, SETTLED = -2;
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] latencies;
+
+    CSRGraph(int[] offsets, int[] targets, int[] latencies) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.latencies = latencies;
+    }
+
+    /**
+     * Directed graph with custom edge weights stored as latencies
+     * @param adj the adjacency list, edges are used as directed edges from node i (the list index) to edge.to
+     * @param weightFunc the (non-negative) weight of each edge
+     */
+    CSRGraph(List<? extends List<Edge>> adj, ToIntFunction<Edge> weightFunc) {
+        offsets = new int[adj.size() + 1];
+        for(int i = 0; i < adj.size(); i++) {
+            offsets[i+1] = offsets[i] + adj.get(i).size();
+        }
+        targets = new int[offsets[adj.size()]];
+        latencies = new int[targets.length];
+        for(int i = 0; i < adj.size(); i++) {
+            int e = offsets[i];
+            for(Edge edge : adj.get(i)) {
+                targets[e] = edge.to;
+                latencies[e] = weightFunc.applyAsInt(edge);
+                e++;
+            }
+        }
+    }
+
+    /**
+     * @param ugraph an undirected graph as adjacency list, each edge is stored once at either of its nodes
+     * @return the graph with both directions of each edge
+     */
+    public static CSRGraph of(List<? extends List<Edge>> ugraph) {
+        int n = ugraph.size();
+        int[] offsets = new int[n + 1];
+        for(int i = 0; i < n; i++) {
+            for(Edge e : ugraph.get(i)) {
+                offsets[i+1]++;
+                offsets[e.to+1]++;
+            }
+        }
+        for(int i = 0; i < n; i++) {
+            offsets[i+1] += offsets[i];
+        }
+        int[] targets = new int[offsets[n]];
+        int[] latencies = new int[targets.length];
+        int[] next = Arrays.copyOf(offsets, n);
+        for(int i = 0; i < n; i++) {
+            for(Edge e : ugraph.get(i)) {
+                targets[next[i]] = e.to;
+                latencies[next[i]++] = e.latency;
+                targets[next[e.to]] = i;
+                latencies[next[e.to]++] = e.latency;
+            }
+        }
+        return new CSRGraph(offsets, targets, latencies);
+    }
+
+    /**
+     * @param nodes the number of nodes
+     * @param endpoints the nodes of undirected edge k at 2k and 2k+1
+     * @param latencies the latency of edge k at k
+     * @return the graph with both directions of each edge
+     */
+    public static CSRGraph of(int nodes, int[] endpoints, int[] latencies) {
+        if(endpoints.length != 2*latencies.length) {
+            throw new IllegalArgumentException("Expected two endpoints per latency");
+        }
+        int[] offsets = new int[nodes + 1];
+        for(int v : endpoints) {
+            offsets[v+1]++;
+        }
+        for(int i = 0; i < nodes; i++) {
+            offsets[i+1] += offsets[i];
+        }
+        int[] targets = new int[endpoints.length];
+        int[] lats = new int[endpoints.length];
+        int[] next = Arrays.copyOf(offsets, nodes);
+        for(int k = 0; k < latencies.length; k++) {
+            int a = endpoints[2*k], b = endpoints[2*k+1];
+            targets[next[a]] = b;
+            lats[next[a]++] = latencies[k];
+            targets[next[b]] = a;
+            lats[next[b]++] = latencies[k];
+        }
+        return new CSRGraph(offsets, targets, lats);
+    }
+
+    /**
+     * @param digraph a directed graph as adjacency list, edges lead from node i (the list index) to edge.to
+     * @return the graph with the same directed edges
+     */
+    public static CSRGraph ofDirected(List<? extends List<Edge>> digraph) {
+        return new CSRGraph(digraph, edge -> edge.latency);
+    }
+
+    /**
+     * @return an adjacency list with one Edge per directed edge of this graph
+     */
+    public ArrayList<List<Edge>> toAdjList() {
+        ArrayList<List<Edge>> adj = new ArrayList<>(size());
+        for(int i = 0; i < size(); i++) {
+            ArrayList<Edge> edges = new ArrayList<>(degree(i));
+            for(int e = begin(i); e < end(i); e++) {
+                edges.add(new Edge(i, targets[e], latencies[e]));
+            }
+            adj.add(edges);
+        }
+        return adj;
+    }
+
+    /**
+     * @return an undirected adjacency list with each edge stored once, at its smaller node
+     */
+    public ArrayList<List<Edge>> toUndirectedAdjList() {
+        ArrayList<List<Edge>> adj = new ArrayList<>(size());
+        for(int i = 0; i < size(); i++) {
+            ArrayList<Edge> edges = new ArrayList<>();
+            for(int e = begin(i); e < end(i); e++) {
+                if(targets[e] > i) {
+                    edges.add(new Edge(i, targets[e], latencies[e]));
+                }
+            }
+            adj.add(edges);
+        }
+        return adj;
+    }
+
+    /**
+     * @param newId the new id of each node, a permutation of 0..size()-1
+     * @return the graph with node i renamed to newId[i]
+     */
+    public CSRGraph relabel(int[] newId) {
+        int n = size();
+        int[] old = new int[n];
+        for(int i = 0; i < n; i++) {
+            old[newId[i]] = i;
+        }
+        int[] offs = new int[n + 1];
+        for(int i = 0; i < n; i++) {
+            offs[i+1] = offs[i] + degree(old[i]);
+        }
+        int[] t = new int[targets.length];
+        int[] l = new int[latencies.length];
+        for(int i = 0; i < n; i++) {
+            int e = offs[i];
+            for(int f = begin(old[i]); f < end(old[i]); f++) {
+                t[e] = newId[targets[f]];
+                l[e++] = latencies[f];
+            }
+        }
+        return new CSRGraph(offs, t, l);
+    }
+
+    /**
+     * @return the number of nodes
+     */
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * @return the number of directed edges
+     */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * @return the index of the first edge of the given node
+     */
+    public int begin(int node) {
+        return offsets[node];
+    }
+
+    /**
+     * @return the index after the last edge of the given node
+     */
+    public int end(int node) {
+        return offsets[node+1];
+    }
+
+    public int degree(int node) {
+        return offsets[node+1] - offsets[node];
+    }
+
+    /**
+     * @param edge the edge index
+     * @return the node the edge leads to
+     */
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * @param edge the edge index
+     * @return the latency of the edge
+     */
+    public int latency(int edge) {
+        return latencies[edge];
+    }
+
+    /**
+     * @return true iff all nodes are reachable from node 0
+     */
+    public boolean isConnected() {
+        int[] d = hops(0);
+        for(int h : d) {
+            if(h < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Local clustering coefficient of each node: the number of edges between its neighbors divided by k*(k-1) for a
+     * node with k neighbors, 0 for nodes with less than two neighbors. For undirected graphs this is 2*triangles/(k*(k-1)).
+     * Edges between neighbors are counted by intersecting sorted neighbor arrays, in parallel for all nodes,
+     * which takes O(sum of squared degrees) instead of cubic time.
+     * @return the coefficient of each node
+     */
+    public double[] localClustering() {
+        int n = size();
+        int[] sorted = targets.clone();
+        IntStream.range(0, n).parallel().forEach(i -> Arrays.sort(sorted, offsets[i], offsets[i+1]));
+        double[] c = new double[n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            long k = degree(i);
+            if(k < 2) {
+                return;
+            }
+            long links = 0;
+            for(int e = offsets[i]; e < offsets[i+1]; e++) {
+                int u = sorted[e];
+                links += intersect(sorted, offsets[i], offsets[i+1], offsets[u], offsets[u+1]);
+            }
+            c[i] = links / (double) (k*(k-1));
+        });
+        return c;
+    }
+
+    // size of the intersection of the sorted ranges [a, aEnd) and [b, bEnd) of the given array
+    private static int intersect(int[] sorted, int a, int aEnd, int b, int bEnd) {
+        int lenA = aEnd - a, lenB = bEnd - b;
+        if(lenA > lenB) {
+            return intersect(sorted, b, bEnd, a, aEnd);
+        }
+        int count = 0;
+        if(lenA * 16 < lenB) {
+            // much smaller range: binary search each of its elements in the larger one
+            for(int i = a; i < aEnd; i++) {
+                if(Arrays.binarySearch(sorted, b, bEnd, sorted[i]) >= 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        while(a < aEnd && b < bEnd) {
+            if(sorted[a] < sorted[b]) {
+                a++;
+            } else if(sorted[a] > sorted[b]) {
+                b++;
+            } else {
+                count++;
+                a++;
+                b++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Breadth-first search, O(V+E)
+     * @param start the source node
+     * @return the minimal number of hops from start to each node, -1 for unreachable nodes
+     */
+    public int[] hops(int start) {
+        int n = size();
+        int[] d = new int[n];
+        if(n == 0) {
+            return d;
+        }
+        Arrays.fill(d, -1);
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        d[start] = 0;
+        queue[tail++] = start;
+        while(head < tail) {
+            int v = queue[head++];
+            for(int e = offsets[v]; e < offsets[v+1]; e++) {
+                int w = targets[e];
+                if(d[w] == -1) {
+                    d[w] = d[v] + 1;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        return d;
+    }
+
+    /**
+     * Dijkstra's algorithm on an indexed binary heap with decrease-key, O((V+E) log V)
+     * @param start the source node
+     * @return the latency of the shortest path from start to each node, -1 for unreachable nodes
+     */
+    public int[] dijkstra(int start) {
+        int n = size();
+        int[] d = new int[n];
+        Arrays.fill(d, -1);
+        int[] heap = new int[n];
+        int[] pos = new int[n]; // index of a node in heap, UNSEEN or SETTLED
+        Arrays.fill(pos, UNSEEN);
+
+        d[start] = 0;
+        heap[0] = start;
+        pos[start] = 0;
+        int size = 1;
+        while(size > 0) {
+            int v = heap[0];
+            pos[v] = SETTLED;
+            if(--size > 0) {
+                heap[0] = heap[size];
+                pos[heap[0]] = 0;
+                siftDown(heap, pos, d, size, 0);
+            }
+            for(int e = offsets[v]; e < offsets[v+1]; e++) {
+                int w = targets[e];
+                if(pos[w] == SETTLED) {
+                    continue;
+                }
+                int newDist = d[v] + latencies[e];
+                if(d[w] == -1 || newDist < d[w]) {
+                    d[w] = newDist;
+                    if(pos[w] == UNSEEN) {
+                        heap[size] = w;
+                        pos[w] = size++;
+                    }
+                    siftUp(heap, pos, d, pos[w]);
+                }
+            }
+        }
+        return d;
+    }
+
+    private static void siftUp(int[] heap, int[] pos, int[] d, int i) {
+        int v = heap[i];
+        while(i > 0) {
+            int parent = (i - 1) >>> 1;
+            int p = heap[parent];
+            if(d[p] <= d[v]) {
+                break;
+            }
+            heap[i] = p;
+            pos[p] = i;
+            i = parent;
+        }
+        heap[i] = v;
+        pos[v] = i;
+    }
+
+    private static void siftDown(int[] heap, int[] pos, int[] d, int size, int i) {
+        int v = heap[i];
+        while(true) {
+            int child = 2*i + 1;
+            if(child >= size) {
+                break;
+            }
+            if(child + 1 < size && d[heap[child+1]] < d[heap[child]]) {
+                child++;
+            }
+            int c = heap[child];
+            if(d[v] <= d[c]) {
+                break;
+            }
+            heap[i] = c;
+            pos[c] = i;
+            i = child;
+        }
+        heap[i] = v;
+        pos[v] = i;
+    }
+}
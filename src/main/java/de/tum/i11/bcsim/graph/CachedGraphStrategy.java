@@ -0,0 +1,131 @@
+package de.tum.i11.bcsim.graph;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loads the graph of another strategy from a graph file in a cache directory, keyed by the parameters of that
+ * strategy. On a cache miss, the graph is created by the other strategy and saved for subsequent runs. Unlike other
+ * strategies, all calls return the same topology.
+ */
+public class CachedGraphStrategy implements GraphStrategy {
+    private static final Logger LOGGER = Logger.getLogger(CachedGraphStrategy.class.getName());
+
+    private final Path file;
+    private final String key;
+    private final Supplier<GraphStrategy> source;
+    private final double bandwidth;
+    private GraphStrategy strategy;
+    private GraphFile cached;
+
+    /**
+     * @param dir the cache directory
+     * @param key the parameters of the source strategy, graphs are cached per key
+     * @param source creates the strategy used on a cache miss, only called if needed
+     * @param bandwidth the bandwidth of the source strategy
+     */
+    public CachedGraphStrategy(Path dir, String key, Supplier<GraphStrategy> source, double bandwidth) {
+        this.file = dir.resolve(UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8))+".graph");
+        this.key = key;
+        this.source = source;
+        this.bandwidth = bandwidth;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return true iff the graph was loaded from the cache, false if it is yet unknown or was created
+     */
+    public boolean isCached() {
+        return cached != null && strategy == null;
+    }
+
+    private GraphStrategy strategy() {
+        if(strategy == null) {
+            strategy = source.get();
+        }
+        return strategy;
+    }
+
+    // the cached graph file, null if there is no valid file for the key
+    private GraphFile load() {
+        if(cached == null && strategy == null && Files.exists(file)) {
+            try {
+                long start = System.nanoTime();
+                GraphFile f = GraphFile.load(file);
+                if(f.getKey().equals(key)) {
+                    cached = f;
+                    LOGGER.config("Loaded graph with "+f.getGraph().size()+" nodes from "+file+" in "+(System.nanoTime()-start)/1000000+" ms");
+                } else {
+                    LOGGER.warning("Graph file "+file+" belongs to "+f.getKey()+", expected "+key);
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Could not load graph file "+file, e);
+            }
+        }
+        return cached;
+    }
+
+    @Override
+    public CSRGraph getGraph() {
+        if(load() == null) {
+            GraphStrategy s = strategy();
+            cached = new GraphFile(key, s.getGraph(), s.getLabels());
+            try {
+                cached.save(file);
+                LOGGER.config("Saved graph to "+file);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Could not save graph file "+file, e);
+            }
+        }
+        return cached.getGraph();
+    }
+
+    /**
+     * @return the cached graph with each undirected edge stored at its smaller node
+     */
+    @Override
+    public ArrayList<List<Edge>> getEdges() {
+        return getGraph().toUndirectedAdjList();
+    }
+
+    @Override
+    public List<String> getLabels() {
+        getGraph();
+        return cached.getLabels();
+    }
+
+    @Override
+    public int getNodes() {
+        return load() != null ? cached.getGraph().size() : strategy().getNodes();
+    }
+
+    /**
+     * @return the largest edge latency of the graph, computed from the graph whether it was loaded or created, so it
+     * may differ from the wrapped strategy's value (e.g. a nominal latency)
+     */
+    @Override
+    public double getMaxLatency() {
+        CSRGraph graph = getGraph();
+        int max = 0;
+        for(int e = 0; e < graph.edgeCount(); e++) {
+            max = Math.max(max, graph.latency(e));
+        }
+        return max;
+    }
+
+    @Override
+    public double getBandWidth() {
+        return bandwidth;
+    }
+}
@@ -0,0 +1,305 @@
+package de.tum.i11.bcsim.graph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Parses edge list files with one directed edge per line: the labels of both nodes and the latency, separated by
+ * whitespace, blank lines are skipped. Nodes are numbered in the order their labels first appear. The file is memory
+ * mapped in chunks of whole lines which are parsed in parallel directly from the mapped bytes. Each chunk interns its
+ * labels into local ids without creating Strings per edge, only the bytes of distinct labels are copied to the heap.
+ * The chunks' labels are then merged in file order and their edges renumbered. Edges take 12 byte each.
+ */
+public class EdgeListParser {
+    public static final long CHUNK_SIZE = 16 << 20;
+
+    public final List<String> labels; // label of each node id
+    public final int[] from; // edge k leads from node from[k] to node to[k]
+    public final int[] to;
+    public final int[] latencies;
+
+    private EdgeListParser(List<String> labels, int[] from, int[] to, int[] latencies) {
+        this.labels = labels;
+        this.from = from;
+        this.to = to;
+        this.latencies = latencies;
+    }
+
+    public static EdgeListParser parse(Path path) throws IOException {
+        return parse(path, CHUNK_SIZE);
+    }
+
+    /**
+     * @param path the edge list file
+     * @param chunkSize the minimal number of bytes parsed by one task
+     * @return the parsed edges
+     * @throws IOException if the file cannot be read or contains invalid lines
+     */
+    public static EdgeListParser parse(Path path, long chunkSize) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(channel, chunkSize);
+            Chunk[] chunks;
+            try {
+                chunks = IntStream.range(0, bounds.length - 1).parallel().mapToObj(i -> {
+                    try {
+                        long start = bounds[i];
+                        // the mapping is released once the buffer is garbage collected after parsing
+                        MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, start, bounds[i+1] - start);
+                        return new Chunk(map, start);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }).toArray(Chunk[]::new);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            // merge labels in file order, so that ids are the same as with sequential parsing
+            HashMap<String, Integer> ids = new HashMap<>();
+            List<String> labels = new ArrayList<>();
+            int[][] globalIds = new int[chunks.length][];
+            int[] edgeOffsets = new int[chunks.length + 1];
+            for(int c = 0; c < chunks.length; c++) {
+                Chunk chunk = chunks[c];
+                globalIds[c] = new int[chunk.labels];
+                for(int l = 0; l < chunk.labels; l++) {
+                    String label = chunk.label(l);
+                    Integer id = ids.putIfAbsent(label, labels.size());
+                    if(id == null) {
+                        id = labels.size();
+                        labels.add(label);
+                    }
+                    globalIds[c][l] = id;
+                }
+                if((long) edgeOffsets[c] + chunk.edges > Integer.MAX_VALUE) {
+                    throw new IOException("Too many edges in "+path);
+                }
+                edgeOffsets[c+1] = edgeOffsets[c] + chunk.edges;
+            }
+
+            int m = edgeOffsets[chunks.length];
+            int[] from = new int[m], to = new int[m], latencies = new int[m];
+            IntStream.range(0, chunks.length).parallel().forEach(c -> {
+                Chunk chunk = chunks[c];
+                int[] g = globalIds[c];
+                for(int e = 0; e < chunk.edges; e++) {
+                    from[edgeOffsets[c] + e] = g[chunk.from[e]];
+                    to[edgeOffsets[c] + e] = g[chunk.to[e]];
+                    latencies[edgeOffsets[c] + e] = chunk.latencies[e];
+                }
+            });
+            return new EdgeListParser(labels, from, to, latencies);
+        }
+    }
+
+    // chunk boundaries at the start of lines, each chunk is at least chunkSize byte large except for the last one
+    private static long[] chunkBounds(FileChannel channel, long chunkSize) throws IOException {
+        long size = channel.size();
+        ArrayList<Long> bounds = new ArrayList<>(List.of(0L));
+        ByteBuffer buf = ByteBuffer.allocate(4096);
+        long pos = chunkSize;
+        while(pos < size) {
+            // find the end of the line containing pos
+            long lineEnd = -1;
+            while(lineEnd < 0 && pos < size) {
+                buf.clear();
+                int read = channel.read(buf, pos);
+                for(int i = 0; i < read; i++) {
+                    if(buf.get(i) == '\n') {
+                        lineEnd = pos + i + 1;
+                        break;
+                    }
+                }
+                pos += Math.max(read, 0);
+            }
+            if(lineEnd < 0 || lineEnd >= size) {
+                break;
+            }
+            bounds.add(lineEnd);
+            pos = lineEnd + chunkSize;
+        }
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+
+    // the edges and distinct labels of one chunk, the bytes of distinct labels are stored consecutively in labelBytes
+    private static class Chunk {
+        private ByteBuffer buf; // only referenced while parsing
+        private byte[] labelBytes = new byte[1024];
+        private int labelBytesSize;
+        private int[] labelStart = new int[64];
+        private int[] labelLength = new int[64];
+        private int[] table = new int[128]; // open addressing: local label id + 1, 0 = empty
+        private final int[] tokens = new int[6]; // start and end of the tokens of the current line
+        int labels;
+        int[] from = new int[64];
+        int[] to = new int[64];
+        int[] latencies = new int[64];
+        int edges;
+
+        Chunk(ByteBuffer buf, long offset) throws IOException {
+            this.buf = buf;
+            int limit = buf.limit();
+            int pos = 0;
+            while(pos < limit) {
+                int lineEnd = pos;
+                while(lineEnd < limit && buf.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                parseLine(pos, lineEnd, offset);
+                pos = lineEnd + 1;
+            }
+            this.buf = null;
+        }
+
+        private void parseLine(int pos, int end, long offset) throws IOException {
+            int count = 0;
+            while(count < 3) {
+                while(pos < end && isSpace(buf.get(pos))) {
+                    pos++;
+                }
+                if(pos == end) {
+                    break;
+                }
+                tokens[2*count] = pos;
+                while(pos < end && !isSpace(buf.get(pos))) {
+                    pos++;
+                }
+                tokens[2*count+1] = pos;
+                count++;
+            }
+            if(count == 0) {
+                return; // blank line
+            }
+            if(count < 3) {
+                throw new IOException("Expected 'from to latency' at byte "+(offset + tokens[0]));
+            }
+            if(edges == from.length) {
+                from = Arrays.copyOf(from, 2*edges);
+                to = Arrays.copyOf(to, 2*edges);
+                latencies = Arrays.copyOf(latencies, 2*edges);
+            }
+            from[edges] = intern(tokens[0], tokens[1]);
+            to[edges] = intern(tokens[2], tokens[3]);
+            latencies[edges] = parseInt(tokens[4], tokens[5], offset);
+            edges++;
+        }
+
+        private int parseInt(int start, int end, long offset) throws IOException {
+            boolean negative = buf.get(start) == '-';
+            int i = negative || buf.get(start) == '+' ? start + 1 : start;
+            if(i == end) {
+                throw new IOException("Invalid latency at byte "+(offset + start));
+            }
+            long value = 0;
+            for(; i < end; i++) {
+                int d = buf.get(i) - '0';
+                if(d < 0 || d > 9 || (value = 10*value + d) > Integer.MAX_VALUE + 1L) {
+                    throw new IOException("Invalid latency at byte "+(offset + start));
+                }
+            }
+            value = negative ? -value : value;
+            if(value > Integer.MAX_VALUE) {
+                throw new IOException("Invalid latency at byte "+(offset + start));
+            }
+            return (int) value;
+        }
+
+        // hash of the bytes at [start, end) of buf
+        private int hash(int start, int end) {
+            int h = 1;
+            for(int i = start; i < end; i++) {
+                h = 31*h + buf.get(i);
+            }
+            return mix(h);
+        }
+
+        // hash of a stored label, the same as of its bytes in buf
+        private int hash(int label) {
+            int h = 1;
+            for(int i = labelStart[label]; i < labelStart[label] + labelLength[label]; i++) {
+                h = 31*h + labelBytes[i];
+            }
+            return mix(h);
+        }
+
+        private static int mix(int h) {
+            h *= 0x9E3779B9; // spread similar labels, e.g. consecutive numbers, over the table
+            return h ^ (h >>> 16);
+        }
+
+        private boolean equals(int label, int start, int end) {
+            if(labelLength[label] != end - start) {
+                return false;
+            }
+            for(int i = 0; i < end - start; i++) {
+                if(labelBytes[labelStart[label] + i] != buf.get(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // local id of the label at [start, end), added if not yet known
+        private int intern(int start, int end) {
+            int mask = table.length - 1;
+            int i = hash(start, end) & mask;
+            while(table[i] != 0) {
+                if(equals(table[i] - 1, start, end)) {
+                    return table[i] - 1;
+                }
+                i = (i + 1) & mask;
+            }
+            if(labels == labelStart.length) {
+                labelStart = Arrays.copyOf(labelStart, 2*labels);
+                labelLength = Arrays.copyOf(labelLength, 2*labels);
+            }
+            int length = end - start;
+            if(labelBytesSize + length > labelBytes.length) {
+                labelBytes = Arrays.copyOf(labelBytes, Math.max(2*labelBytes.length, labelBytesSize + length));
+            }
+            for(int b = 0; b < length; b++) {
+                labelBytes[labelBytesSize + b] = buf.get(start + b);
+            }
+            labelStart[labels] = labelBytesSize;
+            labelLength[labels] = length;
+            labelBytesSize += length;
+            table[i] = ++labels;
+            if(2*labels > table.length) {
+                rehash();
+            }
+            return labels - 1;
+        }
+
+        private void rehash() {
+            table = new int[2*table.length];
+            int mask = table.length - 1;
+            for(int l = 0; l < labels; l++) {
+                int i = hash(l) & mask;
+                while(table[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = l + 1;
+            }
+        }
+
+        String label(int l) {
+            return new String(labelBytes, labelStart[l], labelLength[l], StandardCharsets.UTF_8);
+        }
+    }
+}
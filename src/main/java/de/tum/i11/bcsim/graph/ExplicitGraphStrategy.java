@@ -1,114 +1,149 @@
 package de.tum.i11.bcsim.graph;
 
 import de.tum.i11.bcsim.config.ConfigYAML;
+import de.tum.i11.bcsim.util.LongHashSet;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
 
 public class ExplicitGraphStrategy implements GraphStrategy {
     private static final Logger LOGGER = Logger.getLogger(ExplicitGraphStrategy.class.getName());
 
-    private final HashMap<Integer, LinkedList<ConfigYAML.Explicit.Peer.Edge>> peers;
+    private final int nodes;
+    // the directed edges as specified: from[k] -> to[k]
+    private final int[] from;
+    private final int[] to;
+    private final int[] latencies;
     private int maxLatency;
     private final double bandwidth;
+    private final List<String> labels;
 
     public ExplicitGraphStrategy(List<ConfigYAML.Explicit.Peer> peers, double bandwidth) {
-        this.peers = new HashMap<>();
-        this.bandwidth = bandwidth;
-        peers.forEach(p -> {
-            this.peers.put(p.id, new LinkedList<>(p.edges));
-            for(ConfigYAML.Explicit.Peer.Edge e : p.edges) {
-                maxLatency = Math.max(maxLatency, e.latency);
+        HashMap<Integer, List<ConfigYAML.Explicit.Peer.Edge>> byId = new HashMap<>();
+        peers.forEach(p -> byId.put(p.id, p.edges));
+        int m = byId.values().stream().mapToInt(List::size).sum();
+        this.nodes = byId.size();
+        this.from = new int[m];
+        this.to = new int[m];
+        this.latencies = new int[m];
+        int k = 0;
+        for(var entry : byId.entrySet()) {
+            for(ConfigYAML.Explicit.Peer.Edge e : entry.getValue()) {
+                from[k] = entry.getKey();
+                to[k] = e.id;
+                latencies[k++] = e.latency;
             }
-        });
-
+        }
+        this.bandwidth = bandwidth;
+        this.labels = null;
+        computeMaxLatency();
     }
 
+    /**
+     * Load a graph from an edge list file, see EdgeListParser for the format
+     * @param fileName the edge list file
+     * @param bandwidth the bandwidth
+     */
     public ExplicitGraphStrategy(String fileName, double bandwidth) {
-        class Edge {
-            String from, to;
-            int latency;
-            private Edge(String[] a) {
-                this.from = a[0];
-                this.to = a[1];
-                this.latency = Integer.parseInt(a[2]);
-            }
-        }
-
-        HashMap<String, Integer> ids = new HashMap<>();
-        int[] count = new int[]{0};
-        LinkedList<Edge> edges = new LinkedList<>();
-
-        try (Stream<String> stream = Files.lines(Paths.get(fileName))) {
-            stream.forEach(l -> {
-                Edge next = new Edge(l.split("\\s"));
-                if(!ids.containsKey(next.from)) {
-                    ids.put(next.from, count[0]++);
-                }
-                if(!ids.containsKey(next.to)) {
-                    ids.put(next.to, count[0]++);
-                }
-                edges.add(next);
-            });
+        EdgeListParser edgeList = null;
+        try {
+            long start = System.nanoTime();
+            edgeList = EdgeListParser.parse(Paths.get(fileName));
+            LOGGER.config("Parsed "+edgeList.from.length+" edges between "+edgeList.labels.size()+" nodes from "+fileName
+                    +" in "+(System.nanoTime()-start)/1000000+" ms");
         } catch (IOException e) {
             LOGGER.throwing(getClass().getName(), "constructor", e);
             System.exit(1);
         }
+        this.nodes = edgeList.labels.size();
+        this.from = edgeList.from;
+        this.to = edgeList.to;
+        this.latencies = edgeList.latencies;
+        this.labels = edgeList.labels;
+        this.bandwidth = bandwidth;
+        computeMaxLatency();
+    }
 
-        HashMap<Integer, ConfigYAML.Explicit.Peer> peers = new HashMap<>(ids.size());
-        ids.values().forEach(i -> {
-            var p = new ConfigYAML.Explicit.Peer();
-            p.id=i;
-            peers.put(i, p);
-        });
-
-        edges.forEach(e -> {
-            peers.get(ids.get(e.from)).edges.add(new ConfigYAML.Explicit.Peer.Edge(ids.get(e.to), e.latency));
-        });
+    private void computeMaxLatency() {
+        for(int l : latencies) {
+            maxLatency = Math.max(maxLatency, l);
+        }
+    }
 
-        this.peers = new HashMap<>();
-        this.bandwidth = bandwidth;
-        peers.values().forEach(p -> {
-            this.peers.put(p.id, new LinkedList<>(p.edges));
-            for(ConfigYAML.Explicit.Peer.Edge e : p.edges) {
-                maxLatency = Math.max(maxLatency, e.latency);
+    /**
+     * Undirected edges of the graph: of two opposite directed edges between the same nodes, only the one starting at
+     * the smaller node is kept
+     * @return the indices of the kept directed edges
+     */
+    private int[] undirectedEdges() {
+        LongHashSet forward = new LongHashSet(from.length);
+        for(int k = 0; k < from.length; k++) {
+            if(from[k] == to[k] || from[k] < 0 || from[k] >= nodes || to[k] < 0 || to[k] >= nodes)
+                throw new IllegalArgumentException("Node Ids in explicit network strategy have to be numbered from 0 to n");
+            if(from[k] < to[k]) {
+                forward.add((long) from[k] << 32 | to[k]);
             }
-        });
+        }
+        int[] kept = new int[from.length];
+        int count = 0;
+        for(int k = 0; k < from.length; k++) {
+            if(from[k] < to[k] || !forward.contains((long) to[k] << 32 | from[k])) {
+                kept[count++] = k;
+            }
+        }
+        return Arrays.copyOf(kept, count);
     }
 
+    @Override
+    public CSRGraph getGraph() {
+        int[] kept = undirectedEdges();
+        int[] endpoints = new int[2*kept.length];
+        int[] lats = new int[kept.length];
+        for(int i = 0; i < kept.length; i++) {
+            endpoints[2*i] = from[kept[i]];
+            endpoints[2*i+1] = to[kept[i]];
+            lats[i] = latencies[kept[i]];
+        }
+        CSRGraph graph = CSRGraph.of(nodes, endpoints, lats);
+        if(!graph.isConnected()) {
+            throw new IllegalArgumentException("Edges in explicit graph strategy need to form connected, undirected graph");
+        }
+        return graph;
+    }
 
     @Override
     public ArrayList<List<Edge>> getEdges() {
-        ArrayList<List<Edge>> adjList = new ArrayList<>(getNodes());
-        for(int i = 0; i < getNodes(); i++) {
-            var adj = peers.get(i);
-            if(adj == null)
-                throw new IllegalArgumentException("Node Ids in explicit network strategy have to be numbered from 0 to n");
-            LinkedList<Edge> edges = new LinkedList<>();
-            for(ConfigYAML.Explicit.Peer.Edge e : adj) {
-                if(e.id == i || e.id < 0 || e.id >= getNodes())
-                    throw new IllegalArgumentException("Node Ids in explicit network strategy have to be numbered from 0 to n");
-                edges.add(new Edge(i, e.id, e.latency));
-            }
-            adjList.add(edges);
+        int[] kept = undirectedEdges();
+        int[] degree = new int[nodes];
+        for(int k : kept) {
+            degree[from[k]]++;
+        }
+        ArrayList<List<Edge>> adjList = new ArrayList<>(nodes);
+        for(int i = 0; i < nodes; i++) {
+            adjList.add(new ArrayList<>(degree[i]));
+        }
+        for(int k : kept) {
+            adjList.get(from[k]).add(new Edge(from[k], to[k], latencies[k]));
         }
-        GraphUtil.toUGraph(adjList);
         if(!GraphUtil.isConnected(adjList)) {
             throw new IllegalArgumentException("Edges in explicit graph strategy need to form connected, undirected graph");
         }
         return adjList;
     }
 
+    @Override
+    public List<String> getLabels() {
+        return labels;
+    }
+
     @Override
     public int getNodes() {
-        return peers.size();
+        return nodes;
     }
 
     public double getMaxLatency() {
@@ -0,0 +1,253 @@
+package de.tum.i11.bcsim.graph;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+/**
+ * Places peers in geographic regions and derives the latency of each edge from the round trip time between the
+ * regions of its peers. Regions are read from a CSV file with lines "name,latitude,longitude,weight", peers are
+ * distributed between regions proportionally to their weights. Round trip times in ms are read from a CSV matrix
+ * whose first row and column hold region names. Missing entries are taken from the opposite direction or estimated
+ * from the great-circle distance between the regions. Lines starting with # are ignored.
+ * The topology is created by preferential attachment as in ScaleFreeStrategy, so creating graphs takes O(nodes*m).
+ */
+public class GeoGraphStrategy implements GraphStrategy {
+    private static final Logger LOGGER = Logger.getLogger(GeoGraphStrategy.class.getName());
+
+    public static final double FIBER_KM_PER_MS = 200; // speed of light in fiber
+    public static final double ROUTE_INFLATION = 1.5; // ratio of route length to great-circle distance
+    public static final double MIN_RTT = 2; // ms, estimate for peers close to each other
+    private static final double EARTH_RADIUS_KM = 6371;
+
+    private final int nodes;
+    private final int m;
+    private final double jitter;
+    private final double bandwidth;
+    private final List<String> regionNames = new ArrayList<>();
+    private final List<double[]> coordinates = new ArrayList<>();
+    private final List<Double> weights = new ArrayList<>();
+    private final double[][] rtt;
+    private int[] regionOf;
+
+    /**
+     * @param nodes the number of peers
+     * @param m the number of edges each new peer is attached with
+     * @param regionsFile CSV file of regions: name, latitude, longitude, weight
+     * @param rttFile CSV matrix of round trip times (ms) between regions, or null to estimate all of them
+     * @param jitter standard deviation of edge latencies relative to the latency between their regions
+     * @param bandwidth the bandwidth
+     */
+    public GeoGraphStrategy(int nodes, int m, String regionsFile, String rttFile, double jitter, double bandwidth) {
+        this.nodes = nodes;
+        this.m = Math.min(nodes, m);
+        this.jitter = jitter;
+        this.bandwidth = bandwidth;
+        List<String[]> regionRows = null, rttRows = null;
+        try {
+            regionRows = readCSV(regionsFile);
+            rttRows = rttFile == null ? List.of() : readCSV(rttFile);
+        } catch (IOException e) {
+            LOGGER.throwing(getClass().getName(), "constructor", e);
+            System.exit(1);
+        }
+
+        for(String[] r : regionRows) {
+            if(r.length < 4)
+                throw new IllegalArgumentException("Expected 'name,latitude,longitude,weight' in "+regionsFile+": "+String.join(",", r));
+            if(regionNames.contains(r[0]))
+                throw new IllegalArgumentException("Duplicate region "+r[0]+" in "+regionsFile);
+            double weight = Double.parseDouble(r[3]);
+            if(weight < 0)
+                throw new IllegalArgumentException("Negative weight of region "+r[0]);
+            regionNames.add(r[0]);
+            coordinates.add(new double[]{Double.parseDouble(r[1]), Double.parseDouble(r[2])});
+            weights.add(weight);
+        }
+        if(weights.stream().mapToDouble(w -> w).sum() <= 0)
+            throw new IllegalArgumentException("Regions in "+regionsFile+" need a positive total weight");
+
+        int k = regionNames.size();
+        rtt = new double[k][k];
+        for(double[] row : rtt) {
+            Arrays.fill(row, -1);
+        }
+        if(!rttRows.isEmpty()) {
+            String[] header = rttRows.get(0);
+            int[] columns = new int[header.length];
+            for(int c = 1; c < header.length; c++) {
+                columns[c] = region(header[c], rttFile);
+            }
+            for(String[] row : rttRows.subList(1, rttRows.size())) {
+                int a = region(row[0], rttFile);
+                for(int c = 1; c < Math.min(row.length, header.length); c++) {
+                    if(!row[c].isEmpty()) {
+                        rtt[a][columns[c]] = Double.parseDouble(row[c]);
+                    }
+                }
+            }
+        }
+        for(int a = 0; a < k; a++) {
+            for(int b = 0; b < k; b++) {
+                if(rtt[a][b] < 0) {
+                    rtt[a][b] = rtt[b][a] >= 0 ? rtt[b][a] : estimateRtt(coordinates.get(a), coordinates.get(b));
+                }
+            }
+        }
+    }
+
+    private int region(String name, String file) {
+        int i = regionNames.indexOf(name);
+        if(i < 0)
+            throw new IllegalArgumentException("Unknown region "+name+" in "+file);
+        return i;
+    }
+
+    private static List<String[]> readCSV(String file) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        for(String line : Files.readAllLines(Paths.get(file))) {
+            line = line.trim();
+            if(line.isEmpty() || line.startsWith("#"))
+                continue;
+            String[] cells = line.split(",", -1);
+            for(int i = 0; i < cells.length; i++) {
+                cells[i] = cells[i].trim();
+            }
+            rows.add(cells);
+        }
+        return rows;
+    }
+
+    /**
+     * @param a latitude and longitude of the first location in degrees
+     * @param b latitude and longitude of the second location in degrees
+     * @return the estimated round trip time in ms
+     */
+    static double estimateRtt(double[] a, double[] b) {
+        double lat1 = Math.toRadians(a[0]), lat2 = Math.toRadians(b[0]);
+        double dLat = lat2 - lat1, dLon = Math.toRadians(b[1] - a[1]);
+        double h = Math.pow(Math.sin(dLat/2), 2) + Math.cos(lat1)*Math.cos(lat2)*Math.pow(Math.sin(dLon/2), 2);
+        double km = 2*EARTH_RADIUS_KM*Math.asin(Math.min(1, Math.sqrt(h)));
+        return Math.max(MIN_RTT, 2*km*ROUTE_INFLATION/FIBER_KM_PER_MS);
+    }
+
+    /**
+     * Assign peers to regions: each region gets its share of peers rounded by largest remainder, peers of all regions
+     * are shuffled
+     */
+    private int[] placePeers() {
+        double total = weights.stream().mapToDouble(w -> w).sum();
+        int k = regionNames.size();
+        int[] count = new int[k];
+        Integer[] byRemainder = new Integer[k];
+        int assigned = 0;
+        for(int r = 0; r < k; r++) {
+            count[r] = (int) (nodes*weights.get(r)/total);
+            assigned += count[r];
+            byRemainder[r] = r;
+        }
+        Arrays.sort(byRemainder, Comparator.comparingDouble(r -> -(nodes*weights.get(r)/total - count[r])));
+        for(int i = 0; assigned < nodes; i++) {
+            count[byRemainder[i % k]]++;
+            assigned++;
+        }
+
+        int[] regions = new int[nodes];
+        int next = 0;
+        for(int r = 0; r < k; r++) {
+            for(int j = 0; j < count[r]; j++) {
+                regions[next++] = r;
+            }
+        }
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        for(int i = nodes - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            int x = regions[i];
+            regions[i] = regions[j];
+            regions[j] = x;
+        }
+        return regions;
+    }
+
+    // one-way latency in microseconds of an edge between peers in the given regions
+    private int latency(int a, int b) {
+        double mean = rtt[a][b]*1000/2;
+        return (int) Math.max(0, ThreadLocalRandom.current().nextGaussian()*jitter*mean + mean);
+    }
+
+    @Override
+    public CSRGraph getGraph() {
+        int[] endpoints = new ScaleFreeStrategy(nodes, m, 0, bandwidth).attach();
+        regionOf = placePeers();
+        int[] latencies = new int[endpoints.length/2];
+        for(int k = 0; k < latencies.length; k++) {
+            latencies[k] = latency(regionOf[endpoints[2*k]], regionOf[endpoints[2*k+1]]);
+        }
+        return CSRGraph.of(nodes, endpoints, latencies);
+    }
+
+    @Override
+    public ArrayList<List<Edge>> getEdges() {
+        int[] endpoints = new ScaleFreeStrategy(nodes, m, 0, bandwidth).attach();
+        regionOf = placePeers();
+        ArrayList<List<Edge>> graph = new ArrayList<>(nodes);
+        for(int i = 0; i < nodes; i++) {
+            graph.add(new ArrayList<>(m));
+        }
+        for(int k = 0; k < endpoints.length; k += 2) {
+            int from = endpoints[k], to = endpoints[k+1];
+            graph.get(from).add(new Edge(from, to, latency(regionOf[from], regionOf[to])));
+        }
+        return graph;
+    }
+
+    /**
+     * @return the region of each peer of the most recently created graph, null if no graph was created yet
+     */
+    @Override
+    public List<String> getLabels() {
+        if(regionOf == null) {
+            return null;
+        }
+        List<String> labels = new ArrayList<>(nodes);
+        for(int r : regionOf) {
+            labels.add(regionNames.get(r));
+        }
+        return labels;
+    }
+
+    public List<String> getRegionNames() {
+        return Collections.unmodifiableList(regionNames);
+    }
+
+    /**
+     * @return the round trip time in ms between the given regions, indices into getRegionNames()
+     */
+    public double getRtt(int a, int b) {
+        return rtt[a][b];
+    }
+
+    @Override
+    public int getNodes() {
+        return nodes;
+    }
+
+    @Override
+    public double getMaxLatency() {
+        double max = 0;
+        for(double[] row : rtt) {
+            for(double r : row) {
+                max = Math.max(max, r*1000/2);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public double getBandWidth() {
+        return bandwidth;
+    }
+}
@@ -0,0 +1,253 @@
+package de.tum.i11.bcsim.graph;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Shortest path metrics of an undirected graph. The latency and hop distance matrices are each computed once, when
+ * first needed, and shared by all metrics. As distances are symmetric, only the upper triangle (n*(n-1)/2 entries)
+ * is stored, optionally off-heap, and queries are answered from it without looking at the graph again. Callers
+ * that change the graph afterwards (e.g. by GraphUtil.swap) have to call invalidate().
+ * Unreachable pairs have a distance of -1. Not thread-safe.
+ */
+public class GraphAnalysis {
+    private final ArrayList<List<Edge>> graph;
+    private final boolean offHeap;
+    private final int n;
+    private CSRGraph csr;
+    private Triangle latencies;
+    private Triangle hops;
+
+    /**
+     * @param graph the (undirected) graph
+     */
+    public GraphAnalysis(ArrayList<List<Edge>> graph) {
+        this(graph, false);
+    }
+
+    /**
+     * @param graph the (undirected) graph
+     * @param offHeap true - store distance matrices in direct buffers, which keeps them out of the GC'd heap
+     *                for large graphs (n*(n-1)*2 byte per matrix)
+     */
+    public GraphAnalysis(ArrayList<List<Edge>> graph, boolean offHeap) {
+        if((long) graph.size() * (graph.size() - 1) / 2 > Integer.MAX_VALUE / (offHeap ? Integer.BYTES : 1)) {
+            throw new IllegalArgumentException("Graph with "+graph.size()+" nodes is too large for a distance matrix");
+        }
+        this.graph = graph;
+        this.offHeap = offHeap;
+        this.n = graph.size();
+    }
+
+    public ArrayList<List<Edge>> getGraph() {
+        return graph;
+    }
+
+    /**
+     * @return the graph with both directions of each edge in CSR format
+     */
+    public CSRGraph getCSRGraph() {
+        if(csr == null) {
+            csr = CSRGraph.of(graph);
+        }
+        return csr;
+    }
+
+    /**
+     * @return the shortest path latency between a and b
+     */
+    public int getLatency(int a, int b) {
+        return latencies().get(a, b);
+    }
+
+    /**
+     * @return the minimal number of hops between a and b
+     */
+    public int getHops(int a, int b) {
+        return hops().get(a, b);
+    }
+
+    /**
+     * @param nodes the ids of a subset of nodes
+     * @return the shortest path latencies between the given nodes, [i][j] is the latency between nodes.get(i) and nodes.get(j)
+     */
+    public int[][] getLatencies(List<Integer> nodes) {
+        Triangle t = latencies();
+        int[][] res = new int[nodes.size()][nodes.size()];
+        for(int i = 0; i < nodes.size(); i++) {
+            for(int j = 0; j < nodes.size(); j++) {
+                res[i][j] = t.get(nodes.get(i), nodes.get(j));
+            }
+        }
+        return res;
+    }
+
+    public double getAvgPropDelay() {
+        return latencies().sum() / ((double) n * (n - 1) / 2);
+    }
+
+    public double getAvgHops() {
+        return hops().sum() / ((double) n * (n - 1) / 2);
+    }
+
+    public int getMaxLatency() {
+        return latencies().max();
+    }
+
+    public int getMaxHops() {
+        return hops().max();
+    }
+
+    public double getMedianPropDelay() {
+        Triangle t = latencies();
+        int[] values = new int[t.size()];
+        int count = 0;
+        for(int i = 0; i < values.length; i++) {
+            int v = t.get(i);
+            if(v != 0) {
+                values[count++] = v;
+            }
+        }
+        Arrays.sort(values, 0, count);
+        if(count % 2 == 0) {
+            return (values[count/2-1]+values[count/2])/2.0;
+        } else {
+            return values[count/2];
+        }
+    }
+
+    /**
+     * @return the latency of the shortest path between each pair of nodes (i < j), ordered by i, then j
+     */
+    public LinkedList<Integer> getPropDelayDistribution() {
+        Triangle t = latencies();
+        LinkedList<Integer> l = new LinkedList<>();
+        for(int i = 0; i < t.size(); i++) {
+            l.add(t.get(i));
+        }
+        return l;
+    }
+
+    /**
+     * @param nodes a subset of nodes
+     * @return the average shortest path latency between any two distinct nodes of the subset
+     */
+    public double getAvgPropDelayBetweenNodes(Collection<Integer> nodes) {
+        Triangle t = latencies();
+        double total = 0;
+        double count = 0;
+        for(Integer i : nodes) {
+            for(Integer j : nodes) {
+                if(!i.equals(j)) {
+                    total += t.get(i, j);
+                    count++;
+                }
+            }
+        }
+        return total/count;
+    }
+
+    /**
+     * Drop the distance matrices after the graph was changed, they are recomputed when needed next
+     */
+    public void invalidate() {
+        if(graph.size() != n) {
+            throw new IllegalStateException("Number of nodes changed from "+n+" to "+graph.size());
+        }
+        csr = null;
+        latencies = null;
+        hops = null;
+    }
+
+    private Triangle latencies() {
+        if(latencies == null) {
+            latencies = compute(false);
+        }
+        return latencies;
+    }
+
+    private Triangle hops() {
+        if(hops == null) {
+            hops = compute(true);
+        }
+        return hops;
+    }
+
+    private Triangle compute(boolean hops) {
+        CSRGraph g = getCSRGraph();
+        Triangle t = new Triangle(n, offHeap);
+        IntStream.range(0, n).parallel().forEach(i -> {
+            int[] d = hops ? g.hops(i) : g.dijkstra(i);
+            for(int j = i+1; j < n; j++) {
+                t.set(i, j, d[j]);
+            }
+        });
+        return t;
+    }
+
+    // symmetric matrix with a zero diagonal, stored as its upper triangle row by row
+    private static class Triangle {
+        private final int n;
+        private final int[] heap;
+        private final IntBuffer direct;
+
+        Triangle(int n, boolean offHeap) {
+            this.n = n;
+            int size = (int) ((long) n * (n - 1) / 2);
+            if(offHeap) {
+                heap = null;
+                direct = ByteBuffer.allocateDirect(size * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+            } else {
+                heap = new int[size];
+                direct = null;
+            }
+        }
+
+        int size() {
+            return heap != null ? heap.length : direct.capacity();
+        }
+
+        int get(int index) {
+            return heap != null ? heap[index] : direct.get(index);
+        }
+
+        int get(int a, int b) {
+            if(a == b) {
+                return 0;
+            }
+            return get(index(Math.min(a, b), Math.max(a, b)));
+        }
+
+        // called concurrently for distinct rows, absolute puts do not touch the buffer's position
+        void set(int a, int b, int value) {
+            if(heap != null) {
+                heap[index(a, b)] = value;
+            } else {
+                direct.put(index(a, b), value);
+            }
+        }
+
+        double sum() {
+            double sum = 0;
+            for(int i = 0; i < size(); i++) {
+                sum += get(i);
+            }
+            return sum;
+        }
+
+        int max() {
+            int max = 0;
+            for(int i = 0; i < size(); i++) {
+                max = Math.max(max, get(i));
+            }
+            return max;
+        }
+
+        private int index(int a, int b) {
+            return (int) ((long) a * (2L * n - a - 1) / 2 + (b - a - 1));
+        }
+    }
+}
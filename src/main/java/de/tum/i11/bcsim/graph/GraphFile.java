@@ -0,0 +1,177 @@
+package de.tum.i11.bcsim.graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary file of a CSRGraph. Layout (little endian): a header (long magic, int version, int nodes, int directed edges,
+ * int key length, int label section length), the UTF-8 key, the offsets (nodes+1 ints), targets and latencies
+ * (edges ints each) of the CSR arrays, and optionally a label per node (int length, UTF-8 bytes).
+ * Files are loaded by memory mapping and bulk copying the arrays, which takes milliseconds even for large graphs.
+ */
+public class GraphFile {
+    static final long MAGIC = 0x4243_5349_4D47_5246L; // "BCSIMGRF"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = Long.BYTES + 5 * Integer.BYTES;
+
+    private final String key;
+    private final CSRGraph graph;
+    private final List<String> labels;
+
+    /**
+     * @param key describes how the graph was created, e.g. the parameters of its strategy
+     * @param graph the graph
+     * @param labels the original label of each node, or null
+     */
+    public GraphFile(String key, CSRGraph graph, List<String> labels) {
+        if(labels != null && labels.size() != graph.size()) {
+            throw new IllegalArgumentException("Expected "+graph.size()+" labels, got "+labels.size());
+        }
+        this.key = key;
+        this.graph = graph;
+        this.labels = labels;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public CSRGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * @return the original label of each node, null if the nodes are not labeled
+     */
+    public List<String> getLabels() {
+        return labels;
+    }
+
+    /**
+     * Write the graph to a temporary file that is then moved to the given path, so concurrent readers never see a
+     * partially written file
+     * @param path the file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path path) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        List<byte[]> labelBytes = new ArrayList<>();
+        long labelSize = 0;
+        if(labels != null) {
+            for(String l : labels) {
+                byte[] b = l.getBytes(StandardCharsets.UTF_8);
+                labelBytes.add(b);
+                labelSize += Integer.BYTES + b.length;
+            }
+        }
+        int n = graph.size(), m = graph.edgeCount();
+        long size = HEADER_SIZE + keyBytes.length + (long) Integer.BYTES * (n + 1 + 2L * m) + labelSize;
+        if(size > Integer.MAX_VALUE) {
+            throw new IOException("Graph with "+n+" nodes and "+m+" edges is too large for a graph file");
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putLong(MAGIC).putInt(VERSION).putInt(n).putInt(m).putInt(keyBytes.length).putInt((int) labelSize);
+        buf.put(keyBytes);
+        for(int i = 0; i <= n; i++) {
+            buf.putInt(i < n ? graph.begin(i) : m);
+        }
+        for(int e = 0; e < m; e++) {
+            buf.putInt(graph.target(e));
+        }
+        for(int e = 0; e < m; e++) {
+            buf.putInt(graph.latency(e));
+        }
+        for(byte[] b : labelBytes) {
+            buf.putInt(b.length).put(b);
+        }
+        buf.flip();
+
+        Path dir = path.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+        try {
+            try(FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                while(buf.hasRemaining()) {
+                    channel.write(buf);
+                }
+            }
+            try {
+                Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * @param path the file
+     * @return the graph stored in the file
+     * @throws IOException if the file cannot be read or is no valid graph file
+     */
+    public static GraphFile load(Path path) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if(size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException(path+" is no graph file");
+            }
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            map.order(ByteOrder.LITTLE_ENDIAN);
+            if(map.getLong() != MAGIC || map.getInt() != VERSION) {
+                throw new IOException(path+" is no graph file of version "+VERSION);
+            }
+            int n = map.getInt(), m = map.getInt(), keyLength = map.getInt(), labelSize = map.getInt();
+            if(n < 0 || m < 0 || keyLength < 0 || labelSize < 0
+                    || size != HEADER_SIZE + keyLength + (long) Integer.BYTES * (n + 1 + 2L * m) + labelSize) {
+                throw new IOException("Corrupt graph file "+path);
+            }
+            byte[] keyBytes = new byte[keyLength];
+            map.get(keyBytes);
+
+            int[] offsets = new int[n + 1];
+            int[] targets = new int[m];
+            int[] latencies = new int[m];
+            IntBuffer ints = map.asIntBuffer();
+            ints.get(offsets).get(targets).get(latencies);
+            map.position(map.position() + ints.position() * Integer.BYTES);
+            if(offsets[0] != 0 || offsets[n] != m) {
+                throw new IOException("Corrupt graph file "+path);
+            }
+            for(int i = 0; i < n; i++) {
+                if(offsets[i] > offsets[i+1]) {
+                    throw new IOException("Corrupt graph file "+path);
+                }
+            }
+            for(int t : targets) {
+                if(t < 0 || t >= n) {
+                    throw new IOException("Corrupt graph file "+path);
+                }
+            }
+
+            List<String> labels = null;
+            if(labelSize > 0) {
+                labels = new ArrayList<>(n);
+                for(int i = 0; i < n; i++) {
+                    int length = map.remaining() < Integer.BYTES ? -1 : map.getInt();
+                    if(length < 0 || length > map.remaining()) {
+                        throw new IOException("Corrupt graph file "+path);
+                    }
+                    byte[] b = new byte[length];
+                    map.get(b);
+                    labels.add(new String(b, StandardCharsets.UTF_8));
+                }
+            }
+            return new GraphFile(new String(keyBytes, StandardCharsets.UTF_8), new CSRGraph(offsets, targets, latencies), labels);
+        }
+    }
+}
@@ -5,6 +5,21 @@ import java.util.List;
 
 public interface GraphStrategy {
     ArrayList<List<Edge>> getEdges();
+
+    /**
+     * @return a new graph of this strategy in CSR format, with both directions of each edge
+     */
+    default CSRGraph getGraph() {
+        return CSRGraph.of(getEdges());
+    }
+
+    /**
+     * @return the original label of each node, e.g. from an edge list file, null if nodes are not labeled
+     */
+    default List<String> getLabels() {
+        return null;
+    }
+
     int getNodes();
     double getMaxLatency();
     double getBandWidth();
@@ -1,6 +1,7 @@
 package de.tum.i11.bcsim.graph;
 
 import de.tum.i11.bcsim.config.ConfigYAML;
+import de.tum.i11.bcsim.util.LongHashSet;
 import de.tum.i11.bcsim.util.Pair;
 import de.tum.i11.bcsim.util.Util;
 import guru.nidi.graphviz.engine.Format;
@@ -9,12 +10,16 @@ import guru.nidi.graphviz.engine.Graphviz;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 public class GraphUtil {
 
     private static final Logger LOGGER = Logger.getLogger(GraphUtil.class.getName());
+    // mean edge latency of topologies that are scaled to a target propagation delay, large enough to keep rounding errors small
+    static final int BASE_LATENCY = 10000;
 
     /**
      * Create an adjacency list based on the given set of edges
@@ -53,18 +58,6 @@ public class GraphUtil {
         return graph;
     }
 
-    /**
-     * Transform the given graph into an undirected graph (only one edge between any two nodes) by removing edges
-     * @param digraph the (directed) graph
-     */
-    public static void toUGraph(ArrayList<List<Edge>> digraph) {
-        for(int i = 0; i < digraph.size(); i++) {
-            for(Edge e : digraph.get(i)) {
-                digraph.get(e.to).removeIf(edge -> edge.to == e.from);
-            }
-        }
-    }
-
     /**
      * Select n nodes from the given graph according to a selection strategy.
      * @param adL the graph
@@ -91,35 +84,23 @@ public class GraphUtil {
     }
 
     public static double getAvgPropDelayBetweenNodes(Collection<Integer> nodes, ArrayList<List<Edge>> graph) {
-        var apsp = GraphUtil.apsp(GraphUtil.toDiGraph(graph));
-        double total = 0;
-        double count = 0;
-        for(Integer i : nodes) {
-            for(Integer j : nodes) {
-                if(!i.equals(j)) {
-                    total += apsp[i][j];
-                    count++;
-                }
-            }
-        }
-        return total/count;
+        return new GraphAnalysis(graph).getAvgPropDelayBetweenNodes(nodes);
     }
 
     public static LinkedList<Integer> getPropDelayDistribution( ArrayList<List<Edge>> graph) {
-        var apsp = GraphUtil.apsp(GraphUtil.toDiGraph(graph));
-        LinkedList<Integer> l = new LinkedList<>();
-        for(int i = 0; i<apsp.length;i++) {
-            for(int j = i+1; j<apsp.length;j++) {
-                l.add(apsp[i][j]);
-            }
-        }
-        return  l;
+        return new GraphAnalysis(graph).getPropDelayDistribution();
     }
 
     public static double getMeanEdgeLatency(ArrayList<List<Edge>> graph) {
-        LinkedList<Double> li = new LinkedList<>();
-        graph.forEach(l -> l.forEach(e -> li.add((double) e.latency)));
-        return li.stream().mapToDouble(e -> e).average().orElse(0);
+        double sum = 0;
+        int count = 0;
+        for(List<Edge> l : graph) {
+            for(Edge e : l) {
+                sum += e.latency;
+                count++;
+            }
+        }
+        return count == 0 ? 0 : sum/count;
     }
 
     public static double getAvgDegree(ArrayList<List<Edge>> graph) {
@@ -136,34 +117,34 @@ public class GraphUtil {
         return map;
     }
 
+    /**
+     * @param graph the graph, edges are used as directed edges from the node of the list they are stored in
+     * @param k the degree
+     * @return the average local clustering coefficient of nodes with degree k
+     */
     public static double getLocalClustering(ArrayList<List<Edge>> graph, int k) {
+        if(k < 2) {
+            return 0;
+        }
+        double[] c = CSRGraph.ofDirected(graph).localClustering();
         int count = 0;
         double sum = 0;
         for(int i = 0; i < graph.size(); i++) {
-            var next = graph.get(i);
-            if(next.size() == k) {
-                double nLinks = 0;
-                for(Edge e : next) {
-                    var links = graph.get(e.to);
-                    for(Edge nl : links) {
-                        nLinks += next.stream().filter(el -> el.to == nl.to).count();
-                    }
-                }
-                nLinks /= k;
-                count ++;
-                sum += nLinks;
+            if(graph.get(i).size() == k) {
+                sum += c[i];
+                count++;
             }
         }
-        if(count > 0 && k > 1) {
-            return sum/count/(k-1);
-        }
-        return 0;
+        return count > 0 ? sum/count : 0;
     }
 
+    /**
+     * @param graph the graph, edges are used as directed edges from the node of the list they are stored in
+     * @return the local clustering coefficient averaged over all nodes
+     */
     public static double getMeanLocalClustering(ArrayList<List<Edge>> graph) {
-        var dist = getDegreeDistribution(graph);
-        var kSum = dist.values().stream().mapToDouble(e -> e).sum();
-        return dist.entrySet().stream().mapToDouble(e -> getLocalClustering(graph, e.getKey())*e.getValue()/kSum).sum();
+        double[] c = CSRGraph.ofDirected(graph).localClustering();
+        return Arrays.stream(c).sum()/graph.size();
     }
 
     public static double getAvgNeighborDegree(ArrayList<List<Edge>> graph, int k) {
@@ -187,29 +168,22 @@ public class GraphUtil {
     }
 
     public static double getNormalizedAvgAvgNeighborDegree(ArrayList<List<Edge>> graph) {
-        var dist = getDegreeDistribution(graph);
-        return dist.keySet().stream().mapToDouble(e -> getAvgNeighborDegree(graph, e)).sum()/dist.size()/(graph.size()-1);
-    }
-
-    public static boolean isConnected(ArrayList<List<Edge>> ugraph) {
-
-        var graph = toDiGraph(ugraph);
-        Boolean[] visited = new Boolean[graph.size()];
-        Arrays.fill(visited, false);
-        LinkedList<Integer> toVisit = new LinkedList<>();
-        toVisit.add(0);
-
-        while(!toVisit.isEmpty()) {
-            int next = toVisit.removeFirst();
-            visited[next] = true;
-            for(Edge e : graph.get(next)) {
-                if(!visited[e.to]) {
-                    toVisit.add(e.to);
-                }
+        // sum and count of the average neighbor degree per degree, computed in a single pass
+        HashMap<Integer, double[]> perDegree = new HashMap<>();
+        for(List<Edge> next : graph) {
+            double degSum = 0;
+            for(Edge e : next) {
+                degSum += graph.get(e.to).size();
             }
+            double[] sc = perDegree.computeIfAbsent(next.size(), k -> new double[2]);
+            sc[0] += degSum/next.size();
+            sc[1]++;
         }
+        return perDegree.values().stream().mapToDouble(sc -> sc[0]/sc[1]).sum()/perDegree.size()/(graph.size()-1);
+    }
 
-        return Arrays.stream(visited).allMatch(b -> b);
+    public static boolean isConnected(ArrayList<List<Edge>> ugraph) {
+        return CSRGraph.of(ugraph).isConnected();
     }
 
     public static LinkedList<Pair<Integer, Integer>> rndSpanningTree(int n) {
@@ -225,130 +199,135 @@ public class GraphUtil {
             int a = Util.rndInt(cliques.size());
             int b = Util.rndInt(cliques.size(), a);
             var cliqueA = cliques.get(a);
-            var cliqueB = cliques.remove(b);
+            var cliqueB = cliques.get(b);
             var edge = new Pair<>(cliqueA.get(Util.rndInt(cliqueA.size())), cliqueB.get(Util.rndInt(cliqueB.size())));
             edges.add(edge);
-            cliqueA.addAll(cliqueB);
+            // merge the smaller into the larger clique and replace clique b by the last one, both in O(1) per node
+            if(cliqueA.size() < cliqueB.size()) {
+                cliqueB.addAll(cliqueA);
+                cliques.set(a, cliqueB);
+            } else {
+                cliqueA.addAll(cliqueB);
+            }
+            cliques.set(b, cliques.get(cliques.size()-1));
+            cliques.remove(cliques.size()-1);
         }
         return edges;
     }
 
+    /**
+     * Create a connected random graph: a random spanning tree plus randomly chosen distinct edges up to the given density.
+     * Edges are sampled directly, so memory is linear in the number of edges.
+     * @param n the number of nodes
+     * @param d the density, i.e. the share of all n*(n-1)/2 possible edges
+     * @return the undirected edges
+     */
     public static Collection<Pair<Integer, Integer>> create(int n, double d) {
-        int es = (int) (d*n*(n-1))/2;
+        long total = (long) n*(n-1)/2;
+        long es = Math.min(total, (long) (d*n*(n-1))/2);
         LOGGER.finer("Creating graph with "+n+" nodes and density "+d+" ("+es+" edges)");
 
-        LinkedList<Pair<Integer, Integer>> edges = rndSpanningTree(n);
-        LOGGER.finer("Created random spanning tree ("+edges.size()+" edges)");
+        LinkedList<Pair<Integer, Integer>> tree = rndSpanningTree(n);
+        LOGGER.finer("Created random spanning tree ("+tree.size()+" edges)");
 
-        int left = es-edges.size();
-        LOGGER.finer("Adding "+left+" remaining edges randomly");
+        long left = es-tree.size();
+        LOGGER.finer("Adding "+Math.max(0, left)+" remaining edges randomly");
 
-        var all = allEdges(n);
-        all.removeAll(edges);
-        all.removeAll(reversed(edges));
-        LinkedList<Pair<Integer, Integer>> aa = new LinkedList<>(all);
-        Collections.shuffle(aa);
-
-        while(left --> 0) {
-            edges.add(aa.removeFirst());
+        ArrayList<Pair<Integer, Integer>> edges = new ArrayList<>((int) Math.max(es, tree.size()));
+        edges.addAll(tree);
+        if(left <= 0) {
+            return edges;
         }
-
-        return edges;
-    }
-
-    private static HashSet<Pair<Integer, Integer>> allEdges(int n) {
-        HashSet<Pair<Integer, Integer>> edges = new HashSet<>(n*n);
-        for(int i = 0; i < n; i++) {
-            for(int j = i+1; j < n; j++) {
-                edges.add(new Pair<>(i, j));
+        LongHashSet taken = new LongHashSet((int) Math.min(Integer.MAX_VALUE/4, Math.min(es, total-es) + tree.size()));
+        for(Pair<Integer, Integer> e : tree) {
+            taken.add(edgeKey(e._1, e._2));
+        }
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        if(left <= (total - tree.size())/2) {
+            // sparse: sample distinct edges, at least every second sample is new
+            while(left > 0) {
+                int a = rnd.nextInt(n);
+                int b = rnd.nextInt(n);
+                if(a != b && taken.add(edgeKey(a, b))) {
+                    edges.add(new Pair<>(Math.min(a, b), Math.max(a, b)));
+                    left--;
+                }
+            }
+        } else {
+            // dense: sample the edges that are left out, then add all others in random order
+            long excluded = total - tree.size() - left;
+            while(excluded > 0) {
+                int a = rnd.nextInt(n);
+                int b = rnd.nextInt(n);
+                if(a != b && taken.add(edgeKey(a, b))) {
+                    excluded--;
+                }
             }
+            ArrayList<Pair<Integer, Integer>> rest = new ArrayList<>((int) left);
+            for(int i = 0; i < n; i++) {
+                for(int j = i+1; j < n; j++) {
+                    if(!taken.contains(edgeKey(i, j))) {
+                        rest.add(new Pair<>(i, j));
+                    }
+                }
+            }
+            Collections.shuffle(rest);
+            edges.addAll(rest);
         }
         return edges;
     }
 
-    private static ArrayList<Pair<Integer, Integer>> reversed(Collection<Pair<Integer, Integer>> edges) {
-        ArrayList<Pair<Integer, Integer>> rev = new ArrayList<>(edges.size());
-        for(Pair<Integer, Integer> p : edges) {
-            rev.add(new Pair<>(p._2, p._1));
-        }
-        return rev;
+    private static long edgeKey(int a, int b) {
+        return ((long) Math.min(a, b) << 32) | Math.max(a, b);
     }
 
     public static int[] dijkstra(ArrayList<List<Edge>> adj, int start) {
-        return dijkstra(adj, start, edge -> edge.latency);
+        return CSRGraph.ofDirected(adj).dijkstra(start);
     }
 
     public static int[] dijkstraHops(ArrayList<List<Edge>> adj, int start) {
-        return dijkstra(adj, start, edge -> 1);
+        return CSRGraph.ofDirected(adj).hops(start);
     }
 
     public static int[] dijkstra(ArrayList<List<Edge>> adj, int start, Function<Edge, Integer> weightFunc) {
-        int n = adj.size();
-        int[] d = new int[n];
-        Arrays.fill(d, -1);
-        d[start] = 0;
-        PriorityQueue<Edge> pq = new PriorityQueue<>(n, Comparator.comparingInt((Edge o) -> o.latency));
-        pq.offer(new Edge(0, start, 0));
-        while(!pq.isEmpty()){
-            Edge v = pq.poll();
-            for(Edge w : adj.get(v.to)){
-                int newDist = d[v.to] + weightFunc.apply(w);
-                if(d[w.to] == -1 || newDist < d[w.to]){
-                    if(d[w.to] != -1){
-                        pq.removeIf(x -> x.to == w.to);
-                    }
-                    pq.offer(new Edge(0, w.to, newDist));
-                    d[w.to] = newDist;
-                }
-            }
-        }
-        return d;
+        return new CSRGraph(adj, weightFunc::apply).dijkstra(start);
     }
 
+    /**
+     * Compute the shortest path latencies between all pairs of nodes, running one Dijkstra per node in parallel
+     * @param adj the (directed) graph
+     * @return the latency from i to j at [i][j], -1 if j is unreachable from i
+     */
     public static int[][] apsp(ArrayList<List<Edge>> adj) {
-        int[][] weights = new int[adj.size()][];
-        for(int i = 0; i < adj.size(); i++) {
-            weights[i] = dijkstra(adj, i);
-        }
-        return weights;
+        return apsp(CSRGraph.ofDirected(adj), false);
     }
 
+    /**
+     * Compute the minimal number of hops between all pairs of nodes, running one BFS per node in parallel
+     * @param adj the (directed) graph
+     * @return the number of hops from i to j at [i][j], -1 if j is unreachable from i
+     */
     public static int[][] apspHops(ArrayList<List<Edge>> adj) {
-        int[][] weights = new int[adj.size()][];
-        for(int i = 0; i < adj.size(); i++) {
-            weights[i] = dijkstraHops(adj, i);
-        }
+        return apsp(CSRGraph.ofDirected(adj), true);
+    }
+
+    private static int[][] apsp(CSRGraph graph, boolean hops) {
+        int[][] weights = new int[graph.size()][];
+        IntStream.range(0, weights.length).parallel().forEach(i -> weights[i] = hops ? graph.hops(i) : graph.dijkstra(i));
         return weights;
     }
 
+    /**
+     * Order nodes into a short round trip, optimal for up to 8 nodes, see TourOptimizer
+     * @param weights the symmetric distances between nodes, e.g. shortest path latencies
+     * @param ids the nodes to visit, indices into weights
+     * @return the nodes in the order to visit them
+     */
     public static List<Integer> tsm(int[][] weights, List<Integer> ids) {
-        double startingTemperature = 10;
-        int numberOfIterations = 10000;
-        double coolingRate = 0.9;
-        ArrayList<Integer> travel = new ArrayList<>(ids);
-
-        if(travel.size() <= 2)
-            return travel;
-
-        Collections.shuffle(travel);
-
-        double t = startingTemperature;
-
-        double bestDistance = getDistance(weights, travel);
-
-        for (int i = 0; i < numberOfIterations; i++) {
-            if (t > 0.1) {
-                int a = Util.rndInt(travel.size());
-                int b = Util.rndInt(travel.size(), a);
-                swap(travel, a, b);
-                double currentDistance = getDistance(weights, travel);
-                if (currentDistance < bestDistance) {
-                    bestDistance = currentDistance;
-                } else if (Math.exp((bestDistance - currentDistance) / t) < Math.random()) {
-                    swap(travel, a, b);
-                }
-                t *= coolingRate;
-            }
+        int[] tour = TourOptimizer.optimize(weights, ids.stream().mapToInt(Integer::intValue).toArray());
+        ArrayList<Integer> travel = new ArrayList<>(tour.length);
+        for(int id : tour) {
+            travel.add(id);
         }
         return travel;
     }
@@ -363,13 +342,6 @@ public class GraphUtil {
         return distance;
     }
 
-    private static void swap(List l, int a, int b) {
-        Object x = l.get(a);
-        Object y = l.get(b);
-        l.set(b, x);
-        l.set(a, y);
-    }
-
     public static void swap(int a, int b, ArrayList<List<Edge>> graph) {
         if(a == b)
             return;
@@ -409,49 +381,58 @@ public class GraphUtil {
         Graphviz.fromString(toGraphviz(adjList)).height(1000).width(2000).render(Format.SVG).toFile(new File(fileName));
     }
 
-    public static double getAvgPropDelay(ArrayList<List<Edge>> adjList) {
-        var apsp = GraphUtil.apsp(GraphUtil.toDiGraph(adjList));
-        double total = 0;
-        for(int[] ar : apsp) {
-            total += 1.0* Arrays.stream(ar).sum()/(ar.length-1);
+    /**
+     * Scale the edge latencies of the given graph such that its average propagation delay matches the target.
+     * For a fixed topology, shortest path latencies scale linearly with edge latencies, so a single factor suffices
+     * apart from rounding latencies to integers, which is corrected by up to two more factors. The random variation
+     * between edge latencies is kept.
+     * @param graph the (undirected) graph, is not modified
+     * @param avgPropagationDelay the target average propagation delay
+     * @return the analysis of the scaled graph (a copy of the given graph if it is scaled)
+     */
+    public static GraphAnalysis scaleToAvgPropDelay(ArrayList<List<Edge>> graph, double avgPropagationDelay) {
+        GraphAnalysis analysis = new GraphAnalysis(graph);
+        double base = analysis.getAvgPropDelay();
+        double avg = base;
+        double factor = 1;
+        for(int i = 0; i < 3 && Math.abs(avgPropagationDelay - avg) > 1 && avg > 0; i++) {
+            factor *= avgPropagationDelay/avg;
+            analysis = new GraphAnalysis(scaleLatencies(graph, factor));
+            avg = analysis.getAvgPropDelay();
         }
-        return total/apsp.length;
+        LOGGER.finer("Scaled latencies by "+factor+", average propagation delay "+base+" -> "+avg);
+        return analysis;
     }
 
-    public static double getMedianPropDelay(ArrayList<List<Edge>> adjList) {
-        var apsp = GraphUtil.apsp(GraphUtil.toDiGraph(adjList));
-        ArrayList<Integer> latencies = new ArrayList<>(apsp.length*apsp[0].length);
-        for(int[] ar : apsp) {
-            for(int e : ar) {
-                if(e != 0) {
-                    latencies.add(e);
-                }
+    private static ArrayList<List<Edge>> scaleLatencies(ArrayList<List<Edge>> graph, double factor) {
+        ArrayList<List<Edge>> scaled = new ArrayList<>(graph.size());
+        for(List<Edge> l : graph) {
+            LinkedList<Edge> edges = new LinkedList<>();
+            for(Edge e : l) {
+                edges.add(new Edge(e.from, e.to, (int) Math.round(e.latency*factor)));
             }
+            scaled.add(edges);
         }
-        latencies.sort(Comparator.comparingInt(e -> e));
-        if(latencies.size() % 2 == 0) {
-            return (latencies.get(latencies.size()/2-1)+latencies.get(latencies.size()/2))/2.0;
-        } else {
-            return latencies.get(latencies.size()/2);
-        }
+        return scaled;
+    }
+
+    public static double getAvgPropDelay(ArrayList<List<Edge>> adjList) {
+        return new GraphAnalysis(adjList).getAvgPropDelay();
+    }
+
+    public static double getMedianPropDelay(ArrayList<List<Edge>> adjList) {
+        return new GraphAnalysis(adjList).getMedianPropDelay();
     }
 
     public static double getAvgHops(ArrayList<List<Edge>> adjList) {
-        var apsp = GraphUtil.apspHops(GraphUtil.toDiGraph(adjList));
-        double total = 0;
-        for(int[] ar : apsp) {
-            total += 1.0* Arrays.stream(ar).sum()/(ar.length-1);
-        }
-        return total/apsp.length;
+        return new GraphAnalysis(adjList).getAvgHops();
     }
 
     public static int getMaxLatency(ArrayList<List<Edge>> adjList) {
-        var apsp = GraphUtil.apsp(GraphUtil.toDiGraph(adjList));
-        return Arrays.stream(apsp).mapToInt(ar -> Arrays.stream(ar).max().orElse(0)).max().orElse(0);
+        return new GraphAnalysis(adjList).getMaxLatency();
     }
 
     public static int getMaxHops(ArrayList<List<Edge>> adjList) {
-        var apsp = GraphUtil.apspHops(GraphUtil.toDiGraph(adjList));
-        return Arrays.stream(apsp).mapToInt(ar -> Arrays.stream(ar).max().orElse(0)).max().orElse(0);
+        return new GraphAnalysis(adjList).getMaxHops();
     }
 }
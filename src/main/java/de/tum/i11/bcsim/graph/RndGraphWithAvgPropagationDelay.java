@@ -1,6 +1,7 @@
 package de.tum.i11.bcsim.graph;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 public class RndGraphWithAvgPropagationDelay implements GraphStrategy {
@@ -20,37 +21,15 @@ public class RndGraphWithAvgPropagationDelay implements GraphStrategy {
 
     @Override
     public ArrayList<List<Edge>> getEdges() {
-        ArrayList<List<Edge>> graph;
-        double avg = 0;
-
-        int left = 0;
-        int right = avgPropagationDelay;
-
-        HashMap<Double, ArrayList<List<Edge>>> found = new HashMap<>();
-
         LOGGER.info("Looking for Graph with average propagation delay of "+avgPropagationDelay+"ms");
 
-        while(Math.abs(avgPropagationDelay-avg) > 1 && left < right) {
-            double m = (left+right)/2.0;
-
-            RndGraphStrategy s = new RndGraphStrategy(nodes, (int) Math.round(m), density, bandwidth);
-            graph = s.getEdges();
-            avg = GraphUtil.getAvgPropDelay(graph);
-            found.put(avg, graph);
-
-            if(avg > avgPropagationDelay) {
-                right = (int) m;
-            } else if (avg < avgPropagationDelay) {
-                left = (int) Math.ceil(m);
-            } else break;
-
-        }
-
-        var entry = found.entrySet().stream().min(Comparator.comparingDouble(o -> Math.abs(avgPropagationDelay - o.getKey())));
+        // generate the topology once, then scale its latencies
+        ArrayList<List<Edge>> graph = new RndGraphStrategy(nodes, GraphUtil.BASE_LATENCY, density, bandwidth).getEdges();
+        GraphAnalysis analysis = GraphUtil.scaleToAvgPropDelay(graph, avgPropagationDelay);
 
-        LOGGER.info("Best avg: "+entry.map(Map.Entry::getKey).orElse(null));
+        LOGGER.info("Best avg: "+analysis.getAvgPropDelay());
 
-        return entry.map(Map.Entry::getValue).orElse(null);
+        return analysis.getGraph();
     }
 
     @Override
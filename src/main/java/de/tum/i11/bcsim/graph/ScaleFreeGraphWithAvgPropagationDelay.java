@@ -1,6 +1,7 @@
 package de.tum.i11.bcsim.graph;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 public class ScaleFreeGraphWithAvgPropagationDelay implements GraphStrategy {
@@ -21,44 +22,19 @@ public class ScaleFreeGraphWithAvgPropagationDelay implements GraphStrategy {
 
     @Override
     public ArrayList<List<Edge>> getEdges() {
-        ArrayList<List<Edge>> graph;
-        double avg = 0;
-
-        int left = 0;
-        int right = avgPropagationDelay;
-
-        HashMap<Double, ArrayList<List<Edge>>> found = new HashMap<>();
-
         LOGGER.info("Looking for Graph with average propagation delay of "+avgPropagationDelay+"ms");
 
-        while(Math.abs(avgPropagationDelay-avg) > 1 && left < right) {
-            double mid = (left+right)/2.0;
-
-            ScaleFreeStrategy s = new ScaleFreeStrategy(nodes, m, (int) Math.round(mid), bandwidth);
-            graph = s.getEdges();
-            avg = GraphUtil.getAvgPropDelay(graph);
-            found.put(avg, graph);
-
-            if(avg > avgPropagationDelay) {
-                right = (int) mid;
-            } else if (avg < avgPropagationDelay) {
-                left = (int) Math.ceil(mid);
-            } else break;
-
-        }
-
-        var entry = found.entrySet().stream().min(Comparator.comparingDouble(o -> Math.abs(avgPropagationDelay - o.getKey())));
-
-        var val = entry.map(Map.Entry::getValue).orElse(null);
-
-        maxlatency = GraphUtil.getMaxLatency(val);
+        // generate the topology once, then scale its latencies
+        ArrayList<List<Edge>> graph = new ScaleFreeStrategy(nodes, m, GraphUtil.BASE_LATENCY, bandwidth).getEdges();
+        GraphAnalysis analysis = GraphUtil.scaleToAvgPropDelay(graph, avgPropagationDelay);
+        maxlatency = analysis.getMaxLatency();
 
         LOGGER.info("Max Latency: "+maxlatency);
-        LOGGER.info("Avg Latency: "+GraphUtil.getAvgPropDelay(val));
-        LOGGER.info("Avg Hops: "+GraphUtil.getAvgHops(val));
-        LOGGER.info("Max Hops: "+GraphUtil.getMaxHops(val));
+        LOGGER.info("Avg Latency: "+analysis.getAvgPropDelay());
+        LOGGER.info("Avg Hops: "+analysis.getAvgHops());
+        LOGGER.info("Max Hops: "+analysis.getMaxHops());
 
-        return val;
+        return analysis.getGraph();
     }
 
     @Override
@@ -2,7 +2,9 @@ package de.tum.i11.bcsim.graph;
 
 import de.tum.i11.bcsim.util.Util;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 public class ScaleFreeStrategy implements GraphStrategy {
 
@@ -22,55 +24,79 @@ public class ScaleFreeStrategy implements GraphStrategy {
 
     @Override
     public ArrayList<List<Edge>> getEdges() {
-        var graph = GraphUtil.toDiGraph(GraphUtil.toAdjList(m, latency, GraphUtil.rndSpanningTree(m)));
+        int[] endpoints = attach();
+        ArrayList<List<Edge>> graph = new ArrayList<>(nodes);
+        for(int i = 0; i < nodes; i++) {
+            graph.add(new ArrayList<>(m));
+        }
+        for(int k = 0; k < endpoints.length; k += 2) {
+            int from = endpoints[k];
+            graph.get(from).add(new Edge(from, endpoints[k+1], (int) Util.nextGaussian(latency)));
+        }
+        return graph;
+    }
+
+    @Override
+    public CSRGraph getGraph() {
+        int[] endpoints = attach();
+        int[] latencies = new int[endpoints.length/2];
+        for(int k = 0; k < latencies.length; k++) {
+            latencies[k] = (int) Util.nextGaussian(latency);
+        }
+        return CSRGraph.of(nodes, endpoints, latencies);
+    }
+
+    /**
+     * Barabási–Albert preferential attachment: each new node connects to m distinct existing nodes, chosen with
+     * probability proportional to their degree. Nodes are sampled uniformly from the endpoints of all edges so far,
+     * so generation takes O(nodes*m). Node ids are randomly permuted afterwards.
+     * @return the nodes of edge k at 2k and 2k+1, the first one had the lower id before permuting
+     */
+    int[] attach() {
+        // each node appears once per incident edge
+        int[] endpoints = new int[2*(Math.max(0, m-1) + (nodes-m)*m)];
+        int count = 0;
+        for(var e : GraphUtil.rndSpanningTree(m)) {
+            endpoints[count++] = Math.min(e._1, e._2);
+            endpoints[count++] = Math.max(e._1, e._2);
+        }
+
+        int[] targets = new int[m];
         for(int i = m; i < nodes; i++) {
-            int final_i = i;
-            HashSet<Integer> toSet = new HashSet<>(m);
             for(int j = 0; j < m; j++) {
                 int next;
                 do {
-                    next = pickNode(graph);
-                } while(toSet.contains(next));
-                toSet.add(next);
-                graph.get(next).add(new Edge(next, final_i, (int) Util.nextGaussian(latency)));
+                    // without any edge yet (m = 1), the only existing node is picked
+                    next = count == 0 ? rnd.nextInt(i) : endpoints[rnd.nextInt(count)];
+                } while(contains(targets, j, next));
+                targets[j] = next;
+            }
+            for(int j = 0; j < m; j++) {
+                endpoints[count++] = targets[j];
+                endpoints[count++] = i;
             }
-            LinkedList<Edge> edges = new LinkedList<>();
-            toSet.forEach(e -> edges.add(new Edge(final_i, e, (int) Util.nextGaussian(latency))));
-            graph.add(edges);
         }
-        GraphUtil.toUGraph(graph);
-        shuffle(graph);
-        return graph;
-    }
 
-    private List<Double> ps(ArrayList<List<Edge>> graph) {
-        ArrayList<Double> ps = new ArrayList<>();
-        int totalK = graph.stream().mapToInt(List::size).sum();
-        double[] counter = {0};
-        graph.forEach(l -> {
-            double p = l.size()*1.0/totalK;
-            counter[0] += p;
-            ps.add(counter[0]);
-        });
-        return ps;
-    }
-
-    private void shuffle(ArrayList<List<Edge>> graph) {
-        for(int i = 0; i < 2*graph.size(); i++) {
-            int a = Util.getRndInt(0, graph.size());
-            int b = Util.getRndInt(0, graph.size());
-            GraphUtil.swap(a, b, graph);
+        // relabel nodes with a random permutation, so ids are not correlated with degrees
+        int[] perm = new int[nodes];
+        for(int i = 0; i < perm.length; i++) {
+            int j = rnd.nextInt(i + 1);
+            perm[i] = perm[j];
+            perm[j] = i;
         }
+        for(int k = 0; k < endpoints.length; k++) {
+            endpoints[k] = perm[endpoints[k]];
+        }
+        return endpoints;
     }
 
-    private int pickNode(ArrayList<List<Edge>> graph) {
-        List<Double> ps = ps(graph);
-        double r = rnd.nextDouble();
-        for(int i = 0; i < ps.size(); i++) {
-            if(r <= ps.get(i))
-                return i;
+    private static boolean contains(int[] a, int length, int value) {
+        for(int i = 0; i < length; i++) {
+            if(a[i] == value) {
+                return true;
+            }
         }
-        return graph.size()-1;
+        return false;
     }
 
     @Override
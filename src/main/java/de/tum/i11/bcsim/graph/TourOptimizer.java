@@ -0,0 +1,180 @@
+package de.tum.i11.bcsim.graph;
+
+/**
+ * Short round trips through a subset of nodes of a symmetric distance matrix. Up to EXACT_LIMIT nodes are ordered
+ * optimally by enumeration. Larger tours start from a nearest neighbour tour, which is improved by 2-opt moves
+ * (reversing a section) and Or-opt moves (moving a section of up to three nodes elsewhere, possibly reversed)
+ * until neither finds an improvement. The length change of each move is evaluated in O(1) from the few edges it
+ * replaces, so a pass over all moves takes O(n^2).
+ */
+final class TourOptimizer {
+    static final int EXACT_LIMIT = 8;
+    private static final int MAX_SEGMENT = 3;
+
+    private final int[][] weights;
+    private final int[] tour;
+    private final int n;
+
+    private TourOptimizer(int[][] weights, int[] nodes) {
+        this.weights = weights;
+        this.tour = nodes.clone();
+        this.n = nodes.length;
+    }
+
+    /**
+     * @param weights the symmetric distances between nodes
+     * @param nodes the nodes to visit, indices into weights
+     * @return the order to visit the nodes in
+     */
+    static int[] optimize(int[][] weights, int[] nodes) {
+        TourOptimizer t = new TourOptimizer(weights, nodes);
+        if(t.n <= 3) {
+            return t.tour;
+        }
+        if(t.n <= EXACT_LIMIT) {
+            t.exact();
+        } else {
+            t.nearestNeighbor();
+            boolean improved = true;
+            while(improved) {
+                improved = t.twoOpt() | t.orOpt();
+            }
+        }
+        return t.tour;
+    }
+
+    private int w(int a, int b) {
+        return weights[a][b];
+    }
+
+    private int length(int[] t) {
+        int l = 0;
+        for(int i = 0; i < t.length; i++) {
+            l += w(t[i], t[(i + 1) % t.length]);
+        }
+        return l;
+    }
+
+    // try all orders of tour[1..n-1], tour[0] stays fixed as the tour is a cycle
+    private void exact() {
+        int[] current = tour.clone();
+        int[] best = tour.clone();
+        int[] bestLength = {length(tour)};
+        permute(current, 1, 0, best, bestLength);
+        System.arraycopy(best, 0, tour, 0, n);
+    }
+
+    private void permute(int[] t, int k, int prefixLength, int[] best, int[] bestLength) {
+        if(prefixLength >= bestLength[0]) {
+            return;
+        }
+        if(k == n) {
+            int l = prefixLength + w(t[n-1], t[0]);
+            if(l < bestLength[0]) {
+                bestLength[0] = l;
+                System.arraycopy(t, 0, best, 0, n);
+            }
+            return;
+        }
+        for(int i = k; i < n; i++) {
+            swap(t, k, i);
+            permute(t, k + 1, prefixLength + w(t[k-1], t[k]), best, bestLength);
+            swap(t, k, i);
+        }
+    }
+
+    private void nearestNeighbor() {
+        for(int i = 1; i < n; i++) {
+            int last = tour[i-1];
+            int next = i;
+            for(int j = i + 1; j < n; j++) {
+                if(w(last, tour[j]) < w(last, tour[next])) {
+                    next = j;
+                }
+            }
+            swap(tour, i, next);
+        }
+    }
+
+    /**
+     * Replace edges (a,b) and (c,d) by (a,c) and (b,d) by reversing the section from b to c
+     * @return true iff an improving move was applied
+     */
+    private boolean twoOpt() {
+        boolean improved = false;
+        for(int i = 0; i < n - 2; i++) {
+            for(int j = i + 2; j < n; j++) {
+                if(i == 0 && j == n - 1) {
+                    continue; // the edges are adjacent
+                }
+                int a = tour[i], b = tour[i+1], c = tour[j], d = tour[(j + 1) % n];
+                if(w(a, c) + w(b, d) < w(a, b) + w(c, d)) {
+                    reverse(i + 1, j);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * Move the section tour[i..i+len-1] between two other neighboring nodes u and v, in the orientation that is shorter
+     * @return true iff an improving move was applied
+     */
+    private boolean orOpt() {
+        boolean improved = false;
+        for(int len = 1; len <= MAX_SEGMENT && len <= n - 3; len++) {
+            for(int i = 0; i + len <= n; i++) {
+                int first = tour[i], last = tour[i + len - 1];
+                int prev = tour[(i - 1 + n) % n], next = tour[(i + len) % n];
+                int removed = w(prev, first) + w(last, next) - w(prev, next);
+                for(int j = (i + len) % n; j != (i - 1 + n) % n; j = (j + 1) % n) {
+                    int u = tour[j], v = tour[(j + 1) % n];
+                    int forward = w(u, first) + w(last, v);
+                    int backward = w(u, last) + w(first, v);
+                    if(Math.min(forward, backward) - w(u, v) < removed) {
+                        move(i, len, j, backward < forward);
+                        improved = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return improved;
+    }
+
+    // reverse tour[from..to]
+    private void reverse(int from, int to) {
+        while(from < to) {
+            swap(tour, from++, to--);
+        }
+    }
+
+    // move tour[i..i+len-1] behind the node at position j, which lies outside the section
+    private void move(int i, int len, int j, boolean reversed) {
+        int[] section = new int[len];
+        for(int k = 0; k < len; k++) {
+            section[k] = tour[reversed ? i + len - 1 - k : i + k];
+        }
+        int[] rest = new int[n - len];
+        int r = 0, after = -1;
+        for(int k = 0; k < n; k++) {
+            if(k >= i && k < i + len) {
+                continue;
+            }
+            if(k == j) {
+                after = r;
+            }
+            rest[r++] = tour[k];
+        }
+        System.arraycopy(rest, 0, tour, 0, after + 1);
+        System.arraycopy(section, 0, tour, after + 1, len);
+        System.arraycopy(rest, after + 1, tour, after + 1 + len, rest.length - after - 1);
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int x = a[i];
+        a[i] = a[j];
+        a[j] = x;
+    }
+}
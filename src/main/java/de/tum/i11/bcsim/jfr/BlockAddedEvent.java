@@ -0,0 +1,30 @@
+package de.tum.i11.bcsim.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Blockchain.addBlock of a new block. The duration includes adding orphans resolved by the block.
+ */
+@Name("bcsim.BlockAdded")
+@Label("Block Added")
+@Category({"BlockchainSim", "Blockchain"})
+@Description("A block was added to the blockchain of a peer")
+@StackTrace(false)
+public class BlockAddedEvent extends Event {
+    @Label("Block ID")
+    public int blockId;
+
+    @Label("Parent ID")
+    public int parentId;
+
+    @Label("Height")
+    @Description("Height of the block or -1 if it was added as an orphan")
+    public int height;
+
+    @Label("Transactions")
+    public int txCount;
+
+    @Label("Extends Tip")
+    @Description("The block extended a tip of the blockchain")
+    public boolean extendsTip;
+}
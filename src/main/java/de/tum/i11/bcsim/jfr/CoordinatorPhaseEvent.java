@@ -0,0 +1,39 @@
+package de.tum.i11.bcsim.jfr;
+
+import jdk.jfr.*;
+
+import java.net.InetSocketAddress;
+
+/**
+ * A coordinator entered the next phase of an emulation run.
+ */
+@Name("bcsim.CoordinatorPhase")
+@Label("Coordinator Phase")
+@Category({"BlockchainSim", "Coordinator"})
+@Description("A coordinator entered a new phase of the emulation")
+public class CoordinatorPhaseEvent extends Event {
+
+    public enum Phase {
+        INIT_PEERS, CONNECT_PEERS, READY, START, STOP, CLOSE, CLOSED
+    }
+
+    @Label("Coordinator")
+    public String coordinator;
+
+    @Label("Phase")
+    public String phase;
+
+    /**
+     * Commit a phase transition if the event is enabled
+     * @param coordinator the address of the coordinator
+     * @param phase the phase entered
+     */
+    public static void commit(InetSocketAddress coordinator, Phase phase) {
+        CoordinatorPhaseEvent e = new CoordinatorPhaseEvent();
+        if(e.isEnabled()) {
+            e.coordinator = String.valueOf(coordinator);
+            e.phase = phase.name();
+            e.commit();
+        }
+    }
+}
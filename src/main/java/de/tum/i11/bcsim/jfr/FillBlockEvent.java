@@ -0,0 +1,20 @@
+package de.tum.i11.bcsim.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * TransactionPool.fillBlock, selecting the transactions of a newly created block.
+ */
+@Name("bcsim.FillBlock")
+@Label("Fill Block")
+@Category({"BlockchainSim", "Transaction Pool"})
+@Description("Transactions were selected from the pool for a new block")
+@StackTrace(false)
+public class FillBlockEvent extends Event {
+    @Label("Transactions")
+    public int txCount;
+
+    @Label("Pool Size")
+    @Description("Transactions in the pool before selection")
+    public int poolSize;
+}
@@ -0,0 +1,32 @@
+package de.tum.i11.bcsim.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Selection of one of several tips as the main branch, including the update of the tx pool.
+ */
+@Name("bcsim.ForkChoice")
+@Label("Fork Choice")
+@Category({"BlockchainSim", "Blockchain"})
+@Description("A branch of the blockchain was chosen as main branch")
+@StackTrace(false)
+public class ForkChoiceEvent extends Event {
+    @Label("Block ID")
+    @Description("ID of the tip of the chosen branch")
+    public int blockId;
+
+    @Label("Height")
+    public int height;
+
+    @Label("Forks")
+    @Description("Number of tips chosen from")
+    public int forks;
+
+    @Label("Transactions to Chain")
+    @Description("Transactions of the chosen branch below the common ancestor")
+    public int txToChain;
+
+    @Label("Transactions to Pool")
+    @Description("Transactions of stale branches released back into the pool")
+    public int txToPool;
+}
@@ -0,0 +1,27 @@
+package de.tum.i11.bcsim.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A message was handed to the channel of a peer, after any simulated latency.
+ */
+@Name("bcsim.MessageSent")
+@Label("Message Sent")
+@Category({"BlockchainSim", "Network"})
+@Description("A peer sent a message to a neighbour")
+@StackTrace(false)
+public class MessageSentEvent extends Event {
+    @Label("Peer")
+    public int peer;
+
+    @Label("Receiver")
+    @Description("ID of the receiving peer or -1 if it did not announce itself yet")
+    public int to;
+
+    @Label("Kind")
+    public String kind;
+
+    @Label("Simulated Size")
+    @DataAmount
+    public int size;
+}
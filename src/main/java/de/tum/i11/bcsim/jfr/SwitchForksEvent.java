@@ -0,0 +1,23 @@
+package de.tum.i11.bcsim.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * TransactionPool.switchForks, updating the pool after the main branch changed.
+ */
+@Name("bcsim.SwitchForks")
+@Label("Switch Forks")
+@Category({"BlockchainSim", "Transaction Pool"})
+@Description("The transaction pool was updated after switching to a different branch")
+@StackTrace(false)
+public class SwitchForksEvent extends Event {
+    @Label("Transactions to Chain")
+    public int txToChain;
+
+    @Label("Transactions to Pool")
+    public int txToPool;
+
+    @Label("Pool Size")
+    @Description("Transactions in the pool after the switch")
+    public int poolSize;
+}
@@ -0,0 +1,278 @@
+package de.tum.i11.bcsim.node;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Timestamp;
+import de.tum.i11.bcsim.proto.Messages;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.MessageToMessageCodec;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Encodes P2PMessages carrying a block, block proposal or transaction in a compact binary format, all other messages
+ * as protobuf. Compared to protobuf, IDs are fixed-width, timestamps are fixed64 ns since the epoch instead of nested
+ * messages and tx payloads are written once per message and referenced by index, as all tx of a peer share the same
+ * payload. Frames (without length prefix) start with a kind byte:
+ * <pre>
+ * PROTOBUF:    P2PMessage
+ * BLOCK:       block
+ * PROPOSAL:    block
+ * TRANSACTION: int txId, varint fee, long ts, varint data length + 1 (0 = no data), data
+ * block:       int blockId, int parentId, int creator, long ts, varint payloads, (varint length, data) per payload,
+ *              varint tx, (int txId, varint fee, long ts, varint payload index + 1 (0 = no data)) per tx
+ * </pre>
+ * Fees are zigzag encoded. Decoded messages are equal to the encoded ones.
+ */
+@ChannelHandler.Sharable
+public class CompactP2PCodec extends MessageToMessageCodec<ByteBuf, Messages.P2PMessage> {
+
+    private static final byte PROTOBUF = 0, BLOCK = 1, PROPOSAL = 2, TRANSACTION = 3;
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, Messages.P2PMessage msg, List<Object> out) throws IOException {
+        ByteBuf buf = ctx.alloc().buffer(estimateSize(msg));
+        try {
+            encode(msg, buf);
+            out.add(buf);
+        } catch (IOException | RuntimeException e) {
+            buf.release();
+            throw e;
+        }
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> out) throws IOException {
+        out.add(decode(buf));
+    }
+
+    /**
+     * Write the given message into the buffer
+     * @param msg the message
+     * @param buf the target buffer
+     * @throws IOException if protobuf encoding fails
+     */
+    public static void encode(Messages.P2PMessage msg, ByteBuf buf) throws IOException {
+        switch (kindOf(msg)) {
+            case BLOCK:
+                buf.writeByte(BLOCK);
+                writeBlock(msg.getBlock(), buf);
+                break;
+            case PROPOSAL:
+                buf.writeByte(PROPOSAL);
+                writeBlock(msg.getProposal().getBlock(), buf);
+                break;
+            case TRANSACTION: {
+                Messages.Transaction t = msg.getTransaction();
+                buf.writeByte(TRANSACTION);
+                writeTxHeader(t, buf);
+                if(t.hasData()) {
+                    writeVarint(t.getData().size() + 1, buf);
+                    writeBytes(t.getData(), buf);
+                } else {
+                    writeVarint(0, buf);
+                }
+                break;
+            }
+            default:
+                buf.writeByte(PROTOBUF);
+                msg.writeTo(new ByteBufOutputStream(buf));
+        }
+    }
+
+    /**
+     * Read a message written by encode
+     * @param buf the buffer containing exactly one message
+     * @return the message
+     * @throws IOException if the message is malformed
+     */
+    public static Messages.P2PMessage decode(ByteBuf buf) throws IOException {
+        try {
+            byte kind = buf.readByte();
+            switch (kind) {
+                case BLOCK:
+                    return Messages.P2PMessage.newBuilder().setBlock(readBlock(buf)).build();
+                case PROPOSAL:
+                    return Messages.P2PMessage.newBuilder()
+                            .setProposal(Messages.BlockProposal.newBuilder().setBlock(readBlock(buf))).build();
+                case TRANSACTION: {
+                    Messages.Transaction.Builder t = readTxHeader(buf);
+                    int length = readLength(buf);
+                    if(length > 0) {
+                        t.setData(readBytes(buf, length - 1));
+                    }
+                    return Messages.P2PMessage.newBuilder().setTransaction(t).build();
+                }
+                case PROTOBUF:
+                    return Messages.P2PMessage.parseFrom(new ByteBufInputStream(buf));
+                default:
+                    throw new CorruptedFrameException("Unknown message kind "+kind);
+            }
+        } catch (IndexOutOfBoundsException | InvalidProtocolBufferException e) {
+            throw new CorruptedFrameException("Malformed message", e);
+        }
+    }
+
+    // only messages carrying nothing but a block, proposal or transaction are encoded compactly
+    private static byte kindOf(Messages.P2PMessage msg) {
+        boolean other = msg.hasAnnounce() || msg.hasLatency() || msg.hasInv() || msg.hasGetData() || msg.hasAck()
+                || !msg.getUnknownFields().asMap().isEmpty();
+        if(other) {
+            return PROTOBUF;
+        }
+        if(msg.hasBlock() && !msg.hasProposal() && !msg.hasTransaction()) return BLOCK;
+        if(msg.hasProposal() && !msg.hasBlock() && !msg.hasTransaction()) return PROPOSAL;
+        if(msg.hasTransaction() && !msg.hasBlock() && !msg.hasProposal()) return TRANSACTION;
+        return PROTOBUF;
+    }
+
+    private static int estimateSize(Messages.P2PMessage msg) {
+        if(msg.hasBlock()) {
+            return 64 + msg.getBlock().getTransactionCount() * 24;
+        }
+        return 64;
+    }
+
+    private static void writeBlock(Messages.Block b, ByteBuf buf) {
+        buf.writeInt(b.getBlockId());
+        buf.writeInt(b.getParentId());
+        buf.writeInt(b.getCreator());
+        buf.writeLong(toNanos(b.getTs()));
+
+        // write each distinct payload once. Peers share one payload instance among their tx and decoded blocks
+        // share them as well, so instances are looked up first to avoid hashing and comparing the content of each tx
+        IdentityHashMap<ByteString, Integer> instanceIndex = new IdentityHashMap<>();
+        HashMap<ByteString, Integer> payloadIndex = new HashMap<>();
+        List<ByteString> payloads = new ArrayList<>();
+        int[] refs = new int[b.getTransactionCount()];
+        for(int i = 0; i < refs.length; i++) {
+            Messages.Transaction t = b.getTransaction(i);
+            if(t.hasData()) {
+                ByteString data = t.getData();
+                Integer ref = instanceIndex.get(data);
+                if(ref == null) {
+                    ref = payloadIndex.computeIfAbsent(data, d -> {
+                        payloads.add(d);
+                        return payloads.size();
+                    });
+                    instanceIndex.put(data, ref);
+                }
+                refs[i] = ref;
+            }
+        }
+        writeVarint(payloads.size(), buf);
+        for(ByteString p : payloads) {
+            writeVarint(p.size(), buf);
+            writeBytes(p, buf);
+        }
+
+        writeVarint(refs.length, buf);
+        for(int i = 0; i < refs.length; i++) {
+            writeTxHeader(b.getTransaction(i), buf);
+            writeVarint(refs[i], buf);
+        }
+    }
+
+    private static Messages.Block readBlock(ByteBuf buf) {
+        Messages.Block.Builder b = Messages.Block.newBuilder()
+                .setBlockId(buf.readInt())
+                .setParentId(buf.readInt())
+                .setCreator(buf.readInt())
+                .setTs(toTimestamp(buf.readLong()));
+
+        ByteString[] payloads = new ByteString[readLength(buf)];
+        for(int i = 0; i < payloads.length; i++) {
+            payloads[i] = readBytes(buf, readLength(buf));
+        }
+
+        int txs = readLength(buf);
+        List<Messages.Transaction> list = new ArrayList<>(Math.min(txs, buf.readableBytes()));
+        for(int i = 0; i < txs; i++) {
+            Messages.Transaction.Builder t = readTxHeader(buf);
+            int ref = readLength(buf);
+            if(ref > 0) {
+                if(ref > payloads.length) {
+                    throw new CorruptedFrameException("Unknown payload "+ref);
+                }
+                t.setData(payloads[ref - 1]);
+            }
+            list.add(t.build());
+        }
+        return b.addAllTransaction(list).build();
+    }
+
+    private static void writeTxHeader(Messages.Transaction t, ByteBuf buf) {
+        buf.writeInt(t.getTxId());
+        writeVarint((t.getTxFee() << 1) ^ (t.getTxFee() >> 31), buf);
+        buf.writeLong(toNanos(t.getTs()));
+    }
+
+    private static Messages.Transaction.Builder readTxHeader(ByteBuf buf) {
+        int id = buf.readInt();
+        int zigzag = readVarint(buf);
+        return Messages.Transaction.newBuilder()
+                .setTxId(id)
+                .setTxFee((zigzag >>> 1) ^ -(zigzag & 1))
+                .setTs(toTimestamp(buf.readLong()));
+    }
+
+    private static long toNanos(Timestamp ts) {
+        return ts.getSeconds() * 1_000_000_000L + ts.getNanos();
+    }
+
+    private static Timestamp toTimestamp(long nanos) {
+        return Timestamp.newBuilder().setSeconds(Math.floorDiv(nanos, 1_000_000_000L))
+                .setNanos((int) Math.floorMod(nanos, 1_000_000_000L)).build();
+    }
+
+    private static void writeBytes(ByteString bytes, ByteBuf buf) {
+        buf.writeBytes(bytes.asReadOnlyByteBuffer());
+    }
+
+    private static ByteString readBytes(ByteBuf buf, int length) {
+        if(length < 0 || length > buf.readableBytes()) {
+            throw new CorruptedFrameException("Invalid length "+length);
+        }
+        byte[] bytes = new byte[length];
+        buf.readBytes(bytes);
+        return ByteString.copyFrom(bytes);
+    }
+
+    private static void writeVarint(int value, ByteBuf buf) {
+        while((value & ~0x7F) != 0) {
+            buf.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf.writeByte(value);
+    }
+
+    private static int readVarint(ByteBuf buf) {
+        int value = 0;
+        for(int shift = 0; shift < 35; shift += 7) {
+            byte b = buf.readByte();
+            value |= (b & 0x7F) << shift;
+            if((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new CorruptedFrameException("Malformed varint");
+    }
+
+    // a varint used as count, length or index, which must not be negative
+    private static int readLength(ByteBuf buf) {
+        int value = readVarint(buf);
+        if(value < 0) {
+            throw new CorruptedFrameException("Invalid length "+value);
+        }
+        return value;
+    }
+}
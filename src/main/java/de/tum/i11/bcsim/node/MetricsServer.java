@@ -0,0 +1,100 @@
+package de.tum.i11.bcsim.node;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.*;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.*;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Minimal HTTP server answering GET /metrics with the metrics of a coordinator in Prometheus text format.
+ * Runs on its own single-threaded event loop, so scraping does not delay the emulated peers.
+ */
+public class MetricsServer {
+    private static final Logger LOGGER = Logger.getLogger(MetricsServer.class.getName());
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final EventLoopGroup group;
+    private final Channel channel;
+
+    /**
+     * Bind a metrics server to the given address
+     * @param addr the listening address
+     * @param metrics supplies the current metrics on each request
+     */
+    public MetricsServer(InetSocketAddress addr, Supplier<String> metrics) {
+        this.group = new NioEventLoopGroup(1);
+        ChannelFuture f = new ServerBootstrap().group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline().addLast(new HttpServerCodec());
+                        ch.pipeline().addLast(new HttpObjectAggregator(8192));
+                        ch.pipeline().addLast(new MetricsHandler(metrics));
+                    }
+                }).bind(addr).awaitUninterruptibly();
+        if(!f.isSuccess()) {
+            group.shutdownGracefully();
+            throw new IllegalStateException("Could not bind metrics server to "+addr, f.cause());
+        }
+        this.channel = f.channel();
+        LOGGER.info("Serving metrics on http:/"+channel.localAddress()+"/metrics");
+    }
+
+    public InetSocketAddress getListenAddr() {
+        return (InetSocketAddress) channel.localAddress();
+    }
+
+    /**
+     * @return A future completed once this server is closed
+     */
+    public CompletableFuture<Void> close() {
+        CompletableFuture<Void> f = new CompletableFuture<>();
+        channel.close();
+        group.shutdownGracefully().addListener(l -> f.complete(null));
+        return f;
+    }
+
+    private static class MetricsHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+        private final Supplier<String> metrics;
+
+        MetricsHandler(Supplier<String> metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
+            String path = new QueryStringDecoder(request.uri()).path();
+            FullHttpResponse response;
+            if(!HttpMethod.GET.equals(request.method())) {
+                response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.METHOD_NOT_ALLOWED);
+            } else if(!"/metrics".equals(path)) {
+                response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.NOT_FOUND);
+            } else {
+                ByteBuf content = Unpooled.copiedBuffer(metrics.get(), StandardCharsets.UTF_8);
+                response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content);
+                response.headers().set(HttpHeaderNames.CONTENT_TYPE, CONTENT_TYPE);
+            }
+            response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, response.content().readableBytes());
+            response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+            ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            LOGGER.log(Level.WARNING, "Failed to serve metrics", cause);
+            ctx.close();
+        }
+    }
+}
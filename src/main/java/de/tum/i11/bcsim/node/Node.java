@@ -1,6 +1,7 @@
 package de.tum.i11.bcsim.node;
 
 import com.google.protobuf.Message;
+import de.tum.i11.bcsim.proto.Messages;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.*;
@@ -23,11 +24,23 @@ public class Node {
     private final Bootstrap cb;
 
     public Node(ChannelHandler handler, Supplier<Message> msgSupplier) {
+        this(handler, msgSupplier, WireFormat.PROTOBUF);
+    }
+
+    /**
+     * @param handler the handler of received messages
+     * @param msgSupplier supplies the default instance of received messages
+     * @param wireFormat the encoding of messages, COMPACT is only supported for P2PMessages
+     */
+    public Node(ChannelHandler handler, Supplier<Message> msgSupplier, WireFormat wireFormat) {
         LOGGER.finest("Starting node event loops");
+        if(wireFormat == WireFormat.COMPACT && !(msgSupplier.get() instanceof Messages.P2PMessage)) {
+            throw new IllegalArgumentException("Compact wire format is only supported for P2PMessages");
+        }
         bossGroup = new NioEventLoopGroup();
         workerGroup = new NioEventLoopGroup();
         sb = new ServerBootstrap();
-        NodeInitializer initializer = new NodeInitializer(handler, msgSupplier);
+        NodeInitializer initializer = new NodeInitializer(handler, msgSupplier, wireFormat);
         sb.group(bossGroup, workerGroup)
                 .channel(NioServerSocketChannel.class)
                 .childHandler(initializer)
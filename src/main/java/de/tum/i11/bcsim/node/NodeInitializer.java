@@ -14,12 +14,16 @@ import java.util.function.Supplier;
 
 public class NodeInitializer extends ChannelInitializer<SocketChannel> {
 
+    private static final CompactP2PCodec COMPACT_CODEC = new CompactP2PCodec();
+
     private ChannelHandler handler;
     private Supplier<Message> messageSupplier;
+    private final WireFormat wireFormat;
 
-    NodeInitializer(ChannelHandler handler, Supplier<Message> messageSupplier) {
+    NodeInitializer(ChannelHandler handler, Supplier<Message> messageSupplier, WireFormat wireFormat) {
         this.handler = handler;
         this.messageSupplier = messageSupplier;
+        this.wireFormat = wireFormat;
     }
 
     @Override
@@ -27,10 +31,15 @@ public class NodeInitializer extends ChannelInitializer<SocketChannel> {
         // Add Protobuf boilerplate
         ChannelPipeline p = ch.pipeline();
         p.addLast(new ProtobufVarint32FrameDecoder());
-        p.addLast(new ProtobufDecoder(messageSupplier.get()));
-
-        p.addLast(new ProtobufVarint32LengthFieldPrepender());
-        p.addLast(new ProtobufEncoder());
+        if(wireFormat == WireFormat.COMPACT) {
+            p.addLast(new ProtobufVarint32LengthFieldPrepender());
+            p.addLast(COMPACT_CODEC);
+        } else {
+            p.addLast(new ProtobufDecoder(messageSupplier.get()));
+
+            p.addLast(new ProtobufVarint32LengthFieldPrepender());
+            p.addLast(new ProtobufEncoder());
+        }
 
         p.addLast(handler);
     }
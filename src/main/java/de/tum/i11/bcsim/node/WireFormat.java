@@ -0,0 +1,17 @@
+package de.tum.i11.bcsim.node;
+
+/**
+ * Encoding of messages between peers
+ */
+public enum WireFormat {
+    PROTOBUF,   // protobuf encoding of P2PMessage
+    COMPACT;    // CompactP2PCodec for blocks, proposals and transactions, protobuf for all other messages
+
+    /**
+     * @param name the name as used in config files (protobuf, compact)
+     * @return the wire format
+     */
+    public static WireFormat of(String name) {
+        return valueOf(name.toUpperCase());
+    }
+}
@@ -34,7 +34,9 @@ public abstract class BlockchainPeer extends Peer {
 
     protected final Timeout endTimeout;
     protected final ConcurrentLinkedQueue<Pair<Messages.Transaction, Integer>> confirmationTimes;
-    protected final byte[] txData;
+    protected final LatencyRecorder latencyRecorder;
+    protected final IntLongHashMap firstSeen; // block ID -> first time (epoch ns) this peer received or created the block
+    protected final ByteString txData; // immutable, shared by all tx of this peer
     protected final List<ConfigYAML.TxFee> txFees;
     protected final String txDistribution;
 
@@ -50,13 +52,18 @@ public abstract class BlockchainPeer extends Peer {
         this.config = config;
         this.verificationTime = verificationTime;
         this.bc = blockchain;
-        this.txData = Util.rndBytes(txSize);
+        this.txData = ByteString.copyFrom(Util.rndBytes(txSize));
         this.txFees = txFees;
         this.txDistribution = txDistribution;
         this.pushBlocks = config.getBlockchainDefaults().pushBlocks;
 
         this.endTimeout = new Timeout(super::close, config.getNetworkDelay());
         this.confirmationTimes = new ConcurrentLinkedQueue<>();
+        this.latencyRecorder = config.latencyHistograms() ? new LatencyRecorder(config.getLatencySamples()) : null;
+        this.firstSeen = new IntLongHashMap(config.getBlockchainDefaults().blocks);
+        if(coordinator.getTrace() != null) {
+            bc.setForkChoiceListener((tip, forks) -> trace(TraceWriter.Event.FORK_SWITCH, tip.block.getBlockId(), forks));
+        }
     }
 
     public Messages.ResultEntry getResultEntry() {
@@ -74,15 +81,79 @@ public abstract class BlockchainPeer extends Peer {
                 .setTotalBlocksPerSec(bc.getTotalBlockThroughput().getThroughput())
                 .setTotalTxPerSec(bc.getTotalTxThroughput().getThroughput())
                 .setUnconfirmedTx(bc.getNumberOfUnconfirmedTx());
+        if(latencyRecorder != null) {
+            // only samples, histograms are merged by the coordinator
+            res.addAllTxLatency(latencyRecorder.getSamples());
+        }
         for(Pair<Messages.Transaction, Integer> txLat : confirmationTimes) {
             res.addTxLatency(Messages.TxLatencyResult.newBuilder()
                     .setFee(txLat._1.getTxFee())
                     .setSize(txLat._1.getData().size())
                     .setLatency(txLat._2));
         }
+        addSeries(res, "confirmedBlocksPerSec", bc.getConfirmedBlockThroughput().getSeries());
+        addSeries(res, "confirmedTxPerSec", bc.getConfirmedTxThroughput().getSeries());
+        addSeries(res, "confirmedBytesPerSec", bc.getConfirmedByteThroughput().getSeries());
+        addSeries(res, "totalBlocksPerSec", bc.getTotalBlockThroughput().getSeries());
+        addSeries(res, "totalTxPerSec", bc.getTotalTxThroughput().getSeries());
+        addSeries(res, "poolSize", bc.getTxPool().getPoolSizeSeries());
         return res.build();
     }
 
+    private void addSeries(Messages.ResultEntry.Builder res, String name, Messages.TimeSeries series) {
+        if(series != null) {
+            res.addSeries(Messages.NamedTimeSeries.newBuilder().setName(name).setSeries(series));
+        }
+    }
+
+    /**
+     * Record the current time as the first time this peer saw the given block, unless it was seen before
+     * @param blockId the block ID
+     */
+    protected void markSeen(int blockId) {
+        firstSeen.putIfAbsent(blockId, Util.epochNanos());
+    }
+
+    /**
+     * Mark a block created by this peer as seen and trace its creation
+     * @param blockId the id of the new block
+     * @param parentId the id of its parent
+     */
+    protected void markCreated(int blockId, int parentId) {
+        markSeen(blockId);
+        if(coordinator.getTrace() != null) {
+            Blockchain.BlockEntry parent = bc.getBlock(parentId);
+            trace(TraceWriter.Event.BLOCK_CREATED, blockId, parent == null ? -1 : parent.getHeight()+1);
+        }
+    }
+
+    /**
+     * Record an event in the trace of the coordinator, if enabled
+     * @param event the event type
+     * @param id the block or tx id
+     * @param aux additional information depending on the event type
+     */
+    protected void trace(TraceWriter.Event event, int id, int aux) {
+        TraceWriter trace = coordinator.getTrace();
+        if(trace != null) {
+            trace.record(event, this.id, id, aux);
+        }
+    }
+
+    /**
+     * @return mapping of block IDs to the first time (ns since epoch) this peer received or created the block
+     */
+    public IntLongHashMap getFirstSeen() {
+        return firstSeen;
+    }
+
+    /**
+     * @return the latency histograms of this peer or null if latencyHistograms is disabled
+     */
+    public LatencyRecorder getLatencyRecorder() {
+        return latencyRecorder;
+    }
+
     private void propagateBlock(ChannelHandlerContext ctx, Messages.P2PMessage msg) {
         if(pushBlocks) {
             broadcastExcluding(msg, ctx.channel());
@@ -105,7 +176,8 @@ public abstract class BlockchainPeer extends Peer {
         sendAfterLatency(id, msg, calcMsgSize(msg));
     }
 
-    private int calcMsgSize(Messages.P2PMessage msg) {
+    @Override
+    protected int calcMsgSize(Messages.P2PMessage msg) {
         if(msg.hasBlock() && config.simulateFullBlocks()) {
             int realBlockSize = msg.getBlock().getSerializedSize();
             int simulatedBlockSize = Math.max(realBlockSize, config.getBlockchainDefaults().blockSize * config.getBlockchainDefaults().txSize);
@@ -118,10 +190,19 @@ public abstract class BlockchainPeer extends Peer {
     @Override
     protected void onMessage(ChannelHandlerContext ctx, Messages.P2PMessage msg) {
         endTimeout.restart();
+        if(msg.hasBlock()) {
+            markSeen(msg.getBlock().getBlockId());
+            trace(TraceWriter.Event.BLOCK_RECEIVED, msg.getBlock().getBlockId(), remoteId(ctx.channel()));
+        } else if(msg.hasProposal()) {
+            markSeen(msg.getProposal().getBlock().getBlockId());
+            trace(TraceWriter.Event.BLOCK_RECEIVED, msg.getProposal().getBlock().getBlockId(), remoteId(ctx.channel()));
+        }
         if(msg.hasBlock()) {
             log(Level.FINER, "Received Block!");
             if(verificationTime > 0) {
+                long intended = System.nanoTime() + verificationTime*1000L;
                 executor.schedule(() -> {
+                    coordinator.getFidelity().recordSince(FidelityMonitor.Category.VERIFICATION, intended);
                     if (bc.addBlock(msg.getBlock())) {
                         propagateBlock(ctx, msg);
                         if (bc.getTotalBlockNum() >= bcDefaults.blocks) {
@@ -154,23 +235,30 @@ public abstract class BlockchainPeer extends Peer {
 
     }
 
+    /**
+     * @param lagMicros the time (in µs) a tick of a block or tx creation process ran after its intended time
+     */
+    protected void recordProcessLag(long lagMicros) {
+        coordinator.getFidelity().record(FidelityMonitor.Category.PROCESS, lagMicros);
+    }
+
     @Override
     public void onStart(long startTime) {
         log(Level.FINER, "Generating transactions with distribution: "+txDistribution);
         if (txRate > 0) {
             switch (txDistribution) {
                 case "poisson":
-                    txThread = new PoissonProcess(this::onTxCreated, txRate, Thread.NORM_PRIORITY).begin(startTime);
+                    txThread = new PoissonProcess(this::onTxCreated, txRate, Thread.NORM_PRIORITY).setLagListener(this::recordProcessLag).begin(startTime);
                     break;
                 case "uniform":
-                    txThread = new UniformProcess(this::onTxCreated, (int) (1000 / txRate), Thread.NORM_PRIORITY).begin(startTime);
+                    txThread = new UniformProcess(this::onTxCreated, (int) (1000 / txRate), Thread.NORM_PRIORITY).setLagListener(this::recordProcessLag).begin(startTime);
                     break;
                 case "constant":
-                    txThread = new ConstantRateTask(this::onTxCreated, (int) (1000 / txRate), (int) (1000 / txRate), Thread.NORM_PRIORITY).begin(startTime);
+                    txThread = new ConstantRateTask(this::onTxCreated, (int) (1000 / txRate), (int) (1000 / txRate), Thread.NORM_PRIORITY).setLagListener(this::recordProcessLag).begin(startTime);
                     break;
                 default:
                     log(Level.WARNING, "Unknown txDistribution, choosing Poisson");
-                    txThread = new PoissonProcess(this::onTxCreated, txRate, Thread.NORM_PRIORITY).begin(startTime);
+                    txThread = new PoissonProcess(this::onTxCreated, txRate, Thread.NORM_PRIORITY).setLagListener(this::recordProcessLag).begin(startTime);
             }
         }
     }
@@ -195,11 +283,17 @@ public abstract class BlockchainPeer extends Peer {
         txPerSecond.registerPackets(1);
 //        log(Level.INFO, "New Transaction Created! In Pool: "+bc.getTxPool().inPoolSize());
         Messages.Transaction t = Messages.Transaction.newBuilder().setTxId(Util.getID(id, txPerSecond.getPackets())).setTs(Util.getTimestamp())
-                .setData(ByteString.copyFrom(txData)).setTxFee(Util.getFee(txFees)).build();
+                .setData(txData).setTxFee(Util.getFee(txFees)).build();
+        trace(TraceWriter.Event.TX_CREATED, t.getTxId(), t.getData().size());
         boolean added = bc.addTransaction(t, tx -> {
-            long now = System.currentTimeMillis();
+            trace(TraceWriter.Event.TX_CONFIRMED, tx.getTxId(), 0);
+            long now = Util.epochNanos() / 1000000;
             long created = tx.getTs().getSeconds()*1000+tx.getTs().getNanos() / 1000000;
-            confirmationTimes.add(new Pair<>(tx, (int)(now-created)));
+            if(latencyRecorder != null) {
+                latencyRecorder.record(tx.getTxFee(), tx.getData().size(), now-created);
+            } else {
+                confirmationTimes.add(new Pair<>(tx, (int)(now-created)));
+            }
         });
         if(!added) {
             log(Level.WARNING, "TxPool full! In Pool: "+bc.getTxPool().inPoolSize());
@@ -211,4 +305,12 @@ public abstract class BlockchainPeer extends Peer {
     public Blockchain getBlockchain() {
         return bc;
     }
+
+    public ThroughputMeasure getCreatedBlocks() {
+        return blocksPerSecond;
+    }
+
+    public ThroughputMeasure getCreatedTx() {
+        return txPerSecond;
+    }
 }
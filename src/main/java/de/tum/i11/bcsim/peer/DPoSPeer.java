@@ -88,6 +88,7 @@ public class DPoSPeer extends BlockchainPeer {
 
             Messages.Block next = b.build();
             lastBlock = next.getBlockId();
+            markCreated(next.getBlockId(), next.getParentId());
 
             if(((DPoSCoordinator) coordinator).getConsensusNodes().size() == 1) {
                 bc.addBlock(next);
@@ -123,8 +124,10 @@ public class DPoSPeer extends BlockchainPeer {
         super.onMessage(ctx, msg);
         if (msg.hasProposal()) {
 //            log(Level.INFO, "Received Proposal for Block "+msg.getProposal().getBlock().getBlockId()+", sending Ack");
+            long intended = System.nanoTime() + peerConfig.verificationTime*1000L;
             executor.schedule(() -> {
-                ctx.writeAndFlush(Messages.P2PMessage.newBuilder().setAck(Messages.BlockAck.newBuilder().setBlockId(msg.getProposal().getBlock().getBlockId())).build());
+                coordinator.getFidelity().recordSince(FidelityMonitor.Category.VERIFICATION, intended);
+                reply(ctx, Messages.P2PMessage.newBuilder().setAck(Messages.BlockAck.newBuilder().setBlockId(msg.getProposal().getBlock().getBlockId())).build());
             }, peerConfig.verificationTime, TimeUnit.MICROSECONDS);
         } else if (msg.hasAck()) {
             log(Level.FINE, "Ack received for "+msg.getAck().getBlockId());
@@ -156,7 +159,7 @@ public class DPoSPeer extends BlockchainPeer {
         log(Level.FINER, "Starting mining and transaction threads");
         if(isBlockProducer) {
             ids.addAll(((DPoSCoordinator) coordinator).getConsensusNodes());
-            miningThread = new ConstantRateTask(this::onBlockFound, Util.getMillisecondsToNextRoundStartAt(Math.min(100000,roundDuration), startTime), blockDuration).begin(startTime);
+            miningThread = new ConstantRateTask(this::onBlockFound, Util.getMillisecondsToNextRoundStartAt(Math.min(100000,roundDuration), startTime), blockDuration).setLagListener(this::recordProcessLag).begin(startTime);
         }
         super.onStart(startTime+Util.getMillisecondsToNextRoundStartAt(Math.min(100000,roundDuration), startTime));
     }
@@ -1,13 +1,18 @@
 package de.tum.i11.bcsim.peer;
 
 import de.tum.i11.bcsim.coordinator.Coordinator;
+import de.tum.i11.bcsim.jfr.MessageSentEvent;
 import de.tum.i11.bcsim.node.Node;
 import de.tum.i11.bcsim.proto.Messages;
+import de.tum.i11.bcsim.util.FidelityMonitor;
 import io.netty.channel.*;
+import io.netty.util.AttributeKey;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -15,12 +20,14 @@ import java.util.logging.Logger;
 @ChannelHandler.Sharable
 public abstract class Peer extends SimpleChannelInboundHandler<Messages.P2PMessage> {
     private static final Logger LOGGER = Logger.getLogger(Peer.class.getName());
+    private static final AttributeKey<Integer> REMOTE_ID = AttributeKey.valueOf("remotePeerId"); // id of the remote peer of a channel, set once announced
 
     private final Node node; // underlying TCP node
     protected final int id; // unique id of this peer
     protected final ConcurrentHashMap<Integer, Channel> connections; // mapping remote peer ids to channels with this peer
     protected final Coordinator<? extends Peer> coordinator; // this peer's coordinator
     protected final ConcurrentHashMap<Integer, Integer> latencyMap; // mapping remote peer ids to this peer's latency (in microseconds) to them
+    protected final TrafficCounter traffic; // messages and bytes sent and received by this peer
 
     protected ScheduledExecutorService executor;
     private CompletableFuture<Void> closedFuture; // future completed when this peer is closed
@@ -30,7 +37,8 @@ public abstract class Peer extends SimpleChannelInboundHandler<Messages.P2PMessa
         this.coordinator = coordinator;
         this.latencyMap = new ConcurrentHashMap<>();
         this.connections = new ConcurrentHashMap<>();
-        this.node = new Node(this, Messages.P2PMessage::getDefaultInstance);
+        this.traffic = new TrafficCounter();
+        this.node = new Node(this, Messages.P2PMessage::getDefaultInstance, coordinator.getWireFormat());
         this.executor = Executors.newSingleThreadScheduledExecutor();
         log(Level.FINER, "Running peer");
         node.bind(addr);
@@ -49,6 +57,10 @@ public abstract class Peer extends SimpleChannelInboundHandler<Messages.P2PMessa
         return latencyMap;
     }
 
+    public TrafficCounter getTraffic() {
+        return traffic;
+    }
+
     public ChannelFuture connect(InetSocketAddress addr) {
         return node.connect(addr);
     }
@@ -100,9 +112,51 @@ public abstract class Peer extends SimpleChannelInboundHandler<Messages.P2PMessa
             LOGGER.warning("Tried to send message from "+this.id+" to "+id+" without active channel");
             return CompletableFuture.completedFuture(null);
         }
+        sent(id, msg, calcMsgSize(msg));
         return connections.get(id).writeAndFlush(msg);
     }
 
+    /**
+     * Send a message back through the channel of the given context
+     * @param ctx the context of the channel
+     * @param msg the message to be sent
+     * @return a future in which the message was sent
+     */
+    protected ChannelFuture reply(ChannelHandlerContext ctx, Messages.P2PMessage msg) {
+        sent(remoteId(ctx.channel()), msg, calcMsgSize(msg));
+        return ctx.writeAndFlush(msg);
+    }
+
+    // count a message handed to a channel and emit a JFR event if enabled
+    private void sent(int to, Messages.P2PMessage msg, int msgSize) {
+        traffic.sent(to, msg, msgSize);
+        MessageSentEvent event = new MessageSentEvent();
+        if(event.isEnabled()) {
+            event.peer = id;
+            event.to = to;
+            event.kind = TrafficCounter.Kind.of(msg).name();
+            event.size = msgSize;
+            event.commit();
+        }
+    }
+
+    /**
+     * @param msg the message
+     * @return the simulated size of the given message in byte (might be different to actual size)
+     */
+    protected int calcMsgSize(Messages.P2PMessage msg) {
+        return msg.getSerializedSize();
+    }
+
+    /**
+     * @param channel a channel to another peer
+     * @return the id of the remote peer or -1 if it did not announce itself yet
+     */
+    protected static int remoteId(Channel channel) {
+        Integer id = channel.attr(REMOTE_ID).get();
+        return id == null ? -1 : id;
+    }
+
     /**
      * Send a message to the peer with the given id after the specified latency
      * @param id the id of the remote peer
@@ -111,7 +165,11 @@ public abstract class Peer extends SimpleChannelInboundHandler<Messages.P2PMessa
      * @return a future in which the message was sent
      */
     public ScheduledFuture<?> sendAfter(int id, Messages.P2PMessage msg, long microseconds) {
-        return executor.schedule(() -> sendNow(id, msg), microseconds, TimeUnit.MICROSECONDS);
+        long intended = System.nanoTime() + microseconds*1000;
+        return executor.schedule(() -> {
+            coordinator.getFidelity().recordSince(FidelityMonitor.Category.SEND, intended);
+            sendNow(id, msg);
+        }, microseconds, TimeUnit.MICROSECONDS);
     }
 
     /**
@@ -130,8 +188,10 @@ public abstract class Peer extends SimpleChannelInboundHandler<Messages.P2PMessa
      * @param msg the message to be sent
      */
     public void broadcastNow(Messages.P2PMessage msg) {
-        for(Channel c : connections.values()) {
-            c.writeAndFlush(msg);
+        int msgSize = calcMsgSize(msg);
+        for(Map.Entry<Integer, Channel> e: connections.entrySet()) {
+            sent(e.getKey(), msg, msgSize);
+            e.getValue().writeAndFlush(msg);
         }
     }
 
@@ -145,8 +205,13 @@ public abstract class Peer extends SimpleChannelInboundHandler<Messages.P2PMessa
         for(Map.Entry<Integer, Channel> e: connections.entrySet()) {
             Channel c = e.getValue();
             if(!c.equals(channel)) {
-                executor.schedule(() -> c.writeAndFlush(msg),
-                        calcDelayInMicroseconds(latencyMap.get(e.getKey()), msgSize, coordinator.getBandwidth()), TimeUnit.MICROSECONDS);
+                long delay = calcDelayInMicroseconds(latencyMap.get(e.getKey()), msgSize, coordinator.getBandwidth());
+                long intended = System.nanoTime() + delay*1000;
+                executor.schedule(() -> {
+                            coordinator.getFidelity().recordSince(FidelityMonitor.Category.SEND, intended);
+                            sent(e.getKey(), msg, msgSize);
+                            c.writeAndFlush(msg);
+                        }, delay, TimeUnit.MICROSECONDS);
             }
         }
     }
@@ -159,8 +224,30 @@ public abstract class Peer extends SimpleChannelInboundHandler<Messages.P2PMessa
     public void broadcastAfterLatency(Messages.P2PMessage msg, int msgSize) {
         for(Map.Entry<Integer, Channel> e: connections.entrySet()) {
             Channel c = e.getValue();
-            executor.schedule(() -> c.writeAndFlush(msg),
-                    calcDelayInMicroseconds(latencyMap.get(e.getKey()), msgSize, coordinator.getBandwidth()), TimeUnit.MICROSECONDS);
+            long delay = calcDelayInMicroseconds(latencyMap.get(e.getKey()), msgSize, coordinator.getBandwidth());
+            long intended = System.nanoTime() + delay*1000;
+            executor.schedule(() -> {
+                        coordinator.getFidelity().recordSince(FidelityMonitor.Category.SEND, intended);
+                        sent(e.getKey(), msg, msgSize);
+                        c.writeAndFlush(msg);
+                    }, delay, TimeUnit.MICROSECONDS);
+        }
+    }
+
+    /**
+     * Submit a task to each event loop serving a connection of this peer and record how long it waits until executed
+     * @param fidelity the monitor recording the latencies
+     */
+    public void probeEventLoops(FidelityMonitor fidelity) {
+        Set<EventLoop> loops = new HashSet<>();
+        for(Channel c : connections.values()) {
+            loops.add(c.eventLoop());
+        }
+        for(EventLoop loop : loops) {
+            if(!loop.isShuttingDown()) {
+                long submitted = System.nanoTime();
+                loop.execute(() -> fidelity.recordSince(FidelityMonitor.Category.EVENT_LOOP, submitted));
+            }
         }
     }
 
@@ -178,6 +265,10 @@ public abstract class Peer extends SimpleChannelInboundHandler<Messages.P2PMessa
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, Messages.P2PMessage p2pMessage)  {
 //        log(Level.FINE, "Received: "+p2pMessage);
+        if(p2pMessage.hasAnnounce()) {
+            ctx.channel().attr(REMOTE_ID).set(p2pMessage.getAnnounce().getNodeId());
+        }
+        traffic.received(remoteId(ctx.channel()), p2pMessage, calcMsgSize(p2pMessage));
         if(p2pMessage.hasAnnounce()) {
             // once a channel was established and the opposing peer was announced, add channel to active connections
             connections.put(p2pMessage.getAnnounce().getNodeId(), ctx.channel());
@@ -202,7 +293,7 @@ public abstract class Peer extends SimpleChannelInboundHandler<Messages.P2PMessa
         // Peers announce themselves once a new channel is established
         Messages.P2PMessage msg = Messages.P2PMessage.newBuilder()
                 .setAnnounce(Messages.AnnouncePeer.newBuilder().setNodeId(id)).build();
-        ctx.writeAndFlush(msg);
+        reply(ctx, msg);
     }
 
     @Override
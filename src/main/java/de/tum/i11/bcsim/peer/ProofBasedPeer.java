@@ -30,13 +30,14 @@ public class ProofBasedPeer extends BlockchainPeer {
     public void onStart(long startTime) {
         log(Level.FINER, "Starting mining and transaction threads");
         super.onStart(startTime);
-        miningThread = new PoissonProcess(this::onBlockFound, miningRate).begin(startTime);
+        miningThread = new PoissonProcess(this::onBlockFound, miningRate).setLagListener(this::recordProcessLag).begin(startTime);
     }
 
     private void onBlockFound() {
         blocksPerSecond.registerPackets(1);
         Messages.Block.Builder b = Messages.Block.newBuilder().setTs(Util.getTimestamp()).setCreator(id).setBlockId(Util.getID(id, blocksPerSecond.getPackets()));
         bc.addNewBlock(b);
+        markCreated(b.getBlockId(), b.getParentId());
         log(Level.CONFIG, "New Block Found! ("+bc.getTotalBlockNum()+")");
         if(bc.getTotalBlockNum() >= bcDefaults.blocks) {
             coordinator.stop(null, coordinator.getListenAddress().toString(), "Reached max block num", false);
@@ -0,0 +1,139 @@
+package de.tum.i11.bcsim.peer;
+
+import com.google.protobuf.CodedOutputStream;
+import de.tum.i11.bcsim.proto.Messages;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts messages and bytes sent and received by a peer, per message kind and per neighbour.
+ * Bytes are counted both as real bytes on the wire (including length prefix) and as simulated message size.
+ */
+public class TrafficCounter {
+
+    public enum Kind {
+        ANNOUNCE, LATENCY, INV, GET_DATA, BLOCK, TRANSACTION, PROPOSAL, ACK, OTHER;
+
+        public static Kind of(Messages.P2PMessage msg) {
+            if(msg.hasTransaction()) return TRANSACTION;
+            if(msg.hasBlock()) return BLOCK;
+            if(msg.hasInv()) return INV;
+            if(msg.hasGetData()) return GET_DATA;
+            if(msg.hasProposal()) return PROPOSAL;
+            if(msg.hasAck()) return ACK;
+            if(msg.hasAnnounce()) return ANNOUNCE;
+            if(msg.hasLatency()) return LATENCY;
+            return OTHER;
+        }
+    }
+
+    // counter offsets within a kind or link
+    private static final int SENT_MSGS = 0, SENT_BYTES = 1, SENT_SIM_BYTES = 2, RECV_MSGS = 3, RECV_BYTES = 4, RECV_SIM_BYTES = 5;
+    private static final int COUNTERS = 6;
+
+    private final AtomicLongArray kinds = new AtomicLongArray(Kind.values().length * COUNTERS);
+    private final ConcurrentHashMap<Integer, AtomicLongArray> links = new ConcurrentHashMap<>();
+
+    private static int wireSize(Messages.P2PMessage msg) {
+        int size = msg.getSerializedSize();
+        return size + CodedOutputStream.computeUInt32SizeNoTag(size);
+    }
+
+    private void count(int neighbour, Messages.P2PMessage msg, int simulatedSize, int offset) {
+        int bytes = wireSize(msg);
+        int base = Kind.of(msg).ordinal() * COUNTERS + offset;
+        kinds.incrementAndGet(base);
+        kinds.addAndGet(base + 1, bytes);
+        kinds.addAndGet(base + 2, simulatedSize);
+        if(neighbour >= 0) {
+            AtomicLongArray link = links.computeIfAbsent(neighbour, n -> new AtomicLongArray(COUNTERS));
+            link.incrementAndGet(offset);
+            link.addAndGet(offset + 1, bytes);
+            link.addAndGet(offset + 2, simulatedSize);
+        }
+    }
+
+    /**
+     * @param neighbour the id of the receiving peer or -1 if unknown
+     * @param msg the message sent
+     * @param simulatedSize the simulated size of the message
+     */
+    public void sent(int neighbour, Messages.P2PMessage msg, int simulatedSize) {
+        count(neighbour, msg, simulatedSize, SENT_MSGS);
+    }
+
+    /**
+     * @param neighbour the id of the sending peer or -1 if unknown
+     * @param msg the message received
+     * @param simulatedSize the simulated size of the message
+     */
+    public void received(int neighbour, Messages.P2PMessage msg, int simulatedSize) {
+        count(neighbour, msg, simulatedSize, RECV_MSGS);
+    }
+
+    private static Messages.Traffic.Builder toProto(AtomicLongArray a, int base) {
+        return Messages.Traffic.newBuilder()
+                .setSentMsgs(a.get(base + SENT_MSGS))
+                .setSentBytes(a.get(base + SENT_BYTES))
+                .setSentSimulatedBytes(a.get(base + SENT_SIM_BYTES))
+                .setReceivedMsgs(a.get(base + RECV_MSGS))
+                .setReceivedBytes(a.get(base + RECV_BYTES))
+                .setReceivedSimulatedBytes(a.get(base + RECV_SIM_BYTES));
+    }
+
+    /**
+     * @return the traffic of each message kind that was sent or received at least once
+     */
+    public List<Messages.Traffic> getKindTraffic() {
+        List<Messages.Traffic> res = new ArrayList<>();
+        for(Kind k : Kind.values()) {
+            Messages.Traffic t = toProto(kinds, k.ordinal() * COUNTERS).setKind(k.name()).build();
+            if(t.getSentMsgs() > 0 || t.getReceivedMsgs() > 0) {
+                res.add(t);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @param self the id of the peer owning this counter
+     * @return the traffic between the given peer and each of its neighbours
+     */
+    public List<Messages.LinkTraffic> getLinkTraffic(int self) {
+        List<Messages.LinkTraffic> res = new ArrayList<>();
+        new TreeMap<>(links).forEach((n, a) -> res.add(Messages.LinkTraffic.newBuilder()
+                .setFrom(self).setTo(n).setTraffic(toProto(a, 0).setKind("ALL")).build()));
+        return res;
+    }
+
+    /**
+     * Sum up the traffic of the same kinds
+     * @param traffic the traffic to be summed up
+     * @return the total traffic per kind
+     */
+    public static List<Messages.Traffic> sum(Collection<Messages.Traffic> traffic) {
+        TreeMap<String, Messages.Traffic.Builder> res = new TreeMap<>();
+        for(Messages.Traffic t : traffic) {
+            Messages.Traffic.Builder b = res.computeIfAbsent(t.getKind(), k -> Messages.Traffic.newBuilder().setKind(k)
+                    .setSentMsgs(0).setSentBytes(0).setSentSimulatedBytes(0)
+                    .setReceivedMsgs(0).setReceivedBytes(0).setReceivedSimulatedBytes(0));
+            b.setSentMsgs(b.getSentMsgs() + t.getSentMsgs())
+                    .setSentBytes(b.getSentBytes() + t.getSentBytes())
+                    .setSentSimulatedBytes(b.getSentSimulatedBytes() + t.getSentSimulatedBytes())
+                    .setReceivedMsgs(b.getReceivedMsgs() + t.getReceivedMsgs())
+                    .setReceivedBytes(b.getReceivedBytes() + t.getReceivedBytes())
+                    .setReceivedSimulatedBytes(b.getReceivedSimulatedBytes() + t.getReceivedSimulatedBytes());
+        }
+        List<Messages.Traffic> list = new ArrayList<>();
+        for(Map.Entry<String, Messages.Traffic.Builder> e : res.entrySet()) {
+            list.add(e.getValue().build());
+        }
+        return list;
+    }
+}
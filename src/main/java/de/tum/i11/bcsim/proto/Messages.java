@@ -10122,6 +10122,150 @@ public final class Messages {
      */
     de.tum.i11.bcsim.proto.Messages.ResultEntryOrBuilder getEntryOrBuilder(
         int index);
+
+    /**
+     * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+     */
+    java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram> 
+        getTxLatencyHistogramList();
+    /**
+     * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram getTxLatencyHistogram(int index);
+    /**
+     * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+     */
+    int getTxLatencyHistogramCount();
+    /**
+     * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+     */
+    java.util.List<? extends de.tum.i11.bcsim.proto.Messages.TxLatencyHistogramOrBuilder> 
+        getTxLatencyHistogramOrBuilderList();
+    /**
+     * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.TxLatencyHistogramOrBuilder getTxLatencyHistogramOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 6;</code>
+     */
+    java.util.List<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries> 
+        getSeriesList();
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 6;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.NamedTimeSeries getSeries(int index);
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 6;</code>
+     */
+    int getSeriesCount();
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 6;</code>
+     */
+    java.util.List<? extends de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder> 
+        getSeriesOrBuilderList();
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 6;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder getSeriesOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+     */
+    java.util.List<de.tum.i11.bcsim.proto.Messages.BlockPropagation> 
+        getBlockPropagationList();
+    /**
+     * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.BlockPropagation getBlockPropagation(int index);
+    /**
+     * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+     */
+    int getBlockPropagationCount();
+    /**
+     * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+     */
+    java.util.List<? extends de.tum.i11.bcsim.proto.Messages.BlockPropagationOrBuilder> 
+        getBlockPropagationOrBuilderList();
+    /**
+     * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.BlockPropagationOrBuilder getBlockPropagationOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .test.Traffic traffic = 8;</code>
+     */
+    java.util.List<de.tum.i11.bcsim.proto.Messages.Traffic> 
+        getTrafficList();
+    /**
+     * <code>repeated .test.Traffic traffic = 8;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.Traffic getTraffic(int index);
+    /**
+     * <code>repeated .test.Traffic traffic = 8;</code>
+     */
+    int getTrafficCount();
+    /**
+     * <code>repeated .test.Traffic traffic = 8;</code>
+     */
+    java.util.List<? extends de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder> 
+        getTrafficOrBuilderList();
+    /**
+     * <code>repeated .test.Traffic traffic = 8;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder getTrafficOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+     */
+    java.util.List<de.tum.i11.bcsim.proto.Messages.LinkTraffic> 
+        getLinkTrafficList();
+    /**
+     * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.LinkTraffic getLinkTraffic(int index);
+    /**
+     * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+     */
+    int getLinkTrafficCount();
+    /**
+     * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+     */
+    java.util.List<? extends de.tum.i11.bcsim.proto.Messages.LinkTrafficOrBuilder> 
+        getLinkTrafficOrBuilderList();
+    /**
+     * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.LinkTrafficOrBuilder getLinkTrafficOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+     */
+    java.util.List<de.tum.i11.bcsim.proto.Messages.NamedHistogram> 
+        getSchedulingLagList();
+    /**
+     * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.NamedHistogram getSchedulingLag(int index);
+    /**
+     * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+     */
+    int getSchedulingLagCount();
+    /**
+     * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+     */
+    java.util.List<? extends de.tum.i11.bcsim.proto.Messages.NamedHistogramOrBuilder> 
+        getSchedulingLagOrBuilderList();
+    /**
+     * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.NamedHistogramOrBuilder getSchedulingLagOrBuilder(
+        int index);
   }
   /**
    * <pre>
@@ -10142,6 +10286,12 @@ public final class Messages {
     private Result() {
       coordAddress_ = "";
       entry_ = java.util.Collections.emptyList();
+      txLatencyHistogram_ = java.util.Collections.emptyList();
+      series_ = java.util.Collections.emptyList();
+      blockPropagation_ = java.util.Collections.emptyList();
+      traffic_ = java.util.Collections.emptyList();
+      linkTraffic_ = java.util.Collections.emptyList();
+      schedulingLag_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -10200,6 +10350,60 @@ public final class Messages {
                   input.readMessage(de.tum.i11.bcsim.proto.Messages.ResultEntry.PARSER, extensionRegistry));
               break;
             }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) != 0)) {
+                txLatencyHistogram_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              txLatencyHistogram_.add(
+                  input.readMessage(de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.PARSER, extensionRegistry));
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) != 0)) {
+                series_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              series_.add(
+                  input.readMessage(de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.PARSER, extensionRegistry));
+              break;
+            }
+            case 58: {
+              if (!((mutable_bitField0_ & 0x00000040) != 0)) {
+                blockPropagation_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.BlockPropagation>();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              blockPropagation_.add(
+                  input.readMessage(de.tum.i11.bcsim.proto.Messages.BlockPropagation.PARSER, extensionRegistry));
+              break;
+            }
+            case 66: {
+              if (!((mutable_bitField0_ & 0x00000080) != 0)) {
+                traffic_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.Traffic>();
+                mutable_bitField0_ |= 0x00000080;
+              }
+              traffic_.add(
+                  input.readMessage(de.tum.i11.bcsim.proto.Messages.Traffic.PARSER, extensionRegistry));
+              break;
+            }
+            case 74: {
+              if (!((mutable_bitField0_ & 0x00000100) != 0)) {
+                linkTraffic_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.LinkTraffic>();
+                mutable_bitField0_ |= 0x00000100;
+              }
+              linkTraffic_.add(
+                  input.readMessage(de.tum.i11.bcsim.proto.Messages.LinkTraffic.PARSER, extensionRegistry));
+              break;
+            }
+            case 82: {
+              if (!((mutable_bitField0_ & 0x00000200) != 0)) {
+                schedulingLag_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.NamedHistogram>();
+                mutable_bitField0_ |= 0x00000200;
+              }
+              schedulingLag_.add(
+                  input.readMessage(de.tum.i11.bcsim.proto.Messages.NamedHistogram.PARSER, extensionRegistry));
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -10218,6 +10422,24 @@ public final class Messages {
         if (((mutable_bitField0_ & 0x00000008) != 0)) {
           entry_ = java.util.Collections.unmodifiableList(entry_);
         }
+        if (((mutable_bitField0_ & 0x00000010) != 0)) {
+          txLatencyHistogram_ = java.util.Collections.unmodifiableList(txLatencyHistogram_);
+        }
+        if (((mutable_bitField0_ & 0x00000020) != 0)) {
+          series_ = java.util.Collections.unmodifiableList(series_);
+        }
+        if (((mutable_bitField0_ & 0x00000040) != 0)) {
+          blockPropagation_ = java.util.Collections.unmodifiableList(blockPropagation_);
+        }
+        if (((mutable_bitField0_ & 0x00000080) != 0)) {
+          traffic_ = java.util.Collections.unmodifiableList(traffic_);
+        }
+        if (((mutable_bitField0_ & 0x00000100) != 0)) {
+          linkTraffic_ = java.util.Collections.unmodifiableList(linkTraffic_);
+        }
+        if (((mutable_bitField0_ & 0x00000200) != 0)) {
+          schedulingLag_ = java.util.Collections.unmodifiableList(schedulingLag_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -10362,6 +10584,246 @@ public final class Messages {
       return entry_.get(index);
     }
 
+    public static final int TXLATENCYHISTOGRAM_FIELD_NUMBER = 5;
+    private java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram> txLatencyHistogram_;
+    /**
+     * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram> getTxLatencyHistogramList() {
+      return txLatencyHistogram_;
+    }
+    /**
+     * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.TxLatencyHistogramOrBuilder> 
+        getTxLatencyHistogramOrBuilderList() {
+      return txLatencyHistogram_;
+    }
+    /**
+     * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+     */
+    @java.lang.Override
+    public int getTxLatencyHistogramCount() {
+      return txLatencyHistogram_.size();
+    }
+    /**
+     * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram getTxLatencyHistogram(int index) {
+      return txLatencyHistogram_.get(index);
+    }
+    /**
+     * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.TxLatencyHistogramOrBuilder getTxLatencyHistogramOrBuilder(
+        int index) {
+      return txLatencyHistogram_.get(index);
+    }
+
+    public static final int SERIES_FIELD_NUMBER = 6;
+    private java.util.List<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries> series_;
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries> getSeriesList() {
+      return series_;
+    }
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder> 
+        getSeriesOrBuilderList() {
+      return series_;
+    }
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 6;</code>
+     */
+    @java.lang.Override
+    public int getSeriesCount() {
+      return series_.size();
+    }
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 6;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.NamedTimeSeries getSeries(int index) {
+      return series_.get(index);
+    }
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 6;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder getSeriesOrBuilder(
+        int index) {
+      return series_.get(index);
+    }
+
+    public static final int BLOCKPROPAGATION_FIELD_NUMBER = 7;
+    private java.util.List<de.tum.i11.bcsim.proto.Messages.BlockPropagation> blockPropagation_;
+    /**
+     * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<de.tum.i11.bcsim.proto.Messages.BlockPropagation> getBlockPropagationList() {
+      return blockPropagation_;
+    }
+    /**
+     * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.BlockPropagationOrBuilder> 
+        getBlockPropagationOrBuilderList() {
+      return blockPropagation_;
+    }
+    /**
+     * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+     */
+    @java.lang.Override
+    public int getBlockPropagationCount() {
+      return blockPropagation_.size();
+    }
+    /**
+     * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.BlockPropagation getBlockPropagation(int index) {
+      return blockPropagation_.get(index);
+    }
+    /**
+     * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.BlockPropagationOrBuilder getBlockPropagationOrBuilder(
+        int index) {
+      return blockPropagation_.get(index);
+    }
+
+    public static final int TRAFFIC_FIELD_NUMBER = 8;
+    private java.util.List<de.tum.i11.bcsim.proto.Messages.Traffic> traffic_;
+    /**
+     * <code>repeated .test.Traffic traffic = 8;</code>
+     */
+    @java.lang.Override
+    public java.util.List<de.tum.i11.bcsim.proto.Messages.Traffic> getTrafficList() {
+      return traffic_;
+    }
+    /**
+     * <code>repeated .test.Traffic traffic = 8;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder> 
+        getTrafficOrBuilderList() {
+      return traffic_;
+    }
+    /**
+     * <code>repeated .test.Traffic traffic = 8;</code>
+     */
+    @java.lang.Override
+    public int getTrafficCount() {
+      return traffic_.size();
+    }
+    /**
+     * <code>repeated .test.Traffic traffic = 8;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.Traffic getTraffic(int index) {
+      return traffic_.get(index);
+    }
+    /**
+     * <code>repeated .test.Traffic traffic = 8;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder getTrafficOrBuilder(
+        int index) {
+      return traffic_.get(index);
+    }
+
+    public static final int LINKTRAFFIC_FIELD_NUMBER = 9;
+    private java.util.List<de.tum.i11.bcsim.proto.Messages.LinkTraffic> linkTraffic_;
+    /**
+     * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+     */
+    @java.lang.Override
+    public java.util.List<de.tum.i11.bcsim.proto.Messages.LinkTraffic> getLinkTrafficList() {
+      return linkTraffic_;
+    }
+    /**
+     * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.LinkTrafficOrBuilder> 
+        getLinkTrafficOrBuilderList() {
+      return linkTraffic_;
+    }
+    /**
+     * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+     */
+    @java.lang.Override
+    public int getLinkTrafficCount() {
+      return linkTraffic_.size();
+    }
+    /**
+     * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.LinkTraffic getLinkTraffic(int index) {
+      return linkTraffic_.get(index);
+    }
+    /**
+     * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.LinkTrafficOrBuilder getLinkTrafficOrBuilder(
+        int index) {
+      return linkTraffic_.get(index);
+    }
+
+    public static final int SCHEDULINGLAG_FIELD_NUMBER = 10;
+    private java.util.List<de.tum.i11.bcsim.proto.Messages.NamedHistogram> schedulingLag_;
+    /**
+     * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+     */
+    @java.lang.Override
+    public java.util.List<de.tum.i11.bcsim.proto.Messages.NamedHistogram> getSchedulingLagList() {
+      return schedulingLag_;
+    }
+    /**
+     * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.NamedHistogramOrBuilder> 
+        getSchedulingLagOrBuilderList() {
+      return schedulingLag_;
+    }
+    /**
+     * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+     */
+    @java.lang.Override
+    public int getSchedulingLagCount() {
+      return schedulingLag_.size();
+    }
+    /**
+     * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.NamedHistogram getSchedulingLag(int index) {
+      return schedulingLag_.get(index);
+    }
+    /**
+     * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.NamedHistogramOrBuilder getSchedulingLagOrBuilder(
+        int index) {
+      return schedulingLag_.get(index);
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -10387,25 +10849,79 @@ public final class Messages {
           return false;
         }
       }
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, coordAddress_);
-      }
-      if (((bitField0_ & 0x00000002) != 0)) {
-        output.writeDouble(2, maxCPULoad_);
+      for (int i = 0; i < getTxLatencyHistogramCount(); i++) {
+        if (!getTxLatencyHistogram(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        output.writeDouble(3, avgCPULoad_);
+      for (int i = 0; i < getSeriesCount(); i++) {
+        if (!getSeries(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getBlockPropagationCount(); i++) {
+        if (!getBlockPropagation(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getTrafficCount(); i++) {
+        if (!getTraffic(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getLinkTrafficCount(); i++) {
+        if (!getLinkTraffic(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getSchedulingLagCount(); i++) {
+        if (!getSchedulingLag(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, coordAddress_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeDouble(2, maxCPULoad_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeDouble(3, avgCPULoad_);
       }
       for (int i = 0; i < entry_.size(); i++) {
         output.writeMessage(4, entry_.get(i));
       }
+      for (int i = 0; i < txLatencyHistogram_.size(); i++) {
+        output.writeMessage(5, txLatencyHistogram_.get(i));
+      }
+      for (int i = 0; i < series_.size(); i++) {
+        output.writeMessage(6, series_.get(i));
+      }
+      for (int i = 0; i < blockPropagation_.size(); i++) {
+        output.writeMessage(7, blockPropagation_.get(i));
+      }
+      for (int i = 0; i < traffic_.size(); i++) {
+        output.writeMessage(8, traffic_.get(i));
+      }
+      for (int i = 0; i < linkTraffic_.size(); i++) {
+        output.writeMessage(9, linkTraffic_.get(i));
+      }
+      for (int i = 0; i < schedulingLag_.size(); i++) {
+        output.writeMessage(10, schedulingLag_.get(i));
+      }
       unknownFields.writeTo(output);
     }
 
@@ -10430,6 +10946,30 @@ public final class Messages {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(4, entry_.get(i));
       }
+      for (int i = 0; i < txLatencyHistogram_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, txLatencyHistogram_.get(i));
+      }
+      for (int i = 0; i < series_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, series_.get(i));
+      }
+      for (int i = 0; i < blockPropagation_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, blockPropagation_.get(i));
+      }
+      for (int i = 0; i < traffic_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, traffic_.get(i));
+      }
+      for (int i = 0; i < linkTraffic_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, linkTraffic_.get(i));
+      }
+      for (int i = 0; i < schedulingLag_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, schedulingLag_.get(i));
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -10464,6 +11004,18 @@ public final class Messages {
       }
       if (!getEntryList()
           .equals(other.getEntryList())) return false;
+      if (!getTxLatencyHistogramList()
+          .equals(other.getTxLatencyHistogramList())) return false;
+      if (!getSeriesList()
+          .equals(other.getSeriesList())) return false;
+      if (!getBlockPropagationList()
+          .equals(other.getBlockPropagationList())) return false;
+      if (!getTrafficList()
+          .equals(other.getTrafficList())) return false;
+      if (!getLinkTrafficList()
+          .equals(other.getLinkTrafficList())) return false;
+      if (!getSchedulingLagList()
+          .equals(other.getSchedulingLagList())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -10493,6 +11045,30 @@ public final class Messages {
         hash = (37 * hash) + ENTRY_FIELD_NUMBER;
         hash = (53 * hash) + getEntryList().hashCode();
       }
+      if (getTxLatencyHistogramCount() > 0) {
+        hash = (37 * hash) + TXLATENCYHISTOGRAM_FIELD_NUMBER;
+        hash = (53 * hash) + getTxLatencyHistogramList().hashCode();
+      }
+      if (getSeriesCount() > 0) {
+        hash = (37 * hash) + SERIES_FIELD_NUMBER;
+        hash = (53 * hash) + getSeriesList().hashCode();
+      }
+      if (getBlockPropagationCount() > 0) {
+        hash = (37 * hash) + BLOCKPROPAGATION_FIELD_NUMBER;
+        hash = (53 * hash) + getBlockPropagationList().hashCode();
+      }
+      if (getTrafficCount() > 0) {
+        hash = (37 * hash) + TRAFFIC_FIELD_NUMBER;
+        hash = (53 * hash) + getTrafficList().hashCode();
+      }
+      if (getLinkTrafficCount() > 0) {
+        hash = (37 * hash) + LINKTRAFFIC_FIELD_NUMBER;
+        hash = (53 * hash) + getLinkTrafficList().hashCode();
+      }
+      if (getSchedulingLagCount() > 0) {
+        hash = (37 * hash) + SCHEDULINGLAG_FIELD_NUMBER;
+        hash = (53 * hash) + getSchedulingLagList().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -10626,6 +11202,12 @@ public final class Messages {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
           getEntryFieldBuilder();
+          getTxLatencyHistogramFieldBuilder();
+          getSeriesFieldBuilder();
+          getBlockPropagationFieldBuilder();
+          getTrafficFieldBuilder();
+          getLinkTrafficFieldBuilder();
+          getSchedulingLagFieldBuilder();
         }
       }
       @java.lang.Override
@@ -10643,6 +11225,42 @@ public final class Messages {
         } else {
           entryBuilder_.clear();
         }
+        if (txLatencyHistogramBuilder_ == null) {
+          txLatencyHistogram_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          txLatencyHistogramBuilder_.clear();
+        }
+        if (seriesBuilder_ == null) {
+          series_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          seriesBuilder_.clear();
+        }
+        if (blockPropagationBuilder_ == null) {
+          blockPropagation_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+        } else {
+          blockPropagationBuilder_.clear();
+        }
+        if (trafficBuilder_ == null) {
+          traffic_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+        } else {
+          trafficBuilder_.clear();
+        }
+        if (linkTrafficBuilder_ == null) {
+          linkTraffic_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000100);
+        } else {
+          linkTrafficBuilder_.clear();
+        }
+        if (schedulingLagBuilder_ == null) {
+          schedulingLag_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000200);
+        } else {
+          schedulingLagBuilder_.clear();
+        }
         return this;
       }
 
@@ -10692,6 +11310,60 @@ public final class Messages {
         } else {
           result.entry_ = entryBuilder_.build();
         }
+        if (txLatencyHistogramBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0)) {
+            txLatencyHistogram_ = java.util.Collections.unmodifiableList(txLatencyHistogram_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.txLatencyHistogram_ = txLatencyHistogram_;
+        } else {
+          result.txLatencyHistogram_ = txLatencyHistogramBuilder_.build();
+        }
+        if (seriesBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0)) {
+            series_ = java.util.Collections.unmodifiableList(series_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.series_ = series_;
+        } else {
+          result.series_ = seriesBuilder_.build();
+        }
+        if (blockPropagationBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) != 0)) {
+            blockPropagation_ = java.util.Collections.unmodifiableList(blockPropagation_);
+            bitField0_ = (bitField0_ & ~0x00000040);
+          }
+          result.blockPropagation_ = blockPropagation_;
+        } else {
+          result.blockPropagation_ = blockPropagationBuilder_.build();
+        }
+        if (trafficBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) != 0)) {
+            traffic_ = java.util.Collections.unmodifiableList(traffic_);
+            bitField0_ = (bitField0_ & ~0x00000080);
+          }
+          result.traffic_ = traffic_;
+        } else {
+          result.traffic_ = trafficBuilder_.build();
+        }
+        if (linkTrafficBuilder_ == null) {
+          if (((bitField0_ & 0x00000100) != 0)) {
+            linkTraffic_ = java.util.Collections.unmodifiableList(linkTraffic_);
+            bitField0_ = (bitField0_ & ~0x00000100);
+          }
+          result.linkTraffic_ = linkTraffic_;
+        } else {
+          result.linkTraffic_ = linkTrafficBuilder_.build();
+        }
+        if (schedulingLagBuilder_ == null) {
+          if (((bitField0_ & 0x00000200) != 0)) {
+            schedulingLag_ = java.util.Collections.unmodifiableList(schedulingLag_);
+            bitField0_ = (bitField0_ & ~0x00000200);
+          }
+          result.schedulingLag_ = schedulingLag_;
+        } else {
+          result.schedulingLag_ = schedulingLagBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -10778,6 +11450,162 @@ public final class Messages {
             }
           }
         }
+        if (txLatencyHistogramBuilder_ == null) {
+          if (!other.txLatencyHistogram_.isEmpty()) {
+            if (txLatencyHistogram_.isEmpty()) {
+              txLatencyHistogram_ = other.txLatencyHistogram_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureTxLatencyHistogramIsMutable();
+              txLatencyHistogram_.addAll(other.txLatencyHistogram_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.txLatencyHistogram_.isEmpty()) {
+            if (txLatencyHistogramBuilder_.isEmpty()) {
+              txLatencyHistogramBuilder_.dispose();
+              txLatencyHistogramBuilder_ = null;
+              txLatencyHistogram_ = other.txLatencyHistogram_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              txLatencyHistogramBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTxLatencyHistogramFieldBuilder() : null;
+            } else {
+              txLatencyHistogramBuilder_.addAllMessages(other.txLatencyHistogram_);
+            }
+          }
+        }
+        if (seriesBuilder_ == null) {
+          if (!other.series_.isEmpty()) {
+            if (series_.isEmpty()) {
+              series_ = other.series_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureSeriesIsMutable();
+              series_.addAll(other.series_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.series_.isEmpty()) {
+            if (seriesBuilder_.isEmpty()) {
+              seriesBuilder_.dispose();
+              seriesBuilder_ = null;
+              series_ = other.series_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              seriesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getSeriesFieldBuilder() : null;
+            } else {
+              seriesBuilder_.addAllMessages(other.series_);
+            }
+          }
+        }
+        if (blockPropagationBuilder_ == null) {
+          if (!other.blockPropagation_.isEmpty()) {
+            if (blockPropagation_.isEmpty()) {
+              blockPropagation_ = other.blockPropagation_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+            } else {
+              ensureBlockPropagationIsMutable();
+              blockPropagation_.addAll(other.blockPropagation_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.blockPropagation_.isEmpty()) {
+            if (blockPropagationBuilder_.isEmpty()) {
+              blockPropagationBuilder_.dispose();
+              blockPropagationBuilder_ = null;
+              blockPropagation_ = other.blockPropagation_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+              blockPropagationBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getBlockPropagationFieldBuilder() : null;
+            } else {
+              blockPropagationBuilder_.addAllMessages(other.blockPropagation_);
+            }
+          }
+        }
+        if (trafficBuilder_ == null) {
+          if (!other.traffic_.isEmpty()) {
+            if (traffic_.isEmpty()) {
+              traffic_ = other.traffic_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+            } else {
+              ensureTrafficIsMutable();
+              traffic_.addAll(other.traffic_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.traffic_.isEmpty()) {
+            if (trafficBuilder_.isEmpty()) {
+              trafficBuilder_.dispose();
+              trafficBuilder_ = null;
+              traffic_ = other.traffic_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+              trafficBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTrafficFieldBuilder() : null;
+            } else {
+              trafficBuilder_.addAllMessages(other.traffic_);
+            }
+          }
+        }
+        if (linkTrafficBuilder_ == null) {
+          if (!other.linkTraffic_.isEmpty()) {
+            if (linkTraffic_.isEmpty()) {
+              linkTraffic_ = other.linkTraffic_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+            } else {
+              ensureLinkTrafficIsMutable();
+              linkTraffic_.addAll(other.linkTraffic_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.linkTraffic_.isEmpty()) {
+            if (linkTrafficBuilder_.isEmpty()) {
+              linkTrafficBuilder_.dispose();
+              linkTrafficBuilder_ = null;
+              linkTraffic_ = other.linkTraffic_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+              linkTrafficBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getLinkTrafficFieldBuilder() : null;
+            } else {
+              linkTrafficBuilder_.addAllMessages(other.linkTraffic_);
+            }
+          }
+        }
+        if (schedulingLagBuilder_ == null) {
+          if (!other.schedulingLag_.isEmpty()) {
+            if (schedulingLag_.isEmpty()) {
+              schedulingLag_ = other.schedulingLag_;
+              bitField0_ = (bitField0_ & ~0x00000200);
+            } else {
+              ensureSchedulingLagIsMutable();
+              schedulingLag_.addAll(other.schedulingLag_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.schedulingLag_.isEmpty()) {
+            if (schedulingLagBuilder_.isEmpty()) {
+              schedulingLagBuilder_.dispose();
+              schedulingLagBuilder_ = null;
+              schedulingLag_ = other.schedulingLag_;
+              bitField0_ = (bitField0_ & ~0x00000200);
+              schedulingLagBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getSchedulingLagFieldBuilder() : null;
+            } else {
+              schedulingLagBuilder_.addAllMessages(other.schedulingLag_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -10799,6 +11627,36 @@ public final class Messages {
             return false;
           }
         }
+        for (int i = 0; i < getTxLatencyHistogramCount(); i++) {
+          if (!getTxLatencyHistogram(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getSeriesCount(); i++) {
+          if (!getSeries(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getBlockPropagationCount(); i++) {
+          if (!getBlockPropagation(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getTrafficCount(); i++) {
+          if (!getTraffic(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getLinkTrafficCount(); i++) {
+          if (!getLinkTraffic(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getSchedulingLagCount(); i++) {
+          if (!getSchedulingLag(i).isInitialized()) {
+            return false;
+          }
+        }
         return true;
       }
 
@@ -11223,672 +12081,9720 @@ public final class Messages {
         }
         return entryBuilder_;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
 
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      private java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram> txLatencyHistogram_ =
+        java.util.Collections.emptyList();
+      private void ensureTxLatencyHistogramIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          txLatencyHistogram_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram>(txLatencyHistogram_);
+          bitField0_ |= 0x00000010;
+         }
       }
 
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram, de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.Builder, de.tum.i11.bcsim.proto.Messages.TxLatencyHistogramOrBuilder> txLatencyHistogramBuilder_;
 
-      // @@protoc_insertion_point(builder_scope:test.Result)
-    }
-
-    // @@protoc_insertion_point(class_scope:test.Result)
-    private static final de.tum.i11.bcsim.proto.Messages.Result DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new de.tum.i11.bcsim.proto.Messages.Result();
-    }
-
-    public static de.tum.i11.bcsim.proto.Messages.Result getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<Result>
-        PARSER = new com.google.protobuf.AbstractParser<Result>() {
-      @java.lang.Override
-      public Result parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Result(input, extensionRegistry);
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram> getTxLatencyHistogramList() {
+        if (txLatencyHistogramBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(txLatencyHistogram_);
+        } else {
+          return txLatencyHistogramBuilder_.getMessageList();
+        }
       }
-    };
-
-    public static com.google.protobuf.Parser<Result> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<Result> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public de.tum.i11.bcsim.proto.Messages.Result getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface ResultEntryOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:test.ResultEntry)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>required int32 nodeId = 1;</code>
-     * @return Whether the nodeId field is set.
-     */
-    boolean hasNodeId();
-    /**
-     * <code>required int32 nodeId = 1;</code>
-     * @return The nodeId.
-     */
-    int getNodeId();
-
-    /**
-     * <code>required int32 poolSize = 2;</code>
-     * @return Whether the poolSize field is set.
-     */
-    boolean hasPoolSize();
-    /**
-     * <code>required int32 poolSize = 2;</code>
-     * @return The poolSize.
-     */
-    int getPoolSize();
-
-    /**
-     * <code>required int32 orphans = 3;</code>
-     * @return Whether the orphans field is set.
-     */
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public int getTxLatencyHistogramCount() {
+        if (txLatencyHistogramBuilder_ == null) {
+          return txLatencyHistogram_.size();
+        } else {
+          return txLatencyHistogramBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram getTxLatencyHistogram(int index) {
+        if (txLatencyHistogramBuilder_ == null) {
+          return txLatencyHistogram_.get(index);
+        } else {
+          return txLatencyHistogramBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public Builder setTxLatencyHistogram(
+          int index, de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram value) {
+        if (txLatencyHistogramBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTxLatencyHistogramIsMutable();
+          txLatencyHistogram_.set(index, value);
+          onChanged();
+        } else {
+          txLatencyHistogramBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public Builder setTxLatencyHistogram(
+          int index, de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.Builder builderForValue) {
+        if (txLatencyHistogramBuilder_ == null) {
+          ensureTxLatencyHistogramIsMutable();
+          txLatencyHistogram_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          txLatencyHistogramBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public Builder addTxLatencyHistogram(de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram value) {
+        if (txLatencyHistogramBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTxLatencyHistogramIsMutable();
+          txLatencyHistogram_.add(value);
+          onChanged();
+        } else {
+          txLatencyHistogramBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public Builder addTxLatencyHistogram(
+          int index, de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram value) {
+        if (txLatencyHistogramBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTxLatencyHistogramIsMutable();
+          txLatencyHistogram_.add(index, value);
+          onChanged();
+        } else {
+          txLatencyHistogramBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public Builder addTxLatencyHistogram(
+          de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.Builder builderForValue) {
+        if (txLatencyHistogramBuilder_ == null) {
+          ensureTxLatencyHistogramIsMutable();
+          txLatencyHistogram_.add(builderForValue.build());
+          onChanged();
+        } else {
+          txLatencyHistogramBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public Builder addTxLatencyHistogram(
+          int index, de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.Builder builderForValue) {
+        if (txLatencyHistogramBuilder_ == null) {
+          ensureTxLatencyHistogramIsMutable();
+          txLatencyHistogram_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          txLatencyHistogramBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public Builder addAllTxLatencyHistogram(
+          java.lang.Iterable<? extends de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram> values) {
+        if (txLatencyHistogramBuilder_ == null) {
+          ensureTxLatencyHistogramIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, txLatencyHistogram_);
+          onChanged();
+        } else {
+          txLatencyHistogramBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public Builder clearTxLatencyHistogram() {
+        if (txLatencyHistogramBuilder_ == null) {
+          txLatencyHistogram_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          txLatencyHistogramBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public Builder removeTxLatencyHistogram(int index) {
+        if (txLatencyHistogramBuilder_ == null) {
+          ensureTxLatencyHistogramIsMutable();
+          txLatencyHistogram_.remove(index);
+          onChanged();
+        } else {
+          txLatencyHistogramBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.Builder getTxLatencyHistogramBuilder(
+          int index) {
+        return getTxLatencyHistogramFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyHistogramOrBuilder getTxLatencyHistogramOrBuilder(
+          int index) {
+        if (txLatencyHistogramBuilder_ == null) {
+          return txLatencyHistogram_.get(index);  } else {
+          return txLatencyHistogramBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.TxLatencyHistogramOrBuilder> 
+           getTxLatencyHistogramOrBuilderList() {
+        if (txLatencyHistogramBuilder_ != null) {
+          return txLatencyHistogramBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(txLatencyHistogram_);
+        }
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.Builder addTxLatencyHistogramBuilder() {
+        return getTxLatencyHistogramFieldBuilder().addBuilder(
+            de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.Builder addTxLatencyHistogramBuilder(
+          int index) {
+        return getTxLatencyHistogramFieldBuilder().addBuilder(
+            index, de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.TxLatencyHistogram txLatencyHistogram = 5;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.Builder> 
+           getTxLatencyHistogramBuilderList() {
+        return getTxLatencyHistogramFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram, de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.Builder, de.tum.i11.bcsim.proto.Messages.TxLatencyHistogramOrBuilder> 
+          getTxLatencyHistogramFieldBuilder() {
+        if (txLatencyHistogramBuilder_ == null) {
+          txLatencyHistogramBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram, de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.Builder, de.tum.i11.bcsim.proto.Messages.TxLatencyHistogramOrBuilder>(
+                  txLatencyHistogram_,
+                  ((bitField0_ & 0x00000010) != 0),
+                  getParentForChildren(),
+                  isClean());
+          txLatencyHistogram_ = null;
+        }
+        return txLatencyHistogramBuilder_;
+      }
+
+      private java.util.List<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries> series_ =
+        java.util.Collections.emptyList();
+      private void ensureSeriesIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          series_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries>(series_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.NamedTimeSeries, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder, de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder> seriesBuilder_;
+
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries> getSeriesList() {
+        if (seriesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(series_);
+        } else {
+          return seriesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public int getSeriesCount() {
+        if (seriesBuilder_ == null) {
+          return series_.size();
+        } else {
+          return seriesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.NamedTimeSeries getSeries(int index) {
+        if (seriesBuilder_ == null) {
+          return series_.get(index);
+        } else {
+          return seriesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public Builder setSeries(
+          int index, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries value) {
+        if (seriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSeriesIsMutable();
+          series_.set(index, value);
+          onChanged();
+        } else {
+          seriesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public Builder setSeries(
+          int index, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder builderForValue) {
+        if (seriesBuilder_ == null) {
+          ensureSeriesIsMutable();
+          series_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          seriesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public Builder addSeries(de.tum.i11.bcsim.proto.Messages.NamedTimeSeries value) {
+        if (seriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSeriesIsMutable();
+          series_.add(value);
+          onChanged();
+        } else {
+          seriesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public Builder addSeries(
+          int index, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries value) {
+        if (seriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSeriesIsMutable();
+          series_.add(index, value);
+          onChanged();
+        } else {
+          seriesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public Builder addSeries(
+          de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder builderForValue) {
+        if (seriesBuilder_ == null) {
+          ensureSeriesIsMutable();
+          series_.add(builderForValue.build());
+          onChanged();
+        } else {
+          seriesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public Builder addSeries(
+          int index, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder builderForValue) {
+        if (seriesBuilder_ == null) {
+          ensureSeriesIsMutable();
+          series_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          seriesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public Builder addAllSeries(
+          java.lang.Iterable<? extends de.tum.i11.bcsim.proto.Messages.NamedTimeSeries> values) {
+        if (seriesBuilder_ == null) {
+          ensureSeriesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, series_);
+          onChanged();
+        } else {
+          seriesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public Builder clearSeries() {
+        if (seriesBuilder_ == null) {
+          series_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          seriesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public Builder removeSeries(int index) {
+        if (seriesBuilder_ == null) {
+          ensureSeriesIsMutable();
+          series_.remove(index);
+          onChanged();
+        } else {
+          seriesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder getSeriesBuilder(
+          int index) {
+        return getSeriesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder getSeriesOrBuilder(
+          int index) {
+        if (seriesBuilder_ == null) {
+          return series_.get(index);  } else {
+          return seriesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder> 
+           getSeriesOrBuilderList() {
+        if (seriesBuilder_ != null) {
+          return seriesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(series_);
+        }
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder addSeriesBuilder() {
+        return getSeriesFieldBuilder().addBuilder(
+            de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder addSeriesBuilder(
+          int index) {
+        return getSeriesFieldBuilder().addBuilder(
+            index, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 6;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder> 
+           getSeriesBuilderList() {
+        return getSeriesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.NamedTimeSeries, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder, de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder> 
+          getSeriesFieldBuilder() {
+        if (seriesBuilder_ == null) {
+          seriesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              de.tum.i11.bcsim.proto.Messages.NamedTimeSeries, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder, de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder>(
+                  series_,
+                  ((bitField0_ & 0x00000020) != 0),
+                  getParentForChildren(),
+                  isClean());
+          series_ = null;
+        }
+        return seriesBuilder_;
+      }
+
+      private java.util.List<de.tum.i11.bcsim.proto.Messages.BlockPropagation> blockPropagation_ =
+        java.util.Collections.emptyList();
+      private void ensureBlockPropagationIsMutable() {
+        if (!((bitField0_ & 0x00000040) != 0)) {
+          blockPropagation_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.BlockPropagation>(blockPropagation_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.BlockPropagation, de.tum.i11.bcsim.proto.Messages.BlockPropagation.Builder, de.tum.i11.bcsim.proto.Messages.BlockPropagationOrBuilder> blockPropagationBuilder_;
+
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.BlockPropagation> getBlockPropagationList() {
+        if (blockPropagationBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(blockPropagation_);
+        } else {
+          return blockPropagationBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public int getBlockPropagationCount() {
+        if (blockPropagationBuilder_ == null) {
+          return blockPropagation_.size();
+        } else {
+          return blockPropagationBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.BlockPropagation getBlockPropagation(int index) {
+        if (blockPropagationBuilder_ == null) {
+          return blockPropagation_.get(index);
+        } else {
+          return blockPropagationBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public Builder setBlockPropagation(
+          int index, de.tum.i11.bcsim.proto.Messages.BlockPropagation value) {
+        if (blockPropagationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBlockPropagationIsMutable();
+          blockPropagation_.set(index, value);
+          onChanged();
+        } else {
+          blockPropagationBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public Builder setBlockPropagation(
+          int index, de.tum.i11.bcsim.proto.Messages.BlockPropagation.Builder builderForValue) {
+        if (blockPropagationBuilder_ == null) {
+          ensureBlockPropagationIsMutable();
+          blockPropagation_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          blockPropagationBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public Builder addBlockPropagation(de.tum.i11.bcsim.proto.Messages.BlockPropagation value) {
+        if (blockPropagationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBlockPropagationIsMutable();
+          blockPropagation_.add(value);
+          onChanged();
+        } else {
+          blockPropagationBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public Builder addBlockPropagation(
+          int index, de.tum.i11.bcsim.proto.Messages.BlockPropagation value) {
+        if (blockPropagationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBlockPropagationIsMutable();
+          blockPropagation_.add(index, value);
+          onChanged();
+        } else {
+          blockPropagationBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public Builder addBlockPropagation(
+          de.tum.i11.bcsim.proto.Messages.BlockPropagation.Builder builderForValue) {
+        if (blockPropagationBuilder_ == null) {
+          ensureBlockPropagationIsMutable();
+          blockPropagation_.add(builderForValue.build());
+          onChanged();
+        } else {
+          blockPropagationBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public Builder addBlockPropagation(
+          int index, de.tum.i11.bcsim.proto.Messages.BlockPropagation.Builder builderForValue) {
+        if (blockPropagationBuilder_ == null) {
+          ensureBlockPropagationIsMutable();
+          blockPropagation_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          blockPropagationBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public Builder addAllBlockPropagation(
+          java.lang.Iterable<? extends de.tum.i11.bcsim.proto.Messages.BlockPropagation> values) {
+        if (blockPropagationBuilder_ == null) {
+          ensureBlockPropagationIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, blockPropagation_);
+          onChanged();
+        } else {
+          blockPropagationBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public Builder clearBlockPropagation() {
+        if (blockPropagationBuilder_ == null) {
+          blockPropagation_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          onChanged();
+        } else {
+          blockPropagationBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public Builder removeBlockPropagation(int index) {
+        if (blockPropagationBuilder_ == null) {
+          ensureBlockPropagationIsMutable();
+          blockPropagation_.remove(index);
+          onChanged();
+        } else {
+          blockPropagationBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.BlockPropagation.Builder getBlockPropagationBuilder(
+          int index) {
+        return getBlockPropagationFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.BlockPropagationOrBuilder getBlockPropagationOrBuilder(
+          int index) {
+        if (blockPropagationBuilder_ == null) {
+          return blockPropagation_.get(index);  } else {
+          return blockPropagationBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.BlockPropagationOrBuilder> 
+           getBlockPropagationOrBuilderList() {
+        if (blockPropagationBuilder_ != null) {
+          return blockPropagationBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(blockPropagation_);
+        }
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.BlockPropagation.Builder addBlockPropagationBuilder() {
+        return getBlockPropagationFieldBuilder().addBuilder(
+            de.tum.i11.bcsim.proto.Messages.BlockPropagation.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.BlockPropagation.Builder addBlockPropagationBuilder(
+          int index) {
+        return getBlockPropagationFieldBuilder().addBuilder(
+            index, de.tum.i11.bcsim.proto.Messages.BlockPropagation.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.BlockPropagation blockPropagation = 7;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.BlockPropagation.Builder> 
+           getBlockPropagationBuilderList() {
+        return getBlockPropagationFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.BlockPropagation, de.tum.i11.bcsim.proto.Messages.BlockPropagation.Builder, de.tum.i11.bcsim.proto.Messages.BlockPropagationOrBuilder> 
+          getBlockPropagationFieldBuilder() {
+        if (blockPropagationBuilder_ == null) {
+          blockPropagationBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              de.tum.i11.bcsim.proto.Messages.BlockPropagation, de.tum.i11.bcsim.proto.Messages.BlockPropagation.Builder, de.tum.i11.bcsim.proto.Messages.BlockPropagationOrBuilder>(
+                  blockPropagation_,
+                  ((bitField0_ & 0x00000040) != 0),
+                  getParentForChildren(),
+                  isClean());
+          blockPropagation_ = null;
+        }
+        return blockPropagationBuilder_;
+      }
+
+      private java.util.List<de.tum.i11.bcsim.proto.Messages.Traffic> traffic_ =
+        java.util.Collections.emptyList();
+      private void ensureTrafficIsMutable() {
+        if (!((bitField0_ & 0x00000080) != 0)) {
+          traffic_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.Traffic>(traffic_);
+          bitField0_ |= 0x00000080;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.Traffic, de.tum.i11.bcsim.proto.Messages.Traffic.Builder, de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder> trafficBuilder_;
+
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.Traffic> getTrafficList() {
+        if (trafficBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(traffic_);
+        } else {
+          return trafficBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public int getTrafficCount() {
+        if (trafficBuilder_ == null) {
+          return traffic_.size();
+        } else {
+          return trafficBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.Traffic getTraffic(int index) {
+        if (trafficBuilder_ == null) {
+          return traffic_.get(index);
+        } else {
+          return trafficBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public Builder setTraffic(
+          int index, de.tum.i11.bcsim.proto.Messages.Traffic value) {
+        if (trafficBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTrafficIsMutable();
+          traffic_.set(index, value);
+          onChanged();
+        } else {
+          trafficBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public Builder setTraffic(
+          int index, de.tum.i11.bcsim.proto.Messages.Traffic.Builder builderForValue) {
+        if (trafficBuilder_ == null) {
+          ensureTrafficIsMutable();
+          traffic_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          trafficBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public Builder addTraffic(de.tum.i11.bcsim.proto.Messages.Traffic value) {
+        if (trafficBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTrafficIsMutable();
+          traffic_.add(value);
+          onChanged();
+        } else {
+          trafficBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public Builder addTraffic(
+          int index, de.tum.i11.bcsim.proto.Messages.Traffic value) {
+        if (trafficBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTrafficIsMutable();
+          traffic_.add(index, value);
+          onChanged();
+        } else {
+          trafficBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public Builder addTraffic(
+          de.tum.i11.bcsim.proto.Messages.Traffic.Builder builderForValue) {
+        if (trafficBuilder_ == null) {
+          ensureTrafficIsMutable();
+          traffic_.add(builderForValue.build());
+          onChanged();
+        } else {
+          trafficBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public Builder addTraffic(
+          int index, de.tum.i11.bcsim.proto.Messages.Traffic.Builder builderForValue) {
+        if (trafficBuilder_ == null) {
+          ensureTrafficIsMutable();
+          traffic_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          trafficBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public Builder addAllTraffic(
+          java.lang.Iterable<? extends de.tum.i11.bcsim.proto.Messages.Traffic> values) {
+        if (trafficBuilder_ == null) {
+          ensureTrafficIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, traffic_);
+          onChanged();
+        } else {
+          trafficBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public Builder clearTraffic() {
+        if (trafficBuilder_ == null) {
+          traffic_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+          onChanged();
+        } else {
+          trafficBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public Builder removeTraffic(int index) {
+        if (trafficBuilder_ == null) {
+          ensureTrafficIsMutable();
+          traffic_.remove(index);
+          onChanged();
+        } else {
+          trafficBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.Traffic.Builder getTrafficBuilder(
+          int index) {
+        return getTrafficFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder getTrafficOrBuilder(
+          int index) {
+        if (trafficBuilder_ == null) {
+          return traffic_.get(index);  } else {
+          return trafficBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder> 
+           getTrafficOrBuilderList() {
+        if (trafficBuilder_ != null) {
+          return trafficBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(traffic_);
+        }
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.Traffic.Builder addTrafficBuilder() {
+        return getTrafficFieldBuilder().addBuilder(
+            de.tum.i11.bcsim.proto.Messages.Traffic.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.Traffic.Builder addTrafficBuilder(
+          int index) {
+        return getTrafficFieldBuilder().addBuilder(
+            index, de.tum.i11.bcsim.proto.Messages.Traffic.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.Traffic traffic = 8;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.Traffic.Builder> 
+           getTrafficBuilderList() {
+        return getTrafficFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.Traffic, de.tum.i11.bcsim.proto.Messages.Traffic.Builder, de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder> 
+          getTrafficFieldBuilder() {
+        if (trafficBuilder_ == null) {
+          trafficBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              de.tum.i11.bcsim.proto.Messages.Traffic, de.tum.i11.bcsim.proto.Messages.Traffic.Builder, de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder>(
+                  traffic_,
+                  ((bitField0_ & 0x00000080) != 0),
+                  getParentForChildren(),
+                  isClean());
+          traffic_ = null;
+        }
+        return trafficBuilder_;
+      }
+
+      private java.util.List<de.tum.i11.bcsim.proto.Messages.LinkTraffic> linkTraffic_ =
+        java.util.Collections.emptyList();
+      private void ensureLinkTrafficIsMutable() {
+        if (!((bitField0_ & 0x00000100) != 0)) {
+          linkTraffic_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.LinkTraffic>(linkTraffic_);
+          bitField0_ |= 0x00000100;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.LinkTraffic, de.tum.i11.bcsim.proto.Messages.LinkTraffic.Builder, de.tum.i11.bcsim.proto.Messages.LinkTrafficOrBuilder> linkTrafficBuilder_;
+
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.LinkTraffic> getLinkTrafficList() {
+        if (linkTrafficBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(linkTraffic_);
+        } else {
+          return linkTrafficBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public int getLinkTrafficCount() {
+        if (linkTrafficBuilder_ == null) {
+          return linkTraffic_.size();
+        } else {
+          return linkTrafficBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.LinkTraffic getLinkTraffic(int index) {
+        if (linkTrafficBuilder_ == null) {
+          return linkTraffic_.get(index);
+        } else {
+          return linkTrafficBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public Builder setLinkTraffic(
+          int index, de.tum.i11.bcsim.proto.Messages.LinkTraffic value) {
+        if (linkTrafficBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLinkTrafficIsMutable();
+          linkTraffic_.set(index, value);
+          onChanged();
+        } else {
+          linkTrafficBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public Builder setLinkTraffic(
+          int index, de.tum.i11.bcsim.proto.Messages.LinkTraffic.Builder builderForValue) {
+        if (linkTrafficBuilder_ == null) {
+          ensureLinkTrafficIsMutable();
+          linkTraffic_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          linkTrafficBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public Builder addLinkTraffic(de.tum.i11.bcsim.proto.Messages.LinkTraffic value) {
+        if (linkTrafficBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLinkTrafficIsMutable();
+          linkTraffic_.add(value);
+          onChanged();
+        } else {
+          linkTrafficBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public Builder addLinkTraffic(
+          int index, de.tum.i11.bcsim.proto.Messages.LinkTraffic value) {
+        if (linkTrafficBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLinkTrafficIsMutable();
+          linkTraffic_.add(index, value);
+          onChanged();
+        } else {
+          linkTrafficBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public Builder addLinkTraffic(
+          de.tum.i11.bcsim.proto.Messages.LinkTraffic.Builder builderForValue) {
+        if (linkTrafficBuilder_ == null) {
+          ensureLinkTrafficIsMutable();
+          linkTraffic_.add(builderForValue.build());
+          onChanged();
+        } else {
+          linkTrafficBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public Builder addLinkTraffic(
+          int index, de.tum.i11.bcsim.proto.Messages.LinkTraffic.Builder builderForValue) {
+        if (linkTrafficBuilder_ == null) {
+          ensureLinkTrafficIsMutable();
+          linkTraffic_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          linkTrafficBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public Builder addAllLinkTraffic(
+          java.lang.Iterable<? extends de.tum.i11.bcsim.proto.Messages.LinkTraffic> values) {
+        if (linkTrafficBuilder_ == null) {
+          ensureLinkTrafficIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, linkTraffic_);
+          onChanged();
+        } else {
+          linkTrafficBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public Builder clearLinkTraffic() {
+        if (linkTrafficBuilder_ == null) {
+          linkTraffic_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000100);
+          onChanged();
+        } else {
+          linkTrafficBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public Builder removeLinkTraffic(int index) {
+        if (linkTrafficBuilder_ == null) {
+          ensureLinkTrafficIsMutable();
+          linkTraffic_.remove(index);
+          onChanged();
+        } else {
+          linkTrafficBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.LinkTraffic.Builder getLinkTrafficBuilder(
+          int index) {
+        return getLinkTrafficFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.LinkTrafficOrBuilder getLinkTrafficOrBuilder(
+          int index) {
+        if (linkTrafficBuilder_ == null) {
+          return linkTraffic_.get(index);  } else {
+          return linkTrafficBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.LinkTrafficOrBuilder> 
+           getLinkTrafficOrBuilderList() {
+        if (linkTrafficBuilder_ != null) {
+          return linkTrafficBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(linkTraffic_);
+        }
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.LinkTraffic.Builder addLinkTrafficBuilder() {
+        return getLinkTrafficFieldBuilder().addBuilder(
+            de.tum.i11.bcsim.proto.Messages.LinkTraffic.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.LinkTraffic.Builder addLinkTrafficBuilder(
+          int index) {
+        return getLinkTrafficFieldBuilder().addBuilder(
+            index, de.tum.i11.bcsim.proto.Messages.LinkTraffic.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.LinkTraffic linkTraffic = 9;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.LinkTraffic.Builder> 
+           getLinkTrafficBuilderList() {
+        return getLinkTrafficFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.LinkTraffic, de.tum.i11.bcsim.proto.Messages.LinkTraffic.Builder, de.tum.i11.bcsim.proto.Messages.LinkTrafficOrBuilder> 
+          getLinkTrafficFieldBuilder() {
+        if (linkTrafficBuilder_ == null) {
+          linkTrafficBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              de.tum.i11.bcsim.proto.Messages.LinkTraffic, de.tum.i11.bcsim.proto.Messages.LinkTraffic.Builder, de.tum.i11.bcsim.proto.Messages.LinkTrafficOrBuilder>(
+                  linkTraffic_,
+                  ((bitField0_ & 0x00000100) != 0),
+                  getParentForChildren(),
+                  isClean());
+          linkTraffic_ = null;
+        }
+        return linkTrafficBuilder_;
+      }
+
+      private java.util.List<de.tum.i11.bcsim.proto.Messages.NamedHistogram> schedulingLag_ =
+        java.util.Collections.emptyList();
+      private void ensureSchedulingLagIsMutable() {
+        if (!((bitField0_ & 0x00000200) != 0)) {
+          schedulingLag_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.NamedHistogram>(schedulingLag_);
+          bitField0_ |= 0x00000200;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.NamedHistogram, de.tum.i11.bcsim.proto.Messages.NamedHistogram.Builder, de.tum.i11.bcsim.proto.Messages.NamedHistogramOrBuilder> schedulingLagBuilder_;
+
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.NamedHistogram> getSchedulingLagList() {
+        if (schedulingLagBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(schedulingLag_);
+        } else {
+          return schedulingLagBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public int getSchedulingLagCount() {
+        if (schedulingLagBuilder_ == null) {
+          return schedulingLag_.size();
+        } else {
+          return schedulingLagBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.NamedHistogram getSchedulingLag(int index) {
+        if (schedulingLagBuilder_ == null) {
+          return schedulingLag_.get(index);
+        } else {
+          return schedulingLagBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public Builder setSchedulingLag(
+          int index, de.tum.i11.bcsim.proto.Messages.NamedHistogram value) {
+        if (schedulingLagBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSchedulingLagIsMutable();
+          schedulingLag_.set(index, value);
+          onChanged();
+        } else {
+          schedulingLagBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public Builder setSchedulingLag(
+          int index, de.tum.i11.bcsim.proto.Messages.NamedHistogram.Builder builderForValue) {
+        if (schedulingLagBuilder_ == null) {
+          ensureSchedulingLagIsMutable();
+          schedulingLag_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          schedulingLagBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public Builder addSchedulingLag(de.tum.i11.bcsim.proto.Messages.NamedHistogram value) {
+        if (schedulingLagBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSchedulingLagIsMutable();
+          schedulingLag_.add(value);
+          onChanged();
+        } else {
+          schedulingLagBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public Builder addSchedulingLag(
+          int index, de.tum.i11.bcsim.proto.Messages.NamedHistogram value) {
+        if (schedulingLagBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSchedulingLagIsMutable();
+          schedulingLag_.add(index, value);
+          onChanged();
+        } else {
+          schedulingLagBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public Builder addSchedulingLag(
+          de.tum.i11.bcsim.proto.Messages.NamedHistogram.Builder builderForValue) {
+        if (schedulingLagBuilder_ == null) {
+          ensureSchedulingLagIsMutable();
+          schedulingLag_.add(builderForValue.build());
+          onChanged();
+        } else {
+          schedulingLagBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public Builder addSchedulingLag(
+          int index, de.tum.i11.bcsim.proto.Messages.NamedHistogram.Builder builderForValue) {
+        if (schedulingLagBuilder_ == null) {
+          ensureSchedulingLagIsMutable();
+          schedulingLag_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          schedulingLagBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public Builder addAllSchedulingLag(
+          java.lang.Iterable<? extends de.tum.i11.bcsim.proto.Messages.NamedHistogram> values) {
+        if (schedulingLagBuilder_ == null) {
+          ensureSchedulingLagIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, schedulingLag_);
+          onChanged();
+        } else {
+          schedulingLagBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public Builder clearSchedulingLag() {
+        if (schedulingLagBuilder_ == null) {
+          schedulingLag_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000200);
+          onChanged();
+        } else {
+          schedulingLagBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public Builder removeSchedulingLag(int index) {
+        if (schedulingLagBuilder_ == null) {
+          ensureSchedulingLagIsMutable();
+          schedulingLag_.remove(index);
+          onChanged();
+        } else {
+          schedulingLagBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.NamedHistogram.Builder getSchedulingLagBuilder(
+          int index) {
+        return getSchedulingLagFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.NamedHistogramOrBuilder getSchedulingLagOrBuilder(
+          int index) {
+        if (schedulingLagBuilder_ == null) {
+          return schedulingLag_.get(index);  } else {
+          return schedulingLagBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.NamedHistogramOrBuilder> 
+           getSchedulingLagOrBuilderList() {
+        if (schedulingLagBuilder_ != null) {
+          return schedulingLagBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(schedulingLag_);
+        }
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.NamedHistogram.Builder addSchedulingLagBuilder() {
+        return getSchedulingLagFieldBuilder().addBuilder(
+            de.tum.i11.bcsim.proto.Messages.NamedHistogram.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.NamedHistogram.Builder addSchedulingLagBuilder(
+          int index) {
+        return getSchedulingLagFieldBuilder().addBuilder(
+            index, de.tum.i11.bcsim.proto.Messages.NamedHistogram.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.NamedHistogram schedulingLag = 10;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.NamedHistogram.Builder> 
+           getSchedulingLagBuilderList() {
+        return getSchedulingLagFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.NamedHistogram, de.tum.i11.bcsim.proto.Messages.NamedHistogram.Builder, de.tum.i11.bcsim.proto.Messages.NamedHistogramOrBuilder> 
+          getSchedulingLagFieldBuilder() {
+        if (schedulingLagBuilder_ == null) {
+          schedulingLagBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              de.tum.i11.bcsim.proto.Messages.NamedHistogram, de.tum.i11.bcsim.proto.Messages.NamedHistogram.Builder, de.tum.i11.bcsim.proto.Messages.NamedHistogramOrBuilder>(
+                  schedulingLag_,
+                  ((bitField0_ & 0x00000200) != 0),
+                  getParentForChildren(),
+                  isClean());
+          schedulingLag_ = null;
+        }
+        return schedulingLagBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:test.Result)
+    }
+
+    // @@protoc_insertion_point(class_scope:test.Result)
+    private static final de.tum.i11.bcsim.proto.Messages.Result DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new de.tum.i11.bcsim.proto.Messages.Result();
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.Result getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<Result>
+        PARSER = new com.google.protobuf.AbstractParser<Result>() {
+      @java.lang.Override
+      public Result parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Result(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Result> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Result> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.Result getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ResultEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:test.ResultEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int32 nodeId = 1;</code>
+     * @return Whether the nodeId field is set.
+     */
+    boolean hasNodeId();
+    /**
+     * <code>required int32 nodeId = 1;</code>
+     * @return The nodeId.
+     */
+    int getNodeId();
+
+    /**
+     * <code>required int32 poolSize = 2;</code>
+     * @return Whether the poolSize field is set.
+     */
+    boolean hasPoolSize();
+    /**
+     * <code>required int32 poolSize = 2;</code>
+     * @return The poolSize.
+     */
+    int getPoolSize();
+
+    /**
+     * <code>required int32 orphans = 3;</code>
+     * @return Whether the orphans field is set.
+     */
     boolean hasOrphans();
     /**
-     * <code>required int32 orphans = 3;</code>
-     * @return The orphans.
+     * <code>required int32 orphans = 3;</code>
+     * @return The orphans.
+     */
+    int getOrphans();
+
+    /**
+     * <code>required double createdBlocksPerSec = 4;</code>
+     * @return Whether the createdBlocksPerSec field is set.
+     */
+    boolean hasCreatedBlocksPerSec();
+    /**
+     * <code>required double createdBlocksPerSec = 4;</code>
+     * @return The createdBlocksPerSec.
+     */
+    double getCreatedBlocksPerSec();
+
+    /**
+     * <code>required int32 createdBlocks = 5;</code>
+     * @return Whether the createdBlocks field is set.
+     */
+    boolean hasCreatedBlocks();
+    /**
+     * <code>required int32 createdBlocks = 5;</code>
+     * @return The createdBlocks.
+     */
+    int getCreatedBlocks();
+
+    /**
+     * <code>required double createdTxPerSec = 6;</code>
+     * @return Whether the createdTxPerSec field is set.
+     */
+    boolean hasCreatedTxPerSec();
+    /**
+     * <code>required double createdTxPerSec = 6;</code>
+     * @return The createdTxPerSec.
+     */
+    double getCreatedTxPerSec();
+
+    /**
+     * <code>required int32 createdTx = 7;</code>
+     * @return Whether the createdTx field is set.
+     */
+    boolean hasCreatedTx();
+    /**
+     * <code>required int32 createdTx = 7;</code>
+     * @return The createdTx.
+     */
+    int getCreatedTx();
+
+    /**
+     * <code>required double confirmedBlocksPerSec = 8;</code>
+     * @return Whether the confirmedBlocksPerSec field is set.
+     */
+    boolean hasConfirmedBlocksPerSec();
+    /**
+     * <code>required double confirmedBlocksPerSec = 8;</code>
+     * @return The confirmedBlocksPerSec.
+     */
+    double getConfirmedBlocksPerSec();
+
+    /**
+     * <code>required double confirmedTxPerSec = 9;</code>
+     * @return Whether the confirmedTxPerSec field is set.
+     */
+    boolean hasConfirmedTxPerSec();
+    /**
+     * <code>required double confirmedTxPerSec = 9;</code>
+     * @return The confirmedTxPerSec.
+     */
+    double getConfirmedTxPerSec();
+
+    /**
+     * <code>required double confirmedBytesPerSec = 10;</code>
+     * @return Whether the confirmedBytesPerSec field is set.
+     */
+    boolean hasConfirmedBytesPerSec();
+    /**
+     * <code>required double confirmedBytesPerSec = 10;</code>
+     * @return The confirmedBytesPerSec.
+     */
+    double getConfirmedBytesPerSec();
+
+    /**
+     * <code>required double totalBlocksPerSec = 11;</code>
+     * @return Whether the totalBlocksPerSec field is set.
+     */
+    boolean hasTotalBlocksPerSec();
+    /**
+     * <code>required double totalBlocksPerSec = 11;</code>
+     * @return The totalBlocksPerSec.
+     */
+    double getTotalBlocksPerSec();
+
+    /**
+     * <code>required double totalTxPerSec = 12;</code>
+     * @return Whether the totalTxPerSec field is set.
+     */
+    boolean hasTotalTxPerSec();
+    /**
+     * <code>required double totalTxPerSec = 12;</code>
+     * @return The totalTxPerSec.
+     */
+    double getTotalTxPerSec();
+
+    /**
+     * <code>required int32 unconfirmedTx = 13;</code>
+     * @return Whether the unconfirmedTx field is set.
+     */
+    boolean hasUnconfirmedTx();
+    /**
+     * <code>required int32 unconfirmedTx = 13;</code>
+     * @return The unconfirmedTx.
+     */
+    int getUnconfirmedTx();
+
+    /**
+     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+     */
+    java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyResult> 
+        getTxLatencyList();
+    /**
+     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.TxLatencyResult getTxLatency(int index);
+    /**
+     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+     */
+    int getTxLatencyCount();
+    /**
+     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+     */
+    java.util.List<? extends de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder> 
+        getTxLatencyOrBuilderList();
+    /**
+     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder getTxLatencyOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 15;</code>
+     */
+    java.util.List<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries> 
+        getSeriesList();
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 15;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.NamedTimeSeries getSeries(int index);
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 15;</code>
+     */
+    int getSeriesCount();
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 15;</code>
+     */
+    java.util.List<? extends de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder> 
+        getSeriesOrBuilderList();
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 15;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder getSeriesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code test.ResultEntry}
+   */
+  public static final class ResultEntry extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:test.ResultEntry)
+      ResultEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ResultEntry.newBuilder() to construct.
+    private ResultEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ResultEntry() {
+      txLatency_ = java.util.Collections.emptyList();
+      series_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ResultEntry();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ResultEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              nodeId_ = input.readInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              poolSize_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              orphans_ = input.readInt32();
+              break;
+            }
+            case 33: {
+              bitField0_ |= 0x00000008;
+              createdBlocksPerSec_ = input.readDouble();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              createdBlocks_ = input.readInt32();
+              break;
+            }
+            case 49: {
+              bitField0_ |= 0x00000020;
+              createdTxPerSec_ = input.readDouble();
+              break;
+            }
+            case 56: {
+              bitField0_ |= 0x00000040;
+              createdTx_ = input.readInt32();
+              break;
+            }
+            case 65: {
+              bitField0_ |= 0x00000080;
+              confirmedBlocksPerSec_ = input.readDouble();
+              break;
+            }
+            case 73: {
+              bitField0_ |= 0x00000100;
+              confirmedTxPerSec_ = input.readDouble();
+              break;
+            }
+            case 81: {
+              bitField0_ |= 0x00000200;
+              confirmedBytesPerSec_ = input.readDouble();
+              break;
+            }
+            case 89: {
+              bitField0_ |= 0x00000400;
+              totalBlocksPerSec_ = input.readDouble();
+              break;
+            }
+            case 97: {
+              bitField0_ |= 0x00000800;
+              totalTxPerSec_ = input.readDouble();
+              break;
+            }
+            case 104: {
+              bitField0_ |= 0x00001000;
+              unconfirmedTx_ = input.readInt32();
+              break;
+            }
+            case 114: {
+              if (!((mutable_bitField0_ & 0x00002000) != 0)) {
+                txLatency_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.TxLatencyResult>();
+                mutable_bitField0_ |= 0x00002000;
+              }
+              txLatency_.add(
+                  input.readMessage(de.tum.i11.bcsim.proto.Messages.TxLatencyResult.PARSER, extensionRegistry));
+              break;
+            }
+            case 122: {
+              if (!((mutable_bitField0_ & 0x00004000) != 0)) {
+                series_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries>();
+                mutable_bitField0_ |= 0x00004000;
+              }
+              series_.add(
+                  input.readMessage(de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.PARSER, extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00002000) != 0)) {
+          txLatency_ = java.util.Collections.unmodifiableList(txLatency_);
+        }
+        if (((mutable_bitField0_ & 0x00004000) != 0)) {
+          series_ = java.util.Collections.unmodifiableList(series_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_ResultEntry_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_ResultEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.tum.i11.bcsim.proto.Messages.ResultEntry.class, de.tum.i11.bcsim.proto.Messages.ResultEntry.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NODEID_FIELD_NUMBER = 1;
+    private int nodeId_;
+    /**
+     * <code>required int32 nodeId = 1;</code>
+     * @return Whether the nodeId field is set.
+     */
+    @java.lang.Override
+    public boolean hasNodeId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required int32 nodeId = 1;</code>
+     * @return The nodeId.
+     */
+    @java.lang.Override
+    public int getNodeId() {
+      return nodeId_;
+    }
+
+    public static final int POOLSIZE_FIELD_NUMBER = 2;
+    private int poolSize_;
+    /**
+     * <code>required int32 poolSize = 2;</code>
+     * @return Whether the poolSize field is set.
+     */
+    @java.lang.Override
+    public boolean hasPoolSize() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required int32 poolSize = 2;</code>
+     * @return The poolSize.
+     */
+    @java.lang.Override
+    public int getPoolSize() {
+      return poolSize_;
+    }
+
+    public static final int ORPHANS_FIELD_NUMBER = 3;
+    private int orphans_;
+    /**
+     * <code>required int32 orphans = 3;</code>
+     * @return Whether the orphans field is set.
+     */
+    @java.lang.Override
+    public boolean hasOrphans() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>required int32 orphans = 3;</code>
+     * @return The orphans.
+     */
+    @java.lang.Override
+    public int getOrphans() {
+      return orphans_;
+    }
+
+    public static final int CREATEDBLOCKSPERSEC_FIELD_NUMBER = 4;
+    private double createdBlocksPerSec_;
+    /**
+     * <code>required double createdBlocksPerSec = 4;</code>
+     * @return Whether the createdBlocksPerSec field is set.
+     */
+    @java.lang.Override
+    public boolean hasCreatedBlocksPerSec() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>required double createdBlocksPerSec = 4;</code>
+     * @return The createdBlocksPerSec.
+     */
+    @java.lang.Override
+    public double getCreatedBlocksPerSec() {
+      return createdBlocksPerSec_;
+    }
+
+    public static final int CREATEDBLOCKS_FIELD_NUMBER = 5;
+    private int createdBlocks_;
+    /**
+     * <code>required int32 createdBlocks = 5;</code>
+     * @return Whether the createdBlocks field is set.
+     */
+    @java.lang.Override
+    public boolean hasCreatedBlocks() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>required int32 createdBlocks = 5;</code>
+     * @return The createdBlocks.
+     */
+    @java.lang.Override
+    public int getCreatedBlocks() {
+      return createdBlocks_;
+    }
+
+    public static final int CREATEDTXPERSEC_FIELD_NUMBER = 6;
+    private double createdTxPerSec_;
+    /**
+     * <code>required double createdTxPerSec = 6;</code>
+     * @return Whether the createdTxPerSec field is set.
+     */
+    @java.lang.Override
+    public boolean hasCreatedTxPerSec() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>required double createdTxPerSec = 6;</code>
+     * @return The createdTxPerSec.
+     */
+    @java.lang.Override
+    public double getCreatedTxPerSec() {
+      return createdTxPerSec_;
+    }
+
+    public static final int CREATEDTX_FIELD_NUMBER = 7;
+    private int createdTx_;
+    /**
+     * <code>required int32 createdTx = 7;</code>
+     * @return Whether the createdTx field is set.
+     */
+    @java.lang.Override
+    public boolean hasCreatedTx() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>required int32 createdTx = 7;</code>
+     * @return The createdTx.
+     */
+    @java.lang.Override
+    public int getCreatedTx() {
+      return createdTx_;
+    }
+
+    public static final int CONFIRMEDBLOCKSPERSEC_FIELD_NUMBER = 8;
+    private double confirmedBlocksPerSec_;
+    /**
+     * <code>required double confirmedBlocksPerSec = 8;</code>
+     * @return Whether the confirmedBlocksPerSec field is set.
+     */
+    @java.lang.Override
+    public boolean hasConfirmedBlocksPerSec() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>required double confirmedBlocksPerSec = 8;</code>
+     * @return The confirmedBlocksPerSec.
+     */
+    @java.lang.Override
+    public double getConfirmedBlocksPerSec() {
+      return confirmedBlocksPerSec_;
+    }
+
+    public static final int CONFIRMEDTXPERSEC_FIELD_NUMBER = 9;
+    private double confirmedTxPerSec_;
+    /**
+     * <code>required double confirmedTxPerSec = 9;</code>
+     * @return Whether the confirmedTxPerSec field is set.
+     */
+    @java.lang.Override
+    public boolean hasConfirmedTxPerSec() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <code>required double confirmedTxPerSec = 9;</code>
+     * @return The confirmedTxPerSec.
+     */
+    @java.lang.Override
+    public double getConfirmedTxPerSec() {
+      return confirmedTxPerSec_;
+    }
+
+    public static final int CONFIRMEDBYTESPERSEC_FIELD_NUMBER = 10;
+    private double confirmedBytesPerSec_;
+    /**
+     * <code>required double confirmedBytesPerSec = 10;</code>
+     * @return Whether the confirmedBytesPerSec field is set.
+     */
+    @java.lang.Override
+    public boolean hasConfirmedBytesPerSec() {
+      return ((bitField0_ & 0x00000200) != 0);
+    }
+    /**
+     * <code>required double confirmedBytesPerSec = 10;</code>
+     * @return The confirmedBytesPerSec.
+     */
+    @java.lang.Override
+    public double getConfirmedBytesPerSec() {
+      return confirmedBytesPerSec_;
+    }
+
+    public static final int TOTALBLOCKSPERSEC_FIELD_NUMBER = 11;
+    private double totalBlocksPerSec_;
+    /**
+     * <code>required double totalBlocksPerSec = 11;</code>
+     * @return Whether the totalBlocksPerSec field is set.
+     */
+    @java.lang.Override
+    public boolean hasTotalBlocksPerSec() {
+      return ((bitField0_ & 0x00000400) != 0);
+    }
+    /**
+     * <code>required double totalBlocksPerSec = 11;</code>
+     * @return The totalBlocksPerSec.
+     */
+    @java.lang.Override
+    public double getTotalBlocksPerSec() {
+      return totalBlocksPerSec_;
+    }
+
+    public static final int TOTALTXPERSEC_FIELD_NUMBER = 12;
+    private double totalTxPerSec_;
+    /**
+     * <code>required double totalTxPerSec = 12;</code>
+     * @return Whether the totalTxPerSec field is set.
+     */
+    @java.lang.Override
+    public boolean hasTotalTxPerSec() {
+      return ((bitField0_ & 0x00000800) != 0);
+    }
+    /**
+     * <code>required double totalTxPerSec = 12;</code>
+     * @return The totalTxPerSec.
+     */
+    @java.lang.Override
+    public double getTotalTxPerSec() {
+      return totalTxPerSec_;
+    }
+
+    public static final int UNCONFIRMEDTX_FIELD_NUMBER = 13;
+    private int unconfirmedTx_;
+    /**
+     * <code>required int32 unconfirmedTx = 13;</code>
+     * @return Whether the unconfirmedTx field is set.
+     */
+    @java.lang.Override
+    public boolean hasUnconfirmedTx() {
+      return ((bitField0_ & 0x00001000) != 0);
+    }
+    /**
+     * <code>required int32 unconfirmedTx = 13;</code>
+     * @return The unconfirmedTx.
+     */
+    @java.lang.Override
+    public int getUnconfirmedTx() {
+      return unconfirmedTx_;
+    }
+
+    public static final int TXLATENCY_FIELD_NUMBER = 14;
+    private java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyResult> txLatency_;
+    /**
+     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+     */
+    @java.lang.Override
+    public java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyResult> getTxLatencyList() {
+      return txLatency_;
+    }
+    /**
+     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder> 
+        getTxLatencyOrBuilderList() {
+      return txLatency_;
+    }
+    /**
+     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+     */
+    @java.lang.Override
+    public int getTxLatencyCount() {
+      return txLatency_.size();
+    }
+    /**
+     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.TxLatencyResult getTxLatency(int index) {
+      return txLatency_.get(index);
+    }
+    /**
+     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder getTxLatencyOrBuilder(
+        int index) {
+      return txLatency_.get(index);
+    }
+
+    public static final int SERIES_FIELD_NUMBER = 15;
+    private java.util.List<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries> series_;
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 15;</code>
+     */
+    @java.lang.Override
+    public java.util.List<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries> getSeriesList() {
+      return series_;
+    }
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 15;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder> 
+        getSeriesOrBuilderList() {
+      return series_;
+    }
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 15;</code>
+     */
+    @java.lang.Override
+    public int getSeriesCount() {
+      return series_.size();
+    }
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 15;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.NamedTimeSeries getSeries(int index) {
+      return series_.get(index);
+    }
+    /**
+     * <code>repeated .test.NamedTimeSeries series = 15;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder getSeriesOrBuilder(
+        int index) {
+      return series_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasNodeId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasPoolSize()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasOrphans()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasCreatedBlocksPerSec()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasCreatedBlocks()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasCreatedTxPerSec()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasCreatedTx()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasConfirmedBlocksPerSec()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasConfirmedTxPerSec()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasConfirmedBytesPerSec()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasTotalBlocksPerSec()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasTotalTxPerSec()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasUnconfirmedTx()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getTxLatencyCount(); i++) {
+        if (!getTxLatency(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getSeriesCount(); i++) {
+        if (!getSeries(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt32(1, nodeId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, poolSize_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt32(3, orphans_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeDouble(4, createdBlocksPerSec_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt32(5, createdBlocks_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeDouble(6, createdTxPerSec_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeInt32(7, createdTx_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeDouble(8, confirmedBlocksPerSec_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        output.writeDouble(9, confirmedTxPerSec_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        output.writeDouble(10, confirmedBytesPerSec_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        output.writeDouble(11, totalBlocksPerSec_);
+      }
+      if (((bitField0_ & 0x00000800) != 0)) {
+        output.writeDouble(12, totalTxPerSec_);
+      }
+      if (((bitField0_ & 0x00001000) != 0)) {
+        output.writeInt32(13, unconfirmedTx_);
+      }
+      for (int i = 0; i < txLatency_.size(); i++) {
+        output.writeMessage(14, txLatency_.get(i));
+      }
+      for (int i = 0; i < series_.size(); i++) {
+        output.writeMessage(15, series_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, nodeId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, poolSize_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, orphans_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(4, createdBlocksPerSec_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, createdBlocks_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(6, createdTxPerSec_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(7, createdTx_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(8, confirmedBlocksPerSec_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(9, confirmedTxPerSec_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(10, confirmedBytesPerSec_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(11, totalBlocksPerSec_);
+      }
+      if (((bitField0_ & 0x00000800) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(12, totalTxPerSec_);
+      }
+      if (((bitField0_ & 0x00001000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(13, unconfirmedTx_);
+      }
+      for (int i = 0; i < txLatency_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(14, txLatency_.get(i));
+      }
+      for (int i = 0; i < series_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(15, series_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof de.tum.i11.bcsim.proto.Messages.ResultEntry)) {
+        return super.equals(obj);
+      }
+      de.tum.i11.bcsim.proto.Messages.ResultEntry other = (de.tum.i11.bcsim.proto.Messages.ResultEntry) obj;
+
+      if (hasNodeId() != other.hasNodeId()) return false;
+      if (hasNodeId()) {
+        if (getNodeId()
+            != other.getNodeId()) return false;
+      }
+      if (hasPoolSize() != other.hasPoolSize()) return false;
+      if (hasPoolSize()) {
+        if (getPoolSize()
+            != other.getPoolSize()) return false;
+      }
+      if (hasOrphans() != other.hasOrphans()) return false;
+      if (hasOrphans()) {
+        if (getOrphans()
+            != other.getOrphans()) return false;
+      }
+      if (hasCreatedBlocksPerSec() != other.hasCreatedBlocksPerSec()) return false;
+      if (hasCreatedBlocksPerSec()) {
+        if (java.lang.Double.doubleToLongBits(getCreatedBlocksPerSec())
+            != java.lang.Double.doubleToLongBits(
+                other.getCreatedBlocksPerSec())) return false;
+      }
+      if (hasCreatedBlocks() != other.hasCreatedBlocks()) return false;
+      if (hasCreatedBlocks()) {
+        if (getCreatedBlocks()
+            != other.getCreatedBlocks()) return false;
+      }
+      if (hasCreatedTxPerSec() != other.hasCreatedTxPerSec()) return false;
+      if (hasCreatedTxPerSec()) {
+        if (java.lang.Double.doubleToLongBits(getCreatedTxPerSec())
+            != java.lang.Double.doubleToLongBits(
+                other.getCreatedTxPerSec())) return false;
+      }
+      if (hasCreatedTx() != other.hasCreatedTx()) return false;
+      if (hasCreatedTx()) {
+        if (getCreatedTx()
+            != other.getCreatedTx()) return false;
+      }
+      if (hasConfirmedBlocksPerSec() != other.hasConfirmedBlocksPerSec()) return false;
+      if (hasConfirmedBlocksPerSec()) {
+        if (java.lang.Double.doubleToLongBits(getConfirmedBlocksPerSec())
+            != java.lang.Double.doubleToLongBits(
+                other.getConfirmedBlocksPerSec())) return false;
+      }
+      if (hasConfirmedTxPerSec() != other.hasConfirmedTxPerSec()) return false;
+      if (hasConfirmedTxPerSec()) {
+        if (java.lang.Double.doubleToLongBits(getConfirmedTxPerSec())
+            != java.lang.Double.doubleToLongBits(
+                other.getConfirmedTxPerSec())) return false;
+      }
+      if (hasConfirmedBytesPerSec() != other.hasConfirmedBytesPerSec()) return false;
+      if (hasConfirmedBytesPerSec()) {
+        if (java.lang.Double.doubleToLongBits(getConfirmedBytesPerSec())
+            != java.lang.Double.doubleToLongBits(
+                other.getConfirmedBytesPerSec())) return false;
+      }
+      if (hasTotalBlocksPerSec() != other.hasTotalBlocksPerSec()) return false;
+      if (hasTotalBlocksPerSec()) {
+        if (java.lang.Double.doubleToLongBits(getTotalBlocksPerSec())
+            != java.lang.Double.doubleToLongBits(
+                other.getTotalBlocksPerSec())) return false;
+      }
+      if (hasTotalTxPerSec() != other.hasTotalTxPerSec()) return false;
+      if (hasTotalTxPerSec()) {
+        if (java.lang.Double.doubleToLongBits(getTotalTxPerSec())
+            != java.lang.Double.doubleToLongBits(
+                other.getTotalTxPerSec())) return false;
+      }
+      if (hasUnconfirmedTx() != other.hasUnconfirmedTx()) return false;
+      if (hasUnconfirmedTx()) {
+        if (getUnconfirmedTx()
+            != other.getUnconfirmedTx()) return false;
+      }
+      if (!getTxLatencyList()
+          .equals(other.getTxLatencyList())) return false;
+      if (!getSeriesList()
+          .equals(other.getSeriesList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasNodeId()) {
+        hash = (37 * hash) + NODEID_FIELD_NUMBER;
+        hash = (53 * hash) + getNodeId();
+      }
+      if (hasPoolSize()) {
+        hash = (37 * hash) + POOLSIZE_FIELD_NUMBER;
+        hash = (53 * hash) + getPoolSize();
+      }
+      if (hasOrphans()) {
+        hash = (37 * hash) + ORPHANS_FIELD_NUMBER;
+        hash = (53 * hash) + getOrphans();
+      }
+      if (hasCreatedBlocksPerSec()) {
+        hash = (37 * hash) + CREATEDBLOCKSPERSEC_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getCreatedBlocksPerSec()));
+      }
+      if (hasCreatedBlocks()) {
+        hash = (37 * hash) + CREATEDBLOCKS_FIELD_NUMBER;
+        hash = (53 * hash) + getCreatedBlocks();
+      }
+      if (hasCreatedTxPerSec()) {
+        hash = (37 * hash) + CREATEDTXPERSEC_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getCreatedTxPerSec()));
+      }
+      if (hasCreatedTx()) {
+        hash = (37 * hash) + CREATEDTX_FIELD_NUMBER;
+        hash = (53 * hash) + getCreatedTx();
+      }
+      if (hasConfirmedBlocksPerSec()) {
+        hash = (37 * hash) + CONFIRMEDBLOCKSPERSEC_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getConfirmedBlocksPerSec()));
+      }
+      if (hasConfirmedTxPerSec()) {
+        hash = (37 * hash) + CONFIRMEDTXPERSEC_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getConfirmedTxPerSec()));
+      }
+      if (hasConfirmedBytesPerSec()) {
+        hash = (37 * hash) + CONFIRMEDBYTESPERSEC_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getConfirmedBytesPerSec()));
+      }
+      if (hasTotalBlocksPerSec()) {
+        hash = (37 * hash) + TOTALBLOCKSPERSEC_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getTotalBlocksPerSec()));
+      }
+      if (hasTotalTxPerSec()) {
+        hash = (37 * hash) + TOTALTXPERSEC_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getTotalTxPerSec()));
+      }
+      if (hasUnconfirmedTx()) {
+        hash = (37 * hash) + UNCONFIRMEDTX_FIELD_NUMBER;
+        hash = (53 * hash) + getUnconfirmedTx();
+      }
+      if (getTxLatencyCount() > 0) {
+        hash = (37 * hash) + TXLATENCY_FIELD_NUMBER;
+        hash = (53 * hash) + getTxLatencyList().hashCode();
+      }
+      if (getSeriesCount() > 0) {
+        hash = (37 * hash) + SERIES_FIELD_NUMBER;
+        hash = (53 * hash) + getSeriesList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(de.tum.i11.bcsim.proto.Messages.ResultEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code test.ResultEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:test.ResultEntry)
+        de.tum.i11.bcsim.proto.Messages.ResultEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_ResultEntry_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_ResultEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.tum.i11.bcsim.proto.Messages.ResultEntry.class, de.tum.i11.bcsim.proto.Messages.ResultEntry.Builder.class);
+      }
+
+      // Construct using de.tum.i11.bcsim.proto.Messages.ResultEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getTxLatencyFieldBuilder();
+          getSeriesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        nodeId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        poolSize_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        orphans_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        createdBlocksPerSec_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        createdBlocks_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        createdTxPerSec_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        createdTx_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        confirmedBlocksPerSec_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        confirmedTxPerSec_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000100);
+        confirmedBytesPerSec_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000200);
+        totalBlocksPerSec_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000400);
+        totalTxPerSec_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000800);
+        unconfirmedTx_ = 0;
+        bitField0_ = (bitField0_ & ~0x00001000);
+        if (txLatencyBuilder_ == null) {
+          txLatency_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00002000);
+        } else {
+          txLatencyBuilder_.clear();
+        }
+        if (seriesBuilder_ == null) {
+          series_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00004000);
+        } else {
+          seriesBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_ResultEntry_descriptor;
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.ResultEntry getDefaultInstanceForType() {
+        return de.tum.i11.bcsim.proto.Messages.ResultEntry.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.ResultEntry build() {
+        de.tum.i11.bcsim.proto.Messages.ResultEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.ResultEntry buildPartial() {
+        de.tum.i11.bcsim.proto.Messages.ResultEntry result = new de.tum.i11.bcsim.proto.Messages.ResultEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.nodeId_ = nodeId_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.poolSize_ = poolSize_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.orphans_ = orphans_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.createdBlocksPerSec_ = createdBlocksPerSec_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.createdBlocks_ = createdBlocks_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.createdTxPerSec_ = createdTxPerSec_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.createdTx_ = createdTx_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.confirmedBlocksPerSec_ = confirmedBlocksPerSec_;
+          to_bitField0_ |= 0x00000080;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.confirmedTxPerSec_ = confirmedTxPerSec_;
+          to_bitField0_ |= 0x00000100;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.confirmedBytesPerSec_ = confirmedBytesPerSec_;
+          to_bitField0_ |= 0x00000200;
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.totalBlocksPerSec_ = totalBlocksPerSec_;
+          to_bitField0_ |= 0x00000400;
+        }
+        if (((from_bitField0_ & 0x00000800) != 0)) {
+          result.totalTxPerSec_ = totalTxPerSec_;
+          to_bitField0_ |= 0x00000800;
+        }
+        if (((from_bitField0_ & 0x00001000) != 0)) {
+          result.unconfirmedTx_ = unconfirmedTx_;
+          to_bitField0_ |= 0x00001000;
+        }
+        if (txLatencyBuilder_ == null) {
+          if (((bitField0_ & 0x00002000) != 0)) {
+            txLatency_ = java.util.Collections.unmodifiableList(txLatency_);
+            bitField0_ = (bitField0_ & ~0x00002000);
+          }
+          result.txLatency_ = txLatency_;
+        } else {
+          result.txLatency_ = txLatencyBuilder_.build();
+        }
+        if (seriesBuilder_ == null) {
+          if (((bitField0_ & 0x00004000) != 0)) {
+            series_ = java.util.Collections.unmodifiableList(series_);
+            bitField0_ = (bitField0_ & ~0x00004000);
+          }
+          result.series_ = series_;
+        } else {
+          result.series_ = seriesBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.tum.i11.bcsim.proto.Messages.ResultEntry) {
+          return mergeFrom((de.tum.i11.bcsim.proto.Messages.ResultEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.tum.i11.bcsim.proto.Messages.ResultEntry other) {
+        if (other == de.tum.i11.bcsim.proto.Messages.ResultEntry.getDefaultInstance()) return this;
+        if (other.hasNodeId()) {
+          setNodeId(other.getNodeId());
+        }
+        if (other.hasPoolSize()) {
+          setPoolSize(other.getPoolSize());
+        }
+        if (other.hasOrphans()) {
+          setOrphans(other.getOrphans());
+        }
+        if (other.hasCreatedBlocksPerSec()) {
+          setCreatedBlocksPerSec(other.getCreatedBlocksPerSec());
+        }
+        if (other.hasCreatedBlocks()) {
+          setCreatedBlocks(other.getCreatedBlocks());
+        }
+        if (other.hasCreatedTxPerSec()) {
+          setCreatedTxPerSec(other.getCreatedTxPerSec());
+        }
+        if (other.hasCreatedTx()) {
+          setCreatedTx(other.getCreatedTx());
+        }
+        if (other.hasConfirmedBlocksPerSec()) {
+          setConfirmedBlocksPerSec(other.getConfirmedBlocksPerSec());
+        }
+        if (other.hasConfirmedTxPerSec()) {
+          setConfirmedTxPerSec(other.getConfirmedTxPerSec());
+        }
+        if (other.hasConfirmedBytesPerSec()) {
+          setConfirmedBytesPerSec(other.getConfirmedBytesPerSec());
+        }
+        if (other.hasTotalBlocksPerSec()) {
+          setTotalBlocksPerSec(other.getTotalBlocksPerSec());
+        }
+        if (other.hasTotalTxPerSec()) {
+          setTotalTxPerSec(other.getTotalTxPerSec());
+        }
+        if (other.hasUnconfirmedTx()) {
+          setUnconfirmedTx(other.getUnconfirmedTx());
+        }
+        if (txLatencyBuilder_ == null) {
+          if (!other.txLatency_.isEmpty()) {
+            if (txLatency_.isEmpty()) {
+              txLatency_ = other.txLatency_;
+              bitField0_ = (bitField0_ & ~0x00002000);
+            } else {
+              ensureTxLatencyIsMutable();
+              txLatency_.addAll(other.txLatency_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.txLatency_.isEmpty()) {
+            if (txLatencyBuilder_.isEmpty()) {
+              txLatencyBuilder_.dispose();
+              txLatencyBuilder_ = null;
+              txLatency_ = other.txLatency_;
+              bitField0_ = (bitField0_ & ~0x00002000);
+              txLatencyBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTxLatencyFieldBuilder() : null;
+            } else {
+              txLatencyBuilder_.addAllMessages(other.txLatency_);
+            }
+          }
+        }
+        if (seriesBuilder_ == null) {
+          if (!other.series_.isEmpty()) {
+            if (series_.isEmpty()) {
+              series_ = other.series_;
+              bitField0_ = (bitField0_ & ~0x00004000);
+            } else {
+              ensureSeriesIsMutable();
+              series_.addAll(other.series_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.series_.isEmpty()) {
+            if (seriesBuilder_.isEmpty()) {
+              seriesBuilder_.dispose();
+              seriesBuilder_ = null;
+              series_ = other.series_;
+              bitField0_ = (bitField0_ & ~0x00004000);
+              seriesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getSeriesFieldBuilder() : null;
+            } else {
+              seriesBuilder_.addAllMessages(other.series_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasNodeId()) {
+          return false;
+        }
+        if (!hasPoolSize()) {
+          return false;
+        }
+        if (!hasOrphans()) {
+          return false;
+        }
+        if (!hasCreatedBlocksPerSec()) {
+          return false;
+        }
+        if (!hasCreatedBlocks()) {
+          return false;
+        }
+        if (!hasCreatedTxPerSec()) {
+          return false;
+        }
+        if (!hasCreatedTx()) {
+          return false;
+        }
+        if (!hasConfirmedBlocksPerSec()) {
+          return false;
+        }
+        if (!hasConfirmedTxPerSec()) {
+          return false;
+        }
+        if (!hasConfirmedBytesPerSec()) {
+          return false;
+        }
+        if (!hasTotalBlocksPerSec()) {
+          return false;
+        }
+        if (!hasTotalTxPerSec()) {
+          return false;
+        }
+        if (!hasUnconfirmedTx()) {
+          return false;
+        }
+        for (int i = 0; i < getTxLatencyCount(); i++) {
+          if (!getTxLatency(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getSeriesCount(); i++) {
+          if (!getSeries(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.tum.i11.bcsim.proto.Messages.ResultEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.tum.i11.bcsim.proto.Messages.ResultEntry) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int nodeId_ ;
+      /**
+       * <code>required int32 nodeId = 1;</code>
+       * @return Whether the nodeId field is set.
+       */
+      @java.lang.Override
+      public boolean hasNodeId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required int32 nodeId = 1;</code>
+       * @return The nodeId.
+       */
+      @java.lang.Override
+      public int getNodeId() {
+        return nodeId_;
+      }
+      /**
+       * <code>required int32 nodeId = 1;</code>
+       * @param value The nodeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNodeId(int value) {
+        bitField0_ |= 0x00000001;
+        nodeId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 nodeId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNodeId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        nodeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int poolSize_ ;
+      /**
+       * <code>required int32 poolSize = 2;</code>
+       * @return Whether the poolSize field is set.
+       */
+      @java.lang.Override
+      public boolean hasPoolSize() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required int32 poolSize = 2;</code>
+       * @return The poolSize.
+       */
+      @java.lang.Override
+      public int getPoolSize() {
+        return poolSize_;
+      }
+      /**
+       * <code>required int32 poolSize = 2;</code>
+       * @param value The poolSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPoolSize(int value) {
+        bitField0_ |= 0x00000002;
+        poolSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 poolSize = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPoolSize() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        poolSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int orphans_ ;
+      /**
+       * <code>required int32 orphans = 3;</code>
+       * @return Whether the orphans field is set.
+       */
+      @java.lang.Override
+      public boolean hasOrphans() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>required int32 orphans = 3;</code>
+       * @return The orphans.
+       */
+      @java.lang.Override
+      public int getOrphans() {
+        return orphans_;
+      }
+      /**
+       * <code>required int32 orphans = 3;</code>
+       * @param value The orphans to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrphans(int value) {
+        bitField0_ |= 0x00000004;
+        orphans_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 orphans = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOrphans() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        orphans_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private double createdBlocksPerSec_ ;
+      /**
+       * <code>required double createdBlocksPerSec = 4;</code>
+       * @return Whether the createdBlocksPerSec field is set.
+       */
+      @java.lang.Override
+      public boolean hasCreatedBlocksPerSec() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>required double createdBlocksPerSec = 4;</code>
+       * @return The createdBlocksPerSec.
+       */
+      @java.lang.Override
+      public double getCreatedBlocksPerSec() {
+        return createdBlocksPerSec_;
+      }
+      /**
+       * <code>required double createdBlocksPerSec = 4;</code>
+       * @param value The createdBlocksPerSec to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreatedBlocksPerSec(double value) {
+        bitField0_ |= 0x00000008;
+        createdBlocksPerSec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required double createdBlocksPerSec = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCreatedBlocksPerSec() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        createdBlocksPerSec_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private int createdBlocks_ ;
+      /**
+       * <code>required int32 createdBlocks = 5;</code>
+       * @return Whether the createdBlocks field is set.
+       */
+      @java.lang.Override
+      public boolean hasCreatedBlocks() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>required int32 createdBlocks = 5;</code>
+       * @return The createdBlocks.
+       */
+      @java.lang.Override
+      public int getCreatedBlocks() {
+        return createdBlocks_;
+      }
+      /**
+       * <code>required int32 createdBlocks = 5;</code>
+       * @param value The createdBlocks to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreatedBlocks(int value) {
+        bitField0_ |= 0x00000010;
+        createdBlocks_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 createdBlocks = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCreatedBlocks() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        createdBlocks_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private double createdTxPerSec_ ;
+      /**
+       * <code>required double createdTxPerSec = 6;</code>
+       * @return Whether the createdTxPerSec field is set.
+       */
+      @java.lang.Override
+      public boolean hasCreatedTxPerSec() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>required double createdTxPerSec = 6;</code>
+       * @return The createdTxPerSec.
+       */
+      @java.lang.Override
+      public double getCreatedTxPerSec() {
+        return createdTxPerSec_;
+      }
+      /**
+       * <code>required double createdTxPerSec = 6;</code>
+       * @param value The createdTxPerSec to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreatedTxPerSec(double value) {
+        bitField0_ |= 0x00000020;
+        createdTxPerSec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required double createdTxPerSec = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCreatedTxPerSec() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        createdTxPerSec_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private int createdTx_ ;
+      /**
+       * <code>required int32 createdTx = 7;</code>
+       * @return Whether the createdTx field is set.
+       */
+      @java.lang.Override
+      public boolean hasCreatedTx() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>required int32 createdTx = 7;</code>
+       * @return The createdTx.
+       */
+      @java.lang.Override
+      public int getCreatedTx() {
+        return createdTx_;
+      }
+      /**
+       * <code>required int32 createdTx = 7;</code>
+       * @param value The createdTx to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreatedTx(int value) {
+        bitField0_ |= 0x00000040;
+        createdTx_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 createdTx = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCreatedTx() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        createdTx_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private double confirmedBlocksPerSec_ ;
+      /**
+       * <code>required double confirmedBlocksPerSec = 8;</code>
+       * @return Whether the confirmedBlocksPerSec field is set.
+       */
+      @java.lang.Override
+      public boolean hasConfirmedBlocksPerSec() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>required double confirmedBlocksPerSec = 8;</code>
+       * @return The confirmedBlocksPerSec.
+       */
+      @java.lang.Override
+      public double getConfirmedBlocksPerSec() {
+        return confirmedBlocksPerSec_;
+      }
+      /**
+       * <code>required double confirmedBlocksPerSec = 8;</code>
+       * @param value The confirmedBlocksPerSec to set.
+       * @return This builder for chaining.
+       */
+      public Builder setConfirmedBlocksPerSec(double value) {
+        bitField0_ |= 0x00000080;
+        confirmedBlocksPerSec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required double confirmedBlocksPerSec = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearConfirmedBlocksPerSec() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        confirmedBlocksPerSec_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double confirmedTxPerSec_ ;
+      /**
+       * <code>required double confirmedTxPerSec = 9;</code>
+       * @return Whether the confirmedTxPerSec field is set.
+       */
+      @java.lang.Override
+      public boolean hasConfirmedTxPerSec() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <code>required double confirmedTxPerSec = 9;</code>
+       * @return The confirmedTxPerSec.
+       */
+      @java.lang.Override
+      public double getConfirmedTxPerSec() {
+        return confirmedTxPerSec_;
+      }
+      /**
+       * <code>required double confirmedTxPerSec = 9;</code>
+       * @param value The confirmedTxPerSec to set.
+       * @return This builder for chaining.
+       */
+      public Builder setConfirmedTxPerSec(double value) {
+        bitField0_ |= 0x00000100;
+        confirmedTxPerSec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required double confirmedTxPerSec = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearConfirmedTxPerSec() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        confirmedTxPerSec_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double confirmedBytesPerSec_ ;
+      /**
+       * <code>required double confirmedBytesPerSec = 10;</code>
+       * @return Whether the confirmedBytesPerSec field is set.
+       */
+      @java.lang.Override
+      public boolean hasConfirmedBytesPerSec() {
+        return ((bitField0_ & 0x00000200) != 0);
+      }
+      /**
+       * <code>required double confirmedBytesPerSec = 10;</code>
+       * @return The confirmedBytesPerSec.
+       */
+      @java.lang.Override
+      public double getConfirmedBytesPerSec() {
+        return confirmedBytesPerSec_;
+      }
+      /**
+       * <code>required double confirmedBytesPerSec = 10;</code>
+       * @param value The confirmedBytesPerSec to set.
+       * @return This builder for chaining.
+       */
+      public Builder setConfirmedBytesPerSec(double value) {
+        bitField0_ |= 0x00000200;
+        confirmedBytesPerSec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required double confirmedBytesPerSec = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearConfirmedBytesPerSec() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        confirmedBytesPerSec_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double totalBlocksPerSec_ ;
+      /**
+       * <code>required double totalBlocksPerSec = 11;</code>
+       * @return Whether the totalBlocksPerSec field is set.
+       */
+      @java.lang.Override
+      public boolean hasTotalBlocksPerSec() {
+        return ((bitField0_ & 0x00000400) != 0);
+      }
+      /**
+       * <code>required double totalBlocksPerSec = 11;</code>
+       * @return The totalBlocksPerSec.
+       */
+      @java.lang.Override
+      public double getTotalBlocksPerSec() {
+        return totalBlocksPerSec_;
+      }
+      /**
+       * <code>required double totalBlocksPerSec = 11;</code>
+       * @param value The totalBlocksPerSec to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTotalBlocksPerSec(double value) {
+        bitField0_ |= 0x00000400;
+        totalBlocksPerSec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required double totalBlocksPerSec = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTotalBlocksPerSec() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        totalBlocksPerSec_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double totalTxPerSec_ ;
+      /**
+       * <code>required double totalTxPerSec = 12;</code>
+       * @return Whether the totalTxPerSec field is set.
+       */
+      @java.lang.Override
+      public boolean hasTotalTxPerSec() {
+        return ((bitField0_ & 0x00000800) != 0);
+      }
+      /**
+       * <code>required double totalTxPerSec = 12;</code>
+       * @return The totalTxPerSec.
+       */
+      @java.lang.Override
+      public double getTotalTxPerSec() {
+        return totalTxPerSec_;
+      }
+      /**
+       * <code>required double totalTxPerSec = 12;</code>
+       * @param value The totalTxPerSec to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTotalTxPerSec(double value) {
+        bitField0_ |= 0x00000800;
+        totalTxPerSec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required double totalTxPerSec = 12;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTotalTxPerSec() {
+        bitField0_ = (bitField0_ & ~0x00000800);
+        totalTxPerSec_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private int unconfirmedTx_ ;
+      /**
+       * <code>required int32 unconfirmedTx = 13;</code>
+       * @return Whether the unconfirmedTx field is set.
+       */
+      @java.lang.Override
+      public boolean hasUnconfirmedTx() {
+        return ((bitField0_ & 0x00001000) != 0);
+      }
+      /**
+       * <code>required int32 unconfirmedTx = 13;</code>
+       * @return The unconfirmedTx.
+       */
+      @java.lang.Override
+      public int getUnconfirmedTx() {
+        return unconfirmedTx_;
+      }
+      /**
+       * <code>required int32 unconfirmedTx = 13;</code>
+       * @param value The unconfirmedTx to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUnconfirmedTx(int value) {
+        bitField0_ |= 0x00001000;
+        unconfirmedTx_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 unconfirmedTx = 13;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUnconfirmedTx() {
+        bitField0_ = (bitField0_ & ~0x00001000);
+        unconfirmedTx_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyResult> txLatency_ =
+        java.util.Collections.emptyList();
+      private void ensureTxLatencyIsMutable() {
+        if (!((bitField0_ & 0x00002000) != 0)) {
+          txLatency_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.TxLatencyResult>(txLatency_);
+          bitField0_ |= 0x00002000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.TxLatencyResult, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder, de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder> txLatencyBuilder_;
+
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyResult> getTxLatencyList() {
+        if (txLatencyBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(txLatency_);
+        } else {
+          return txLatencyBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public int getTxLatencyCount() {
+        if (txLatencyBuilder_ == null) {
+          return txLatency_.size();
+        } else {
+          return txLatencyBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyResult getTxLatency(int index) {
+        if (txLatencyBuilder_ == null) {
+          return txLatency_.get(index);
+        } else {
+          return txLatencyBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public Builder setTxLatency(
+          int index, de.tum.i11.bcsim.proto.Messages.TxLatencyResult value) {
+        if (txLatencyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTxLatencyIsMutable();
+          txLatency_.set(index, value);
+          onChanged();
+        } else {
+          txLatencyBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public Builder setTxLatency(
+          int index, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder builderForValue) {
+        if (txLatencyBuilder_ == null) {
+          ensureTxLatencyIsMutable();
+          txLatency_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          txLatencyBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public Builder addTxLatency(de.tum.i11.bcsim.proto.Messages.TxLatencyResult value) {
+        if (txLatencyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTxLatencyIsMutable();
+          txLatency_.add(value);
+          onChanged();
+        } else {
+          txLatencyBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public Builder addTxLatency(
+          int index, de.tum.i11.bcsim.proto.Messages.TxLatencyResult value) {
+        if (txLatencyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTxLatencyIsMutable();
+          txLatency_.add(index, value);
+          onChanged();
+        } else {
+          txLatencyBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public Builder addTxLatency(
+          de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder builderForValue) {
+        if (txLatencyBuilder_ == null) {
+          ensureTxLatencyIsMutable();
+          txLatency_.add(builderForValue.build());
+          onChanged();
+        } else {
+          txLatencyBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public Builder addTxLatency(
+          int index, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder builderForValue) {
+        if (txLatencyBuilder_ == null) {
+          ensureTxLatencyIsMutable();
+          txLatency_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          txLatencyBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public Builder addAllTxLatency(
+          java.lang.Iterable<? extends de.tum.i11.bcsim.proto.Messages.TxLatencyResult> values) {
+        if (txLatencyBuilder_ == null) {
+          ensureTxLatencyIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, txLatency_);
+          onChanged();
+        } else {
+          txLatencyBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public Builder clearTxLatency() {
+        if (txLatencyBuilder_ == null) {
+          txLatency_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00002000);
+          onChanged();
+        } else {
+          txLatencyBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public Builder removeTxLatency(int index) {
+        if (txLatencyBuilder_ == null) {
+          ensureTxLatencyIsMutable();
+          txLatency_.remove(index);
+          onChanged();
+        } else {
+          txLatencyBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder getTxLatencyBuilder(
+          int index) {
+        return getTxLatencyFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder getTxLatencyOrBuilder(
+          int index) {
+        if (txLatencyBuilder_ == null) {
+          return txLatency_.get(index);  } else {
+          return txLatencyBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder> 
+           getTxLatencyOrBuilderList() {
+        if (txLatencyBuilder_ != null) {
+          return txLatencyBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(txLatency_);
+        }
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder addTxLatencyBuilder() {
+        return getTxLatencyFieldBuilder().addBuilder(
+            de.tum.i11.bcsim.proto.Messages.TxLatencyResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder addTxLatencyBuilder(
+          int index) {
+        return getTxLatencyFieldBuilder().addBuilder(
+            index, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder> 
+           getTxLatencyBuilderList() {
+        return getTxLatencyFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.TxLatencyResult, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder, de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder> 
+          getTxLatencyFieldBuilder() {
+        if (txLatencyBuilder_ == null) {
+          txLatencyBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              de.tum.i11.bcsim.proto.Messages.TxLatencyResult, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder, de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder>(
+                  txLatency_,
+                  ((bitField0_ & 0x00002000) != 0),
+                  getParentForChildren(),
+                  isClean());
+          txLatency_ = null;
+        }
+        return txLatencyBuilder_;
+      }
+
+      private java.util.List<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries> series_ =
+        java.util.Collections.emptyList();
+      private void ensureSeriesIsMutable() {
+        if (!((bitField0_ & 0x00004000) != 0)) {
+          series_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries>(series_);
+          bitField0_ |= 0x00004000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.NamedTimeSeries, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder, de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder> seriesBuilder_;
+
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries> getSeriesList() {
+        if (seriesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(series_);
+        } else {
+          return seriesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public int getSeriesCount() {
+        if (seriesBuilder_ == null) {
+          return series_.size();
+        } else {
+          return seriesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.NamedTimeSeries getSeries(int index) {
+        if (seriesBuilder_ == null) {
+          return series_.get(index);
+        } else {
+          return seriesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public Builder setSeries(
+          int index, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries value) {
+        if (seriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSeriesIsMutable();
+          series_.set(index, value);
+          onChanged();
+        } else {
+          seriesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public Builder setSeries(
+          int index, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder builderForValue) {
+        if (seriesBuilder_ == null) {
+          ensureSeriesIsMutable();
+          series_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          seriesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public Builder addSeries(de.tum.i11.bcsim.proto.Messages.NamedTimeSeries value) {
+        if (seriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSeriesIsMutable();
+          series_.add(value);
+          onChanged();
+        } else {
+          seriesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public Builder addSeries(
+          int index, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries value) {
+        if (seriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSeriesIsMutable();
+          series_.add(index, value);
+          onChanged();
+        } else {
+          seriesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public Builder addSeries(
+          de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder builderForValue) {
+        if (seriesBuilder_ == null) {
+          ensureSeriesIsMutable();
+          series_.add(builderForValue.build());
+          onChanged();
+        } else {
+          seriesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public Builder addSeries(
+          int index, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder builderForValue) {
+        if (seriesBuilder_ == null) {
+          ensureSeriesIsMutable();
+          series_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          seriesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public Builder addAllSeries(
+          java.lang.Iterable<? extends de.tum.i11.bcsim.proto.Messages.NamedTimeSeries> values) {
+        if (seriesBuilder_ == null) {
+          ensureSeriesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, series_);
+          onChanged();
+        } else {
+          seriesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public Builder clearSeries() {
+        if (seriesBuilder_ == null) {
+          series_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00004000);
+          onChanged();
+        } else {
+          seriesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public Builder removeSeries(int index) {
+        if (seriesBuilder_ == null) {
+          ensureSeriesIsMutable();
+          series_.remove(index);
+          onChanged();
+        } else {
+          seriesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder getSeriesBuilder(
+          int index) {
+        return getSeriesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder getSeriesOrBuilder(
+          int index) {
+        if (seriesBuilder_ == null) {
+          return series_.get(index);  } else {
+          return seriesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder> 
+           getSeriesOrBuilderList() {
+        if (seriesBuilder_ != null) {
+          return seriesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(series_);
+        }
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder addSeriesBuilder() {
+        return getSeriesFieldBuilder().addBuilder(
+            de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder addSeriesBuilder(
+          int index) {
+        return getSeriesFieldBuilder().addBuilder(
+            index, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .test.NamedTimeSeries series = 15;</code>
+       */
+      public java.util.List<de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder> 
+           getSeriesBuilderList() {
+        return getSeriesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.NamedTimeSeries, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder, de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder> 
+          getSeriesFieldBuilder() {
+        if (seriesBuilder_ == null) {
+          seriesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              de.tum.i11.bcsim.proto.Messages.NamedTimeSeries, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder, de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder>(
+                  series_,
+                  ((bitField0_ & 0x00004000) != 0),
+                  getParentForChildren(),
+                  isClean());
+          series_ = null;
+        }
+        return seriesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:test.ResultEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:test.ResultEntry)
+    private static final de.tum.i11.bcsim.proto.Messages.ResultEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new de.tum.i11.bcsim.proto.Messages.ResultEntry();
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.ResultEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<ResultEntry>
+        PARSER = new com.google.protobuf.AbstractParser<ResultEntry>() {
+      @java.lang.Override
+      public ResultEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ResultEntry(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ResultEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ResultEntry> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.ResultEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TxLatencyResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:test.TxLatencyResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int32 size = 1;</code>
+     * @return Whether the size field is set.
+     */
+    boolean hasSize();
+    /**
+     * <code>required int32 size = 1;</code>
+     * @return The size.
+     */
+    int getSize();
+
+    /**
+     * <code>required double latency = 2;</code>
+     * @return Whether the latency field is set.
+     */
+    boolean hasLatency();
+    /**
+     * <code>required double latency = 2;</code>
+     * @return The latency.
+     */
+    double getLatency();
+
+    /**
+     * <code>required double fee = 3;</code>
+     * @return Whether the fee field is set.
+     */
+    boolean hasFee();
+    /**
+     * <code>required double fee = 3;</code>
+     * @return The fee.
+     */
+    double getFee();
+  }
+  /**
+   * Protobuf type {@code test.TxLatencyResult}
+   */
+  public static final class TxLatencyResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:test.TxLatencyResult)
+      TxLatencyResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TxLatencyResult.newBuilder() to construct.
+    private TxLatencyResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TxLatencyResult() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TxLatencyResult();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TxLatencyResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              size_ = input.readInt32();
+              break;
+            }
+            case 17: {
+              bitField0_ |= 0x00000002;
+              latency_ = input.readDouble();
+              break;
+            }
+            case 25: {
+              bitField0_ |= 0x00000004;
+              fee_ = input.readDouble();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_TxLatencyResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_TxLatencyResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.tum.i11.bcsim.proto.Messages.TxLatencyResult.class, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int SIZE_FIELD_NUMBER = 1;
+    private int size_;
+    /**
+     * <code>required int32 size = 1;</code>
+     * @return Whether the size field is set.
+     */
+    @java.lang.Override
+    public boolean hasSize() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required int32 size = 1;</code>
+     * @return The size.
+     */
+    @java.lang.Override
+    public int getSize() {
+      return size_;
+    }
+
+    public static final int LATENCY_FIELD_NUMBER = 2;
+    private double latency_;
+    /**
+     * <code>required double latency = 2;</code>
+     * @return Whether the latency field is set.
+     */
+    @java.lang.Override
+    public boolean hasLatency() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required double latency = 2;</code>
+     * @return The latency.
+     */
+    @java.lang.Override
+    public double getLatency() {
+      return latency_;
+    }
+
+    public static final int FEE_FIELD_NUMBER = 3;
+    private double fee_;
+    /**
+     * <code>required double fee = 3;</code>
+     * @return Whether the fee field is set.
+     */
+    @java.lang.Override
+    public boolean hasFee() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>required double fee = 3;</code>
+     * @return The fee.
+     */
+    @java.lang.Override
+    public double getFee() {
+      return fee_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasSize()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasLatency()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasFee()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt32(1, size_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeDouble(2, latency_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeDouble(3, fee_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, size_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(2, latency_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(3, fee_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof de.tum.i11.bcsim.proto.Messages.TxLatencyResult)) {
+        return super.equals(obj);
+      }
+      de.tum.i11.bcsim.proto.Messages.TxLatencyResult other = (de.tum.i11.bcsim.proto.Messages.TxLatencyResult) obj;
+
+      if (hasSize() != other.hasSize()) return false;
+      if (hasSize()) {
+        if (getSize()
+            != other.getSize()) return false;
+      }
+      if (hasLatency() != other.hasLatency()) return false;
+      if (hasLatency()) {
+        if (java.lang.Double.doubleToLongBits(getLatency())
+            != java.lang.Double.doubleToLongBits(
+                other.getLatency())) return false;
+      }
+      if (hasFee() != other.hasFee()) return false;
+      if (hasFee()) {
+        if (java.lang.Double.doubleToLongBits(getFee())
+            != java.lang.Double.doubleToLongBits(
+                other.getFee())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSize()) {
+        hash = (37 * hash) + SIZE_FIELD_NUMBER;
+        hash = (53 * hash) + getSize();
+      }
+      if (hasLatency()) {
+        hash = (37 * hash) + LATENCY_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getLatency()));
+      }
+      if (hasFee()) {
+        hash = (37 * hash) + FEE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getFee()));
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(de.tum.i11.bcsim.proto.Messages.TxLatencyResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code test.TxLatencyResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:test.TxLatencyResult)
+        de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_TxLatencyResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_TxLatencyResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.tum.i11.bcsim.proto.Messages.TxLatencyResult.class, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder.class);
+      }
+
+      // Construct using de.tum.i11.bcsim.proto.Messages.TxLatencyResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        size_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        latency_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fee_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_TxLatencyResult_descriptor;
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyResult getDefaultInstanceForType() {
+        return de.tum.i11.bcsim.proto.Messages.TxLatencyResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyResult build() {
+        de.tum.i11.bcsim.proto.Messages.TxLatencyResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyResult buildPartial() {
+        de.tum.i11.bcsim.proto.Messages.TxLatencyResult result = new de.tum.i11.bcsim.proto.Messages.TxLatencyResult(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.size_ = size_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.latency_ = latency_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.fee_ = fee_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.tum.i11.bcsim.proto.Messages.TxLatencyResult) {
+          return mergeFrom((de.tum.i11.bcsim.proto.Messages.TxLatencyResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.tum.i11.bcsim.proto.Messages.TxLatencyResult other) {
+        if (other == de.tum.i11.bcsim.proto.Messages.TxLatencyResult.getDefaultInstance()) return this;
+        if (other.hasSize()) {
+          setSize(other.getSize());
+        }
+        if (other.hasLatency()) {
+          setLatency(other.getLatency());
+        }
+        if (other.hasFee()) {
+          setFee(other.getFee());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasSize()) {
+          return false;
+        }
+        if (!hasLatency()) {
+          return false;
+        }
+        if (!hasFee()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.tum.i11.bcsim.proto.Messages.TxLatencyResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.tum.i11.bcsim.proto.Messages.TxLatencyResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int size_ ;
+      /**
+       * <code>required int32 size = 1;</code>
+       * @return Whether the size field is set.
+       */
+      @java.lang.Override
+      public boolean hasSize() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required int32 size = 1;</code>
+       * @return The size.
+       */
+      @java.lang.Override
+      public int getSize() {
+        return size_;
+      }
+      /**
+       * <code>required int32 size = 1;</code>
+       * @param value The size to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSize(int value) {
+        bitField0_ |= 0x00000001;
+        size_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 size = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSize() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        size_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private double latency_ ;
+      /**
+       * <code>required double latency = 2;</code>
+       * @return Whether the latency field is set.
+       */
+      @java.lang.Override
+      public boolean hasLatency() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required double latency = 2;</code>
+       * @return The latency.
+       */
+      @java.lang.Override
+      public double getLatency() {
+        return latency_;
+      }
+      /**
+       * <code>required double latency = 2;</code>
+       * @param value The latency to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLatency(double value) {
+        bitField0_ |= 0x00000002;
+        latency_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required double latency = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLatency() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        latency_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double fee_ ;
+      /**
+       * <code>required double fee = 3;</code>
+       * @return Whether the fee field is set.
+       */
+      @java.lang.Override
+      public boolean hasFee() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>required double fee = 3;</code>
+       * @return The fee.
+       */
+      @java.lang.Override
+      public double getFee() {
+        return fee_;
+      }
+      /**
+       * <code>required double fee = 3;</code>
+       * @param value The fee to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFee(double value) {
+        bitField0_ |= 0x00000004;
+        fee_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required double fee = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFee() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        fee_ = 0D;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:test.TxLatencyResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:test.TxLatencyResult)
+    private static final de.tum.i11.bcsim.proto.Messages.TxLatencyResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new de.tum.i11.bcsim.proto.Messages.TxLatencyResult();
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<TxLatencyResult>
+        PARSER = new com.google.protobuf.AbstractParser<TxLatencyResult>() {
+      @java.lang.Override
+      public TxLatencyResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TxLatencyResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TxLatencyResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TxLatencyResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.TxLatencyResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TxLatencyHistogramOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:test.TxLatencyHistogram)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required double fee = 1;</code>
+     * @return Whether the fee field is set.
+     */
+    boolean hasFee();
+    /**
+     * <code>required double fee = 1;</code>
+     * @return The fee.
+     */
+    double getFee();
+
+    /**
+     * <code>required int64 bytes = 2;</code>
+     * @return Whether the bytes field is set.
+     */
+    boolean hasBytes();
+    /**
+     * <code>required int64 bytes = 2;</code>
+     * @return The bytes.
+     */
+    long getBytes();
+
+    /**
+     * <code>required .test.Histogram latency = 3;</code>
+     * @return Whether the latency field is set.
+     */
+    boolean hasLatency();
+    /**
+     * <code>required .test.Histogram latency = 3;</code>
+     * @return The latency.
+     */
+    de.tum.i11.bcsim.proto.Messages.Histogram getLatency();
+    /**
+     * <code>required .test.Histogram latency = 3;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder getLatencyOrBuilder();
+  }
+  /**
+   * <pre>
+   * Latencies of all confirmed transactions with the same fee, merged over all peers of a coordinator
+   * </pre>
+   *
+   * Protobuf type {@code test.TxLatencyHistogram}
+   */
+  public static final class TxLatencyHistogram extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:test.TxLatencyHistogram)
+      TxLatencyHistogramOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TxLatencyHistogram.newBuilder() to construct.
+    private TxLatencyHistogram(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TxLatencyHistogram() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TxLatencyHistogram();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TxLatencyHistogram(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 9: {
+              bitField0_ |= 0x00000001;
+              fee_ = input.readDouble();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              bytes_ = input.readInt64();
+              break;
+            }
+            case 26: {
+              de.tum.i11.bcsim.proto.Messages.Histogram.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) != 0)) {
+                subBuilder = latency_.toBuilder();
+              }
+              latency_ = input.readMessage(de.tum.i11.bcsim.proto.Messages.Histogram.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(latency_);
+                latency_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_TxLatencyHistogram_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_TxLatencyHistogram_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.class, de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int FEE_FIELD_NUMBER = 1;
+    private double fee_;
+    /**
+     * <code>required double fee = 1;</code>
+     * @return Whether the fee field is set.
+     */
+    @java.lang.Override
+    public boolean hasFee() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required double fee = 1;</code>
+     * @return The fee.
+     */
+    @java.lang.Override
+    public double getFee() {
+      return fee_;
+    }
+
+    public static final int BYTES_FIELD_NUMBER = 2;
+    private long bytes_;
+    /**
+     * <code>required int64 bytes = 2;</code>
+     * @return Whether the bytes field is set.
+     */
+    @java.lang.Override
+    public boolean hasBytes() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required int64 bytes = 2;</code>
+     * @return The bytes.
+     */
+    @java.lang.Override
+    public long getBytes() {
+      return bytes_;
+    }
+
+    public static final int LATENCY_FIELD_NUMBER = 3;
+    private de.tum.i11.bcsim.proto.Messages.Histogram latency_;
+    /**
+     * <code>required .test.Histogram latency = 3;</code>
+     * @return Whether the latency field is set.
+     */
+    @java.lang.Override
+    public boolean hasLatency() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>required .test.Histogram latency = 3;</code>
+     * @return The latency.
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.Histogram getLatency() {
+      return latency_ == null ? de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance() : latency_;
+    }
+    /**
+     * <code>required .test.Histogram latency = 3;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder getLatencyOrBuilder() {
+      return latency_ == null ? de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance() : latency_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasFee()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasBytes()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasLatency()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getLatency().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeDouble(1, fee_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt64(2, bytes_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeMessage(3, getLatency());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(1, fee_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, bytes_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getLatency());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram)) {
+        return super.equals(obj);
+      }
+      de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram other = (de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram) obj;
+
+      if (hasFee() != other.hasFee()) return false;
+      if (hasFee()) {
+        if (java.lang.Double.doubleToLongBits(getFee())
+            != java.lang.Double.doubleToLongBits(
+                other.getFee())) return false;
+      }
+      if (hasBytes() != other.hasBytes()) return false;
+      if (hasBytes()) {
+        if (getBytes()
+            != other.getBytes()) return false;
+      }
+      if (hasLatency() != other.hasLatency()) return false;
+      if (hasLatency()) {
+        if (!getLatency()
+            .equals(other.getLatency())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasFee()) {
+        hash = (37 * hash) + FEE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getFee()));
+      }
+      if (hasBytes()) {
+        hash = (37 * hash) + BYTES_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getBytes());
+      }
+      if (hasLatency()) {
+        hash = (37 * hash) + LATENCY_FIELD_NUMBER;
+        hash = (53 * hash) + getLatency().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Latencies of all confirmed transactions with the same fee, merged over all peers of a coordinator
+     * </pre>
+     *
+     * Protobuf type {@code test.TxLatencyHistogram}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:test.TxLatencyHistogram)
+        de.tum.i11.bcsim.proto.Messages.TxLatencyHistogramOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_TxLatencyHistogram_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_TxLatencyHistogram_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.class, de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.Builder.class);
+      }
+
+      // Construct using de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getLatencyFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        fee_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        bytes_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (latencyBuilder_ == null) {
+          latency_ = null;
+        } else {
+          latencyBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_TxLatencyHistogram_descriptor;
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram getDefaultInstanceForType() {
+        return de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram build() {
+        de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram buildPartial() {
+        de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram result = new de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.fee_ = fee_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.bytes_ = bytes_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          if (latencyBuilder_ == null) {
+            result.latency_ = latency_;
+          } else {
+            result.latency_ = latencyBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram) {
+          return mergeFrom((de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram other) {
+        if (other == de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram.getDefaultInstance()) return this;
+        if (other.hasFee()) {
+          setFee(other.getFee());
+        }
+        if (other.hasBytes()) {
+          setBytes(other.getBytes());
+        }
+        if (other.hasLatency()) {
+          mergeLatency(other.getLatency());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasFee()) {
+          return false;
+        }
+        if (!hasBytes()) {
+          return false;
+        }
+        if (!hasLatency()) {
+          return false;
+        }
+        if (!getLatency().isInitialized()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private double fee_ ;
+      /**
+       * <code>required double fee = 1;</code>
+       * @return Whether the fee field is set.
+       */
+      @java.lang.Override
+      public boolean hasFee() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required double fee = 1;</code>
+       * @return The fee.
+       */
+      @java.lang.Override
+      public double getFee() {
+        return fee_;
+      }
+      /**
+       * <code>required double fee = 1;</code>
+       * @param value The fee to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFee(double value) {
+        bitField0_ |= 0x00000001;
+        fee_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required double fee = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFee() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        fee_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private long bytes_ ;
+      /**
+       * <code>required int64 bytes = 2;</code>
+       * @return Whether the bytes field is set.
+       */
+      @java.lang.Override
+      public boolean hasBytes() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required int64 bytes = 2;</code>
+       * @return The bytes.
+       */
+      @java.lang.Override
+      public long getBytes() {
+        return bytes_;
+      }
+      /**
+       * <code>required int64 bytes = 2;</code>
+       * @param value The bytes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBytes(long value) {
+        bitField0_ |= 0x00000002;
+        bytes_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 bytes = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBytes() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        bytes_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private de.tum.i11.bcsim.proto.Messages.Histogram latency_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.Histogram, de.tum.i11.bcsim.proto.Messages.Histogram.Builder, de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder> latencyBuilder_;
+      /**
+       * <code>required .test.Histogram latency = 3;</code>
+       * @return Whether the latency field is set.
+       */
+      public boolean hasLatency() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>required .test.Histogram latency = 3;</code>
+       * @return The latency.
+       */
+      public de.tum.i11.bcsim.proto.Messages.Histogram getLatency() {
+        if (latencyBuilder_ == null) {
+          return latency_ == null ? de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance() : latency_;
+        } else {
+          return latencyBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .test.Histogram latency = 3;</code>
+       */
+      public Builder setLatency(de.tum.i11.bcsim.proto.Messages.Histogram value) {
+        if (latencyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          latency_ = value;
+          onChanged();
+        } else {
+          latencyBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .test.Histogram latency = 3;</code>
+       */
+      public Builder setLatency(
+          de.tum.i11.bcsim.proto.Messages.Histogram.Builder builderForValue) {
+        if (latencyBuilder_ == null) {
+          latency_ = builderForValue.build();
+          onChanged();
+        } else {
+          latencyBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .test.Histogram latency = 3;</code>
+       */
+      public Builder mergeLatency(de.tum.i11.bcsim.proto.Messages.Histogram value) {
+        if (latencyBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+              latency_ != null &&
+              latency_ != de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance()) {
+            latency_ =
+              de.tum.i11.bcsim.proto.Messages.Histogram.newBuilder(latency_).mergeFrom(value).buildPartial();
+          } else {
+            latency_ = value;
+          }
+          onChanged();
+        } else {
+          latencyBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .test.Histogram latency = 3;</code>
+       */
+      public Builder clearLatency() {
+        if (latencyBuilder_ == null) {
+          latency_ = null;
+          onChanged();
+        } else {
+          latencyBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>required .test.Histogram latency = 3;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.Histogram.Builder getLatencyBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getLatencyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .test.Histogram latency = 3;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder getLatencyOrBuilder() {
+        if (latencyBuilder_ != null) {
+          return latencyBuilder_.getMessageOrBuilder();
+        } else {
+          return latency_ == null ?
+              de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance() : latency_;
+        }
+      }
+      /**
+       * <code>required .test.Histogram latency = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.Histogram, de.tum.i11.bcsim.proto.Messages.Histogram.Builder, de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder> 
+          getLatencyFieldBuilder() {
+        if (latencyBuilder_ == null) {
+          latencyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              de.tum.i11.bcsim.proto.Messages.Histogram, de.tum.i11.bcsim.proto.Messages.Histogram.Builder, de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder>(
+                  getLatency(),
+                  getParentForChildren(),
+                  isClean());
+          latency_ = null;
+        }
+        return latencyBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:test.TxLatencyHistogram)
+    }
+
+    // @@protoc_insertion_point(class_scope:test.TxLatencyHistogram)
+    private static final de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram();
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<TxLatencyHistogram>
+        PARSER = new com.google.protobuf.AbstractParser<TxLatencyHistogram>() {
+      @java.lang.Override
+      public TxLatencyHistogram parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TxLatencyHistogram(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TxLatencyHistogram> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TxLatencyHistogram> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.TxLatencyHistogram getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TrafficOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:test.Traffic)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string kind = 1;</code>
+     * @return Whether the kind field is set.
+     */
+    boolean hasKind();
+    /**
+     * <code>required string kind = 1;</code>
+     * @return The kind.
+     */
+    java.lang.String getKind();
+    /**
+     * <code>required string kind = 1;</code>
+     * @return The bytes for kind.
+     */
+    com.google.protobuf.ByteString
+        getKindBytes();
+
+    /**
+     * <code>required int64 sentMsgs = 2;</code>
+     * @return Whether the sentMsgs field is set.
+     */
+    boolean hasSentMsgs();
+    /**
+     * <code>required int64 sentMsgs = 2;</code>
+     * @return The sentMsgs.
+     */
+    long getSentMsgs();
+
+    /**
+     * <code>required int64 sentBytes = 3;</code>
+     * @return Whether the sentBytes field is set.
+     */
+    boolean hasSentBytes();
+    /**
+     * <code>required int64 sentBytes = 3;</code>
+     * @return The sentBytes.
+     */
+    long getSentBytes();
+
+    /**
+     * <code>required int64 sentSimulatedBytes = 4;</code>
+     * @return Whether the sentSimulatedBytes field is set.
+     */
+    boolean hasSentSimulatedBytes();
+    /**
+     * <code>required int64 sentSimulatedBytes = 4;</code>
+     * @return The sentSimulatedBytes.
+     */
+    long getSentSimulatedBytes();
+
+    /**
+     * <code>required int64 receivedMsgs = 5;</code>
+     * @return Whether the receivedMsgs field is set.
+     */
+    boolean hasReceivedMsgs();
+    /**
+     * <code>required int64 receivedMsgs = 5;</code>
+     * @return The receivedMsgs.
+     */
+    long getReceivedMsgs();
+
+    /**
+     * <code>required int64 receivedBytes = 6;</code>
+     * @return Whether the receivedBytes field is set.
+     */
+    boolean hasReceivedBytes();
+    /**
+     * <code>required int64 receivedBytes = 6;</code>
+     * @return The receivedBytes.
+     */
+    long getReceivedBytes();
+
+    /**
+     * <code>required int64 receivedSimulatedBytes = 7;</code>
+     * @return Whether the receivedSimulatedBytes field is set.
+     */
+    boolean hasReceivedSimulatedBytes();
+    /**
+     * <code>required int64 receivedSimulatedBytes = 7;</code>
+     * @return The receivedSimulatedBytes.
+     */
+    long getReceivedSimulatedBytes();
+  }
+  /**
+   * <pre>
+   * Messages and bytes of a P2PMessage kind sent and received by peers, bytes include the length prefix
+   * </pre>
+   *
+   * Protobuf type {@code test.Traffic}
+   */
+  public static final class Traffic extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:test.Traffic)
+      TrafficOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Traffic.newBuilder() to construct.
+    private Traffic(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Traffic() {
+      kind_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Traffic();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Traffic(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              kind_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              sentMsgs_ = input.readInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              sentBytes_ = input.readInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              sentSimulatedBytes_ = input.readInt64();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              receivedMsgs_ = input.readInt64();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              receivedBytes_ = input.readInt64();
+              break;
+            }
+            case 56: {
+              bitField0_ |= 0x00000040;
+              receivedSimulatedBytes_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_Traffic_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_Traffic_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.tum.i11.bcsim.proto.Messages.Traffic.class, de.tum.i11.bcsim.proto.Messages.Traffic.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int KIND_FIELD_NUMBER = 1;
+    private volatile java.lang.Object kind_;
+    /**
+     * <code>required string kind = 1;</code>
+     * @return Whether the kind field is set.
+     */
+    @java.lang.Override
+    public boolean hasKind() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required string kind = 1;</code>
+     * @return The kind.
+     */
+    @java.lang.Override
+    public java.lang.String getKind() {
+      java.lang.Object ref = kind_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          kind_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string kind = 1;</code>
+     * @return The bytes for kind.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getKindBytes() {
+      java.lang.Object ref = kind_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        kind_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SENTMSGS_FIELD_NUMBER = 2;
+    private long sentMsgs_;
+    /**
+     * <code>required int64 sentMsgs = 2;</code>
+     * @return Whether the sentMsgs field is set.
+     */
+    @java.lang.Override
+    public boolean hasSentMsgs() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required int64 sentMsgs = 2;</code>
+     * @return The sentMsgs.
+     */
+    @java.lang.Override
+    public long getSentMsgs() {
+      return sentMsgs_;
+    }
+
+    public static final int SENTBYTES_FIELD_NUMBER = 3;
+    private long sentBytes_;
+    /**
+     * <code>required int64 sentBytes = 3;</code>
+     * @return Whether the sentBytes field is set.
+     */
+    @java.lang.Override
+    public boolean hasSentBytes() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>required int64 sentBytes = 3;</code>
+     * @return The sentBytes.
+     */
+    @java.lang.Override
+    public long getSentBytes() {
+      return sentBytes_;
+    }
+
+    public static final int SENTSIMULATEDBYTES_FIELD_NUMBER = 4;
+    private long sentSimulatedBytes_;
+    /**
+     * <code>required int64 sentSimulatedBytes = 4;</code>
+     * @return Whether the sentSimulatedBytes field is set.
+     */
+    @java.lang.Override
+    public boolean hasSentSimulatedBytes() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>required int64 sentSimulatedBytes = 4;</code>
+     * @return The sentSimulatedBytes.
+     */
+    @java.lang.Override
+    public long getSentSimulatedBytes() {
+      return sentSimulatedBytes_;
+    }
+
+    public static final int RECEIVEDMSGS_FIELD_NUMBER = 5;
+    private long receivedMsgs_;
+    /**
+     * <code>required int64 receivedMsgs = 5;</code>
+     * @return Whether the receivedMsgs field is set.
+     */
+    @java.lang.Override
+    public boolean hasReceivedMsgs() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>required int64 receivedMsgs = 5;</code>
+     * @return The receivedMsgs.
+     */
+    @java.lang.Override
+    public long getReceivedMsgs() {
+      return receivedMsgs_;
+    }
+
+    public static final int RECEIVEDBYTES_FIELD_NUMBER = 6;
+    private long receivedBytes_;
+    /**
+     * <code>required int64 receivedBytes = 6;</code>
+     * @return Whether the receivedBytes field is set.
+     */
+    @java.lang.Override
+    public boolean hasReceivedBytes() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>required int64 receivedBytes = 6;</code>
+     * @return The receivedBytes.
+     */
+    @java.lang.Override
+    public long getReceivedBytes() {
+      return receivedBytes_;
+    }
+
+    public static final int RECEIVEDSIMULATEDBYTES_FIELD_NUMBER = 7;
+    private long receivedSimulatedBytes_;
+    /**
+     * <code>required int64 receivedSimulatedBytes = 7;</code>
+     * @return Whether the receivedSimulatedBytes field is set.
+     */
+    @java.lang.Override
+    public boolean hasReceivedSimulatedBytes() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>required int64 receivedSimulatedBytes = 7;</code>
+     * @return The receivedSimulatedBytes.
+     */
+    @java.lang.Override
+    public long getReceivedSimulatedBytes() {
+      return receivedSimulatedBytes_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasKind()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSentMsgs()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSentBytes()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSentSimulatedBytes()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasReceivedMsgs()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasReceivedBytes()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasReceivedSimulatedBytes()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, kind_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt64(2, sentMsgs_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt64(3, sentBytes_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt64(4, sentSimulatedBytes_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt64(5, receivedMsgs_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeInt64(6, receivedBytes_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeInt64(7, receivedSimulatedBytes_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, kind_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, sentMsgs_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, sentBytes_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, sentSimulatedBytes_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, receivedMsgs_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, receivedBytes_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(7, receivedSimulatedBytes_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof de.tum.i11.bcsim.proto.Messages.Traffic)) {
+        return super.equals(obj);
+      }
+      de.tum.i11.bcsim.proto.Messages.Traffic other = (de.tum.i11.bcsim.proto.Messages.Traffic) obj;
+
+      if (hasKind() != other.hasKind()) return false;
+      if (hasKind()) {
+        if (!getKind()
+            .equals(other.getKind())) return false;
+      }
+      if (hasSentMsgs() != other.hasSentMsgs()) return false;
+      if (hasSentMsgs()) {
+        if (getSentMsgs()
+            != other.getSentMsgs()) return false;
+      }
+      if (hasSentBytes() != other.hasSentBytes()) return false;
+      if (hasSentBytes()) {
+        if (getSentBytes()
+            != other.getSentBytes()) return false;
+      }
+      if (hasSentSimulatedBytes() != other.hasSentSimulatedBytes()) return false;
+      if (hasSentSimulatedBytes()) {
+        if (getSentSimulatedBytes()
+            != other.getSentSimulatedBytes()) return false;
+      }
+      if (hasReceivedMsgs() != other.hasReceivedMsgs()) return false;
+      if (hasReceivedMsgs()) {
+        if (getReceivedMsgs()
+            != other.getReceivedMsgs()) return false;
+      }
+      if (hasReceivedBytes() != other.hasReceivedBytes()) return false;
+      if (hasReceivedBytes()) {
+        if (getReceivedBytes()
+            != other.getReceivedBytes()) return false;
+      }
+      if (hasReceivedSimulatedBytes() != other.hasReceivedSimulatedBytes()) return false;
+      if (hasReceivedSimulatedBytes()) {
+        if (getReceivedSimulatedBytes()
+            != other.getReceivedSimulatedBytes()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasKind()) {
+        hash = (37 * hash) + KIND_FIELD_NUMBER;
+        hash = (53 * hash) + getKind().hashCode();
+      }
+      if (hasSentMsgs()) {
+        hash = (37 * hash) + SENTMSGS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSentMsgs());
+      }
+      if (hasSentBytes()) {
+        hash = (37 * hash) + SENTBYTES_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSentBytes());
+      }
+      if (hasSentSimulatedBytes()) {
+        hash = (37 * hash) + SENTSIMULATEDBYTES_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSentSimulatedBytes());
+      }
+      if (hasReceivedMsgs()) {
+        hash = (37 * hash) + RECEIVEDMSGS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getReceivedMsgs());
+      }
+      if (hasReceivedBytes()) {
+        hash = (37 * hash) + RECEIVEDBYTES_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getReceivedBytes());
+      }
+      if (hasReceivedSimulatedBytes()) {
+        hash = (37 * hash) + RECEIVEDSIMULATEDBYTES_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getReceivedSimulatedBytes());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.Traffic parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Traffic parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Traffic parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Traffic parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Traffic parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Traffic parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Traffic parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Traffic parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Traffic parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Traffic parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Traffic parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Traffic parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(de.tum.i11.bcsim.proto.Messages.Traffic prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Messages and bytes of a P2PMessage kind sent and received by peers, bytes include the length prefix
+     * </pre>
+     *
+     * Protobuf type {@code test.Traffic}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:test.Traffic)
+        de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_Traffic_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_Traffic_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.tum.i11.bcsim.proto.Messages.Traffic.class, de.tum.i11.bcsim.proto.Messages.Traffic.Builder.class);
+      }
+
+      // Construct using de.tum.i11.bcsim.proto.Messages.Traffic.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        kind_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sentMsgs_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        sentBytes_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        sentSimulatedBytes_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        receivedMsgs_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        receivedBytes_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        receivedSimulatedBytes_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_Traffic_descriptor;
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.Traffic getDefaultInstanceForType() {
+        return de.tum.i11.bcsim.proto.Messages.Traffic.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.Traffic build() {
+        de.tum.i11.bcsim.proto.Messages.Traffic result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.Traffic buildPartial() {
+        de.tum.i11.bcsim.proto.Messages.Traffic result = new de.tum.i11.bcsim.proto.Messages.Traffic(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.kind_ = kind_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.sentMsgs_ = sentMsgs_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.sentBytes_ = sentBytes_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.sentSimulatedBytes_ = sentSimulatedBytes_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.receivedMsgs_ = receivedMsgs_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.receivedBytes_ = receivedBytes_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.receivedSimulatedBytes_ = receivedSimulatedBytes_;
+          to_bitField0_ |= 0x00000040;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.tum.i11.bcsim.proto.Messages.Traffic) {
+          return mergeFrom((de.tum.i11.bcsim.proto.Messages.Traffic)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.tum.i11.bcsim.proto.Messages.Traffic other) {
+        if (other == de.tum.i11.bcsim.proto.Messages.Traffic.getDefaultInstance()) return this;
+        if (other.hasKind()) {
+          bitField0_ |= 0x00000001;
+          kind_ = other.kind_;
+          onChanged();
+        }
+        if (other.hasSentMsgs()) {
+          setSentMsgs(other.getSentMsgs());
+        }
+        if (other.hasSentBytes()) {
+          setSentBytes(other.getSentBytes());
+        }
+        if (other.hasSentSimulatedBytes()) {
+          setSentSimulatedBytes(other.getSentSimulatedBytes());
+        }
+        if (other.hasReceivedMsgs()) {
+          setReceivedMsgs(other.getReceivedMsgs());
+        }
+        if (other.hasReceivedBytes()) {
+          setReceivedBytes(other.getReceivedBytes());
+        }
+        if (other.hasReceivedSimulatedBytes()) {
+          setReceivedSimulatedBytes(other.getReceivedSimulatedBytes());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasKind()) {
+          return false;
+        }
+        if (!hasSentMsgs()) {
+          return false;
+        }
+        if (!hasSentBytes()) {
+          return false;
+        }
+        if (!hasSentSimulatedBytes()) {
+          return false;
+        }
+        if (!hasReceivedMsgs()) {
+          return false;
+        }
+        if (!hasReceivedBytes()) {
+          return false;
+        }
+        if (!hasReceivedSimulatedBytes()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.tum.i11.bcsim.proto.Messages.Traffic parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.tum.i11.bcsim.proto.Messages.Traffic) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object kind_ = "";
+      /**
+       * <code>required string kind = 1;</code>
+       * @return Whether the kind field is set.
+       */
+      public boolean hasKind() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required string kind = 1;</code>
+       * @return The kind.
+       */
+      public java.lang.String getKind() {
+        java.lang.Object ref = kind_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            kind_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string kind = 1;</code>
+       * @return The bytes for kind.
+       */
+      public com.google.protobuf.ByteString
+          getKindBytes() {
+        java.lang.Object ref = kind_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          kind_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string kind = 1;</code>
+       * @param value The kind to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKind(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        kind_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string kind = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearKind() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        kind_ = getDefaultInstance().getKind();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string kind = 1;</code>
+       * @param value The bytes for kind to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKindBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        kind_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long sentMsgs_ ;
+      /**
+       * <code>required int64 sentMsgs = 2;</code>
+       * @return Whether the sentMsgs field is set.
+       */
+      @java.lang.Override
+      public boolean hasSentMsgs() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required int64 sentMsgs = 2;</code>
+       * @return The sentMsgs.
+       */
+      @java.lang.Override
+      public long getSentMsgs() {
+        return sentMsgs_;
+      }
+      /**
+       * <code>required int64 sentMsgs = 2;</code>
+       * @param value The sentMsgs to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSentMsgs(long value) {
+        bitField0_ |= 0x00000002;
+        sentMsgs_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 sentMsgs = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSentMsgs() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        sentMsgs_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long sentBytes_ ;
+      /**
+       * <code>required int64 sentBytes = 3;</code>
+       * @return Whether the sentBytes field is set.
+       */
+      @java.lang.Override
+      public boolean hasSentBytes() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>required int64 sentBytes = 3;</code>
+       * @return The sentBytes.
+       */
+      @java.lang.Override
+      public long getSentBytes() {
+        return sentBytes_;
+      }
+      /**
+       * <code>required int64 sentBytes = 3;</code>
+       * @param value The sentBytes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSentBytes(long value) {
+        bitField0_ |= 0x00000004;
+        sentBytes_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 sentBytes = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSentBytes() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        sentBytes_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long sentSimulatedBytes_ ;
+      /**
+       * <code>required int64 sentSimulatedBytes = 4;</code>
+       * @return Whether the sentSimulatedBytes field is set.
+       */
+      @java.lang.Override
+      public boolean hasSentSimulatedBytes() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>required int64 sentSimulatedBytes = 4;</code>
+       * @return The sentSimulatedBytes.
+       */
+      @java.lang.Override
+      public long getSentSimulatedBytes() {
+        return sentSimulatedBytes_;
+      }
+      /**
+       * <code>required int64 sentSimulatedBytes = 4;</code>
+       * @param value The sentSimulatedBytes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSentSimulatedBytes(long value) {
+        bitField0_ |= 0x00000008;
+        sentSimulatedBytes_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 sentSimulatedBytes = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSentSimulatedBytes() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        sentSimulatedBytes_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long receivedMsgs_ ;
+      /**
+       * <code>required int64 receivedMsgs = 5;</code>
+       * @return Whether the receivedMsgs field is set.
+       */
+      @java.lang.Override
+      public boolean hasReceivedMsgs() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>required int64 receivedMsgs = 5;</code>
+       * @return The receivedMsgs.
+       */
+      @java.lang.Override
+      public long getReceivedMsgs() {
+        return receivedMsgs_;
+      }
+      /**
+       * <code>required int64 receivedMsgs = 5;</code>
+       * @param value The receivedMsgs to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReceivedMsgs(long value) {
+        bitField0_ |= 0x00000010;
+        receivedMsgs_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 receivedMsgs = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReceivedMsgs() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        receivedMsgs_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long receivedBytes_ ;
+      /**
+       * <code>required int64 receivedBytes = 6;</code>
+       * @return Whether the receivedBytes field is set.
+       */
+      @java.lang.Override
+      public boolean hasReceivedBytes() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>required int64 receivedBytes = 6;</code>
+       * @return The receivedBytes.
+       */
+      @java.lang.Override
+      public long getReceivedBytes() {
+        return receivedBytes_;
+      }
+      /**
+       * <code>required int64 receivedBytes = 6;</code>
+       * @param value The receivedBytes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReceivedBytes(long value) {
+        bitField0_ |= 0x00000020;
+        receivedBytes_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 receivedBytes = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReceivedBytes() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        receivedBytes_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long receivedSimulatedBytes_ ;
+      /**
+       * <code>required int64 receivedSimulatedBytes = 7;</code>
+       * @return Whether the receivedSimulatedBytes field is set.
+       */
+      @java.lang.Override
+      public boolean hasReceivedSimulatedBytes() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>required int64 receivedSimulatedBytes = 7;</code>
+       * @return The receivedSimulatedBytes.
+       */
+      @java.lang.Override
+      public long getReceivedSimulatedBytes() {
+        return receivedSimulatedBytes_;
+      }
+      /**
+       * <code>required int64 receivedSimulatedBytes = 7;</code>
+       * @param value The receivedSimulatedBytes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReceivedSimulatedBytes(long value) {
+        bitField0_ |= 0x00000040;
+        receivedSimulatedBytes_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 receivedSimulatedBytes = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReceivedSimulatedBytes() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        receivedSimulatedBytes_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:test.Traffic)
+    }
+
+    // @@protoc_insertion_point(class_scope:test.Traffic)
+    private static final de.tum.i11.bcsim.proto.Messages.Traffic DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new de.tum.i11.bcsim.proto.Messages.Traffic();
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.Traffic getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<Traffic>
+        PARSER = new com.google.protobuf.AbstractParser<Traffic>() {
+      @java.lang.Override
+      public Traffic parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Traffic(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Traffic> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Traffic> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.Traffic getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LinkTrafficOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:test.LinkTraffic)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int32 from = 1;</code>
+     * @return Whether the from field is set.
+     */
+    boolean hasFrom();
+    /**
+     * <code>required int32 from = 1;</code>
+     * @return The from.
+     */
+    int getFrom();
+
+    /**
+     * <code>required int32 to = 2;</code>
+     * @return Whether the to field is set.
+     */
+    boolean hasTo();
+    /**
+     * <code>required int32 to = 2;</code>
+     * @return The to.
+     */
+    int getTo();
+
+    /**
+     * <code>required .test.Traffic traffic = 3;</code>
+     * @return Whether the traffic field is set.
+     */
+    boolean hasTraffic();
+    /**
+     * <code>required .test.Traffic traffic = 3;</code>
+     * @return The traffic.
+     */
+    de.tum.i11.bcsim.proto.Messages.Traffic getTraffic();
+    /**
+     * <code>required .test.Traffic traffic = 3;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder getTrafficOrBuilder();
+  }
+  /**
+   * Protobuf type {@code test.LinkTraffic}
+   */
+  public static final class LinkTraffic extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:test.LinkTraffic)
+      LinkTrafficOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use LinkTraffic.newBuilder() to construct.
+    private LinkTraffic(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private LinkTraffic() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new LinkTraffic();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LinkTraffic(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              from_ = input.readInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              to_ = input.readInt32();
+              break;
+            }
+            case 26: {
+              de.tum.i11.bcsim.proto.Messages.Traffic.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) != 0)) {
+                subBuilder = traffic_.toBuilder();
+              }
+              traffic_ = input.readMessage(de.tum.i11.bcsim.proto.Messages.Traffic.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(traffic_);
+                traffic_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_LinkTraffic_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_LinkTraffic_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.tum.i11.bcsim.proto.Messages.LinkTraffic.class, de.tum.i11.bcsim.proto.Messages.LinkTraffic.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int FROM_FIELD_NUMBER = 1;
+    private int from_;
+    /**
+     * <code>required int32 from = 1;</code>
+     * @return Whether the from field is set.
+     */
+    @java.lang.Override
+    public boolean hasFrom() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required int32 from = 1;</code>
+     * @return The from.
+     */
+    @java.lang.Override
+    public int getFrom() {
+      return from_;
+    }
+
+    public static final int TO_FIELD_NUMBER = 2;
+    private int to_;
+    /**
+     * <code>required int32 to = 2;</code>
+     * @return Whether the to field is set.
+     */
+    @java.lang.Override
+    public boolean hasTo() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required int32 to = 2;</code>
+     * @return The to.
+     */
+    @java.lang.Override
+    public int getTo() {
+      return to_;
+    }
+
+    public static final int TRAFFIC_FIELD_NUMBER = 3;
+    private de.tum.i11.bcsim.proto.Messages.Traffic traffic_;
+    /**
+     * <code>required .test.Traffic traffic = 3;</code>
+     * @return Whether the traffic field is set.
+     */
+    @java.lang.Override
+    public boolean hasTraffic() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>required .test.Traffic traffic = 3;</code>
+     * @return The traffic.
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.Traffic getTraffic() {
+      return traffic_ == null ? de.tum.i11.bcsim.proto.Messages.Traffic.getDefaultInstance() : traffic_;
+    }
+    /**
+     * <code>required .test.Traffic traffic = 3;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder getTrafficOrBuilder() {
+      return traffic_ == null ? de.tum.i11.bcsim.proto.Messages.Traffic.getDefaultInstance() : traffic_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasFrom()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasTo()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasTraffic()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getTraffic().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt32(1, from_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, to_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeMessage(3, getTraffic());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, from_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, to_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getTraffic());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof de.tum.i11.bcsim.proto.Messages.LinkTraffic)) {
+        return super.equals(obj);
+      }
+      de.tum.i11.bcsim.proto.Messages.LinkTraffic other = (de.tum.i11.bcsim.proto.Messages.LinkTraffic) obj;
+
+      if (hasFrom() != other.hasFrom()) return false;
+      if (hasFrom()) {
+        if (getFrom()
+            != other.getFrom()) return false;
+      }
+      if (hasTo() != other.hasTo()) return false;
+      if (hasTo()) {
+        if (getTo()
+            != other.getTo()) return false;
+      }
+      if (hasTraffic() != other.hasTraffic()) return false;
+      if (hasTraffic()) {
+        if (!getTraffic()
+            .equals(other.getTraffic())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasFrom()) {
+        hash = (37 * hash) + FROM_FIELD_NUMBER;
+        hash = (53 * hash) + getFrom();
+      }
+      if (hasTo()) {
+        hash = (37 * hash) + TO_FIELD_NUMBER;
+        hash = (53 * hash) + getTo();
+      }
+      if (hasTraffic()) {
+        hash = (37 * hash) + TRAFFIC_FIELD_NUMBER;
+        hash = (53 * hash) + getTraffic().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.LinkTraffic parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.LinkTraffic parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.LinkTraffic parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.LinkTraffic parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.LinkTraffic parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.LinkTraffic parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.LinkTraffic parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.LinkTraffic parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.LinkTraffic parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.LinkTraffic parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.LinkTraffic parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.LinkTraffic parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(de.tum.i11.bcsim.proto.Messages.LinkTraffic prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code test.LinkTraffic}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:test.LinkTraffic)
+        de.tum.i11.bcsim.proto.Messages.LinkTrafficOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_LinkTraffic_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_LinkTraffic_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.tum.i11.bcsim.proto.Messages.LinkTraffic.class, de.tum.i11.bcsim.proto.Messages.LinkTraffic.Builder.class);
+      }
+
+      // Construct using de.tum.i11.bcsim.proto.Messages.LinkTraffic.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getTrafficFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        from_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        to_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (trafficBuilder_ == null) {
+          traffic_ = null;
+        } else {
+          trafficBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_LinkTraffic_descriptor;
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.LinkTraffic getDefaultInstanceForType() {
+        return de.tum.i11.bcsim.proto.Messages.LinkTraffic.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.LinkTraffic build() {
+        de.tum.i11.bcsim.proto.Messages.LinkTraffic result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.LinkTraffic buildPartial() {
+        de.tum.i11.bcsim.proto.Messages.LinkTraffic result = new de.tum.i11.bcsim.proto.Messages.LinkTraffic(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.from_ = from_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.to_ = to_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          if (trafficBuilder_ == null) {
+            result.traffic_ = traffic_;
+          } else {
+            result.traffic_ = trafficBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.tum.i11.bcsim.proto.Messages.LinkTraffic) {
+          return mergeFrom((de.tum.i11.bcsim.proto.Messages.LinkTraffic)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.tum.i11.bcsim.proto.Messages.LinkTraffic other) {
+        if (other == de.tum.i11.bcsim.proto.Messages.LinkTraffic.getDefaultInstance()) return this;
+        if (other.hasFrom()) {
+          setFrom(other.getFrom());
+        }
+        if (other.hasTo()) {
+          setTo(other.getTo());
+        }
+        if (other.hasTraffic()) {
+          mergeTraffic(other.getTraffic());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasFrom()) {
+          return false;
+        }
+        if (!hasTo()) {
+          return false;
+        }
+        if (!hasTraffic()) {
+          return false;
+        }
+        if (!getTraffic().isInitialized()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.tum.i11.bcsim.proto.Messages.LinkTraffic parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.tum.i11.bcsim.proto.Messages.LinkTraffic) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int from_ ;
+      /**
+       * <code>required int32 from = 1;</code>
+       * @return Whether the from field is set.
+       */
+      @java.lang.Override
+      public boolean hasFrom() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required int32 from = 1;</code>
+       * @return The from.
+       */
+      @java.lang.Override
+      public int getFrom() {
+        return from_;
+      }
+      /**
+       * <code>required int32 from = 1;</code>
+       * @param value The from to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFrom(int value) {
+        bitField0_ |= 0x00000001;
+        from_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 from = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFrom() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        from_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int to_ ;
+      /**
+       * <code>required int32 to = 2;</code>
+       * @return Whether the to field is set.
+       */
+      @java.lang.Override
+      public boolean hasTo() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required int32 to = 2;</code>
+       * @return The to.
+       */
+      @java.lang.Override
+      public int getTo() {
+        return to_;
+      }
+      /**
+       * <code>required int32 to = 2;</code>
+       * @param value The to to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTo(int value) {
+        bitField0_ |= 0x00000002;
+        to_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 to = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTo() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        to_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private de.tum.i11.bcsim.proto.Messages.Traffic traffic_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.Traffic, de.tum.i11.bcsim.proto.Messages.Traffic.Builder, de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder> trafficBuilder_;
+      /**
+       * <code>required .test.Traffic traffic = 3;</code>
+       * @return Whether the traffic field is set.
+       */
+      public boolean hasTraffic() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>required .test.Traffic traffic = 3;</code>
+       * @return The traffic.
+       */
+      public de.tum.i11.bcsim.proto.Messages.Traffic getTraffic() {
+        if (trafficBuilder_ == null) {
+          return traffic_ == null ? de.tum.i11.bcsim.proto.Messages.Traffic.getDefaultInstance() : traffic_;
+        } else {
+          return trafficBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .test.Traffic traffic = 3;</code>
+       */
+      public Builder setTraffic(de.tum.i11.bcsim.proto.Messages.Traffic value) {
+        if (trafficBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          traffic_ = value;
+          onChanged();
+        } else {
+          trafficBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .test.Traffic traffic = 3;</code>
+       */
+      public Builder setTraffic(
+          de.tum.i11.bcsim.proto.Messages.Traffic.Builder builderForValue) {
+        if (trafficBuilder_ == null) {
+          traffic_ = builderForValue.build();
+          onChanged();
+        } else {
+          trafficBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .test.Traffic traffic = 3;</code>
+       */
+      public Builder mergeTraffic(de.tum.i11.bcsim.proto.Messages.Traffic value) {
+        if (trafficBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+              traffic_ != null &&
+              traffic_ != de.tum.i11.bcsim.proto.Messages.Traffic.getDefaultInstance()) {
+            traffic_ =
+              de.tum.i11.bcsim.proto.Messages.Traffic.newBuilder(traffic_).mergeFrom(value).buildPartial();
+          } else {
+            traffic_ = value;
+          }
+          onChanged();
+        } else {
+          trafficBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .test.Traffic traffic = 3;</code>
+       */
+      public Builder clearTraffic() {
+        if (trafficBuilder_ == null) {
+          traffic_ = null;
+          onChanged();
+        } else {
+          trafficBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>required .test.Traffic traffic = 3;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.Traffic.Builder getTrafficBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getTrafficFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .test.Traffic traffic = 3;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder getTrafficOrBuilder() {
+        if (trafficBuilder_ != null) {
+          return trafficBuilder_.getMessageOrBuilder();
+        } else {
+          return traffic_ == null ?
+              de.tum.i11.bcsim.proto.Messages.Traffic.getDefaultInstance() : traffic_;
+        }
+      }
+      /**
+       * <code>required .test.Traffic traffic = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.Traffic, de.tum.i11.bcsim.proto.Messages.Traffic.Builder, de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder> 
+          getTrafficFieldBuilder() {
+        if (trafficBuilder_ == null) {
+          trafficBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              de.tum.i11.bcsim.proto.Messages.Traffic, de.tum.i11.bcsim.proto.Messages.Traffic.Builder, de.tum.i11.bcsim.proto.Messages.TrafficOrBuilder>(
+                  getTraffic(),
+                  getParentForChildren(),
+                  isClean());
+          traffic_ = null;
+        }
+        return trafficBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:test.LinkTraffic)
+    }
+
+    // @@protoc_insertion_point(class_scope:test.LinkTraffic)
+    private static final de.tum.i11.bcsim.proto.Messages.LinkTraffic DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new de.tum.i11.bcsim.proto.Messages.LinkTraffic();
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.LinkTraffic getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<LinkTraffic>
+        PARSER = new com.google.protobuf.AbstractParser<LinkTraffic>() {
+      @java.lang.Override
+      public LinkTraffic parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LinkTraffic(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<LinkTraffic> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LinkTraffic> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.LinkTraffic getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BlockPropagationOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:test.BlockPropagation)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int32 blockId = 1;</code>
+     * @return Whether the blockId field is set.
+     */
+    boolean hasBlockId();
+    /**
+     * <code>required int32 blockId = 1;</code>
+     * @return The blockId.
+     */
+    int getBlockId();
+
+    /**
+     * <code>required .test.Histogram delay = 2;</code>
+     * @return Whether the delay field is set.
+     */
+    boolean hasDelay();
+    /**
+     * <code>required .test.Histogram delay = 2;</code>
+     * @return The delay.
+     */
+    de.tum.i11.bcsim.proto.Messages.Histogram getDelay();
+    /**
+     * <code>required .test.Histogram delay = 2;</code>
+     */
+    de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder getDelayOrBuilder();
+  }
+  /**
+   * <pre>
+   * Delays (µs) between creation of a block and the first time peers of a coordinator saw it
+   * </pre>
+   *
+   * Protobuf type {@code test.BlockPropagation}
+   */
+  public static final class BlockPropagation extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:test.BlockPropagation)
+      BlockPropagationOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BlockPropagation.newBuilder() to construct.
+    private BlockPropagation(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BlockPropagation() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BlockPropagation();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BlockPropagation(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              blockId_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              de.tum.i11.bcsim.proto.Messages.Histogram.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) != 0)) {
+                subBuilder = delay_.toBuilder();
+              }
+              delay_ = input.readMessage(de.tum.i11.bcsim.proto.Messages.Histogram.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(delay_);
+                delay_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_BlockPropagation_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_BlockPropagation_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.tum.i11.bcsim.proto.Messages.BlockPropagation.class, de.tum.i11.bcsim.proto.Messages.BlockPropagation.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int BLOCKID_FIELD_NUMBER = 1;
+    private int blockId_;
+    /**
+     * <code>required int32 blockId = 1;</code>
+     * @return Whether the blockId field is set.
+     */
+    @java.lang.Override
+    public boolean hasBlockId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required int32 blockId = 1;</code>
+     * @return The blockId.
+     */
+    @java.lang.Override
+    public int getBlockId() {
+      return blockId_;
+    }
+
+    public static final int DELAY_FIELD_NUMBER = 2;
+    private de.tum.i11.bcsim.proto.Messages.Histogram delay_;
+    /**
+     * <code>required .test.Histogram delay = 2;</code>
+     * @return Whether the delay field is set.
+     */
+    @java.lang.Override
+    public boolean hasDelay() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required .test.Histogram delay = 2;</code>
+     * @return The delay.
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.Histogram getDelay() {
+      return delay_ == null ? de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance() : delay_;
+    }
+    /**
+     * <code>required .test.Histogram delay = 2;</code>
+     */
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder getDelayOrBuilder() {
+      return delay_ == null ? de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance() : delay_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasBlockId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasDelay()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getDelay().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt32(1, blockId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(2, getDelay());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, blockId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getDelay());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof de.tum.i11.bcsim.proto.Messages.BlockPropagation)) {
+        return super.equals(obj);
+      }
+      de.tum.i11.bcsim.proto.Messages.BlockPropagation other = (de.tum.i11.bcsim.proto.Messages.BlockPropagation) obj;
+
+      if (hasBlockId() != other.hasBlockId()) return false;
+      if (hasBlockId()) {
+        if (getBlockId()
+            != other.getBlockId()) return false;
+      }
+      if (hasDelay() != other.hasDelay()) return false;
+      if (hasDelay()) {
+        if (!getDelay()
+            .equals(other.getDelay())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasBlockId()) {
+        hash = (37 * hash) + BLOCKID_FIELD_NUMBER;
+        hash = (53 * hash) + getBlockId();
+      }
+      if (hasDelay()) {
+        hash = (37 * hash) + DELAY_FIELD_NUMBER;
+        hash = (53 * hash) + getDelay().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.BlockPropagation parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.BlockPropagation parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.BlockPropagation parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.BlockPropagation parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.BlockPropagation parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.BlockPropagation parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.BlockPropagation parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.BlockPropagation parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.BlockPropagation parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.BlockPropagation parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.BlockPropagation parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.BlockPropagation parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(de.tum.i11.bcsim.proto.Messages.BlockPropagation prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Delays (µs) between creation of a block and the first time peers of a coordinator saw it
+     * </pre>
+     *
+     * Protobuf type {@code test.BlockPropagation}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:test.BlockPropagation)
+        de.tum.i11.bcsim.proto.Messages.BlockPropagationOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_BlockPropagation_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_BlockPropagation_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.tum.i11.bcsim.proto.Messages.BlockPropagation.class, de.tum.i11.bcsim.proto.Messages.BlockPropagation.Builder.class);
+      }
+
+      // Construct using de.tum.i11.bcsim.proto.Messages.BlockPropagation.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getDelayFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        blockId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (delayBuilder_ == null) {
+          delay_ = null;
+        } else {
+          delayBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_BlockPropagation_descriptor;
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.BlockPropagation getDefaultInstanceForType() {
+        return de.tum.i11.bcsim.proto.Messages.BlockPropagation.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.BlockPropagation build() {
+        de.tum.i11.bcsim.proto.Messages.BlockPropagation result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.BlockPropagation buildPartial() {
+        de.tum.i11.bcsim.proto.Messages.BlockPropagation result = new de.tum.i11.bcsim.proto.Messages.BlockPropagation(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.blockId_ = blockId_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          if (delayBuilder_ == null) {
+            result.delay_ = delay_;
+          } else {
+            result.delay_ = delayBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.tum.i11.bcsim.proto.Messages.BlockPropagation) {
+          return mergeFrom((de.tum.i11.bcsim.proto.Messages.BlockPropagation)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.tum.i11.bcsim.proto.Messages.BlockPropagation other) {
+        if (other == de.tum.i11.bcsim.proto.Messages.BlockPropagation.getDefaultInstance()) return this;
+        if (other.hasBlockId()) {
+          setBlockId(other.getBlockId());
+        }
+        if (other.hasDelay()) {
+          mergeDelay(other.getDelay());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasBlockId()) {
+          return false;
+        }
+        if (!hasDelay()) {
+          return false;
+        }
+        if (!getDelay().isInitialized()) {
+          return false;
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.tum.i11.bcsim.proto.Messages.BlockPropagation parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.tum.i11.bcsim.proto.Messages.BlockPropagation) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int blockId_ ;
+      /**
+       * <code>required int32 blockId = 1;</code>
+       * @return Whether the blockId field is set.
+       */
+      @java.lang.Override
+      public boolean hasBlockId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required int32 blockId = 1;</code>
+       * @return The blockId.
+       */
+      @java.lang.Override
+      public int getBlockId() {
+        return blockId_;
+      }
+      /**
+       * <code>required int32 blockId = 1;</code>
+       * @param value The blockId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBlockId(int value) {
+        bitField0_ |= 0x00000001;
+        blockId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 blockId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBlockId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        blockId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private de.tum.i11.bcsim.proto.Messages.Histogram delay_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.Histogram, de.tum.i11.bcsim.proto.Messages.Histogram.Builder, de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder> delayBuilder_;
+      /**
+       * <code>required .test.Histogram delay = 2;</code>
+       * @return Whether the delay field is set.
+       */
+      public boolean hasDelay() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required .test.Histogram delay = 2;</code>
+       * @return The delay.
+       */
+      public de.tum.i11.bcsim.proto.Messages.Histogram getDelay() {
+        if (delayBuilder_ == null) {
+          return delay_ == null ? de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance() : delay_;
+        } else {
+          return delayBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .test.Histogram delay = 2;</code>
+       */
+      public Builder setDelay(de.tum.i11.bcsim.proto.Messages.Histogram value) {
+        if (delayBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          delay_ = value;
+          onChanged();
+        } else {
+          delayBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .test.Histogram delay = 2;</code>
+       */
+      public Builder setDelay(
+          de.tum.i11.bcsim.proto.Messages.Histogram.Builder builderForValue) {
+        if (delayBuilder_ == null) {
+          delay_ = builderForValue.build();
+          onChanged();
+        } else {
+          delayBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .test.Histogram delay = 2;</code>
+       */
+      public Builder mergeDelay(de.tum.i11.bcsim.proto.Messages.Histogram value) {
+        if (delayBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+              delay_ != null &&
+              delay_ != de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance()) {
+            delay_ =
+              de.tum.i11.bcsim.proto.Messages.Histogram.newBuilder(delay_).mergeFrom(value).buildPartial();
+          } else {
+            delay_ = value;
+          }
+          onChanged();
+        } else {
+          delayBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .test.Histogram delay = 2;</code>
+       */
+      public Builder clearDelay() {
+        if (delayBuilder_ == null) {
+          delay_ = null;
+          onChanged();
+        } else {
+          delayBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>required .test.Histogram delay = 2;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.Histogram.Builder getDelayBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDelayFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .test.Histogram delay = 2;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder getDelayOrBuilder() {
+        if (delayBuilder_ != null) {
+          return delayBuilder_.getMessageOrBuilder();
+        } else {
+          return delay_ == null ?
+              de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance() : delay_;
+        }
+      }
+      /**
+       * <code>required .test.Histogram delay = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.Histogram, de.tum.i11.bcsim.proto.Messages.Histogram.Builder, de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder> 
+          getDelayFieldBuilder() {
+        if (delayBuilder_ == null) {
+          delayBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              de.tum.i11.bcsim.proto.Messages.Histogram, de.tum.i11.bcsim.proto.Messages.Histogram.Builder, de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder>(
+                  getDelay(),
+                  getParentForChildren(),
+                  isClean());
+          delay_ = null;
+        }
+        return delayBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:test.BlockPropagation)
+    }
+
+    // @@protoc_insertion_point(class_scope:test.BlockPropagation)
+    private static final de.tum.i11.bcsim.proto.Messages.BlockPropagation DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new de.tum.i11.bcsim.proto.Messages.BlockPropagation();
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.BlockPropagation getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<BlockPropagation>
+        PARSER = new com.google.protobuf.AbstractParser<BlockPropagation>() {
+      @java.lang.Override
+      public BlockPropagation parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BlockPropagation(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BlockPropagation> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BlockPropagation> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.BlockPropagation getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TimeSeriesOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:test.TimeSeries)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int64 start = 1;</code>
+     * @return Whether the start field is set.
      */
-    int getOrphans();
+    boolean hasStart();
+    /**
+     * <code>required int64 start = 1;</code>
+     * @return The start.
+     */
+    long getStart();
 
     /**
-     * <code>required double createdBlocksPerSec = 4;</code>
-     * @return Whether the createdBlocksPerSec field is set.
+     * <code>required int32 windowMs = 2;</code>
+     * @return Whether the windowMs field is set.
      */
-    boolean hasCreatedBlocksPerSec();
+    boolean hasWindowMs();
     /**
-     * <code>required double createdBlocksPerSec = 4;</code>
-     * @return The createdBlocksPerSec.
+     * <code>required int32 windowMs = 2;</code>
+     * @return The windowMs.
      */
-    double getCreatedBlocksPerSec();
+    int getWindowMs();
+
+    /**
+     * <code>repeated double values = 3 [packed = true];</code>
+     * @return A list containing the values.
+     */
+    java.util.List<java.lang.Double> getValuesList();
+    /**
+     * <code>repeated double values = 3 [packed = true];</code>
+     * @return The count of values.
+     */
+    int getValuesCount();
+    /**
+     * <code>repeated double values = 3 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The values at the given index.
+     */
+    double getValues(int index);
+
+    /**
+     * <code>optional int32 peers = 4 [default = 1];</code>
+     * @return Whether the peers field is set.
+     */
+    boolean hasPeers();
+    /**
+     * <code>optional int32 peers = 4 [default = 1];</code>
+     * @return The peers.
+     */
+    int getPeers();
+  }
+  /**
+   * <pre>
+   * Values per time window, windows are aligned to the epoch
+   * </pre>
+   *
+   * Protobuf type {@code test.TimeSeries}
+   */
+  public static final class TimeSeries extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:test.TimeSeries)
+      TimeSeriesOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TimeSeries.newBuilder() to construct.
+    private TimeSeries(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TimeSeries() {
+      values_ = emptyDoubleList();
+      peers_ = 1;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TimeSeries();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TimeSeries(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              start_ = input.readInt64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              windowMs_ = input.readInt32();
+              break;
+            }
+            case 25: {
+              if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+                values_ = newDoubleList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              values_.addDouble(input.readDouble());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000004) != 0) && input.getBytesUntilLimit() > 0) {
+                values_ = newDoubleList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                values_.addDouble(input.readDouble());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000004;
+              peers_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) != 0)) {
+          values_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_TimeSeries_descriptor;
+    }
 
-    /**
-     * <code>required int32 createdBlocks = 5;</code>
-     * @return Whether the createdBlocks field is set.
-     */
-    boolean hasCreatedBlocks();
-    /**
-     * <code>required int32 createdBlocks = 5;</code>
-     * @return The createdBlocks.
-     */
-    int getCreatedBlocks();
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_TimeSeries_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.tum.i11.bcsim.proto.Messages.TimeSeries.class, de.tum.i11.bcsim.proto.Messages.TimeSeries.Builder.class);
+    }
 
+    private int bitField0_;
+    public static final int START_FIELD_NUMBER = 1;
+    private long start_;
     /**
-     * <code>required double createdTxPerSec = 6;</code>
-     * @return Whether the createdTxPerSec field is set.
+     * <code>required int64 start = 1;</code>
+     * @return Whether the start field is set.
      */
-    boolean hasCreatedTxPerSec();
+    @java.lang.Override
+    public boolean hasStart() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
     /**
-     * <code>required double createdTxPerSec = 6;</code>
-     * @return The createdTxPerSec.
+     * <code>required int64 start = 1;</code>
+     * @return The start.
      */
-    double getCreatedTxPerSec();
+    @java.lang.Override
+    public long getStart() {
+      return start_;
+    }
 
+    public static final int WINDOWMS_FIELD_NUMBER = 2;
+    private int windowMs_;
     /**
-     * <code>required int32 createdTx = 7;</code>
-     * @return Whether the createdTx field is set.
+     * <code>required int32 windowMs = 2;</code>
+     * @return Whether the windowMs field is set.
      */
-    boolean hasCreatedTx();
+    @java.lang.Override
+    public boolean hasWindowMs() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
     /**
-     * <code>required int32 createdTx = 7;</code>
-     * @return The createdTx.
+     * <code>required int32 windowMs = 2;</code>
+     * @return The windowMs.
      */
-    int getCreatedTx();
+    @java.lang.Override
+    public int getWindowMs() {
+      return windowMs_;
+    }
 
+    public static final int VALUES_FIELD_NUMBER = 3;
+    private com.google.protobuf.Internal.DoubleList values_;
     /**
-     * <code>required double confirmedBlocksPerSec = 8;</code>
-     * @return Whether the confirmedBlocksPerSec field is set.
-     */
-    boolean hasConfirmedBlocksPerSec();
-    /**
-     * <code>required double confirmedBlocksPerSec = 8;</code>
-     * @return The confirmedBlocksPerSec.
+     * <code>repeated double values = 3 [packed = true];</code>
+     * @return A list containing the values.
      */
-    double getConfirmedBlocksPerSec();
-
+    @java.lang.Override
+    public java.util.List<java.lang.Double>
+        getValuesList() {
+      return values_;
+    }
     /**
-     * <code>required double confirmedTxPerSec = 9;</code>
-     * @return Whether the confirmedTxPerSec field is set.
+     * <code>repeated double values = 3 [packed = true];</code>
+     * @return The count of values.
      */
-    boolean hasConfirmedTxPerSec();
+    public int getValuesCount() {
+      return values_.size();
+    }
     /**
-     * <code>required double confirmedTxPerSec = 9;</code>
-     * @return The confirmedTxPerSec.
+     * <code>repeated double values = 3 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The values at the given index.
      */
-    double getConfirmedTxPerSec();
+    public double getValues(int index) {
+      return values_.getDouble(index);
+    }
+    private int valuesMemoizedSerializedSize = -1;
 
+    public static final int PEERS_FIELD_NUMBER = 4;
+    private int peers_;
     /**
-     * <code>required double confirmedBytesPerSec = 10;</code>
-     * @return Whether the confirmedBytesPerSec field is set.
+     * <code>optional int32 peers = 4 [default = 1];</code>
+     * @return Whether the peers field is set.
      */
-    boolean hasConfirmedBytesPerSec();
+    @java.lang.Override
+    public boolean hasPeers() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
     /**
-     * <code>required double confirmedBytesPerSec = 10;</code>
-     * @return The confirmedBytesPerSec.
+     * <code>optional int32 peers = 4 [default = 1];</code>
+     * @return The peers.
      */
-    double getConfirmedBytesPerSec();
+    @java.lang.Override
+    public int getPeers() {
+      return peers_;
+    }
 
-    /**
-     * <code>required double totalBlocksPerSec = 11;</code>
-     * @return Whether the totalBlocksPerSec field is set.
-     */
-    boolean hasTotalBlocksPerSec();
-    /**
-     * <code>required double totalBlocksPerSec = 11;</code>
-     * @return The totalBlocksPerSec.
-     */
-    double getTotalBlocksPerSec();
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-    /**
-     * <code>required double totalTxPerSec = 12;</code>
-     * @return Whether the totalTxPerSec field is set.
-     */
-    boolean hasTotalTxPerSec();
-    /**
-     * <code>required double totalTxPerSec = 12;</code>
-     * @return The totalTxPerSec.
-     */
-    double getTotalTxPerSec();
+      if (!hasStart()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasWindowMs()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-    /**
-     * <code>required int32 unconfirmedTx = 13;</code>
-     * @return Whether the unconfirmedTx field is set.
-     */
-    boolean hasUnconfirmedTx();
-    /**
-     * <code>required int32 unconfirmedTx = 13;</code>
-     * @return The unconfirmedTx.
-     */
-    int getUnconfirmedTx();
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt64(1, start_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, windowMs_);
+      }
+      if (getValuesList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(valuesMemoizedSerializedSize);
+      }
+      for (int i = 0; i < values_.size(); i++) {
+        output.writeDoubleNoTag(values_.getDouble(i));
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt32(4, peers_);
+      }
+      unknownFields.writeTo(output);
+    }
 
-    /**
-     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
-     */
-    java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyResult> 
-        getTxLatencyList();
-    /**
-     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
-     */
-    de.tum.i11.bcsim.proto.Messages.TxLatencyResult getTxLatency(int index);
-    /**
-     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
-     */
-    int getTxLatencyCount();
-    /**
-     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
-     */
-    java.util.List<? extends de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder> 
-        getTxLatencyOrBuilderList();
-    /**
-     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
-     */
-    de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder getTxLatencyOrBuilder(
-        int index);
-  }
-  /**
-   * Protobuf type {@code test.ResultEntry}
-   */
-  public static final class ResultEntry extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:test.ResultEntry)
-      ResultEntryOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use ResultEntry.newBuilder() to construct.
-    private ResultEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, start_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, windowMs_);
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getValuesList().size();
+        size += dataSize;
+        if (!getValuesList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        valuesMemoizedSerializedSize = dataSize;
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, peers_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof de.tum.i11.bcsim.proto.Messages.TimeSeries)) {
+        return super.equals(obj);
+      }
+      de.tum.i11.bcsim.proto.Messages.TimeSeries other = (de.tum.i11.bcsim.proto.Messages.TimeSeries) obj;
+
+      if (hasStart() != other.hasStart()) return false;
+      if (hasStart()) {
+        if (getStart()
+            != other.getStart()) return false;
+      }
+      if (hasWindowMs() != other.hasWindowMs()) return false;
+      if (hasWindowMs()) {
+        if (getWindowMs()
+            != other.getWindowMs()) return false;
+      }
+      if (!getValuesList()
+          .equals(other.getValuesList())) return false;
+      if (hasPeers() != other.hasPeers()) return false;
+      if (hasPeers()) {
+        if (getPeers()
+            != other.getPeers()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStart()) {
+        hash = (37 * hash) + START_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getStart());
+      }
+      if (hasWindowMs()) {
+        hash = (37 * hash) + WINDOWMS_FIELD_NUMBER;
+        hash = (53 * hash) + getWindowMs();
+      }
+      if (getValuesCount() > 0) {
+        hash = (37 * hash) + VALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getValuesList().hashCode();
+      }
+      if (hasPeers()) {
+        hash = (37 * hash) + PEERS_FIELD_NUMBER;
+        hash = (53 * hash) + getPeers();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.TimeSeries parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TimeSeries parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TimeSeries parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TimeSeries parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TimeSeries parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TimeSeries parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TimeSeries parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
     }
-    private ResultEntry() {
-      txLatency_ = java.util.Collections.emptyList();
+    public static de.tum.i11.bcsim.proto.Messages.TimeSeries parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TimeSeries parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TimeSeries parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TimeSeries parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.TimeSeries parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    @SuppressWarnings({"unused"})
-    protected java.lang.Object newInstance(
-        UnusedPrivateParameter unused) {
-      return new ResultEntry();
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(de.tum.i11.bcsim.proto.Messages.TimeSeries prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
     }
-    private ResultEntry(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
+    /**
+     * <pre>
+     * Values per time window, windows are aligned to the epoch
+     * </pre>
+     *
+     * Protobuf type {@code test.TimeSeries}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:test.TimeSeries)
+        de.tum.i11.bcsim.proto.Messages.TimeSeriesOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_TimeSeries_descriptor;
       }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 8: {
-              bitField0_ |= 0x00000001;
-              nodeId_ = input.readInt32();
-              break;
-            }
-            case 16: {
-              bitField0_ |= 0x00000002;
-              poolSize_ = input.readInt32();
-              break;
-            }
-            case 24: {
-              bitField0_ |= 0x00000004;
-              orphans_ = input.readInt32();
-              break;
-            }
-            case 33: {
-              bitField0_ |= 0x00000008;
-              createdBlocksPerSec_ = input.readDouble();
-              break;
-            }
-            case 40: {
-              bitField0_ |= 0x00000010;
-              createdBlocks_ = input.readInt32();
-              break;
-            }
-            case 49: {
-              bitField0_ |= 0x00000020;
-              createdTxPerSec_ = input.readDouble();
-              break;
-            }
-            case 56: {
-              bitField0_ |= 0x00000040;
-              createdTx_ = input.readInt32();
-              break;
-            }
-            case 65: {
-              bitField0_ |= 0x00000080;
-              confirmedBlocksPerSec_ = input.readDouble();
-              break;
-            }
-            case 73: {
-              bitField0_ |= 0x00000100;
-              confirmedTxPerSec_ = input.readDouble();
-              break;
-            }
-            case 81: {
-              bitField0_ |= 0x00000200;
-              confirmedBytesPerSec_ = input.readDouble();
-              break;
-            }
-            case 89: {
-              bitField0_ |= 0x00000400;
-              totalBlocksPerSec_ = input.readDouble();
-              break;
-            }
-            case 97: {
-              bitField0_ |= 0x00000800;
-              totalTxPerSec_ = input.readDouble();
-              break;
-            }
-            case 104: {
-              bitField0_ |= 0x00001000;
-              unconfirmedTx_ = input.readInt32();
-              break;
-            }
-            case 114: {
-              if (!((mutable_bitField0_ & 0x00002000) != 0)) {
-                txLatency_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.TxLatencyResult>();
-                mutable_bitField0_ |= 0x00002000;
-              }
-              txLatency_.add(
-                  input.readMessage(de.tum.i11.bcsim.proto.Messages.TxLatencyResult.PARSER, extensionRegistry));
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_TimeSeries_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.tum.i11.bcsim.proto.Messages.TimeSeries.class, de.tum.i11.bcsim.proto.Messages.TimeSeries.Builder.class);
+      }
+
+      // Construct using de.tum.i11.bcsim.proto.Messages.TimeSeries.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        start_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        windowMs_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        values_ = emptyDoubleList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        peers_ = 1;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_TimeSeries_descriptor;
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.TimeSeries getDefaultInstanceForType() {
+        return de.tum.i11.bcsim.proto.Messages.TimeSeries.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.TimeSeries build() {
+        de.tum.i11.bcsim.proto.Messages.TimeSeries result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.TimeSeries buildPartial() {
+        de.tum.i11.bcsim.proto.Messages.TimeSeries result = new de.tum.i11.bcsim.proto.Messages.TimeSeries(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.start_ = start_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.windowMs_ = windowMs_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((bitField0_ & 0x00000004) != 0)) {
+          values_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.values_ = values_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.peers_ = peers_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.tum.i11.bcsim.proto.Messages.TimeSeries) {
+          return mergeFrom((de.tum.i11.bcsim.proto.Messages.TimeSeries)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.tum.i11.bcsim.proto.Messages.TimeSeries other) {
+        if (other == de.tum.i11.bcsim.proto.Messages.TimeSeries.getDefaultInstance()) return this;
+        if (other.hasStart()) {
+          setStart(other.getStart());
+        }
+        if (other.hasWindowMs()) {
+          setWindowMs(other.getWindowMs());
+        }
+        if (!other.values_.isEmpty()) {
+          if (values_.isEmpty()) {
+            values_ = other.values_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureValuesIsMutable();
+            values_.addAll(other.values_);
           }
+          onChanged();
         }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        if (((mutable_bitField0_ & 0x00002000) != 0)) {
-          txLatency_ = java.util.Collections.unmodifiableList(txLatency_);
+        if (other.hasPeers()) {
+          setPeers(other.getPeers());
         }
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
       }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return de.tum.i11.bcsim.proto.Messages.internal_static_test_ResultEntry_descriptor;
-    }
 
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return de.tum.i11.bcsim.proto.Messages.internal_static_test_ResultEntry_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              de.tum.i11.bcsim.proto.Messages.ResultEntry.class, de.tum.i11.bcsim.proto.Messages.ResultEntry.Builder.class);
-    }
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasStart()) {
+          return false;
+        }
+        if (!hasWindowMs()) {
+          return false;
+        }
+        return true;
+      }
 
-    private int bitField0_;
-    public static final int NODEID_FIELD_NUMBER = 1;
-    private int nodeId_;
-    /**
-     * <code>required int32 nodeId = 1;</code>
-     * @return Whether the nodeId field is set.
-     */
-    @java.lang.Override
-    public boolean hasNodeId() {
-      return ((bitField0_ & 0x00000001) != 0);
-    }
-    /**
-     * <code>required int32 nodeId = 1;</code>
-     * @return The nodeId.
-     */
-    @java.lang.Override
-    public int getNodeId() {
-      return nodeId_;
-    }
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.tum.i11.bcsim.proto.Messages.TimeSeries parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.tum.i11.bcsim.proto.Messages.TimeSeries) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
 
-    public static final int POOLSIZE_FIELD_NUMBER = 2;
-    private int poolSize_;
-    /**
-     * <code>required int32 poolSize = 2;</code>
-     * @return Whether the poolSize field is set.
-     */
-    @java.lang.Override
-    public boolean hasPoolSize() {
-      return ((bitField0_ & 0x00000002) != 0);
-    }
-    /**
-     * <code>required int32 poolSize = 2;</code>
-     * @return The poolSize.
-     */
-    @java.lang.Override
-    public int getPoolSize() {
-      return poolSize_;
-    }
+      private long start_ ;
+      /**
+       * <code>required int64 start = 1;</code>
+       * @return Whether the start field is set.
+       */
+      @java.lang.Override
+      public boolean hasStart() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required int64 start = 1;</code>
+       * @return The start.
+       */
+      @java.lang.Override
+      public long getStart() {
+        return start_;
+      }
+      /**
+       * <code>required int64 start = 1;</code>
+       * @param value The start to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStart(long value) {
+        bitField0_ |= 0x00000001;
+        start_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 start = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStart() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        start_ = 0L;
+        onChanged();
+        return this;
+      }
 
-    public static final int ORPHANS_FIELD_NUMBER = 3;
-    private int orphans_;
-    /**
-     * <code>required int32 orphans = 3;</code>
-     * @return Whether the orphans field is set.
-     */
-    @java.lang.Override
-    public boolean hasOrphans() {
-      return ((bitField0_ & 0x00000004) != 0);
-    }
-    /**
-     * <code>required int32 orphans = 3;</code>
-     * @return The orphans.
-     */
-    @java.lang.Override
-    public int getOrphans() {
-      return orphans_;
-    }
+      private int windowMs_ ;
+      /**
+       * <code>required int32 windowMs = 2;</code>
+       * @return Whether the windowMs field is set.
+       */
+      @java.lang.Override
+      public boolean hasWindowMs() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required int32 windowMs = 2;</code>
+       * @return The windowMs.
+       */
+      @java.lang.Override
+      public int getWindowMs() {
+        return windowMs_;
+      }
+      /**
+       * <code>required int32 windowMs = 2;</code>
+       * @param value The windowMs to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWindowMs(int value) {
+        bitField0_ |= 0x00000002;
+        windowMs_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 windowMs = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWindowMs() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        windowMs_ = 0;
+        onChanged();
+        return this;
+      }
 
-    public static final int CREATEDBLOCKSPERSEC_FIELD_NUMBER = 4;
-    private double createdBlocksPerSec_;
-    /**
-     * <code>required double createdBlocksPerSec = 4;</code>
-     * @return Whether the createdBlocksPerSec field is set.
-     */
-    @java.lang.Override
-    public boolean hasCreatedBlocksPerSec() {
-      return ((bitField0_ & 0x00000008) != 0);
-    }
-    /**
-     * <code>required double createdBlocksPerSec = 4;</code>
-     * @return The createdBlocksPerSec.
-     */
-    @java.lang.Override
-    public double getCreatedBlocksPerSec() {
-      return createdBlocksPerSec_;
+      private com.google.protobuf.Internal.DoubleList values_ = emptyDoubleList();
+      private void ensureValuesIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          values_ = mutableCopy(values_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated double values = 3 [packed = true];</code>
+       * @return A list containing the values.
+       */
+      public java.util.List<java.lang.Double>
+          getValuesList() {
+        return ((bitField0_ & 0x00000004) != 0) ?
+                 java.util.Collections.unmodifiableList(values_) : values_;
+      }
+      /**
+       * <code>repeated double values = 3 [packed = true];</code>
+       * @return The count of values.
+       */
+      public int getValuesCount() {
+        return values_.size();
+      }
+      /**
+       * <code>repeated double values = 3 [packed = true];</code>
+       * @param index The index of the element to return.
+       * @return The values at the given index.
+       */
+      public double getValues(int index) {
+        return values_.getDouble(index);
+      }
+      /**
+       * <code>repeated double values = 3 [packed = true];</code>
+       * @param index The index to set the value at.
+       * @param value The values to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValues(
+          int index, double value) {
+        ensureValuesIsMutable();
+        values_.setDouble(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double values = 3 [packed = true];</code>
+       * @param value The values to add.
+       * @return This builder for chaining.
+       */
+      public Builder addValues(double value) {
+        ensureValuesIsMutable();
+        values_.addDouble(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double values = 3 [packed = true];</code>
+       * @param values The values to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllValues(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureValuesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, values_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double values = 3 [packed = true];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearValues() {
+        values_ = emptyDoubleList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      private int peers_ = 1;
+      /**
+       * <code>optional int32 peers = 4 [default = 1];</code>
+       * @return Whether the peers field is set.
+       */
+      @java.lang.Override
+      public boolean hasPeers() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional int32 peers = 4 [default = 1];</code>
+       * @return The peers.
+       */
+      @java.lang.Override
+      public int getPeers() {
+        return peers_;
+      }
+      /**
+       * <code>optional int32 peers = 4 [default = 1];</code>
+       * @param value The peers to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPeers(int value) {
+        bitField0_ |= 0x00000008;
+        peers_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 peers = 4 [default = 1];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPeers() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        peers_ = 1;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:test.TimeSeries)
     }
 
-    public static final int CREATEDBLOCKS_FIELD_NUMBER = 5;
-    private int createdBlocks_;
-    /**
-     * <code>required int32 createdBlocks = 5;</code>
-     * @return Whether the createdBlocks field is set.
-     */
-    @java.lang.Override
-    public boolean hasCreatedBlocks() {
-      return ((bitField0_ & 0x00000010) != 0);
+    // @@protoc_insertion_point(class_scope:test.TimeSeries)
+    private static final de.tum.i11.bcsim.proto.Messages.TimeSeries DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new de.tum.i11.bcsim.proto.Messages.TimeSeries();
     }
-    /**
-     * <code>required int32 createdBlocks = 5;</code>
-     * @return The createdBlocks.
-     */
-    @java.lang.Override
-    public int getCreatedBlocks() {
-      return createdBlocks_;
+
+    public static de.tum.i11.bcsim.proto.Messages.TimeSeries getDefaultInstance() {
+      return DEFAULT_INSTANCE;
     }
 
-    public static final int CREATEDTXPERSEC_FIELD_NUMBER = 6;
-    private double createdTxPerSec_;
-    /**
-     * <code>required double createdTxPerSec = 6;</code>
-     * @return Whether the createdTxPerSec field is set.
-     */
-    @java.lang.Override
-    public boolean hasCreatedTxPerSec() {
-      return ((bitField0_ & 0x00000020) != 0);
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<TimeSeries>
+        PARSER = new com.google.protobuf.AbstractParser<TimeSeries>() {
+      @java.lang.Override
+      public TimeSeries parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TimeSeries(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TimeSeries> parser() {
+      return PARSER;
     }
-    /**
-     * <code>required double createdTxPerSec = 6;</code>
-     * @return The createdTxPerSec.
-     */
+
     @java.lang.Override
-    public double getCreatedTxPerSec() {
-      return createdTxPerSec_;
+    public com.google.protobuf.Parser<TimeSeries> getParserForType() {
+      return PARSER;
     }
 
-    public static final int CREATEDTX_FIELD_NUMBER = 7;
-    private int createdTx_;
-    /**
-     * <code>required int32 createdTx = 7;</code>
-     * @return Whether the createdTx field is set.
-     */
     @java.lang.Override
-    public boolean hasCreatedTx() {
-      return ((bitField0_ & 0x00000040) != 0);
+    public de.tum.i11.bcsim.proto.Messages.TimeSeries getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
     }
+
+  }
+
+  public interface NamedTimeSeriesOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:test.NamedTimeSeries)
+      com.google.protobuf.MessageOrBuilder {
+
     /**
-     * <code>required int32 createdTx = 7;</code>
-     * @return The createdTx.
+     * <code>required string name = 1;</code>
+     * @return Whether the name field is set.
      */
-    @java.lang.Override
-    public int getCreatedTx() {
-      return createdTx_;
-    }
-
-    public static final int CONFIRMEDBLOCKSPERSEC_FIELD_NUMBER = 8;
-    private double confirmedBlocksPerSec_;
+    boolean hasName();
     /**
-     * <code>required double confirmedBlocksPerSec = 8;</code>
-     * @return Whether the confirmedBlocksPerSec field is set.
+     * <code>required string name = 1;</code>
+     * @return The name.
      */
-    @java.lang.Override
-    public boolean hasConfirmedBlocksPerSec() {
-      return ((bitField0_ & 0x00000080) != 0);
-    }
+    java.lang.String getName();
     /**
-     * <code>required double confirmedBlocksPerSec = 8;</code>
-     * @return The confirmedBlocksPerSec.
+     * <code>required string name = 1;</code>
+     * @return The bytes for name.
      */
-    @java.lang.Override
-    public double getConfirmedBlocksPerSec() {
-      return confirmedBlocksPerSec_;
-    }
+    com.google.protobuf.ByteString
+        getNameBytes();
 
-    public static final int CONFIRMEDTXPERSEC_FIELD_NUMBER = 9;
-    private double confirmedTxPerSec_;
     /**
-     * <code>required double confirmedTxPerSec = 9;</code>
-     * @return Whether the confirmedTxPerSec field is set.
+     * <code>required .test.TimeSeries series = 2;</code>
+     * @return Whether the series field is set.
      */
-    @java.lang.Override
-    public boolean hasConfirmedTxPerSec() {
-      return ((bitField0_ & 0x00000100) != 0);
-    }
+    boolean hasSeries();
     /**
-     * <code>required double confirmedTxPerSec = 9;</code>
-     * @return The confirmedTxPerSec.
+     * <code>required .test.TimeSeries series = 2;</code>
+     * @return The series.
      */
-    @java.lang.Override
-    public double getConfirmedTxPerSec() {
-      return confirmedTxPerSec_;
-    }
-
-    public static final int CONFIRMEDBYTESPERSEC_FIELD_NUMBER = 10;
-    private double confirmedBytesPerSec_;
+    de.tum.i11.bcsim.proto.Messages.TimeSeries getSeries();
     /**
-     * <code>required double confirmedBytesPerSec = 10;</code>
-     * @return Whether the confirmedBytesPerSec field is set.
+     * <code>required .test.TimeSeries series = 2;</code>
      */
-    @java.lang.Override
-    public boolean hasConfirmedBytesPerSec() {
-      return ((bitField0_ & 0x00000200) != 0);
+    de.tum.i11.bcsim.proto.Messages.TimeSeriesOrBuilder getSeriesOrBuilder();
+  }
+  /**
+   * Protobuf type {@code test.NamedTimeSeries}
+   */
+  public static final class NamedTimeSeries extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:test.NamedTimeSeries)
+      NamedTimeSeriesOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use NamedTimeSeries.newBuilder() to construct.
+    private NamedTimeSeries(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
     }
-    /**
-     * <code>required double confirmedBytesPerSec = 10;</code>
-     * @return The confirmedBytesPerSec.
-     */
-    @java.lang.Override
-    public double getConfirmedBytesPerSec() {
-      return confirmedBytesPerSec_;
+    private NamedTimeSeries() {
+      name_ = "";
     }
 
-    public static final int TOTALBLOCKSPERSEC_FIELD_NUMBER = 11;
-    private double totalBlocksPerSec_;
-    /**
-     * <code>required double totalBlocksPerSec = 11;</code>
-     * @return Whether the totalBlocksPerSec field is set.
-     */
-    @java.lang.Override
-    public boolean hasTotalBlocksPerSec() {
-      return ((bitField0_ & 0x00000400) != 0);
-    }
-    /**
-     * <code>required double totalBlocksPerSec = 11;</code>
-     * @return The totalBlocksPerSec.
-     */
     @java.lang.Override
-    public double getTotalBlocksPerSec() {
-      return totalBlocksPerSec_;
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new NamedTimeSeries();
     }
 
-    public static final int TOTALTXPERSEC_FIELD_NUMBER = 12;
-    private double totalTxPerSec_;
-    /**
-     * <code>required double totalTxPerSec = 12;</code>
-     * @return Whether the totalTxPerSec field is set.
-     */
     @java.lang.Override
-    public boolean hasTotalTxPerSec() {
-      return ((bitField0_ & 0x00000800) != 0);
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
     }
-    /**
-     * <code>required double totalTxPerSec = 12;</code>
-     * @return The totalTxPerSec.
-     */
-    @java.lang.Override
-    public double getTotalTxPerSec() {
-      return totalTxPerSec_;
+    private NamedTimeSeries(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              name_ = bs;
+              break;
+            }
+            case 18: {
+              de.tum.i11.bcsim.proto.Messages.TimeSeries.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) != 0)) {
+                subBuilder = series_.toBuilder();
+              }
+              series_ = input.readMessage(de.tum.i11.bcsim.proto.Messages.TimeSeries.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(series_);
+                series_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_NamedTimeSeries_descriptor;
     }
 
-    public static final int UNCONFIRMEDTX_FIELD_NUMBER = 13;
-    private int unconfirmedTx_;
-    /**
-     * <code>required int32 unconfirmedTx = 13;</code>
-     * @return Whether the unconfirmedTx field is set.
-     */
     @java.lang.Override
-    public boolean hasUnconfirmedTx() {
-      return ((bitField0_ & 0x00001000) != 0);
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_NamedTimeSeries_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.class, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder.class);
     }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
     /**
-     * <code>required int32 unconfirmedTx = 13;</code>
-     * @return The unconfirmedTx.
+     * <code>required string name = 1;</code>
+     * @return Whether the name field is set.
      */
     @java.lang.Override
-    public int getUnconfirmedTx() {
-      return unconfirmedTx_;
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) != 0);
     }
-
-    public static final int TXLATENCY_FIELD_NUMBER = 14;
-    private java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyResult> txLatency_;
     /**
-     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+     * <code>required string name = 1;</code>
+     * @return The name.
      */
     @java.lang.Override
-    public java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyResult> getTxLatencyList() {
-      return txLatency_;
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
     }
     /**
-     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+     * <code>required string name = 1;</code>
+     * @return The bytes for name.
      */
     @java.lang.Override
-    public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder> 
-        getTxLatencyOrBuilderList() {
-      return txLatency_;
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
+
+    public static final int SERIES_FIELD_NUMBER = 2;
+    private de.tum.i11.bcsim.proto.Messages.TimeSeries series_;
     /**
-     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+     * <code>required .test.TimeSeries series = 2;</code>
+     * @return Whether the series field is set.
      */
     @java.lang.Override
-    public int getTxLatencyCount() {
-      return txLatency_.size();
+    public boolean hasSeries() {
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
-     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+     * <code>required .test.TimeSeries series = 2;</code>
+     * @return The series.
      */
     @java.lang.Override
-    public de.tum.i11.bcsim.proto.Messages.TxLatencyResult getTxLatency(int index) {
-      return txLatency_.get(index);
+    public de.tum.i11.bcsim.proto.Messages.TimeSeries getSeries() {
+      return series_ == null ? de.tum.i11.bcsim.proto.Messages.TimeSeries.getDefaultInstance() : series_;
     }
     /**
-     * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+     * <code>required .test.TimeSeries series = 2;</code>
      */
     @java.lang.Override
-    public de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder getTxLatencyOrBuilder(
-        int index) {
-      return txLatency_.get(index);
+    public de.tum.i11.bcsim.proto.Messages.TimeSeriesOrBuilder getSeriesOrBuilder() {
+      return series_ == null ? de.tum.i11.bcsim.proto.Messages.TimeSeries.getDefaultInstance() : series_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -11898,64 +21804,18 @@ public final class Messages {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasNodeId()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasPoolSize()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasOrphans()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasCreatedBlocksPerSec()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasCreatedBlocks()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasCreatedTxPerSec()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasCreatedTx()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasConfirmedBlocksPerSec()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasConfirmedTxPerSec()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasConfirmedBytesPerSec()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasTotalBlocksPerSec()) {
+      if (!hasName()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasTotalTxPerSec()) {
+      if (!hasSeries()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasUnconfirmedTx()) {
+      if (!getSeries().isInitialized()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      for (int i = 0; i < getTxLatencyCount(); i++) {
-        if (!getTxLatency(i).isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -11964,46 +21824,10 @@ public final class Messages {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
-        output.writeInt32(1, nodeId_);
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        output.writeInt32(2, poolSize_);
-      }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        output.writeInt32(3, orphans_);
-      }
-      if (((bitField0_ & 0x00000008) != 0)) {
-        output.writeDouble(4, createdBlocksPerSec_);
-      }
-      if (((bitField0_ & 0x00000010) != 0)) {
-        output.writeInt32(5, createdBlocks_);
-      }
-      if (((bitField0_ & 0x00000020) != 0)) {
-        output.writeDouble(6, createdTxPerSec_);
-      }
-      if (((bitField0_ & 0x00000040) != 0)) {
-        output.writeInt32(7, createdTx_);
-      }
-      if (((bitField0_ & 0x00000080) != 0)) {
-        output.writeDouble(8, confirmedBlocksPerSec_);
-      }
-      if (((bitField0_ & 0x00000100) != 0)) {
-        output.writeDouble(9, confirmedTxPerSec_);
-      }
-      if (((bitField0_ & 0x00000200) != 0)) {
-        output.writeDouble(10, confirmedBytesPerSec_);
-      }
-      if (((bitField0_ & 0x00000400) != 0)) {
-        output.writeDouble(11, totalBlocksPerSec_);
-      }
-      if (((bitField0_ & 0x00000800) != 0)) {
-        output.writeDouble(12, totalTxPerSec_);
-      }
-      if (((bitField0_ & 0x00001000) != 0)) {
-        output.writeInt32(13, unconfirmedTx_);
-      }
-      for (int i = 0; i < txLatency_.size(); i++) {
-        output.writeMessage(14, txLatency_.get(i));
+        output.writeMessage(2, getSeries());
       }
       unknownFields.writeTo(output);
     }
@@ -12015,1412 +21839,1689 @@ public final class Messages {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, nodeId_);
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, poolSize_);
+          .computeMessageSize(2, getSeries());
       }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(3, orphans_);
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
       }
-      if (((bitField0_ & 0x00000008) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(4, createdBlocksPerSec_);
+      if (!(obj instanceof de.tum.i11.bcsim.proto.Messages.NamedTimeSeries)) {
+        return super.equals(obj);
       }
-      if (((bitField0_ & 0x00000010) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(5, createdBlocks_);
+      de.tum.i11.bcsim.proto.Messages.NamedTimeSeries other = (de.tum.i11.bcsim.proto.Messages.NamedTimeSeries) obj;
+
+      if (hasName() != other.hasName()) return false;
+      if (hasName()) {
+        if (!getName()
+            .equals(other.getName())) return false;
       }
-      if (((bitField0_ & 0x00000020) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(6, createdTxPerSec_);
+      if (hasSeries() != other.hasSeries()) return false;
+      if (hasSeries()) {
+        if (!getSeries()
+            .equals(other.getSeries())) return false;
       }
-      if (((bitField0_ & 0x00000040) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(7, createdTx_);
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
       }
-      if (((bitField0_ & 0x00000080) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(8, confirmedBlocksPerSec_);
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasName()) {
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
       }
-      if (((bitField0_ & 0x00000100) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(9, confirmedTxPerSec_);
+      if (hasSeries()) {
+        hash = (37 * hash) + SERIES_FIELD_NUMBER;
+        hash = (53 * hash) + getSeries().hashCode();
       }
-      if (((bitField0_ & 0x00000200) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(10, confirmedBytesPerSec_);
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.NamedTimeSeries parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.NamedTimeSeries parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.NamedTimeSeries parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.NamedTimeSeries parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.NamedTimeSeries parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.NamedTimeSeries parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.NamedTimeSeries parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.NamedTimeSeries parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.NamedTimeSeries parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.NamedTimeSeries parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.NamedTimeSeries parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.NamedTimeSeries parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(de.tum.i11.bcsim.proto.Messages.NamedTimeSeries prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code test.NamedTimeSeries}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:test.NamedTimeSeries)
+        de.tum.i11.bcsim.proto.Messages.NamedTimeSeriesOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_NamedTimeSeries_descriptor;
       }
-      if (((bitField0_ & 0x00000400) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(11, totalBlocksPerSec_);
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_NamedTimeSeries_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.class, de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.Builder.class);
+      }
+
+      // Construct using de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getSeriesFieldBuilder();
+        }
       }
-      if (((bitField0_ & 0x00000800) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(12, totalTxPerSec_);
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (seriesBuilder_ == null) {
+          series_ = null;
+        } else {
+          seriesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
       }
-      if (((bitField0_ & 0x00001000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(13, unconfirmedTx_);
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_NamedTimeSeries_descriptor;
       }
-      for (int i = 0; i < txLatency_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(14, txLatency_.get(i));
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.NamedTimeSeries getDefaultInstanceForType() {
+        return de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.getDefaultInstance();
       }
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
 
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.NamedTimeSeries build() {
+        de.tum.i11.bcsim.proto.Messages.NamedTimeSeries result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
       }
-      if (!(obj instanceof de.tum.i11.bcsim.proto.Messages.ResultEntry)) {
-        return super.equals(obj);
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.NamedTimeSeries buildPartial() {
+        de.tum.i11.bcsim.proto.Messages.NamedTimeSeries result = new de.tum.i11.bcsim.proto.Messages.NamedTimeSeries(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          if (seriesBuilder_ == null) {
+            result.series_ = series_;
+          } else {
+            result.series_ = seriesBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
       }
-      de.tum.i11.bcsim.proto.Messages.ResultEntry other = (de.tum.i11.bcsim.proto.Messages.ResultEntry) obj;
 
-      if (hasNodeId() != other.hasNodeId()) return false;
-      if (hasNodeId()) {
-        if (getNodeId()
-            != other.getNodeId()) return false;
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
       }
-      if (hasPoolSize() != other.hasPoolSize()) return false;
-      if (hasPoolSize()) {
-        if (getPoolSize()
-            != other.getPoolSize()) return false;
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
       }
-      if (hasOrphans() != other.hasOrphans()) return false;
-      if (hasOrphans()) {
-        if (getOrphans()
-            != other.getOrphans()) return false;
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
       }
-      if (hasCreatedBlocksPerSec() != other.hasCreatedBlocksPerSec()) return false;
-      if (hasCreatedBlocksPerSec()) {
-        if (java.lang.Double.doubleToLongBits(getCreatedBlocksPerSec())
-            != java.lang.Double.doubleToLongBits(
-                other.getCreatedBlocksPerSec())) return false;
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
       }
-      if (hasCreatedBlocks() != other.hasCreatedBlocks()) return false;
-      if (hasCreatedBlocks()) {
-        if (getCreatedBlocks()
-            != other.getCreatedBlocks()) return false;
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
       }
-      if (hasCreatedTxPerSec() != other.hasCreatedTxPerSec()) return false;
-      if (hasCreatedTxPerSec()) {
-        if (java.lang.Double.doubleToLongBits(getCreatedTxPerSec())
-            != java.lang.Double.doubleToLongBits(
-                other.getCreatedTxPerSec())) return false;
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
       }
-      if (hasCreatedTx() != other.hasCreatedTx()) return false;
-      if (hasCreatedTx()) {
-        if (getCreatedTx()
-            != other.getCreatedTx()) return false;
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.tum.i11.bcsim.proto.Messages.NamedTimeSeries) {
+          return mergeFrom((de.tum.i11.bcsim.proto.Messages.NamedTimeSeries)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
       }
-      if (hasConfirmedBlocksPerSec() != other.hasConfirmedBlocksPerSec()) return false;
-      if (hasConfirmedBlocksPerSec()) {
-        if (java.lang.Double.doubleToLongBits(getConfirmedBlocksPerSec())
-            != java.lang.Double.doubleToLongBits(
-                other.getConfirmedBlocksPerSec())) return false;
+
+      public Builder mergeFrom(de.tum.i11.bcsim.proto.Messages.NamedTimeSeries other) {
+        if (other == de.tum.i11.bcsim.proto.Messages.NamedTimeSeries.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.hasSeries()) {
+          mergeSeries(other.getSeries());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
       }
-      if (hasConfirmedTxPerSec() != other.hasConfirmedTxPerSec()) return false;
-      if (hasConfirmedTxPerSec()) {
-        if (java.lang.Double.doubleToLongBits(getConfirmedTxPerSec())
-            != java.lang.Double.doubleToLongBits(
-                other.getConfirmedTxPerSec())) return false;
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasName()) {
+          return false;
+        }
+        if (!hasSeries()) {
+          return false;
+        }
+        if (!getSeries().isInitialized()) {
+          return false;
+        }
+        return true;
       }
-      if (hasConfirmedBytesPerSec() != other.hasConfirmedBytesPerSec()) return false;
-      if (hasConfirmedBytesPerSec()) {
-        if (java.lang.Double.doubleToLongBits(getConfirmedBytesPerSec())
-            != java.lang.Double.doubleToLongBits(
-                other.getConfirmedBytesPerSec())) return false;
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.tum.i11.bcsim.proto.Messages.NamedTimeSeries parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.tum.i11.bcsim.proto.Messages.NamedTimeSeries) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
       }
-      if (hasTotalBlocksPerSec() != other.hasTotalBlocksPerSec()) return false;
-      if (hasTotalBlocksPerSec()) {
-        if (java.lang.Double.doubleToLongBits(getTotalBlocksPerSec())
-            != java.lang.Double.doubleToLongBits(
-                other.getTotalBlocksPerSec())) return false;
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>required string name = 1;</code>
+       * @return Whether the name field is set.
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) != 0);
       }
-      if (hasTotalTxPerSec() != other.hasTotalTxPerSec()) return false;
-      if (hasTotalTxPerSec()) {
-        if (java.lang.Double.doubleToLongBits(getTotalTxPerSec())
-            != java.lang.Double.doubleToLongBits(
-                other.getTotalTxPerSec())) return false;
+      /**
+       * <code>required string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
-      if (hasUnconfirmedTx() != other.hasUnconfirmedTx()) return false;
-      if (hasUnconfirmedTx()) {
-        if (getUnconfirmedTx()
-            != other.getUnconfirmedTx()) return false;
+      /**
+       * <code>required string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
       }
-      if (!getTxLatencyList()
-          .equals(other.getTxLatencyList())) return false;
-      if (!unknownFields.equals(other.unknownFields)) return false;
-      return true;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
+      /**
+       * <code>required string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
       }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasNodeId()) {
-        hash = (37 * hash) + NODEID_FIELD_NUMBER;
-        hash = (53 * hash) + getNodeId();
+      /**
+       * <code>required string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
       }
-      if (hasPoolSize()) {
-        hash = (37 * hash) + POOLSIZE_FIELD_NUMBER;
-        hash = (53 * hash) + getPoolSize();
+      /**
+       * <code>required string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
       }
-      if (hasOrphans()) {
-        hash = (37 * hash) + ORPHANS_FIELD_NUMBER;
-        hash = (53 * hash) + getOrphans();
+
+      private de.tum.i11.bcsim.proto.Messages.TimeSeries series_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.TimeSeries, de.tum.i11.bcsim.proto.Messages.TimeSeries.Builder, de.tum.i11.bcsim.proto.Messages.TimeSeriesOrBuilder> seriesBuilder_;
+      /**
+       * <code>required .test.TimeSeries series = 2;</code>
+       * @return Whether the series field is set.
+       */
+      public boolean hasSeries() {
+        return ((bitField0_ & 0x00000002) != 0);
       }
-      if (hasCreatedBlocksPerSec()) {
-        hash = (37 * hash) + CREATEDBLOCKSPERSEC_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getCreatedBlocksPerSec()));
+      /**
+       * <code>required .test.TimeSeries series = 2;</code>
+       * @return The series.
+       */
+      public de.tum.i11.bcsim.proto.Messages.TimeSeries getSeries() {
+        if (seriesBuilder_ == null) {
+          return series_ == null ? de.tum.i11.bcsim.proto.Messages.TimeSeries.getDefaultInstance() : series_;
+        } else {
+          return seriesBuilder_.getMessage();
+        }
       }
-      if (hasCreatedBlocks()) {
-        hash = (37 * hash) + CREATEDBLOCKS_FIELD_NUMBER;
-        hash = (53 * hash) + getCreatedBlocks();
+      /**
+       * <code>required .test.TimeSeries series = 2;</code>
+       */
+      public Builder setSeries(de.tum.i11.bcsim.proto.Messages.TimeSeries value) {
+        if (seriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          series_ = value;
+          onChanged();
+        } else {
+          seriesBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
       }
-      if (hasCreatedTxPerSec()) {
-        hash = (37 * hash) + CREATEDTXPERSEC_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getCreatedTxPerSec()));
+      /**
+       * <code>required .test.TimeSeries series = 2;</code>
+       */
+      public Builder setSeries(
+          de.tum.i11.bcsim.proto.Messages.TimeSeries.Builder builderForValue) {
+        if (seriesBuilder_ == null) {
+          series_ = builderForValue.build();
+          onChanged();
+        } else {
+          seriesBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
       }
-      if (hasCreatedTx()) {
-        hash = (37 * hash) + CREATEDTX_FIELD_NUMBER;
-        hash = (53 * hash) + getCreatedTx();
+      /**
+       * <code>required .test.TimeSeries series = 2;</code>
+       */
+      public Builder mergeSeries(de.tum.i11.bcsim.proto.Messages.TimeSeries value) {
+        if (seriesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+              series_ != null &&
+              series_ != de.tum.i11.bcsim.proto.Messages.TimeSeries.getDefaultInstance()) {
+            series_ =
+              de.tum.i11.bcsim.proto.Messages.TimeSeries.newBuilder(series_).mergeFrom(value).buildPartial();
+          } else {
+            series_ = value;
+          }
+          onChanged();
+        } else {
+          seriesBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
       }
-      if (hasConfirmedBlocksPerSec()) {
-        hash = (37 * hash) + CONFIRMEDBLOCKSPERSEC_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getConfirmedBlocksPerSec()));
+      /**
+       * <code>required .test.TimeSeries series = 2;</code>
+       */
+      public Builder clearSeries() {
+        if (seriesBuilder_ == null) {
+          series_ = null;
+          onChanged();
+        } else {
+          seriesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
       }
-      if (hasConfirmedTxPerSec()) {
-        hash = (37 * hash) + CONFIRMEDTXPERSEC_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getConfirmedTxPerSec()));
+      /**
+       * <code>required .test.TimeSeries series = 2;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.TimeSeries.Builder getSeriesBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getSeriesFieldBuilder().getBuilder();
       }
-      if (hasConfirmedBytesPerSec()) {
-        hash = (37 * hash) + CONFIRMEDBYTESPERSEC_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getConfirmedBytesPerSec()));
+      /**
+       * <code>required .test.TimeSeries series = 2;</code>
+       */
+      public de.tum.i11.bcsim.proto.Messages.TimeSeriesOrBuilder getSeriesOrBuilder() {
+        if (seriesBuilder_ != null) {
+          return seriesBuilder_.getMessageOrBuilder();
+        } else {
+          return series_ == null ?
+              de.tum.i11.bcsim.proto.Messages.TimeSeries.getDefaultInstance() : series_;
+        }
       }
-      if (hasTotalBlocksPerSec()) {
-        hash = (37 * hash) + TOTALBLOCKSPERSEC_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getTotalBlocksPerSec()));
+      /**
+       * <code>required .test.TimeSeries series = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.TimeSeries, de.tum.i11.bcsim.proto.Messages.TimeSeries.Builder, de.tum.i11.bcsim.proto.Messages.TimeSeriesOrBuilder> 
+          getSeriesFieldBuilder() {
+        if (seriesBuilder_ == null) {
+          seriesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              de.tum.i11.bcsim.proto.Messages.TimeSeries, de.tum.i11.bcsim.proto.Messages.TimeSeries.Builder, de.tum.i11.bcsim.proto.Messages.TimeSeriesOrBuilder>(
+                  getSeries(),
+                  getParentForChildren(),
+                  isClean());
+          series_ = null;
+        }
+        return seriesBuilder_;
       }
-      if (hasTotalTxPerSec()) {
-        hash = (37 * hash) + TOTALTXPERSEC_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getTotalTxPerSec()));
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
       }
-      if (hasUnconfirmedTx()) {
-        hash = (37 * hash) + UNCONFIRMEDTX_FIELD_NUMBER;
-        hash = (53 * hash) + getUnconfirmedTx();
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
       }
-      if (getTxLatencyCount() > 0) {
-        hash = (37 * hash) + TXLATENCY_FIELD_NUMBER;
-        hash = (53 * hash) + getTxLatencyList().hashCode();
+
+
+      // @@protoc_insertion_point(builder_scope:test.NamedTimeSeries)
+    }
+
+    // @@protoc_insertion_point(class_scope:test.NamedTimeSeries)
+    private static final de.tum.i11.bcsim.proto.Messages.NamedTimeSeries DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new de.tum.i11.bcsim.proto.Messages.NamedTimeSeries();
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.NamedTimeSeries getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<NamedTimeSeries>
+        PARSER = new com.google.protobuf.AbstractParser<NamedTimeSeries>() {
+      @java.lang.Override
+      public NamedTimeSeries parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new NamedTimeSeries(input, extensionRegistry);
       }
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
+    };
+
+    public static com.google.protobuf.Parser<NamedTimeSeries> parser() {
+      return PARSER;
     }
 
-    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+    @java.lang.Override
+    public com.google.protobuf.Parser<NamedTimeSeries> getParserForType() {
+      return PARSER;
     }
-    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+
+    @java.lang.Override
+    public de.tum.i11.bcsim.proto.Messages.NamedTimeSeries getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
     }
-    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+
+  }
+
+  public interface HistogramOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:test.Histogram)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int64 count = 1;</code>
+     * @return Whether the count field is set.
+     */
+    boolean hasCount();
+    /**
+     * <code>required int64 count = 1;</code>
+     * @return The count.
+     */
+    long getCount();
+
+    /**
+     * <code>required double sum = 2;</code>
+     * @return Whether the sum field is set.
+     */
+    boolean hasSum();
+    /**
+     * <code>required double sum = 2;</code>
+     * @return The sum.
+     */
+    double getSum();
+
+    /**
+     * <code>required int64 min = 3;</code>
+     * @return Whether the min field is set.
+     */
+    boolean hasMin();
+    /**
+     * <code>required int64 min = 3;</code>
+     * @return The min.
+     */
+    long getMin();
+
+    /**
+     * <code>required int64 max = 4;</code>
+     * @return Whether the max field is set.
+     */
+    boolean hasMax();
+    /**
+     * <code>required int64 max = 4;</code>
+     * @return The max.
+     */
+    long getMax();
+
+    /**
+     * <code>required int32 offset = 5;</code>
+     * @return Whether the offset field is set.
+     */
+    boolean hasOffset();
+    /**
+     * <code>required int32 offset = 5;</code>
+     * @return The offset.
+     */
+    int getOffset();
+
+    /**
+     * <code>repeated int64 counts = 6 [packed = true];</code>
+     * @return A list containing the counts.
+     */
+    java.util.List<java.lang.Long> getCountsList();
+    /**
+     * <code>repeated int64 counts = 6 [packed = true];</code>
+     * @return The count of counts.
+     */
+    int getCountsCount();
+    /**
+     * <code>repeated int64 counts = 6 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The counts at the given index.
+     */
+    long getCounts(int index);
+  }
+  /**
+   * Protobuf type {@code test.Histogram}
+   */
+  public static final class Histogram extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:test.Histogram)
+      HistogramOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Histogram.newBuilder() to construct.
+    private Histogram(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
     }
-    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+    private Histogram() {
+      counts_ = emptyLongList();
     }
-    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Histogram();
     }
-    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
-        byte[] data,
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Histogram(
+        com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              count_ = input.readInt64();
+              break;
+            }
+            case 17: {
+              bitField0_ |= 0x00000002;
+              sum_ = input.readDouble();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              min_ = input.readInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              max_ = input.readInt64();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              offset_ = input.readInt32();
+              break;
+            }
+            case 48: {
+              if (!((mutable_bitField0_ & 0x00000020) != 0)) {
+                counts_ = newLongList();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              counts_.addLong(input.readInt64());
+              break;
+            }
+            case 50: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000020) != 0) && input.getBytesUntilLimit() > 0) {
+                counts_ = newLongList();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                counts_.addLong(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000020) != 0)) {
+          counts_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
     }
-    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_Histogram_descriptor;
     }
-    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_Histogram_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.tum.i11.bcsim.proto.Messages.Histogram.class, de.tum.i11.bcsim.proto.Messages.Histogram.Builder.class);
     }
-    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
+
+    private int bitField0_;
+    public static final int COUNT_FIELD_NUMBER = 1;
+    private long count_;
+    /**
+     * <code>required int64 count = 1;</code>
+     * @return Whether the count field is set.
+     */
+    @java.lang.Override
+    public boolean hasCount() {
+      return ((bitField0_ & 0x00000001) != 0);
     }
-    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    /**
+     * <code>required int64 count = 1;</code>
+     * @return The count.
+     */
+    @java.lang.Override
+    public long getCount() {
+      return count_;
     }
-    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
+
+    public static final int SUM_FIELD_NUMBER = 2;
+    private double sum_;
+    /**
+     * <code>required double sum = 2;</code>
+     * @return Whether the sum field is set.
+     */
+    @java.lang.Override
+    public boolean hasSum() {
+      return ((bitField0_ & 0x00000002) != 0);
     }
-    public static de.tum.i11.bcsim.proto.Messages.ResultEntry parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
+    /**
+     * <code>required double sum = 2;</code>
+     * @return The sum.
+     */
+    @java.lang.Override
+    public double getSum() {
+      return sum_;
     }
 
+    public static final int MIN_FIELD_NUMBER = 3;
+    private long min_;
+    /**
+     * <code>required int64 min = 3;</code>
+     * @return Whether the min field is set.
+     */
     @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(de.tum.i11.bcsim.proto.Messages.ResultEntry prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    public boolean hasMin() {
+      return ((bitField0_ & 0x00000004) != 0);
     }
+    /**
+     * <code>required int64 min = 3;</code>
+     * @return The min.
+     */
     @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
+    public long getMin() {
+      return min_;
     }
 
+    public static final int MAX_FIELD_NUMBER = 4;
+    private long max_;
+    /**
+     * <code>required int64 max = 4;</code>
+     * @return Whether the max field is set.
+     */
     @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
+    public boolean hasMax() {
+      return ((bitField0_ & 0x00000008) != 0);
     }
     /**
-     * Protobuf type {@code test.ResultEntry}
+     * <code>required int64 max = 4;</code>
+     * @return The max.
      */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:test.ResultEntry)
-        de.tum.i11.bcsim.proto.Messages.ResultEntryOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return de.tum.i11.bcsim.proto.Messages.internal_static_test_ResultEntry_descriptor;
-      }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return de.tum.i11.bcsim.proto.Messages.internal_static_test_ResultEntry_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                de.tum.i11.bcsim.proto.Messages.ResultEntry.class, de.tum.i11.bcsim.proto.Messages.ResultEntry.Builder.class);
-      }
-
-      // Construct using de.tum.i11.bcsim.proto.Messages.ResultEntry.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-          getTxLatencyFieldBuilder();
-        }
-      }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        nodeId_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000001);
-        poolSize_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000002);
-        orphans_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000004);
-        createdBlocksPerSec_ = 0D;
-        bitField0_ = (bitField0_ & ~0x00000008);
-        createdBlocks_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000010);
-        createdTxPerSec_ = 0D;
-        bitField0_ = (bitField0_ & ~0x00000020);
-        createdTx_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000040);
-        confirmedBlocksPerSec_ = 0D;
-        bitField0_ = (bitField0_ & ~0x00000080);
-        confirmedTxPerSec_ = 0D;
-        bitField0_ = (bitField0_ & ~0x00000100);
-        confirmedBytesPerSec_ = 0D;
-        bitField0_ = (bitField0_ & ~0x00000200);
-        totalBlocksPerSec_ = 0D;
-        bitField0_ = (bitField0_ & ~0x00000400);
-        totalTxPerSec_ = 0D;
-        bitField0_ = (bitField0_ & ~0x00000800);
-        unconfirmedTx_ = 0;
-        bitField0_ = (bitField0_ & ~0x00001000);
-        if (txLatencyBuilder_ == null) {
-          txLatency_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00002000);
-        } else {
-          txLatencyBuilder_.clear();
-        }
-        return this;
-      }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return de.tum.i11.bcsim.proto.Messages.internal_static_test_ResultEntry_descriptor;
-      }
-
-      @java.lang.Override
-      public de.tum.i11.bcsim.proto.Messages.ResultEntry getDefaultInstanceForType() {
-        return de.tum.i11.bcsim.proto.Messages.ResultEntry.getDefaultInstance();
-      }
-
-      @java.lang.Override
-      public de.tum.i11.bcsim.proto.Messages.ResultEntry build() {
-        de.tum.i11.bcsim.proto.Messages.ResultEntry result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
+    @java.lang.Override
+    public long getMax() {
+      return max_;
+    }
 
-      @java.lang.Override
-      public de.tum.i11.bcsim.proto.Messages.ResultEntry buildPartial() {
-        de.tum.i11.bcsim.proto.Messages.ResultEntry result = new de.tum.i11.bcsim.proto.Messages.ResultEntry(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.nodeId_ = nodeId_;
-          to_bitField0_ |= 0x00000001;
-        }
-        if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.poolSize_ = poolSize_;
-          to_bitField0_ |= 0x00000002;
-        }
-        if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.orphans_ = orphans_;
-          to_bitField0_ |= 0x00000004;
-        }
-        if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.createdBlocksPerSec_ = createdBlocksPerSec_;
-          to_bitField0_ |= 0x00000008;
-        }
-        if (((from_bitField0_ & 0x00000010) != 0)) {
-          result.createdBlocks_ = createdBlocks_;
-          to_bitField0_ |= 0x00000010;
-        }
-        if (((from_bitField0_ & 0x00000020) != 0)) {
-          result.createdTxPerSec_ = createdTxPerSec_;
-          to_bitField0_ |= 0x00000020;
-        }
-        if (((from_bitField0_ & 0x00000040) != 0)) {
-          result.createdTx_ = createdTx_;
-          to_bitField0_ |= 0x00000040;
-        }
-        if (((from_bitField0_ & 0x00000080) != 0)) {
-          result.confirmedBlocksPerSec_ = confirmedBlocksPerSec_;
-          to_bitField0_ |= 0x00000080;
-        }
-        if (((from_bitField0_ & 0x00000100) != 0)) {
-          result.confirmedTxPerSec_ = confirmedTxPerSec_;
-          to_bitField0_ |= 0x00000100;
-        }
-        if (((from_bitField0_ & 0x00000200) != 0)) {
-          result.confirmedBytesPerSec_ = confirmedBytesPerSec_;
-          to_bitField0_ |= 0x00000200;
-        }
-        if (((from_bitField0_ & 0x00000400) != 0)) {
-          result.totalBlocksPerSec_ = totalBlocksPerSec_;
-          to_bitField0_ |= 0x00000400;
-        }
-        if (((from_bitField0_ & 0x00000800) != 0)) {
-          result.totalTxPerSec_ = totalTxPerSec_;
-          to_bitField0_ |= 0x00000800;
-        }
-        if (((from_bitField0_ & 0x00001000) != 0)) {
-          result.unconfirmedTx_ = unconfirmedTx_;
-          to_bitField0_ |= 0x00001000;
-        }
-        if (txLatencyBuilder_ == null) {
-          if (((bitField0_ & 0x00002000) != 0)) {
-            txLatency_ = java.util.Collections.unmodifiableList(txLatency_);
-            bitField0_ = (bitField0_ & ~0x00002000);
-          }
-          result.txLatency_ = txLatency_;
-        } else {
-          result.txLatency_ = txLatencyBuilder_.build();
-        }
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+    public static final int OFFSET_FIELD_NUMBER = 5;
+    private int offset_;
+    /**
+     * <code>required int32 offset = 5;</code>
+     * @return Whether the offset field is set.
+     */
+    @java.lang.Override
+    public boolean hasOffset() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>required int32 offset = 5;</code>
+     * @return The offset.
+     */
+    @java.lang.Override
+    public int getOffset() {
+      return offset_;
+    }
+
+    public static final int COUNTS_FIELD_NUMBER = 6;
+    private com.google.protobuf.Internal.LongList counts_;
+    /**
+     * <code>repeated int64 counts = 6 [packed = true];</code>
+     * @return A list containing the counts.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getCountsList() {
+      return counts_;
+    }
+    /**
+     * <code>repeated int64 counts = 6 [packed = true];</code>
+     * @return The count of counts.
+     */
+    public int getCountsCount() {
+      return counts_.size();
+    }
+    /**
+     * <code>repeated int64 counts = 6 [packed = true];</code>
+     * @param index The index of the element to return.
+     * @return The counts at the given index.
+     */
+    public long getCounts(int index) {
+      return counts_.getLong(index);
+    }
+    private int countsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasCount()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSum()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasMin()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasMax()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasOffset()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-      @java.lang.Override
-      public Builder clone() {
-        return super.clone();
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt64(1, count_);
       }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return super.setField(field, value);
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeDouble(2, sum_);
       }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return super.clearField(field);
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt64(3, min_);
       }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return super.clearOneof(oneof);
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt64(4, max_);
       }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return super.setRepeatedField(field, index, value);
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt32(5, offset_);
       }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return super.addRepeatedField(field, value);
+      if (getCountsList().size() > 0) {
+        output.writeUInt32NoTag(50);
+        output.writeUInt32NoTag(countsMemoizedSerializedSize);
       }
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof de.tum.i11.bcsim.proto.Messages.ResultEntry) {
-          return mergeFrom((de.tum.i11.bcsim.proto.Messages.ResultEntry)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
+      for (int i = 0; i < counts_.size(); i++) {
+        output.writeInt64NoTag(counts_.getLong(i));
       }
+      unknownFields.writeTo(output);
+    }
 
-      public Builder mergeFrom(de.tum.i11.bcsim.proto.Messages.ResultEntry other) {
-        if (other == de.tum.i11.bcsim.proto.Messages.ResultEntry.getDefaultInstance()) return this;
-        if (other.hasNodeId()) {
-          setNodeId(other.getNodeId());
-        }
-        if (other.hasPoolSize()) {
-          setPoolSize(other.getPoolSize());
-        }
-        if (other.hasOrphans()) {
-          setOrphans(other.getOrphans());
-        }
-        if (other.hasCreatedBlocksPerSec()) {
-          setCreatedBlocksPerSec(other.getCreatedBlocksPerSec());
-        }
-        if (other.hasCreatedBlocks()) {
-          setCreatedBlocks(other.getCreatedBlocks());
-        }
-        if (other.hasCreatedTxPerSec()) {
-          setCreatedTxPerSec(other.getCreatedTxPerSec());
-        }
-        if (other.hasCreatedTx()) {
-          setCreatedTx(other.getCreatedTx());
-        }
-        if (other.hasConfirmedBlocksPerSec()) {
-          setConfirmedBlocksPerSec(other.getConfirmedBlocksPerSec());
-        }
-        if (other.hasConfirmedTxPerSec()) {
-          setConfirmedTxPerSec(other.getConfirmedTxPerSec());
-        }
-        if (other.hasConfirmedBytesPerSec()) {
-          setConfirmedBytesPerSec(other.getConfirmedBytesPerSec());
-        }
-        if (other.hasTotalBlocksPerSec()) {
-          setTotalBlocksPerSec(other.getTotalBlocksPerSec());
-        }
-        if (other.hasTotalTxPerSec()) {
-          setTotalTxPerSec(other.getTotalTxPerSec());
-        }
-        if (other.hasUnconfirmedTx()) {
-          setUnconfirmedTx(other.getUnconfirmedTx());
-        }
-        if (txLatencyBuilder_ == null) {
-          if (!other.txLatency_.isEmpty()) {
-            if (txLatency_.isEmpty()) {
-              txLatency_ = other.txLatency_;
-              bitField0_ = (bitField0_ & ~0x00002000);
-            } else {
-              ensureTxLatencyIsMutable();
-              txLatency_.addAll(other.txLatency_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.txLatency_.isEmpty()) {
-            if (txLatencyBuilder_.isEmpty()) {
-              txLatencyBuilder_.dispose();
-              txLatencyBuilder_ = null;
-              txLatency_ = other.txLatency_;
-              bitField0_ = (bitField0_ & ~0x00002000);
-              txLatencyBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getTxLatencyFieldBuilder() : null;
-            } else {
-              txLatencyBuilder_.addAllMessages(other.txLatency_);
-            }
-          }
-        }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
-      }
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
 
-      @java.lang.Override
-      public final boolean isInitialized() {
-        if (!hasNodeId()) {
-          return false;
-        }
-        if (!hasPoolSize()) {
-          return false;
-        }
-        if (!hasOrphans()) {
-          return false;
-        }
-        if (!hasCreatedBlocksPerSec()) {
-          return false;
-        }
-        if (!hasCreatedBlocks()) {
-          return false;
-        }
-        if (!hasCreatedTxPerSec()) {
-          return false;
-        }
-        if (!hasCreatedTx()) {
-          return false;
-        }
-        if (!hasConfirmedBlocksPerSec()) {
-          return false;
-        }
-        if (!hasConfirmedTxPerSec()) {
-          return false;
-        }
-        if (!hasConfirmedBytesPerSec()) {
-          return false;
-        }
-        if (!hasTotalBlocksPerSec()) {
-          return false;
-        }
-        if (!hasTotalTxPerSec()) {
-          return false;
-        }
-        if (!hasUnconfirmedTx()) {
-          return false;
-        }
-        for (int i = 0; i < getTxLatencyCount(); i++) {
-          if (!getTxLatency(i).isInitialized()) {
-            return false;
-          }
-        }
-        return true;
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, count_);
       }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        de.tum.i11.bcsim.proto.Messages.ResultEntry parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (de.tum.i11.bcsim.proto.Messages.ResultEntry) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(2, sum_);
       }
-      private int bitField0_;
-
-      private int nodeId_ ;
-      /**
-       * <code>required int32 nodeId = 1;</code>
-       * @return Whether the nodeId field is set.
-       */
-      @java.lang.Override
-      public boolean hasNodeId() {
-        return ((bitField0_ & 0x00000001) != 0);
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, min_);
       }
-      /**
-       * <code>required int32 nodeId = 1;</code>
-       * @return The nodeId.
-       */
-      @java.lang.Override
-      public int getNodeId() {
-        return nodeId_;
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, max_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, offset_);
       }
-      /**
-       * <code>required int32 nodeId = 1;</code>
-       * @param value The nodeId to set.
-       * @return This builder for chaining.
-       */
-      public Builder setNodeId(int value) {
-        bitField0_ |= 0x00000001;
-        nodeId_ = value;
-        onChanged();
-        return this;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < counts_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(counts_.getLong(i));
+        }
+        size += dataSize;
+        if (!getCountsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        countsMemoizedSerializedSize = dataSize;
       }
-      /**
-       * <code>required int32 nodeId = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearNodeId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        nodeId_ = 0;
-        onChanged();
-        return this;
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
       }
+      if (!(obj instanceof de.tum.i11.bcsim.proto.Messages.Histogram)) {
+        return super.equals(obj);
+      }
+      de.tum.i11.bcsim.proto.Messages.Histogram other = (de.tum.i11.bcsim.proto.Messages.Histogram) obj;
 
-      private int poolSize_ ;
-      /**
-       * <code>required int32 poolSize = 2;</code>
-       * @return Whether the poolSize field is set.
-       */
-      @java.lang.Override
-      public boolean hasPoolSize() {
-        return ((bitField0_ & 0x00000002) != 0);
+      if (hasCount() != other.hasCount()) return false;
+      if (hasCount()) {
+        if (getCount()
+            != other.getCount()) return false;
       }
-      /**
-       * <code>required int32 poolSize = 2;</code>
-       * @return The poolSize.
-       */
-      @java.lang.Override
-      public int getPoolSize() {
-        return poolSize_;
+      if (hasSum() != other.hasSum()) return false;
+      if (hasSum()) {
+        if (java.lang.Double.doubleToLongBits(getSum())
+            != java.lang.Double.doubleToLongBits(
+                other.getSum())) return false;
       }
-      /**
-       * <code>required int32 poolSize = 2;</code>
-       * @param value The poolSize to set.
-       * @return This builder for chaining.
-       */
-      public Builder setPoolSize(int value) {
-        bitField0_ |= 0x00000002;
-        poolSize_ = value;
-        onChanged();
-        return this;
+      if (hasMin() != other.hasMin()) return false;
+      if (hasMin()) {
+        if (getMin()
+            != other.getMin()) return false;
       }
-      /**
-       * <code>required int32 poolSize = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearPoolSize() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        poolSize_ = 0;
-        onChanged();
-        return this;
+      if (hasMax() != other.hasMax()) return false;
+      if (hasMax()) {
+        if (getMax()
+            != other.getMax()) return false;
+      }
+      if (hasOffset() != other.hasOffset()) return false;
+      if (hasOffset()) {
+        if (getOffset()
+            != other.getOffset()) return false;
       }
+      if (!getCountsList()
+          .equals(other.getCountsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
 
-      private int orphans_ ;
-      /**
-       * <code>required int32 orphans = 3;</code>
-       * @return Whether the orphans field is set.
-       */
-      @java.lang.Override
-      public boolean hasOrphans() {
-        return ((bitField0_ & 0x00000004) != 0);
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
       }
-      /**
-       * <code>required int32 orphans = 3;</code>
-       * @return The orphans.
-       */
-      @java.lang.Override
-      public int getOrphans() {
-        return orphans_;
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasCount()) {
+        hash = (37 * hash) + COUNT_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getCount());
       }
-      /**
-       * <code>required int32 orphans = 3;</code>
-       * @param value The orphans to set.
-       * @return This builder for chaining.
-       */
-      public Builder setOrphans(int value) {
-        bitField0_ |= 0x00000004;
-        orphans_ = value;
-        onChanged();
-        return this;
+      if (hasSum()) {
+        hash = (37 * hash) + SUM_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getSum()));
       }
-      /**
-       * <code>required int32 orphans = 3;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearOrphans() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        orphans_ = 0;
-        onChanged();
-        return this;
+      if (hasMin()) {
+        hash = (37 * hash) + MIN_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getMin());
       }
-
-      private double createdBlocksPerSec_ ;
-      /**
-       * <code>required double createdBlocksPerSec = 4;</code>
-       * @return Whether the createdBlocksPerSec field is set.
-       */
-      @java.lang.Override
-      public boolean hasCreatedBlocksPerSec() {
-        return ((bitField0_ & 0x00000008) != 0);
+      if (hasMax()) {
+        hash = (37 * hash) + MAX_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getMax());
       }
-      /**
-       * <code>required double createdBlocksPerSec = 4;</code>
-       * @return The createdBlocksPerSec.
-       */
-      @java.lang.Override
-      public double getCreatedBlocksPerSec() {
-        return createdBlocksPerSec_;
+      if (hasOffset()) {
+        hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+        hash = (53 * hash) + getOffset();
       }
-      /**
-       * <code>required double createdBlocksPerSec = 4;</code>
-       * @param value The createdBlocksPerSec to set.
-       * @return This builder for chaining.
-       */
-      public Builder setCreatedBlocksPerSec(double value) {
-        bitField0_ |= 0x00000008;
-        createdBlocksPerSec_ = value;
-        onChanged();
-        return this;
+      if (getCountsCount() > 0) {
+        hash = (37 * hash) + COUNTS_FIELD_NUMBER;
+        hash = (53 * hash) + getCountsList().hashCode();
       }
-      /**
-       * <code>required double createdBlocksPerSec = 4;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearCreatedBlocksPerSec() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        createdBlocksPerSec_ = 0D;
-        onChanged();
-        return this;
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static de.tum.i11.bcsim.proto.Messages.Histogram parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Histogram parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Histogram parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Histogram parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Histogram parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Histogram parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Histogram parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Histogram parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Histogram parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Histogram parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Histogram parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static de.tum.i11.bcsim.proto.Messages.Histogram parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(de.tum.i11.bcsim.proto.Messages.Histogram prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code test.Histogram}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:test.Histogram)
+        de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_Histogram_descriptor;
       }
 
-      private int createdBlocks_ ;
-      /**
-       * <code>required int32 createdBlocks = 5;</code>
-       * @return Whether the createdBlocks field is set.
-       */
       @java.lang.Override
-      public boolean hasCreatedBlocks() {
-        return ((bitField0_ & 0x00000010) != 0);
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_Histogram_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.tum.i11.bcsim.proto.Messages.Histogram.class, de.tum.i11.bcsim.proto.Messages.Histogram.Builder.class);
+      }
+
+      // Construct using de.tum.i11.bcsim.proto.Messages.Histogram.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>required int32 createdBlocks = 5;</code>
-       * @return The createdBlocks.
-       */
-      @java.lang.Override
-      public int getCreatedBlocks() {
-        return createdBlocks_;
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>required int32 createdBlocks = 5;</code>
-       * @param value The createdBlocks to set.
-       * @return This builder for chaining.
-       */
-      public Builder setCreatedBlocks(int value) {
-        bitField0_ |= 0x00000010;
-        createdBlocks_ = value;
-        onChanged();
-        return this;
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
       }
-      /**
-       * <code>required int32 createdBlocks = 5;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearCreatedBlocks() {
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        count_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sum_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        min_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        max_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        offset_ = 0;
         bitField0_ = (bitField0_ & ~0x00000010);
-        createdBlocks_ = 0;
-        onChanged();
+        counts_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
 
-      private double createdTxPerSec_ ;
-      /**
-       * <code>required double createdTxPerSec = 6;</code>
-       * @return Whether the createdTxPerSec field is set.
-       */
       @java.lang.Override
-      public boolean hasCreatedTxPerSec() {
-        return ((bitField0_ & 0x00000020) != 0);
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_Histogram_descriptor;
       }
-      /**
-       * <code>required double createdTxPerSec = 6;</code>
-       * @return The createdTxPerSec.
-       */
+
       @java.lang.Override
-      public double getCreatedTxPerSec() {
-        return createdTxPerSec_;
+      public de.tum.i11.bcsim.proto.Messages.Histogram getDefaultInstanceForType() {
+        return de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance();
       }
-      /**
-       * <code>required double createdTxPerSec = 6;</code>
-       * @param value The createdTxPerSec to set.
-       * @return This builder for chaining.
-       */
-      public Builder setCreatedTxPerSec(double value) {
-        bitField0_ |= 0x00000020;
-        createdTxPerSec_ = value;
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.Histogram build() {
+        de.tum.i11.bcsim.proto.Messages.Histogram result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
       }
-      /**
-       * <code>required double createdTxPerSec = 6;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearCreatedTxPerSec() {
-        bitField0_ = (bitField0_ & ~0x00000020);
-        createdTxPerSec_ = 0D;
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      public de.tum.i11.bcsim.proto.Messages.Histogram buildPartial() {
+        de.tum.i11.bcsim.proto.Messages.Histogram result = new de.tum.i11.bcsim.proto.Messages.Histogram(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.count_ = count_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.sum_ = sum_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.min_ = min_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.max_ = max_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.offset_ = offset_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((bitField0_ & 0x00000020) != 0)) {
+          counts_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        }
+        result.counts_ = counts_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
       }
 
-      private int createdTx_ ;
-      /**
-       * <code>required int32 createdTx = 7;</code>
-       * @return Whether the createdTx field is set.
-       */
       @java.lang.Override
-      public boolean hasCreatedTx() {
-        return ((bitField0_ & 0x00000040) != 0);
+      public Builder clone() {
+        return super.clone();
       }
-      /**
-       * <code>required int32 createdTx = 7;</code>
-       * @return The createdTx.
-       */
       @java.lang.Override
-      public int getCreatedTx() {
-        return createdTx_;
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
       }
-      /**
-       * <code>required int32 createdTx = 7;</code>
-       * @param value The createdTx to set.
-       * @return This builder for chaining.
-       */
-      public Builder setCreatedTx(int value) {
-        bitField0_ |= 0x00000040;
-        createdTx_ = value;
-        onChanged();
-        return this;
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
       }
-      /**
-       * <code>required int32 createdTx = 7;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearCreatedTx() {
-        bitField0_ = (bitField0_ & ~0x00000040);
-        createdTx_ = 0;
-        onChanged();
-        return this;
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
       }
-
-      private double confirmedBlocksPerSec_ ;
-      /**
-       * <code>required double confirmedBlocksPerSec = 8;</code>
-       * @return Whether the confirmedBlocksPerSec field is set.
-       */
       @java.lang.Override
-      public boolean hasConfirmedBlocksPerSec() {
-        return ((bitField0_ & 0x00000080) != 0);
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
       }
-      /**
-       * <code>required double confirmedBlocksPerSec = 8;</code>
-       * @return The confirmedBlocksPerSec.
-       */
       @java.lang.Override
-      public double getConfirmedBlocksPerSec() {
-        return confirmedBlocksPerSec_;
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
       }
-      /**
-       * <code>required double confirmedBlocksPerSec = 8;</code>
-       * @param value The confirmedBlocksPerSec to set.
-       * @return This builder for chaining.
-       */
-      public Builder setConfirmedBlocksPerSec(double value) {
-        bitField0_ |= 0x00000080;
-        confirmedBlocksPerSec_ = value;
-        onChanged();
-        return this;
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.tum.i11.bcsim.proto.Messages.Histogram) {
+          return mergeFrom((de.tum.i11.bcsim.proto.Messages.Histogram)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
       }
-      /**
-       * <code>required double confirmedBlocksPerSec = 8;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearConfirmedBlocksPerSec() {
-        bitField0_ = (bitField0_ & ~0x00000080);
-        confirmedBlocksPerSec_ = 0D;
+
+      public Builder mergeFrom(de.tum.i11.bcsim.proto.Messages.Histogram other) {
+        if (other == de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance()) return this;
+        if (other.hasCount()) {
+          setCount(other.getCount());
+        }
+        if (other.hasSum()) {
+          setSum(other.getSum());
+        }
+        if (other.hasMin()) {
+          setMin(other.getMin());
+        }
+        if (other.hasMax()) {
+          setMax(other.getMax());
+        }
+        if (other.hasOffset()) {
+          setOffset(other.getOffset());
+        }
+        if (!other.counts_.isEmpty()) {
+          if (counts_.isEmpty()) {
+            counts_ = other.counts_;
+            bitField0_ = (bitField0_ & ~0x00000020);
+          } else {
+            ensureCountsIsMutable();
+            counts_.addAll(other.counts_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
       }
 
-      private double confirmedTxPerSec_ ;
-      /**
-       * <code>required double confirmedTxPerSec = 9;</code>
-       * @return Whether the confirmedTxPerSec field is set.
-       */
-      @java.lang.Override
-      public boolean hasConfirmedTxPerSec() {
-        return ((bitField0_ & 0x00000100) != 0);
-      }
-      /**
-       * <code>required double confirmedTxPerSec = 9;</code>
-       * @return The confirmedTxPerSec.
-       */
       @java.lang.Override
-      public double getConfirmedTxPerSec() {
-        return confirmedTxPerSec_;
-      }
-      /**
-       * <code>required double confirmedTxPerSec = 9;</code>
-       * @param value The confirmedTxPerSec to set.
-       * @return This builder for chaining.
-       */
-      public Builder setConfirmedTxPerSec(double value) {
-        bitField0_ |= 0x00000100;
-        confirmedTxPerSec_ = value;
-        onChanged();
-        return this;
+      public final boolean isInitialized() {
+        if (!hasCount()) {
+          return false;
+        }
+        if (!hasSum()) {
+          return false;
+        }
+        if (!hasMin()) {
+          return false;
+        }
+        if (!hasMax()) {
+          return false;
+        }
+        if (!hasOffset()) {
+          return false;
+        }
+        return true;
       }
-      /**
-       * <code>required double confirmedTxPerSec = 9;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearConfirmedTxPerSec() {
-        bitField0_ = (bitField0_ & ~0x00000100);
-        confirmedTxPerSec_ = 0D;
-        onChanged();
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.tum.i11.bcsim.proto.Messages.Histogram parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.tum.i11.bcsim.proto.Messages.Histogram) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
         return this;
       }
+      private int bitField0_;
 
-      private double confirmedBytesPerSec_ ;
+      private long count_ ;
       /**
-       * <code>required double confirmedBytesPerSec = 10;</code>
-       * @return Whether the confirmedBytesPerSec field is set.
+       * <code>required int64 count = 1;</code>
+       * @return Whether the count field is set.
        */
       @java.lang.Override
-      public boolean hasConfirmedBytesPerSec() {
-        return ((bitField0_ & 0x00000200) != 0);
+      public boolean hasCount() {
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
-       * <code>required double confirmedBytesPerSec = 10;</code>
-       * @return The confirmedBytesPerSec.
+       * <code>required int64 count = 1;</code>
+       * @return The count.
        */
       @java.lang.Override
-      public double getConfirmedBytesPerSec() {
-        return confirmedBytesPerSec_;
+      public long getCount() {
+        return count_;
       }
       /**
-       * <code>required double confirmedBytesPerSec = 10;</code>
-       * @param value The confirmedBytesPerSec to set.
+       * <code>required int64 count = 1;</code>
+       * @param value The count to set.
        * @return This builder for chaining.
        */
-      public Builder setConfirmedBytesPerSec(double value) {
-        bitField0_ |= 0x00000200;
-        confirmedBytesPerSec_ = value;
+      public Builder setCount(long value) {
+        bitField0_ |= 0x00000001;
+        count_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required double confirmedBytesPerSec = 10;</code>
+       * <code>required int64 count = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearConfirmedBytesPerSec() {
-        bitField0_ = (bitField0_ & ~0x00000200);
-        confirmedBytesPerSec_ = 0D;
+      public Builder clearCount() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        count_ = 0L;
         onChanged();
         return this;
       }
 
-      private double totalBlocksPerSec_ ;
+      private double sum_ ;
       /**
-       * <code>required double totalBlocksPerSec = 11;</code>
-       * @return Whether the totalBlocksPerSec field is set.
+       * <code>required double sum = 2;</code>
+       * @return Whether the sum field is set.
        */
       @java.lang.Override
-      public boolean hasTotalBlocksPerSec() {
-        return ((bitField0_ & 0x00000400) != 0);
+      public boolean hasSum() {
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
-       * <code>required double totalBlocksPerSec = 11;</code>
-       * @return The totalBlocksPerSec.
+       * <code>required double sum = 2;</code>
+       * @return The sum.
        */
       @java.lang.Override
-      public double getTotalBlocksPerSec() {
-        return totalBlocksPerSec_;
+      public double getSum() {
+        return sum_;
       }
       /**
-       * <code>required double totalBlocksPerSec = 11;</code>
-       * @param value The totalBlocksPerSec to set.
+       * <code>required double sum = 2;</code>
+       * @param value The sum to set.
        * @return This builder for chaining.
        */
-      public Builder setTotalBlocksPerSec(double value) {
-        bitField0_ |= 0x00000400;
-        totalBlocksPerSec_ = value;
+      public Builder setSum(double value) {
+        bitField0_ |= 0x00000002;
+        sum_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required double totalBlocksPerSec = 11;</code>
+       * <code>required double sum = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearTotalBlocksPerSec() {
-        bitField0_ = (bitField0_ & ~0x00000400);
-        totalBlocksPerSec_ = 0D;
+      public Builder clearSum() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        sum_ = 0D;
         onChanged();
         return this;
       }
 
-      private double totalTxPerSec_ ;
+      private long min_ ;
       /**
-       * <code>required double totalTxPerSec = 12;</code>
-       * @return Whether the totalTxPerSec field is set.
+       * <code>required int64 min = 3;</code>
+       * @return Whether the min field is set.
        */
       @java.lang.Override
-      public boolean hasTotalTxPerSec() {
-        return ((bitField0_ & 0x00000800) != 0);
+      public boolean hasMin() {
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
-       * <code>required double totalTxPerSec = 12;</code>
-       * @return The totalTxPerSec.
+       * <code>required int64 min = 3;</code>
+       * @return The min.
        */
       @java.lang.Override
-      public double getTotalTxPerSec() {
-        return totalTxPerSec_;
+      public long getMin() {
+        return min_;
       }
       /**
-       * <code>required double totalTxPerSec = 12;</code>
-       * @param value The totalTxPerSec to set.
+       * <code>required int64 min = 3;</code>
+       * @param value The min to set.
        * @return This builder for chaining.
        */
-      public Builder setTotalTxPerSec(double value) {
-        bitField0_ |= 0x00000800;
-        totalTxPerSec_ = value;
+      public Builder setMin(long value) {
+        bitField0_ |= 0x00000004;
+        min_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required double totalTxPerSec = 12;</code>
+       * <code>required int64 min = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearTotalTxPerSec() {
-        bitField0_ = (bitField0_ & ~0x00000800);
-        totalTxPerSec_ = 0D;
+      public Builder clearMin() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        min_ = 0L;
         onChanged();
         return this;
       }
 
-      private int unconfirmedTx_ ;
+      private long max_ ;
       /**
-       * <code>required int32 unconfirmedTx = 13;</code>
-       * @return Whether the unconfirmedTx field is set.
+       * <code>required int64 max = 4;</code>
+       * @return Whether the max field is set.
        */
       @java.lang.Override
-      public boolean hasUnconfirmedTx() {
-        return ((bitField0_ & 0x00001000) != 0);
+      public boolean hasMax() {
+        return ((bitField0_ & 0x00000008) != 0);
       }
       /**
-       * <code>required int32 unconfirmedTx = 13;</code>
-       * @return The unconfirmedTx.
+       * <code>required int64 max = 4;</code>
+       * @return The max.
        */
       @java.lang.Override
-      public int getUnconfirmedTx() {
-        return unconfirmedTx_;
+      public long getMax() {
+        return max_;
       }
       /**
-       * <code>required int32 unconfirmedTx = 13;</code>
-       * @param value The unconfirmedTx to set.
+       * <code>required int64 max = 4;</code>
+       * @param value The max to set.
        * @return This builder for chaining.
        */
-      public Builder setUnconfirmedTx(int value) {
-        bitField0_ |= 0x00001000;
-        unconfirmedTx_ = value;
+      public Builder setMax(long value) {
+        bitField0_ |= 0x00000008;
+        max_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required int32 unconfirmedTx = 13;</code>
+       * <code>required int64 max = 4;</code>
        * @return This builder for chaining.
        */
-      public Builder clearUnconfirmedTx() {
-        bitField0_ = (bitField0_ & ~0x00001000);
-        unconfirmedTx_ = 0;
+      public Builder clearMax() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        max_ = 0L;
         onChanged();
         return this;
       }
 
-      private java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyResult> txLatency_ =
-        java.util.Collections.emptyList();
-      private void ensureTxLatencyIsMutable() {
-        if (!((bitField0_ & 0x00002000) != 0)) {
-          txLatency_ = new java.util.ArrayList<de.tum.i11.bcsim.proto.Messages.TxLatencyResult>(txLatency_);
-          bitField0_ |= 0x00002000;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          de.tum.i11.bcsim.proto.Messages.TxLatencyResult, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder, de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder> txLatencyBuilder_;
-
-      /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
-       */
-      public java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyResult> getTxLatencyList() {
-        if (txLatencyBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(txLatency_);
-        } else {
-          return txLatencyBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
-       */
-      public int getTxLatencyCount() {
-        if (txLatencyBuilder_ == null) {
-          return txLatency_.size();
-        } else {
-          return txLatencyBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
-       */
-      public de.tum.i11.bcsim.proto.Messages.TxLatencyResult getTxLatency(int index) {
-        if (txLatencyBuilder_ == null) {
-          return txLatency_.get(index);
-        } else {
-          return txLatencyBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
-       */
-      public Builder setTxLatency(
-          int index, de.tum.i11.bcsim.proto.Messages.TxLatencyResult value) {
-        if (txLatencyBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureTxLatencyIsMutable();
-          txLatency_.set(index, value);
-          onChanged();
-        } else {
-          txLatencyBuilder_.setMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
-       */
-      public Builder setTxLatency(
-          int index, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder builderForValue) {
-        if (txLatencyBuilder_ == null) {
-          ensureTxLatencyIsMutable();
-          txLatency_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          txLatencyBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
-       */
-      public Builder addTxLatency(de.tum.i11.bcsim.proto.Messages.TxLatencyResult value) {
-        if (txLatencyBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureTxLatencyIsMutable();
-          txLatency_.add(value);
-          onChanged();
-        } else {
-          txLatencyBuilder_.addMessage(value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
-       */
-      public Builder addTxLatency(
-          int index, de.tum.i11.bcsim.proto.Messages.TxLatencyResult value) {
-        if (txLatencyBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureTxLatencyIsMutable();
-          txLatency_.add(index, value);
-          onChanged();
-        } else {
-          txLatencyBuilder_.addMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
-       */
-      public Builder addTxLatency(
-          de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder builderForValue) {
-        if (txLatencyBuilder_ == null) {
-          ensureTxLatencyIsMutable();
-          txLatency_.add(builderForValue.build());
-          onChanged();
-        } else {
-          txLatencyBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
-       */
-      public Builder addTxLatency(
-          int index, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder builderForValue) {
-        if (txLatencyBuilder_ == null) {
-          ensureTxLatencyIsMutable();
-          txLatency_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          txLatencyBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
-      }
+      private int offset_ ;
       /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       * <code>required int32 offset = 5;</code>
+       * @return Whether the offset field is set.
        */
-      public Builder addAllTxLatency(
-          java.lang.Iterable<? extends de.tum.i11.bcsim.proto.Messages.TxLatencyResult> values) {
-        if (txLatencyBuilder_ == null) {
-          ensureTxLatencyIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, txLatency_);
-          onChanged();
-        } else {
-          txLatencyBuilder_.addAllMessages(values);
-        }
-        return this;
+      @java.lang.Override
+      public boolean hasOffset() {
+        return ((bitField0_ & 0x00000010) != 0);
       }
       /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       * <code>required int32 offset = 5;</code>
+       * @return The offset.
        */
-      public Builder clearTxLatency() {
-        if (txLatencyBuilder_ == null) {
-          txLatency_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00002000);
-          onChanged();
-        } else {
-          txLatencyBuilder_.clear();
-        }
+      @java.lang.Override
+      public int getOffset() {
+        return offset_;
+      }
+      /**
+       * <code>required int32 offset = 5;</code>
+       * @param value The offset to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOffset(int value) {
+        bitField0_ |= 0x00000010;
+        offset_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       * <code>required int32 offset = 5;</code>
+       * @return This builder for chaining.
        */
-      public Builder removeTxLatency(int index) {
-        if (txLatencyBuilder_ == null) {
-          ensureTxLatencyIsMutable();
-          txLatency_.remove(index);
-          onChanged();
-        } else {
-          txLatencyBuilder_.remove(index);
-        }
+      public Builder clearOffset() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        offset_ = 0;
+        onChanged();
         return this;
       }
+
+      private com.google.protobuf.Internal.LongList counts_ = emptyLongList();
+      private void ensureCountsIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          counts_ = mutableCopy(counts_);
+          bitField0_ |= 0x00000020;
+         }
+      }
       /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       * <code>repeated int64 counts = 6 [packed = true];</code>
+       * @return A list containing the counts.
        */
-      public de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder getTxLatencyBuilder(
-          int index) {
-        return getTxLatencyFieldBuilder().getBuilder(index);
+      public java.util.List<java.lang.Long>
+          getCountsList() {
+        return ((bitField0_ & 0x00000020) != 0) ?
+                 java.util.Collections.unmodifiableList(counts_) : counts_;
       }
       /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       * <code>repeated int64 counts = 6 [packed = true];</code>
+       * @return The count of counts.
        */
-      public de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder getTxLatencyOrBuilder(
-          int index) {
-        if (txLatencyBuilder_ == null) {
-          return txLatency_.get(index);  } else {
-          return txLatencyBuilder_.getMessageOrBuilder(index);
-        }
+      public int getCountsCount() {
+        return counts_.size();
       }
       /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       * <code>repeated int64 counts = 6 [packed = true];</code>
+       * @param index The index of the element to return.
+       * @return The counts at the given index.
        */
-      public java.util.List<? extends de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder> 
-           getTxLatencyOrBuilderList() {
-        if (txLatencyBuilder_ != null) {
-          return txLatencyBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(txLatency_);
-        }
+      public long getCounts(int index) {
+        return counts_.getLong(index);
       }
       /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       * <code>repeated int64 counts = 6 [packed = true];</code>
+       * @param index The index to set the value at.
+       * @param value The counts to set.
+       * @return This builder for chaining.
        */
-      public de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder addTxLatencyBuilder() {
-        return getTxLatencyFieldBuilder().addBuilder(
-            de.tum.i11.bcsim.proto.Messages.TxLatencyResult.getDefaultInstance());
+      public Builder setCounts(
+          int index, long value) {
+        ensureCountsIsMutable();
+        counts_.setLong(index, value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       * <code>repeated int64 counts = 6 [packed = true];</code>
+       * @param value The counts to add.
+       * @return This builder for chaining.
        */
-      public de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder addTxLatencyBuilder(
-          int index) {
-        return getTxLatencyFieldBuilder().addBuilder(
-            index, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.getDefaultInstance());
+      public Builder addCounts(long value) {
+        ensureCountsIsMutable();
+        counts_.addLong(value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .test.TxLatencyResult txLatency = 14;</code>
+       * <code>repeated int64 counts = 6 [packed = true];</code>
+       * @param values The counts to add.
+       * @return This builder for chaining.
        */
-      public java.util.List<de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder> 
-           getTxLatencyBuilderList() {
-        return getTxLatencyFieldBuilder().getBuilderList();
+      public Builder addAllCounts(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureCountsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, counts_);
+        onChanged();
+        return this;
       }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          de.tum.i11.bcsim.proto.Messages.TxLatencyResult, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder, de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder> 
-          getTxLatencyFieldBuilder() {
-        if (txLatencyBuilder_ == null) {
-          txLatencyBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              de.tum.i11.bcsim.proto.Messages.TxLatencyResult, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder, de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder>(
-                  txLatency_,
-                  ((bitField0_ & 0x00002000) != 0),
-                  getParentForChildren(),
-                  isClean());
-          txLatency_ = null;
-        }
-        return txLatencyBuilder_;
+      /**
+       * <code>repeated int64 counts = 6 [packed = true];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCounts() {
+        counts_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -13435,103 +23536,107 @@ public final class Messages {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:test.ResultEntry)
+      // @@protoc_insertion_point(builder_scope:test.Histogram)
     }
 
-    // @@protoc_insertion_point(class_scope:test.ResultEntry)
-    private static final de.tum.i11.bcsim.proto.Messages.ResultEntry DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:test.Histogram)
+    private static final de.tum.i11.bcsim.proto.Messages.Histogram DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new de.tum.i11.bcsim.proto.Messages.ResultEntry();
+      DEFAULT_INSTANCE = new de.tum.i11.bcsim.proto.Messages.Histogram();
     }
 
-    public static de.tum.i11.bcsim.proto.Messages.ResultEntry getDefaultInstance() {
+    public static de.tum.i11.bcsim.proto.Messages.Histogram getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<ResultEntry>
-        PARSER = new com.google.protobuf.AbstractParser<ResultEntry>() {
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<Histogram>
+        PARSER = new com.google.protobuf.AbstractParser<Histogram>() {
       @java.lang.Override
-      public ResultEntry parsePartialFrom(
+      public Histogram parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ResultEntry(input, extensionRegistry);
+        return new Histogram(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<ResultEntry> parser() {
+    public static com.google.protobuf.Parser<Histogram> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<ResultEntry> getParserForType() {
+    public com.google.protobuf.Parser<Histogram> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public de.tum.i11.bcsim.proto.Messages.ResultEntry getDefaultInstanceForType() {
+    public de.tum.i11.bcsim.proto.Messages.Histogram getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface TxLatencyResultOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:test.TxLatencyResult)
+  public interface NamedHistogramOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:test.NamedHistogram)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required int32 size = 1;</code>
-     * @return Whether the size field is set.
+     * <code>required string name = 1;</code>
+     * @return Whether the name field is set.
      */
-    boolean hasSize();
+    boolean hasName();
     /**
-     * <code>required int32 size = 1;</code>
-     * @return The size.
+     * <code>required string name = 1;</code>
+     * @return The name.
      */
-    int getSize();
-
+    java.lang.String getName();
     /**
-     * <code>required double latency = 2;</code>
-     * @return Whether the latency field is set.
+     * <code>required string name = 1;</code>
+     * @return The bytes for name.
      */
-    boolean hasLatency();
+    com.google.protobuf.ByteString
+        getNameBytes();
+
     /**
-     * <code>required double latency = 2;</code>
-     * @return The latency.
+     * <code>required .test.Histogram histogram = 2;</code>
+     * @return Whether the histogram field is set.
      */
-    double getLatency();
-
+    boolean hasHistogram();
     /**
-     * <code>required double fee = 3;</code>
-     * @return Whether the fee field is set.
+     * <code>required .test.Histogram histogram = 2;</code>
+     * @return The histogram.
      */
-    boolean hasFee();
+    de.tum.i11.bcsim.proto.Messages.Histogram getHistogram();
     /**
-     * <code>required double fee = 3;</code>
-     * @return The fee.
+     * <code>required .test.Histogram histogram = 2;</code>
      */
-    double getFee();
+    de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder getHistogramOrBuilder();
   }
   /**
-   * Protobuf type {@code test.TxLatencyResult}
+   * <pre>
+   * Lags (µs) of scheduled actions of a kind (e.g. SEND) behind their intended time, merged over all peers of a coordinator
+   * </pre>
+   *
+   * Protobuf type {@code test.NamedHistogram}
    */
-  public static final class TxLatencyResult extends
+  public static final class NamedHistogram extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:test.TxLatencyResult)
-      TxLatencyResultOrBuilder {
+      // @@protoc_insertion_point(message_implements:test.NamedHistogram)
+      NamedHistogramOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use TxLatencyResult.newBuilder() to construct.
-    private TxLatencyResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use NamedHistogram.newBuilder() to construct.
+    private NamedHistogram(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private TxLatencyResult() {
+    private NamedHistogram() {
+      name_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new TxLatencyResult();
+      return new NamedHistogram();
     }
 
     @java.lang.Override
@@ -13539,7 +23644,7 @@ public final class Messages {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private TxLatencyResult(
+    private NamedHistogram(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -13558,19 +23663,23 @@ public final class Messages {
             case 0:
               done = true;
               break;
-            case 8: {
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              size_ = input.readInt32();
+              name_ = bs;
               break;
             }
-            case 17: {
+            case 18: {
+              de.tum.i11.bcsim.proto.Messages.Histogram.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) != 0)) {
+                subBuilder = histogram_.toBuilder();
+              }
+              histogram_ = input.readMessage(de.tum.i11.bcsim.proto.Messages.Histogram.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(histogram_);
+                histogram_ = subBuilder.buildPartial();
+              }
               bitField0_ |= 0x00000002;
-              latency_ = input.readDouble();
-              break;
-            }
-            case 25: {
-              bitField0_ |= 0x00000004;
-              fee_ = input.readDouble();
               break;
             }
             default: {
@@ -13594,73 +23703,90 @@ public final class Messages {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return de.tum.i11.bcsim.proto.Messages.internal_static_test_TxLatencyResult_descriptor;
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_NamedHistogram_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return de.tum.i11.bcsim.proto.Messages.internal_static_test_TxLatencyResult_fieldAccessorTable
+      return de.tum.i11.bcsim.proto.Messages.internal_static_test_NamedHistogram_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              de.tum.i11.bcsim.proto.Messages.TxLatencyResult.class, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder.class);
+              de.tum.i11.bcsim.proto.Messages.NamedHistogram.class, de.tum.i11.bcsim.proto.Messages.NamedHistogram.Builder.class);
     }
 
     private int bitField0_;
-    public static final int SIZE_FIELD_NUMBER = 1;
-    private int size_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
     /**
-     * <code>required int32 size = 1;</code>
-     * @return Whether the size field is set.
+     * <code>required string name = 1;</code>
+     * @return Whether the name field is set.
      */
     @java.lang.Override
-    public boolean hasSize() {
+    public boolean hasName() {
       return ((bitField0_ & 0x00000001) != 0);
     }
     /**
-     * <code>required int32 size = 1;</code>
-     * @return The size.
+     * <code>required string name = 1;</code>
+     * @return The name.
      */
     @java.lang.Override
-    public int getSize() {
-      return size_;
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
     }
-
-    public static final int LATENCY_FIELD_NUMBER = 2;
-    private double latency_;
     /**
-     * <code>required double latency = 2;</code>
-     * @return Whether the latency field is set.
+     * <code>required string name = 1;</code>
+     * @return The bytes for name.
      */
     @java.lang.Override
-    public boolean hasLatency() {
-      return ((bitField0_ & 0x00000002) != 0);
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
+
+    public static final int HISTOGRAM_FIELD_NUMBER = 2;
+    private de.tum.i11.bcsim.proto.Messages.Histogram histogram_;
     /**
-     * <code>required double latency = 2;</code>
-     * @return The latency.
+     * <code>required .test.Histogram histogram = 2;</code>
+     * @return Whether the histogram field is set.
      */
     @java.lang.Override
-    public double getLatency() {
-      return latency_;
+    public boolean hasHistogram() {
+      return ((bitField0_ & 0x00000002) != 0);
     }
-
-    public static final int FEE_FIELD_NUMBER = 3;
-    private double fee_;
     /**
-     * <code>required double fee = 3;</code>
-     * @return Whether the fee field is set.
+     * <code>required .test.Histogram histogram = 2;</code>
+     * @return The histogram.
      */
     @java.lang.Override
-    public boolean hasFee() {
-      return ((bitField0_ & 0x00000004) != 0);
+    public de.tum.i11.bcsim.proto.Messages.Histogram getHistogram() {
+      return histogram_ == null ? de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance() : histogram_;
     }
     /**
-     * <code>required double fee = 3;</code>
-     * @return The fee.
+     * <code>required .test.Histogram histogram = 2;</code>
      */
     @java.lang.Override
-    public double getFee() {
-      return fee_;
+    public de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder getHistogramOrBuilder() {
+      return histogram_ == null ? de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance() : histogram_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -13670,15 +23796,15 @@ public final class Messages {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasSize()) {
+      if (!hasName()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasLatency()) {
+      if (!hasHistogram()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasFee()) {
+      if (!getHistogram().isInitialized()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -13690,13 +23816,10 @@ public final class Messages {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
-        output.writeInt32(1, size_);
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        output.writeDouble(2, latency_);
-      }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        output.writeDouble(3, fee_);
+        output.writeMessage(2, getHistogram());
       }
       unknownFields.writeTo(output);
     }
@@ -13708,16 +23831,11 @@ public final class Messages {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, size_);
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(2, latency_);
-      }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(3, fee_);
+          .computeMessageSize(2, getHistogram());
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -13729,27 +23847,20 @@ public final class Messages {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof de.tum.i11.bcsim.proto.Messages.TxLatencyResult)) {
+      if (!(obj instanceof de.tum.i11.bcsim.proto.Messages.NamedHistogram)) {
         return super.equals(obj);
       }
-      de.tum.i11.bcsim.proto.Messages.TxLatencyResult other = (de.tum.i11.bcsim.proto.Messages.TxLatencyResult) obj;
+      de.tum.i11.bcsim.proto.Messages.NamedHistogram other = (de.tum.i11.bcsim.proto.Messages.NamedHistogram) obj;
 
-      if (hasSize() != other.hasSize()) return false;
-      if (hasSize()) {
-        if (getSize()
-            != other.getSize()) return false;
-      }
-      if (hasLatency() != other.hasLatency()) return false;
-      if (hasLatency()) {
-        if (java.lang.Double.doubleToLongBits(getLatency())
-            != java.lang.Double.doubleToLongBits(
-                other.getLatency())) return false;
+      if (hasName() != other.hasName()) return false;
+      if (hasName()) {
+        if (!getName()
+            .equals(other.getName())) return false;
       }
-      if (hasFee() != other.hasFee()) return false;
-      if (hasFee()) {
-        if (java.lang.Double.doubleToLongBits(getFee())
-            != java.lang.Double.doubleToLongBits(
-                other.getFee())) return false;
+      if (hasHistogram() != other.hasHistogram()) return false;
+      if (hasHistogram()) {
+        if (!getHistogram()
+            .equals(other.getHistogram())) return false;
       }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
@@ -13762,88 +23873,82 @@ public final class Messages {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasSize()) {
-        hash = (37 * hash) + SIZE_FIELD_NUMBER;
-        hash = (53 * hash) + getSize();
-      }
-      if (hasLatency()) {
-        hash = (37 * hash) + LATENCY_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getLatency()));
+      if (hasName()) {
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
       }
-      if (hasFee()) {
-        hash = (37 * hash) + FEE_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getFee()));
+      if (hasHistogram()) {
+        hash = (37 * hash) + HISTOGRAM_FIELD_NUMBER;
+        hash = (53 * hash) + getHistogram().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+    public static de.tum.i11.bcsim.proto.Messages.NamedHistogram parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+    public static de.tum.i11.bcsim.proto.Messages.NamedHistogram parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+    public static de.tum.i11.bcsim.proto.Messages.NamedHistogram parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+    public static de.tum.i11.bcsim.proto.Messages.NamedHistogram parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(byte[] data)
+    public static de.tum.i11.bcsim.proto.Messages.NamedHistogram parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+    public static de.tum.i11.bcsim.proto.Messages.NamedHistogram parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(java.io.InputStream input)
+    public static de.tum.i11.bcsim.proto.Messages.NamedHistogram parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+    public static de.tum.i11.bcsim.proto.Messages.NamedHistogram parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseDelimitedFrom(java.io.InputStream input)
+    public static de.tum.i11.bcsim.proto.Messages.NamedHistogram parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseDelimitedFrom(
+    public static de.tum.i11.bcsim.proto.Messages.NamedHistogram parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+    public static de.tum.i11.bcsim.proto.Messages.NamedHistogram parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult parseFrom(
+    public static de.tum.i11.bcsim.proto.Messages.NamedHistogram parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -13856,7 +23961,7 @@ public final class Messages {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(de.tum.i11.bcsim.proto.Messages.TxLatencyResult prototype) {
+    public static Builder newBuilder(de.tum.i11.bcsim.proto.Messages.NamedHistogram prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -13872,26 +23977,30 @@ public final class Messages {
       return builder;
     }
     /**
-     * Protobuf type {@code test.TxLatencyResult}
+     * <pre>
+     * Lags (µs) of scheduled actions of a kind (e.g. SEND) behind their intended time, merged over all peers of a coordinator
+     * </pre>
+     *
+     * Protobuf type {@code test.NamedHistogram}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:test.TxLatencyResult)
-        de.tum.i11.bcsim.proto.Messages.TxLatencyResultOrBuilder {
+        // @@protoc_insertion_point(builder_implements:test.NamedHistogram)
+        de.tum.i11.bcsim.proto.Messages.NamedHistogramOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return de.tum.i11.bcsim.proto.Messages.internal_static_test_TxLatencyResult_descriptor;
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_NamedHistogram_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return de.tum.i11.bcsim.proto.Messages.internal_static_test_TxLatencyResult_fieldAccessorTable
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_NamedHistogram_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                de.tum.i11.bcsim.proto.Messages.TxLatencyResult.class, de.tum.i11.bcsim.proto.Messages.TxLatencyResult.Builder.class);
+                de.tum.i11.bcsim.proto.Messages.NamedHistogram.class, de.tum.i11.bcsim.proto.Messages.NamedHistogram.Builder.class);
       }
 
-      // Construct using de.tum.i11.bcsim.proto.Messages.TxLatencyResult.newBuilder()
+      // Construct using de.tum.i11.bcsim.proto.Messages.NamedHistogram.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -13904,34 +24013,37 @@ public final class Messages {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getHistogramFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        size_ = 0;
+        name_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
-        latency_ = 0D;
+        if (histogramBuilder_ == null) {
+          histogram_ = null;
+        } else {
+          histogramBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000002);
-        fee_ = 0D;
-        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return de.tum.i11.bcsim.proto.Messages.internal_static_test_TxLatencyResult_descriptor;
+        return de.tum.i11.bcsim.proto.Messages.internal_static_test_NamedHistogram_descriptor;
       }
 
       @java.lang.Override
-      public de.tum.i11.bcsim.proto.Messages.TxLatencyResult getDefaultInstanceForType() {
-        return de.tum.i11.bcsim.proto.Messages.TxLatencyResult.getDefaultInstance();
+      public de.tum.i11.bcsim.proto.Messages.NamedHistogram getDefaultInstanceForType() {
+        return de.tum.i11.bcsim.proto.Messages.NamedHistogram.getDefaultInstance();
       }
 
       @java.lang.Override
-      public de.tum.i11.bcsim.proto.Messages.TxLatencyResult build() {
-        de.tum.i11.bcsim.proto.Messages.TxLatencyResult result = buildPartial();
+      public de.tum.i11.bcsim.proto.Messages.NamedHistogram build() {
+        de.tum.i11.bcsim.proto.Messages.NamedHistogram result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -13939,22 +24051,22 @@ public final class Messages {
       }
 
       @java.lang.Override
-      public de.tum.i11.bcsim.proto.Messages.TxLatencyResult buildPartial() {
-        de.tum.i11.bcsim.proto.Messages.TxLatencyResult result = new de.tum.i11.bcsim.proto.Messages.TxLatencyResult(this);
+      public de.tum.i11.bcsim.proto.Messages.NamedHistogram buildPartial() {
+        de.tum.i11.bcsim.proto.Messages.NamedHistogram result = new de.tum.i11.bcsim.proto.Messages.NamedHistogram(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.size_ = size_;
           to_bitField0_ |= 0x00000001;
         }
+        result.name_ = name_;
         if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.latency_ = latency_;
+          if (histogramBuilder_ == null) {
+            result.histogram_ = histogram_;
+          } else {
+            result.histogram_ = histogramBuilder_.build();
+          }
           to_bitField0_ |= 0x00000002;
         }
-        if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.fee_ = fee_;
-          to_bitField0_ |= 0x00000004;
-        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -13994,24 +24106,23 @@ public final class Messages {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof de.tum.i11.bcsim.proto.Messages.TxLatencyResult) {
-          return mergeFrom((de.tum.i11.bcsim.proto.Messages.TxLatencyResult)other);
+        if (other instanceof de.tum.i11.bcsim.proto.Messages.NamedHistogram) {
+          return mergeFrom((de.tum.i11.bcsim.proto.Messages.NamedHistogram)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(de.tum.i11.bcsim.proto.Messages.TxLatencyResult other) {
-        if (other == de.tum.i11.bcsim.proto.Messages.TxLatencyResult.getDefaultInstance()) return this;
-        if (other.hasSize()) {
-          setSize(other.getSize());
-        }
-        if (other.hasLatency()) {
-          setLatency(other.getLatency());
+      public Builder mergeFrom(de.tum.i11.bcsim.proto.Messages.NamedHistogram other) {
+        if (other == de.tum.i11.bcsim.proto.Messages.NamedHistogram.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
         }
-        if (other.hasFee()) {
-          setFee(other.getFee());
+        if (other.hasHistogram()) {
+          mergeHistogram(other.getHistogram());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -14020,13 +24131,13 @@ public final class Messages {
 
       @java.lang.Override
       public final boolean isInitialized() {
-        if (!hasSize()) {
+        if (!hasName()) {
           return false;
         }
-        if (!hasLatency()) {
+        if (!hasHistogram()) {
           return false;
         }
-        if (!hasFee()) {
+        if (!getHistogram().isInitialized()) {
           return false;
         }
         return true;
@@ -14037,11 +24148,11 @@ public final class Messages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        de.tum.i11.bcsim.proto.Messages.TxLatencyResult parsedMessage = null;
+        de.tum.i11.bcsim.proto.Messages.NamedHistogram parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (de.tum.i11.bcsim.proto.Messages.TxLatencyResult) e.getUnfinishedMessage();
+          parsedMessage = (de.tum.i11.bcsim.proto.Messages.NamedHistogram) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -14052,121 +24163,208 @@ public final class Messages {
       }
       private int bitField0_;
 
-      private int size_ ;
+      private java.lang.Object name_ = "";
       /**
-       * <code>required int32 size = 1;</code>
-       * @return Whether the size field is set.
+       * <code>required string name = 1;</code>
+       * @return Whether the name field is set.
        */
-      @java.lang.Override
-      public boolean hasSize() {
+      public boolean hasName() {
         return ((bitField0_ & 0x00000001) != 0);
       }
       /**
-       * <code>required int32 size = 1;</code>
-       * @return The size.
+       * <code>required string name = 1;</code>
+       * @return The name.
        */
-      @java.lang.Override
-      public int getSize() {
-        return size_;
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>required int32 size = 1;</code>
-       * @param value The size to set.
+       * <code>required string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @param value The name to set.
        * @return This builder for chaining.
        */
-      public Builder setSize(int value) {
-        bitField0_ |= 0x00000001;
-        size_ = value;
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required int32 size = 1;</code>
+       * <code>required string name = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearSize() {
+      public Builder clearName() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        size_ = 0;
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
         onChanged();
         return this;
       }
 
-      private double latency_ ;
+      private de.tum.i11.bcsim.proto.Messages.Histogram histogram_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.Histogram, de.tum.i11.bcsim.proto.Messages.Histogram.Builder, de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder> histogramBuilder_;
       /**
-       * <code>required double latency = 2;</code>
-       * @return Whether the latency field is set.
+       * <code>required .test.Histogram histogram = 2;</code>
+       * @return Whether the histogram field is set.
        */
-      @java.lang.Override
-      public boolean hasLatency() {
+      public boolean hasHistogram() {
         return ((bitField0_ & 0x00000002) != 0);
       }
       /**
-       * <code>required double latency = 2;</code>
-       * @return The latency.
+       * <code>required .test.Histogram histogram = 2;</code>
+       * @return The histogram.
        */
-      @java.lang.Override
-      public double getLatency() {
-        return latency_;
+      public de.tum.i11.bcsim.proto.Messages.Histogram getHistogram() {
+        if (histogramBuilder_ == null) {
+          return histogram_ == null ? de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance() : histogram_;
+        } else {
+          return histogramBuilder_.getMessage();
+        }
       }
       /**
-       * <code>required double latency = 2;</code>
-       * @param value The latency to set.
-       * @return This builder for chaining.
+       * <code>required .test.Histogram histogram = 2;</code>
        */
-      public Builder setLatency(double value) {
+      public Builder setHistogram(de.tum.i11.bcsim.proto.Messages.Histogram value) {
+        if (histogramBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          histogram_ = value;
+          onChanged();
+        } else {
+          histogramBuilder_.setMessage(value);
+        }
         bitField0_ |= 0x00000002;
-        latency_ = value;
-        onChanged();
         return this;
       }
       /**
-       * <code>required double latency = 2;</code>
-       * @return This builder for chaining.
+       * <code>required .test.Histogram histogram = 2;</code>
        */
-      public Builder clearLatency() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        latency_ = 0D;
-        onChanged();
+      public Builder setHistogram(
+          de.tum.i11.bcsim.proto.Messages.Histogram.Builder builderForValue) {
+        if (histogramBuilder_ == null) {
+          histogram_ = builderForValue.build();
+          onChanged();
+        } else {
+          histogramBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
         return this;
       }
-
-      private double fee_ ;
       /**
-       * <code>required double fee = 3;</code>
-       * @return Whether the fee field is set.
+       * <code>required .test.Histogram histogram = 2;</code>
        */
-      @java.lang.Override
-      public boolean hasFee() {
-        return ((bitField0_ & 0x00000004) != 0);
+      public Builder mergeHistogram(de.tum.i11.bcsim.proto.Messages.Histogram value) {
+        if (histogramBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+              histogram_ != null &&
+              histogram_ != de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance()) {
+            histogram_ =
+              de.tum.i11.bcsim.proto.Messages.Histogram.newBuilder(histogram_).mergeFrom(value).buildPartial();
+          } else {
+            histogram_ = value;
+          }
+          onChanged();
+        } else {
+          histogramBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
       }
       /**
-       * <code>required double fee = 3;</code>
-       * @return The fee.
+       * <code>required .test.Histogram histogram = 2;</code>
        */
-      @java.lang.Override
-      public double getFee() {
-        return fee_;
+      public Builder clearHistogram() {
+        if (histogramBuilder_ == null) {
+          histogram_ = null;
+          onChanged();
+        } else {
+          histogramBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
       }
       /**
-       * <code>required double fee = 3;</code>
-       * @param value The fee to set.
-       * @return This builder for chaining.
+       * <code>required .test.Histogram histogram = 2;</code>
        */
-      public Builder setFee(double value) {
-        bitField0_ |= 0x00000004;
-        fee_ = value;
+      public de.tum.i11.bcsim.proto.Messages.Histogram.Builder getHistogramBuilder() {
+        bitField0_ |= 0x00000002;
         onChanged();
-        return this;
+        return getHistogramFieldBuilder().getBuilder();
       }
       /**
-       * <code>required double fee = 3;</code>
-       * @return This builder for chaining.
+       * <code>required .test.Histogram histogram = 2;</code>
        */
-      public Builder clearFee() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        fee_ = 0D;
-        onChanged();
-        return this;
+      public de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder getHistogramOrBuilder() {
+        if (histogramBuilder_ != null) {
+          return histogramBuilder_.getMessageOrBuilder();
+        } else {
+          return histogram_ == null ?
+              de.tum.i11.bcsim.proto.Messages.Histogram.getDefaultInstance() : histogram_;
+        }
+      }
+      /**
+       * <code>required .test.Histogram histogram = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          de.tum.i11.bcsim.proto.Messages.Histogram, de.tum.i11.bcsim.proto.Messages.Histogram.Builder, de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder> 
+          getHistogramFieldBuilder() {
+        if (histogramBuilder_ == null) {
+          histogramBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              de.tum.i11.bcsim.proto.Messages.Histogram, de.tum.i11.bcsim.proto.Messages.Histogram.Builder, de.tum.i11.bcsim.proto.Messages.HistogramOrBuilder>(
+                  getHistogram(),
+                  getParentForChildren(),
+                  isClean());
+          histogram_ = null;
+        }
+        return histogramBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -14181,41 +24379,41 @@ public final class Messages {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:test.TxLatencyResult)
+      // @@protoc_insertion_point(builder_scope:test.NamedHistogram)
     }
 
-    // @@protoc_insertion_point(class_scope:test.TxLatencyResult)
-    private static final de.tum.i11.bcsim.proto.Messages.TxLatencyResult DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:test.NamedHistogram)
+    private static final de.tum.i11.bcsim.proto.Messages.NamedHistogram DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new de.tum.i11.bcsim.proto.Messages.TxLatencyResult();
+      DEFAULT_INSTANCE = new de.tum.i11.bcsim.proto.Messages.NamedHistogram();
     }
 
-    public static de.tum.i11.bcsim.proto.Messages.TxLatencyResult getDefaultInstance() {
+    public static de.tum.i11.bcsim.proto.Messages.NamedHistogram getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<TxLatencyResult>
-        PARSER = new com.google.protobuf.AbstractParser<TxLatencyResult>() {
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<NamedHistogram>
+        PARSER = new com.google.protobuf.AbstractParser<NamedHistogram>() {
       @java.lang.Override
-      public TxLatencyResult parsePartialFrom(
+      public NamedHistogram parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new TxLatencyResult(input, extensionRegistry);
+        return new NamedHistogram(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<TxLatencyResult> parser() {
+    public static com.google.protobuf.Parser<NamedHistogram> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<TxLatencyResult> getParserForType() {
+    public com.google.protobuf.Parser<NamedHistogram> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public de.tum.i11.bcsim.proto.Messages.TxLatencyResult getDefaultInstanceForType() {
+    public de.tum.i11.bcsim.proto.Messages.NamedHistogram getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -22604,6 +32802,46 @@ public final class Messages {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_test_TxLatencyResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_test_TxLatencyHistogram_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_test_TxLatencyHistogram_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_test_Traffic_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_test_Traffic_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_test_LinkTraffic_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_test_LinkTraffic_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_test_BlockPropagation_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_test_BlockPropagation_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_test_TimeSeries_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_test_TimeSeries_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_test_NamedTimeSeries_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_test_NamedTimeSeries_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_test_Histogram_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_test_Histogram_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_test_NamedHistogram_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_test_NamedHistogram_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_test_Graphviz_descriptor;
   private static final 
@@ -22678,40 +32916,65 @@ public final class Messages {
       "atency\030\002 \002(\005\"\036\n\016ConsensusNodes\022\014\n\004node\030\001" +
       " \003(\005\"\n\n\010P2PReady\"\025\n\005Start\022\014\n\004time\030\001 \002(\003\"" +
       "8\n\004Stop\022\021\n\tinitiator\030\001 \002(\t\022\016\n\006reason\030\002 \002" +
-      "(\t\022\r\n\005fatal\030\003 \002(\010\"h\n\006Result\022\024\n\014coordAddr" +
-      "ess\030\001 \002(\t\022\022\n\nmaxCPULoad\030\002 \002(\001\022\022\n\navgCPUL" +
-      "oad\030\003 \002(\001\022 \n\005entry\030\004 \003(\0132\021.test.ResultEn" +
-      "try\"\353\002\n\013ResultEntry\022\016\n\006nodeId\030\001 \002(\005\022\020\n\010p" +
-      "oolSize\030\002 \002(\005\022\017\n\007orphans\030\003 \002(\005\022\033\n\023create" +
-      "dBlocksPerSec\030\004 \002(\001\022\025\n\rcreatedBlocks\030\005 \002" +
-      "(\005\022\027\n\017createdTxPerSec\030\006 \002(\001\022\021\n\tcreatedTx" +
-      "\030\007 \002(\005\022\035\n\025confirmedBlocksPerSec\030\010 \002(\001\022\031\n" +
-      "\021confirmedTxPerSec\030\t \002(\001\022\034\n\024confirmedByt" +
-      "esPerSec\030\n \002(\001\022\031\n\021totalBlocksPerSec\030\013 \002(" +
-      "\001\022\025\n\rtotalTxPerSec\030\014 \002(\001\022\025\n\runconfirmedT" +
-      "x\030\r \002(\005\022(\n\ttxLatency\030\016 \003(\0132\025.test.TxLate" +
-      "ncyResult\"=\n\017TxLatencyResult\022\014\n\004size\030\001 \002" +
-      "(\005\022\017\n\007latency\030\002 \002(\001\022\013\n\003fee\030\003 \002(\001\"\031\n\010Grap" +
-      "hviz\022\r\n\005graph\030\001 \002(\t\"\230\002\n\nP2PMessage\022$\n\010an" +
-      "nounce\030\001 \001(\0132\022.test.AnnouncePeer\022\036\n\007late" +
-      "ncy\030\002 \001(\0132\r.test.Latency\022\034\n\003inv\030\003 \001(\0132\017." +
-      "test.Inventory\022\036\n\007getData\030\004 \001(\0132\r.test.G" +
-      "etData\022\032\n\005block\030\005 \001(\0132\013.test.Block\022&\n\013tr" +
-      "ansaction\030\006 \001(\0132\021.test.Transaction\022%\n\010pr" +
-      "oposal\030\007 \001(\0132\023.test.BlockProposal\022\033\n\003ack" +
-      "\030\010 \001(\0132\016.test.BlockAck\"\036\n\014AnnouncePeer\022\016" +
-      "\n\006nodeId\030\001 \002(\005\"\'\n\tInventory\022\016\n\006sender\030\001 " +
-      "\002(\005\022\n\n\002id\030\002 \002(\005\"%\n\007GetData\022\016\n\006sender\030\001 \002" +
-      "(\005\022\n\n\002id\030\002 \002(\005\"`\n\013Transaction\022\014\n\004txId\030\001 " +
-      "\002(\005\022\r\n\005txFee\030\002 \002(\005\022&\n\002ts\030\003 \002(\0132\032.google." +
-      "protobuf.Timestamp\022\014\n\004data\030\004 \001(\014\"\213\001\n\005Blo" +
-      "ck\022\017\n\007blockId\030\001 \002(\005\022\020\n\010parentId\030\002 \002(\005\022\017\n" +
-      "\007creator\030\003 \002(\005\022&\n\002ts\030\004 \002(\0132\032.google.prot" +
-      "obuf.Timestamp\022&\n\013transaction\030\005 \003(\0132\021.te" +
-      "st.Transaction\"+\n\rBlockProposal\022\032\n\005block" +
-      "\030\001 \002(\0132\013.test.Block\"\033\n\010BlockAck\022\017\n\007block" +
-      "Id\030\001 \002(\005B$\n\026de.tum.i11.bcsim.protoB\010Mess" +
-      "agesH\001"
+      "(\t\022\r\n\005fatal\030\003 \002(\010\"\354\002\n\006Result\022\024\n\014coordAdd" +
+      "ress\030\001 \002(\t\022\022\n\nmaxCPULoad\030\002 \002(\001\022\022\n\navgCPU" +
+      "Load\030\003 \002(\001\022 \n\005entry\030\004 \003(\0132\021.test.ResultE" +
+      "ntry\0224\n\022txLatencyHistogram\030\005 \003(\0132\030.test." +
+      "TxLatencyHistogram\022%\n\006series\030\006 \003(\0132\025.tes" +
+      "t.NamedTimeSeries\0220\n\020blockPropagation\030\007 " +
+      "\003(\0132\026.test.BlockPropagation\022\036\n\007traffic\030\010" +
+      " \003(\0132\r.test.Traffic\022&\n\013linkTraffic\030\t \003(\013" +
+      "2\021.test.LinkTraffic\022+\n\rschedulingLag\030\n \003" +
+      "(\0132\024.test.NamedHistogram\"\222\003\n\013ResultEntry" +
+      "\022\016\n\006nodeId\030\001 \002(\005\022\020\n\010poolSize\030\002 \002(\005\022\017\n\007or" +
+      "phans\030\003 \002(\005\022\033\n\023createdBlocksPerSec\030\004 \002(\001" +
+      "\022\025\n\rcreatedBlocks\030\005 \002(\005\022\027\n\017createdTxPerS" +
+      "ec\030\006 \002(\001\022\021\n\tcreatedTx\030\007 \002(\005\022\035\n\025confirmed" +
+      "BlocksPerSec\030\010 \002(\001\022\031\n\021confirmedTxPerSec\030" +
+      "\t \002(\001\022\034\n\024confirmedBytesPerSec\030\n \002(\001\022\031\n\021t" +
+      "otalBlocksPerSec\030\013 \002(\001\022\025\n\rtotalTxPerSec\030" +
+      "\014 \002(\001\022\025\n\runconfirmedTx\030\r \002(\005\022(\n\ttxLatenc" +
+      "y\030\016 \003(\0132\025.test.TxLatencyResult\022%\n\006series" +
+      "\030\017 \003(\0132\025.test.NamedTimeSeries\"=\n\017TxLaten" +
+      "cyResult\022\014\n\004size\030\001 \002(\005\022\017\n\007latency\030\002 \002(\001\022" +
+      "\013\n\003fee\030\003 \002(\001\"R\n\022TxLatencyHistogram\022\013\n\003fe" +
+      "e\030\001 \002(\001\022\r\n\005bytes\030\002 \002(\003\022 \n\007latency\030\003 \002(\0132" +
+      "\017.test.Histogram\"\245\001\n\007Traffic\022\014\n\004kind\030\001 \002" +
+      "(\t\022\020\n\010sentMsgs\030\002 \002(\003\022\021\n\tsentBytes\030\003 \002(\003\022" +
+      "\032\n\022sentSimulatedBytes\030\004 \002(\003\022\024\n\014receivedM" +
+      "sgs\030\005 \002(\003\022\025\n\rreceivedBytes\030\006 \002(\003\022\036\n\026rece" +
+      "ivedSimulatedBytes\030\007 \002(\003\"G\n\013LinkTraffic\022" +
+      "\014\n\004from\030\001 \002(\005\022\n\n\002to\030\002 \002(\005\022\036\n\007traffic\030\003 \002" +
+      "(\0132\r.test.Traffic\"C\n\020BlockPropagation\022\017\n" +
+      "\007blockId\030\001 \002(\005\022\036\n\005delay\030\002 \002(\0132\017.test.His" +
+      "togram\"S\n\nTimeSeries\022\r\n\005start\030\001 \002(\003\022\020\n\010w" +
+      "indowMs\030\002 \002(\005\022\022\n\006values\030\003 \003(\001B\002\020\001\022\020\n\005pee" +
+      "rs\030\004 \001(\005:\0011\"A\n\017NamedTimeSeries\022\014\n\004name\030\001" +
+      " \002(\t\022 \n\006series\030\002 \002(\0132\020.test.TimeSeries\"e" +
+      "\n\tHistogram\022\r\n\005count\030\001 \002(\003\022\013\n\003sum\030\002 \002(\001\022" +
+      "\013\n\003min\030\003 \002(\003\022\013\n\003max\030\004 \002(\003\022\016\n\006offset\030\005 \002(" +
+      "\005\022\022\n\006counts\030\006 \003(\003B\002\020\001\"B\n\016NamedHistogram\022" +
+      "\014\n\004name\030\001 \002(\t\022\"\n\thistogram\030\002 \002(\0132\017.test." +
+      "Histogram\"\031\n\010Graphviz\022\r\n\005graph\030\001 \002(\t\"\230\002\n" +
+      "\nP2PMessage\022$\n\010announce\030\001 \001(\0132\022.test.Ann" +
+      "ouncePeer\022\036\n\007latency\030\002 \001(\0132\r.test.Latenc" +
+      "y\022\034\n\003inv\030\003 \001(\0132\017.test.Inventory\022\036\n\007getDa" +
+      "ta\030\004 \001(\0132\r.test.GetData\022\032\n\005block\030\005 \001(\0132\013" +
+      ".test.Block\022&\n\013transaction\030\006 \001(\0132\021.test." +
+      "Transaction\022%\n\010proposal\030\007 \001(\0132\023.test.Blo" +
+      "ckProposal\022\033\n\003ack\030\010 \001(\0132\016.test.BlockAck\"" +
+      "\036\n\014AnnouncePeer\022\016\n\006nodeId\030\001 \002(\005\"\'\n\tInven" +
+      "tory\022\016\n\006sender\030\001 \002(\005\022\n\n\002id\030\002 \002(\005\"%\n\007GetD" +
+      "ata\022\016\n\006sender\030\001 \002(\005\022\n\n\002id\030\002 \002(\005\"`\n\013Trans" +
+      "action\022\014\n\004txId\030\001 \002(\005\022\r\n\005txFee\030\002 \002(\005\022&\n\002t" +
+      "s\030\003 \002(\0132\032.google.protobuf.Timestamp\022\014\n\004d" +
+      "ata\030\004 \001(\014\"\213\001\n\005Block\022\017\n\007blockId\030\001 \002(\005\022\020\n\010" +
+      "parentId\030\002 \002(\005\022\017\n\007creator\030\003 \002(\005\022&\n\002ts\030\004 " +
+      "\002(\0132\032.google.protobuf.Timestamp\022&\n\013trans" +
+      "action\030\005 \003(\0132\021.test.Transaction\"+\n\rBlock" +
+      "Proposal\022\032\n\005block\030\001 \002(\0132\013.test.Block\"\033\n\010" +
+      "BlockAck\022\017\n\007blockId\030\001 \002(\005B$\n\026de.tum.i11." +
+      "bcsim.protoB\010MessagesH\001"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -22789,69 +33052,117 @@ public final class Messages {
     internal_static_test_Result_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_test_Result_descriptor,
-        new java.lang.String[] { "CoordAddress", "MaxCPULoad", "AvgCPULoad", "Entry", });
+        new java.lang.String[] { "CoordAddress", "MaxCPULoad", "AvgCPULoad", "Entry", "TxLatencyHistogram", "Series", "BlockPropagation", "Traffic", "LinkTraffic", "SchedulingLag", });
     internal_static_test_ResultEntry_descriptor =
       getDescriptor().getMessageTypes().get(12);
     internal_static_test_ResultEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_test_ResultEntry_descriptor,
-        new java.lang.String[] { "NodeId", "PoolSize", "Orphans", "CreatedBlocksPerSec", "CreatedBlocks", "CreatedTxPerSec", "CreatedTx", "ConfirmedBlocksPerSec", "ConfirmedTxPerSec", "ConfirmedBytesPerSec", "TotalBlocksPerSec", "TotalTxPerSec", "UnconfirmedTx", "TxLatency", });
+        new java.lang.String[] { "NodeId", "PoolSize", "Orphans", "CreatedBlocksPerSec", "CreatedBlocks", "CreatedTxPerSec", "CreatedTx", "ConfirmedBlocksPerSec", "ConfirmedTxPerSec", "ConfirmedBytesPerSec", "TotalBlocksPerSec", "TotalTxPerSec", "UnconfirmedTx", "TxLatency", "Series", });
     internal_static_test_TxLatencyResult_descriptor =
       getDescriptor().getMessageTypes().get(13);
     internal_static_test_TxLatencyResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_test_TxLatencyResult_descriptor,
         new java.lang.String[] { "Size", "Latency", "Fee", });
-    internal_static_test_Graphviz_descriptor =
+    internal_static_test_TxLatencyHistogram_descriptor =
       getDescriptor().getMessageTypes().get(14);
+    internal_static_test_TxLatencyHistogram_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_test_TxLatencyHistogram_descriptor,
+        new java.lang.String[] { "Fee", "Bytes", "Latency", });
+    internal_static_test_Traffic_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_test_Traffic_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_test_Traffic_descriptor,
+        new java.lang.String[] { "Kind", "SentMsgs", "SentBytes", "SentSimulatedBytes", "ReceivedMsgs", "ReceivedBytes", "ReceivedSimulatedBytes", });
+    internal_static_test_LinkTraffic_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_test_LinkTraffic_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_test_LinkTraffic_descriptor,
+        new java.lang.String[] { "From", "To", "Traffic", });
+    internal_static_test_BlockPropagation_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_test_BlockPropagation_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_test_BlockPropagation_descriptor,
+        new java.lang.String[] { "BlockId", "Delay", });
+    internal_static_test_TimeSeries_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_test_TimeSeries_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_test_TimeSeries_descriptor,
+        new java.lang.String[] { "Start", "WindowMs", "Values", "Peers", });
+    internal_static_test_NamedTimeSeries_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_test_NamedTimeSeries_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_test_NamedTimeSeries_descriptor,
+        new java.lang.String[] { "Name", "Series", });
+    internal_static_test_Histogram_descriptor =
+      getDescriptor().getMessageTypes().get(20);
+    internal_static_test_Histogram_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_test_Histogram_descriptor,
+        new java.lang.String[] { "Count", "Sum", "Min", "Max", "Offset", "Counts", });
+    internal_static_test_NamedHistogram_descriptor =
+      getDescriptor().getMessageTypes().get(21);
+    internal_static_test_NamedHistogram_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_test_NamedHistogram_descriptor,
+        new java.lang.String[] { "Name", "Histogram", });
+    internal_static_test_Graphviz_descriptor =
+      getDescriptor().getMessageTypes().get(22);
     internal_static_test_Graphviz_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_test_Graphviz_descriptor,
         new java.lang.String[] { "Graph", });
     internal_static_test_P2PMessage_descriptor =
-      getDescriptor().getMessageTypes().get(15);
+      getDescriptor().getMessageTypes().get(23);
     internal_static_test_P2PMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_test_P2PMessage_descriptor,
         new java.lang.String[] { "Announce", "Latency", "Inv", "GetData", "Block", "Transaction", "Proposal", "Ack", });
     internal_static_test_AnnouncePeer_descriptor =
-      getDescriptor().getMessageTypes().get(16);
+      getDescriptor().getMessageTypes().get(24);
     internal_static_test_AnnouncePeer_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_test_AnnouncePeer_descriptor,
         new java.lang.String[] { "NodeId", });
     internal_static_test_Inventory_descriptor =
-      getDescriptor().getMessageTypes().get(17);
+      getDescriptor().getMessageTypes().get(25);
     internal_static_test_Inventory_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_test_Inventory_descriptor,
         new java.lang.String[] { "Sender", "Id", });
     internal_static_test_GetData_descriptor =
-      getDescriptor().getMessageTypes().get(18);
+      getDescriptor().getMessageTypes().get(26);
     internal_static_test_GetData_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_test_GetData_descriptor,
         new java.lang.String[] { "Sender", "Id", });
     internal_static_test_Transaction_descriptor =
-      getDescriptor().getMessageTypes().get(19);
+      getDescriptor().getMessageTypes().get(27);
     internal_static_test_Transaction_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_test_Transaction_descriptor,
         new java.lang.String[] { "TxId", "TxFee", "Ts", "Data", });
     internal_static_test_Block_descriptor =
-      getDescriptor().getMessageTypes().get(20);
+      getDescriptor().getMessageTypes().get(28);
     internal_static_test_Block_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_test_Block_descriptor,
         new java.lang.String[] { "BlockId", "ParentId", "Creator", "Ts", "Transaction", });
     internal_static_test_BlockProposal_descriptor =
-      getDescriptor().getMessageTypes().get(21);
+      getDescriptor().getMessageTypes().get(29);
     internal_static_test_BlockProposal_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_test_BlockProposal_descriptor,
         new java.lang.String[] { "Block", });
     internal_static_test_BlockAck_descriptor =
-      getDescriptor().getMessageTypes().get(22);
+      getDescriptor().getMessageTypes().get(30);
     internal_static_test_BlockAck_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_test_BlockAck_descriptor,
@@ -6,6 +6,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
 
 public class ConstantRateTask implements RepeatingTask {
 
@@ -13,6 +14,8 @@ public class ConstantRateTask implements RepeatingTask {
     private final long delay;
     private final Runnable task;
     private final ScheduledExecutorService executor;
+    private LongConsumer lagListener;
+    private long runs;
 
     public ConstantRateTask(Runnable task, long initalDelay, long delay, int priority) {
         this.task = task;
@@ -39,7 +42,20 @@ public class ConstantRateTask implements RepeatingTask {
     public RepeatingTask begin(long startTime) {
         long init = startTime-System.currentTimeMillis()+initialDelay;
         init = Math.max(0, init);
-        executor.scheduleAtFixedRate(task, init, delay, TimeUnit.MILLISECONDS);
+        long first = System.nanoTime() + init*1000000;
+        executor.scheduleAtFixedRate(() -> {
+            if(lagListener != null) {
+                lagListener.accept((System.nanoTime() - (first + runs*delay*1000000))/1000);
+            }
+            runs++;
+            task.run();
+        }, init, delay, TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    @Override
+    public ConstantRateTask setLagListener(LongConsumer listener) {
+        this.lagListener = listener;
         return this;
     }
 
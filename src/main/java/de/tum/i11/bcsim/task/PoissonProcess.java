@@ -2,6 +2,7 @@ package de.tum.i11.bcsim.task;
 
 import java.security.SecureRandom;
 import java.util.Random;
+import java.util.function.LongConsumer;
 
 public class PoissonProcess extends Thread implements RepeatingTask {
     private boolean stopped;
@@ -9,6 +10,7 @@ public class PoissonProcess extends Thread implements RepeatingTask {
     private final Runnable task;
     private final Random rnd;
     private long startTime;
+    private LongConsumer lagListener;
 
     public PoissonProcess(Runnable task, double rate) {
         this.task = task;
@@ -33,26 +35,42 @@ public class PoissonProcess extends Thread implements RepeatingTask {
 
         long wait = (long) waitingTime(rate);
         long toStart = startTime - System.currentTimeMillis();
+        long intended = System.nanoTime() + (toStart+wait)*1000000;
         if(toStart+wait > 0) {
             try {
                 Thread.sleep(toStart+wait);
             } catch (InterruptedException ignored){}
         }
         if(!stopped) {
+            reportLag(intended);
             task.run();
         }
 
         while(!stopped) {
             try {
                 wait = (long) waitingTime(rate);
+                intended = System.nanoTime() + wait*1000000;
                 Thread.sleep(wait);
             } catch (InterruptedException ignored) {}
             if(!stopped) {
+                reportLag(intended);
                 task.run();
             }
         }
     }
 
+    private void reportLag(long intendedNanos) {
+        if(lagListener != null) {
+            lagListener.accept((System.nanoTime() - intendedNanos)/1000);
+        }
+    }
+
+    @Override
+    public PoissonProcess setLagListener(LongConsumer listener) {
+        this.lagListener = listener;
+        return this;
+    }
+
     @Override
     public PoissonProcess begin(long startTime) {
         this.startTime = startTime;
@@ -1,6 +1,14 @@
 package de.tum.i11.bcsim.task;
 
+import java.util.function.LongConsumer;
+
 public interface RepeatingTask {
     RepeatingTask begin(long startTime);
     void end();
+
+    /**
+     * @param listener called before each run of the task with the time (in µs) it runs after its intended time
+     * @return this task
+     */
+    RepeatingTask setLagListener(LongConsumer listener);
 }
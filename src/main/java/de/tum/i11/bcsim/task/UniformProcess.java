@@ -1,12 +1,14 @@
 package de.tum.i11.bcsim.task;
 
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongConsumer;
 
 public class UniformProcess extends Thread implements RepeatingTask {
     private boolean stopped;
     private final int time;
     private final Runnable task;
     private long startTime;
+    private LongConsumer lagListener;
 
     public UniformProcess(Runnable task, int time) {
         this.task = task;
@@ -29,25 +31,41 @@ public class UniformProcess extends Thread implements RepeatingTask {
             return;
         long wait = waitingTime(time);
         long toStart = startTime - System.currentTimeMillis();
+        long intended = System.nanoTime() + (toStart+wait)*1000000;
         if(toStart+wait > 0) {
             try {
                 Thread.sleep(toStart+wait);
             } catch (InterruptedException ignored){}
         }
         if(!stopped) {
+            reportLag(intended);
             task.run();
         }
         while(!stopped) {
             try {
                 wait = waitingTime(time);
+                intended = System.nanoTime() + wait*1000000;
                 Thread.sleep(wait);
             } catch (InterruptedException ignored) {}
             if(!stopped) {
+                reportLag(intended);
                 task.run();
             }
         }
     }
 
+    private void reportLag(long intendedNanos) {
+        if(lagListener != null) {
+            lagListener.accept((System.nanoTime() - intendedNanos)/1000);
+        }
+    }
+
+    @Override
+    public UniformProcess setLagListener(LongConsumer listener) {
+        this.lagListener = listener;
+        return this;
+    }
+
     @Override
     public UniformProcess begin(long startTime) {
         this.startTime = startTime;
@@ -15,9 +15,10 @@ public class CPULoadMeasure {
     private final int ticksMs;
     private boolean running;
 
-    private double max;
-    private int count;
-    private double avg;
+    private volatile double max;
+    private volatile int count;
+    private volatile double avg;
+    private volatile double last;
 
     public CPULoadMeasure(int ticksMs) {
         SystemInfo si = new SystemInfo();
@@ -34,6 +35,7 @@ public class CPULoadMeasure {
         count = -1;
         max = Double.MIN_VALUE;
         avg = Double.MIN_VALUE;
+        last = 0;
         exec = Executors.newSingleThreadScheduledExecutor();
 
         final long[][] prevTicks = new long[1][1];
@@ -43,6 +45,7 @@ public class CPULoadMeasure {
                 return;
             }
             double cpuLoad = cpu.getSystemCpuLoadBetweenTicks( prevTicks[0] );
+            last = cpuLoad;
             if(count == 1) {
                 max = cpuLoad;
                 avg = cpuLoad;
@@ -55,7 +58,9 @@ public class CPULoadMeasure {
     }
 
     public void stop() {
-        exec.shutdownNow();
+        if(exec != null) {
+            exec.shutdownNow();
+        }
         running = false;
     }
 
@@ -66,4 +71,11 @@ public class CPULoadMeasure {
     public double getAvgLoad() {
         return avg*100;
     }
+
+    /**
+     * @return the load during the most recent tick
+     */
+    public double getLastLoad() {
+        return last*100;
+    }
 }
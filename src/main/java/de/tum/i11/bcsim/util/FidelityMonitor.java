@@ -0,0 +1,114 @@
+package de.tum.i11.bcsim.util;
+
+import de.tum.i11.bcsim.proto.Messages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how late scheduled actions of the emulation fire compared to their intended time (in µs). Late actions
+ * indicate an overloaded host, which distorts all emulated delays. Lags are only recorded while the monitor is running.
+ */
+public class FidelityMonitor {
+
+    public enum Category {
+        SEND,           // delayed sends simulating latency and bandwidth
+        VERIFICATION,   // simulated block verification
+        PROCESS,        // ticks of block and tx creation processes
+        EVENT_LOOP      // latency of tasks submitted to the Netty event loops of peers
+    }
+
+    // histograms are striped by thread to avoid contention between peers
+    private static final int STRIPES = 8;
+
+    private final Histogram[][] lags;
+    private final int probeMs;
+    private ScheduledExecutorService exec;
+    private volatile boolean running;
+
+    /**
+     * @param probeMs interval in ms in which the event loop probe is run
+     */
+    public FidelityMonitor(int probeMs) {
+        this.probeMs = probeMs;
+        this.lags = new Histogram[Category.values().length][STRIPES];
+        for(Histogram[] h : lags) {
+            for(int i = 0; i < STRIPES; i++) {
+                h[i] = new Histogram();
+            }
+        }
+    }
+
+    /**
+     * Start recording lags and periodically run the given probe
+     * @param ms time in ms after which the probe is first run
+     * @param probe submits tasks to event loops and records their latency via record(EVENT_LOOP, ...)
+     */
+    public void startAfter(int ms, Runnable probe) {
+        if(running) {
+            stop();
+        }
+        running = true;
+        exec = Executors.newSingleThreadScheduledExecutor();
+        exec.scheduleAtFixedRate(probe, ms, probeMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        running = false;
+        if(exec != null) {
+            exec.shutdownNow();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @param category the kind of scheduled action
+     * @param lagMicros the time in µs the action fired after its intended time
+     */
+    public void record(Category category, long lagMicros) {
+        if(running) {
+            lags[category.ordinal()][(int) (Thread.currentThread().getId() & (STRIPES - 1))].record(Math.max(0, lagMicros));
+        }
+    }
+
+    /**
+     * Record the lag of an action that was intended to fire at the given time
+     * @param category the kind of scheduled action
+     * @param intendedNanos the System.nanoTime() at which the action should have fired
+     */
+    public void recordSince(Category category, long intendedNanos) {
+        record(category, (System.nanoTime() - intendedNanos)/1000);
+    }
+
+    /**
+     * @param category the kind of scheduled action
+     * @return the lags of all actions of the given kind
+     */
+    public Histogram getLags(Category category) {
+        Histogram h = new Histogram();
+        for(Histogram stripe : lags[category.ordinal()]) {
+            h.merge(stripe);
+        }
+        return h;
+    }
+
+    /**
+     * @return the lags of each category with at least one recorded action
+     */
+    public List<Messages.NamedHistogram> toProto() {
+        List<Messages.NamedHistogram> res = new ArrayList<>();
+        for(Category c : Category.values()) {
+            Histogram h = getLags(c);
+            if(h.getCount() > 0) {
+                res.add(Messages.NamedHistogram.newBuilder().setName(c.name()).setHistogram(h.toProto()).build());
+            }
+        }
+        return res;
+    }
+}
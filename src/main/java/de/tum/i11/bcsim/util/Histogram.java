@@ -0,0 +1,221 @@
+package de.tum.i11.bcsim.util;
+
+import de.tum.i11.bcsim.proto.Messages;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable log-linear histogram of non-negative long values with fixed relative precision.
+ * Values below 2^SUB_BUCKET_BITS are counted exactly, larger values are grouped into buckets of
+ * 1/2^(SUB_BUCKET_BITS-1) relative width. Memory only grows with the largest recorded value (at most a few KB).
+ */
+public class Histogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+
+    private long[] counts;
+    private long count;
+    private double sum;
+    private long min;
+    private long max;
+
+    public Histogram() {
+        this.counts = new long[SUB_BUCKET_COUNT];
+        this.min = Long.MAX_VALUE;
+        this.max = Long.MIN_VALUE;
+    }
+
+    /**
+     * @param value the value
+     * @return the index of the bucket counting the given value
+     */
+    static int indexOf(long value) {
+        if(value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int bucket = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return bucket * SUB_BUCKET_HALF + (int) (value >>> bucket);
+    }
+
+    /**
+     * @param index the bucket index
+     * @return the smallest value counted in the bucket with the given index
+     */
+    static long lowestValueAt(int index) {
+        if(index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int bucket = index / SUB_BUCKET_HALF - 1;
+        return ((long) (index % SUB_BUCKET_HALF + SUB_BUCKET_HALF)) << bucket;
+    }
+
+    /**
+     * @param index the bucket index
+     * @return the number of distinct values counted in the bucket with the given index
+     */
+    static long widthAt(int index) {
+        if(index < SUB_BUCKET_COUNT) {
+            return 1;
+        }
+        return 1L << (index / SUB_BUCKET_HALF - 1);
+    }
+
+    public void record(long value) {
+        record(value, 1);
+    }
+
+    /**
+     * Record the given value n times. Negative values are counted as 0.
+     * @param value the value
+     * @param n the number of occurrences
+     */
+    public synchronized void record(long value, long n) {
+        if(n <= 0) {
+            return;
+        }
+        value = Math.max(0, value);
+        int index = indexOf(value);
+        if(index >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index + 1, counts.length + SUB_BUCKET_HALF));
+        }
+        counts[index] += n;
+        count += n;
+        sum += (double) value * n;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Add all values recorded by the given histogram to this histogram
+     * @param other the histogram to be merged into this one
+     */
+    public void merge(Histogram other) {
+        long[] otherCounts;
+        long otherCount, otherMin, otherMax;
+        double otherSum;
+        synchronized (other) {
+            otherCounts = Arrays.copyOf(other.counts, other.counts.length);
+            otherCount = other.count;
+            otherSum = other.sum;
+            otherMin = other.min;
+            otherMax = other.max;
+        }
+        synchronized (this) {
+            if(otherCounts.length > counts.length) {
+                counts = Arrays.copyOf(counts, otherCounts.length);
+            }
+            for(int i = 0; i < otherCounts.length; i++) {
+                counts[i] += otherCounts[i];
+            }
+            count += otherCount;
+            sum += otherSum;
+            min = Math.min(min, otherMin);
+            max = Math.max(max, otherMax);
+        }
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized double getSum() {
+        return sum;
+    }
+
+    public synchronized double getMean() {
+        return count == 0 ? 0 : sum/count;
+    }
+
+    /**
+     * @return the smallest recorded value or Long.MAX_VALUE if no values were recorded
+     */
+    public synchronized long getMin() {
+        return min;
+    }
+
+    /**
+     * @return the largest recorded value or Long.MIN_VALUE if no values were recorded
+     */
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Calculate the value below or at which the given percentage of recorded values lie. The result is exact for values
+     * below 2^SUB_BUCKET_BITS and otherwise the center of the respective bucket.
+     * @param percentile the percentile in [0, 100]
+     * @return the value at the given percentile or 0 if no values were recorded
+     */
+    public synchronized double getValueAtPercentile(double percentile) {
+        if(count == 0) {
+            return 0;
+        }
+        return getValueAtRank(Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100.0 * count)));
+    }
+
+    /**
+     * @param rank the rank in [1, count]
+     * @return the rank-th smallest recorded value (see getValueAtPercentile) or the largest value if rank exceeds count
+     */
+    public synchronized double getValueAtRank(long rank) {
+        if(count == 0) {
+            return 0;
+        }
+        if(rank >= count) {
+            return max;
+        }
+        long seen = 0;
+        for(int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if(seen >= rank) {
+                double value = lowestValueAt(i) + (widthAt(i) - 1) / 2.0;
+                return Math.min(max, Math.max(min, value));
+            }
+        }
+        return max;
+    }
+
+    public synchronized Messages.Histogram toProto() {
+        int first = 0;
+        int last = counts.length - 1;
+        while(first <= last && counts[first] == 0) first++;
+        while(last >= first && counts[last] == 0) last--;
+        var b = Messages.Histogram.newBuilder()
+                .setCount(count)
+                .setSum(sum)
+                .setMin(min)
+                .setMax(max)
+                .setOffset(first);
+        for(int i = first; i <= last; i++) {
+            b.addCounts(counts[i]);
+        }
+        return b.build();
+    }
+
+    public static Histogram fromProto(Messages.Histogram proto) {
+        Histogram h = new Histogram();
+        int length = proto.getOffset() + proto.getCountsCount();
+        if(length > h.counts.length) {
+            h.counts = new long[length];
+        }
+        for(int i = 0; i < proto.getCountsCount(); i++) {
+            h.counts[proto.getOffset() + i] = proto.getCounts(i);
+        }
+        h.count = proto.getCount();
+        h.sum = proto.getSum();
+        h.min = proto.getMin();
+        h.max = proto.getMax();
+        return h;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "Histogram{" +
+                "count=" + count +
+                ", mean=" + getMean() +
+                ", min=" + (count == 0 ? 0 : min) +
+                ", max=" + (count == 0 ? 0 : max) +
+                '}';
+    }
+}
@@ -0,0 +1,132 @@
+package de.tum.i11.bcsim.util;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from int keys to long values without boxing. Integer.MIN_VALUE cannot be used as key.
+ */
+public class IntLongHashMap {
+    private static final int EMPTY = Integer.MIN_VALUE;
+    private static final double LOAD_FACTOR = 0.5;
+
+    public interface EntryConsumer {
+        void accept(int key, long value);
+    }
+
+    private int[] keys;
+    private long[] values;
+    private int size;
+
+    public IntLongHashMap() {
+        this(16);
+    }
+
+    public IntLongHashMap(int expectedSize) {
+        int cap = Integer.highestOneBit((int) Math.max(2, Math.ceil(expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new int[cap];
+        this.values = new long[cap];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(int key) {
+        int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while(keys[i] != EMPTY && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * Associate the given value with the given key if the key is not yet present
+     * @param key the key
+     * @param value the value
+     * @return true iff the value was inserted
+     */
+    public synchronized boolean putIfAbsent(int key, long value) {
+        if(key == EMPTY) {
+            throw new IllegalArgumentException("Invalid key "+key);
+        }
+        int i = indexOf(key);
+        if(keys[i] == key) {
+            return false;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if(++size > keys.length * LOAD_FACTOR) {
+            resize();
+        }
+        return true;
+    }
+
+    /**
+     * Associate the given value with the given key, replacing any previous value
+     * @param key the key
+     * @param value the value
+     */
+    public synchronized void put(int key, long value) {
+        if(!putIfAbsent(key, value)) {
+            values[indexOf(key)] = value;
+        }
+    }
+
+    /**
+     * @param key the key
+     * @param defaultValue value returned if the key is not present
+     * @return the value associated with the given key or defaultValue
+     */
+    public synchronized long get(int key, long defaultValue) {
+        int i = indexOf(key);
+        return keys[i] == key ? values[i] : defaultValue;
+    }
+
+    public synchronized boolean containsKey(int key) {
+        return keys[indexOf(key)] == key;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return a copy of all keys in no particular order
+     */
+    public synchronized int[] keys() {
+        int[] res = new int[size];
+        int j = 0;
+        for(int k : keys) {
+            if(k != EMPTY) {
+                res[j++] = k;
+            }
+        }
+        return res;
+    }
+
+    public synchronized void forEach(EntryConsumer consumer) {
+        for(int i = 0; i < keys.length; i++) {
+            if(keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new int[oldKeys.length << 1];
+        values = new long[oldKeys.length << 1];
+        Arrays.fill(keys, EMPTY);
+        for(int j = 0; j < oldKeys.length; j++) {
+            if(oldKeys[j] != EMPTY) {
+                int i = indexOf(oldKeys[j]);
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
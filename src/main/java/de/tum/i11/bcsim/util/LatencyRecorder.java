@@ -0,0 +1,114 @@
+package de.tum.i11.bcsim.util;
+
+import de.tum.i11.bcsim.proto.Messages;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Records transaction latencies in fixed-memory histograms (one per fee) instead of keeping every single latency.
+ * Additionally keeps a uniform random sample (reservoir) of at most [samples] raw latencies.
+ */
+public class LatencyRecorder {
+
+    private static class FeeEntry {
+        private final Histogram latency = new Histogram();
+        private long bytes;
+    }
+
+    private final TreeMap<Double, FeeEntry> fees;
+    private final Messages.TxLatencyResult[] reservoir;
+    private long seen;
+
+    /**
+     * @param samples maximum number of raw latencies kept, 0 to keep none
+     */
+    public LatencyRecorder(int samples) {
+        this.fees = new TreeMap<>();
+        this.reservoir = new Messages.TxLatencyResult[Math.max(0, samples)];
+    }
+
+    /**
+     * Record the latency of a confirmed transaction
+     * @param fee the transaction fee
+     * @param size the transaction size in bytes
+     * @param latency the confirmation latency in ms
+     */
+    public synchronized void record(double fee, int size, long latency) {
+        FeeEntry e = fees.computeIfAbsent(fee, f -> new FeeEntry());
+        e.latency.record(latency);
+        e.bytes += size;
+
+        if(reservoir.length > 0) {
+            int slot = seen < reservoir.length ? (int) seen : (int) ThreadLocalRandom.current().nextLong(seen + 1);
+            if(slot < reservoir.length) {
+                reservoir[slot] = Messages.TxLatencyResult.newBuilder().setFee(fee).setSize(size).setLatency(latency).build();
+            }
+        }
+        seen++;
+    }
+
+    /**
+     * Add all histograms of the given recorder to this recorder. Samples are not merged.
+     * @param other the recorder to be merged into this one
+     */
+    public void merge(LatencyRecorder other) {
+        merge(other.toProto());
+    }
+
+    /**
+     * Add the given histograms to this recorder
+     * @param histograms the histograms to be merged into this recorder
+     */
+    public synchronized void merge(Collection<Messages.TxLatencyHistogram> histograms) {
+        for(Messages.TxLatencyHistogram h : histograms) {
+            FeeEntry e = fees.computeIfAbsent(h.getFee(), f -> new FeeEntry());
+            e.latency.merge(Histogram.fromProto(h.getLatency()));
+            e.bytes += h.getBytes();
+        }
+    }
+
+    /**
+     * @return the recorded latencies by fee
+     */
+    public synchronized Map<Double, Histogram> getHistograms() {
+        TreeMap<Double, Histogram> res = new TreeMap<>();
+        fees.forEach((fee, e) -> {
+            Histogram h = new Histogram();
+            h.merge(e.latency);
+            res.put(fee, h);
+        });
+        return res;
+    }
+
+    /**
+     * @return the total number of bytes of all recorded transactions
+     */
+    public synchronized long getBytes() {
+        return fees.values().stream().mapToLong(e -> e.bytes).sum();
+    }
+
+    /**
+     * @return the sampled raw latencies
+     */
+    public synchronized List<Messages.TxLatencyResult> getSamples() {
+        List<Messages.TxLatencyResult> res = new ArrayList<>();
+        for(int i = 0; i < Math.min(seen, reservoir.length); i++) {
+            res.add(reservoir[i]);
+        }
+        return res;
+    }
+
+    public synchronized List<Messages.TxLatencyHistogram> toProto() {
+        List<Messages.TxLatencyHistogram> res = new ArrayList<>();
+        fees.forEach((fee, e) -> res.add(Messages.TxLatencyHistogram.newBuilder()
+                .setFee(fee)
+                .setBytes(e.bytes)
+                .setLatency(e.latency.toProto()).build()));
+        return res;
+    }
+}
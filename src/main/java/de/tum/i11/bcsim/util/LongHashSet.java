@@ -0,0 +1,76 @@
+package de.tum.i11.bcsim.util;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash set of long values without boxing. Long.MIN_VALUE cannot be added. Not thread-safe.
+ */
+public class LongHashSet {
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final double LOAD_FACTOR = 0.5;
+
+    private long[] keys;
+    private int size;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int cap = Integer.highestOneBit((int) Math.max(2, Math.min(1 << 30, Math.ceil(expectedSize / LOAD_FACTOR))) - 1) << 1;
+        this.keys = new long[cap];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while(keys[i] != EMPTY && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * @param key the value to add
+     * @return true iff the value was not yet contained
+     */
+    public boolean add(long key) {
+        if(key == EMPTY) {
+            throw new IllegalArgumentException("Invalid key "+key);
+        }
+        int i = indexOf(key);
+        if(keys[i] == key) {
+            return false;
+        }
+        keys[i] = key;
+        if(++size > keys.length * LOAD_FACTOR) {
+            resize();
+        }
+        return true;
+    }
+
+    public boolean contains(long key) {
+        return keys[indexOf(key)] == key;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        keys = new long[oldKeys.length << 1];
+        Arrays.fill(keys, EMPTY);
+        for(long k : oldKeys) {
+            if(k != EMPTY) {
+                keys[indexOf(k)] = k;
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package de.tum.i11.bcsim.util;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Writes metrics in the Prometheus text exposition format. HELP and TYPE lines are written once per metric name,
+ * so all samples of a metric should be written consecutively.
+ */
+public class MetricsWriter {
+    private final StringBuilder sb = new StringBuilder();
+    private final Set<String> described = new HashSet<>();
+
+    /**
+     * @param name the metric name
+     * @param help a short description
+     * @param value the current value
+     * @param labels alternating label names and values
+     * @return this writer
+     */
+    public MetricsWriter gauge(String name, String help, double value, String... labels) {
+        return sample(name, "gauge", help, value, labels);
+    }
+
+    /**
+     * @param name the metric name, should end with _total
+     * @param help a short description
+     * @param value the current value, must never decrease
+     * @param labels alternating label names and values
+     * @return this writer
+     */
+    public MetricsWriter counter(String name, String help, double value, String... labels) {
+        return sample(name, "counter", help, value, labels);
+    }
+
+    private MetricsWriter sample(String name, String type, String help, double value, String... labels) {
+        if(labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name/value pairs");
+        }
+        if(described.add(name)) {
+            sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+            sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        }
+        sb.append(name);
+        if(labels.length > 0) {
+            sb.append('{');
+            for(int i = 0; i < labels.length; i += 2) {
+                if(i > 0) {
+                    sb.append(',');
+                }
+                sb.append(labels[i]).append("=\"")
+                        .append(labels[i+1].replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n")).append('"');
+            }
+            sb.append('}');
+        }
+        sb.append(' ').append(format(value)).append('\n');
+        return this;
+    }
+
+    private static String format(double value) {
+        if(Double.isNaN(value)) {
+            return "NaN";
+        }
+        if(Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if(value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    public String toString() {
+        return sb.toString();
+    }
+}
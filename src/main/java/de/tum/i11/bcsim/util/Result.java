@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import de.tum.i11.bcsim.blockchain.Blockchain;
 import de.tum.i11.bcsim.config.Config;
 import de.tum.i11.bcsim.config.ConfigYAML;
+import de.tum.i11.bcsim.peer.TrafficCounter;
 import de.tum.i11.bcsim.proto.Messages;
 
 import java.util.*;
@@ -21,6 +22,9 @@ public class Result {
     public ConfigYAML config;
     public double executionTime;
     public List<CPULoad> cpuLoads;
+    public String fidelity;
+    public List<String> fidelityIssues;
+    public List<SchedulingLag> schedulingLags;
     public double avgBlockSize;
     public long fullBlocks;
     public int staleBlocks;
@@ -42,10 +46,27 @@ public class Result {
     public double medianTxLat;
     public double minTxLat;
     public double maxTxLat;
+    public double p50TxLat;
+    public double p90TxLat;
+    public double p99TxLat;
+    public double p999TxLat;
     public double avgTxSize;
     public double avgTxFee;
     public List<TxFee> txFees;
     public List<Double> allTxLats;
+    public double avgBlockProp50;
+    public double avgBlockProp90;
+    public double avgBlockProp100;
+    public double blockPropDelayP50;
+    public double blockPropDelayP90;
+    public double blockPropDelayP99;
+    public double blockPropDelayMax;
+    public List<BlockPropagation> blockPropagation;
+    public List<Series> timeSeries;
+    public double txAmplification;
+    public double blockAmplification;
+    public List<Traffic> traffic;
+    public List<LinkTraffic> linkTraffic;
 
     public static class ForkLength {
         public double length;
@@ -71,12 +92,101 @@ public class Result {
         }
     }
 
+    public static class SchedulingLag {
+        public String coordinator;
+        public String category;
+        public long count;
+        public double p50;
+        public double p99;
+        public double max;
+
+        @Override
+        public String toString() {
+            return "{" +
+                    "coordinator='" + coordinator + '\'' +
+                    ", category=" + category +
+                    ", count=" + count +
+                    ", p50=" + p50 +
+                    ", p99=" + p99 +
+                    ", max=" + max +
+                    '}';
+        }
+    }
+
     public static class TxFee {
         public double fee;
         public double count;
+        public double p50;
+        public double p90;
+        public double p99;
+        public double p999;
+
+        public String toString(){
+            return "{"+fee+"="+count+", p50="+p50+", p90="+p90+", p99="+p99+", p99.9="+p999+"}";
+        }
+    }
+
+    public static class BlockPropagation {
+        public int blockId;
+        public double t50;
+        public double t90;
+        public double t100;
 
         public String toString(){
-            return "{"+fee+"="+count+"}";
+            return "{"+blockId+": "+t50+"/"+t90+"/"+t100+"}";
+        }
+    }
+
+    public static class Traffic {
+        public String coordinator;
+        public String kind;
+        public long sentMsgs;
+        public long sentBytes;
+        public long sentSimulatedBytes;
+        public long receivedMsgs;
+        public long receivedBytes;
+        public long receivedSimulatedBytes;
+
+        @Override
+        public String toString() {
+            return "{" +
+                    "coordinator='" + coordinator + '\'' +
+                    ", kind=" + kind +
+                    ", sent=" + sentMsgs + "/" + sentBytes + "B/" + sentSimulatedBytes + "B" +
+                    ", received=" + receivedMsgs + "/" + receivedBytes + "B/" + receivedSimulatedBytes + "B" +
+                    '}';
+        }
+    }
+
+    public static class LinkTraffic {
+        public int from;
+        public int to;
+        public long sentMsgs;
+        public long sentBytes;
+        public long sentSimulatedBytes;
+
+        @Override
+        public String toString() {
+            return "{" + from + "->" + to + ": " + sentMsgs + "/" + sentBytes + "B/" + sentSimulatedBytes + "B}";
+        }
+    }
+
+    public static class Series {
+        public String coordinator;
+        public String name;
+        public long start;
+        public int windowMs;
+        public List<Double> values;
+
+        @Override
+        public String toString() {
+            return "{" +
+                    "coordinator='" + coordinator + '\'' +
+                    ", name='" + name + '\'' +
+                    ", start=" + start +
+                    ", windowMs=" + windowMs +
+                    ", values=" + values +
+                    '}';
         }
     }
 
@@ -88,12 +198,16 @@ public class Result {
         double avg = b.getBlocks().values().stream().mapToInt(bl -> bl.block.getTransactionCount()).sum()/(1.0*b.getBlocks().size());
         long fullCount = b.getBlocks().values().stream().filter(be -> be.block.getTransactionCount() >= config.getBlockchainDefaults().blockSize).count();
 
-        HashSet<Double> fees = new HashSet<>();
-        LinkedList<Messages.TxLatencyResult> allTxResults = new LinkedList<>();
-        allEntries.forEach(r -> allTxResults.addAll(r.getTxLatencyList()));
-        allTxResults.forEach(tx -> fees.add(tx.getFee()));
-        HashMap<Double, Double> txFees = new HashMap<>();
-        fees.forEach(fee -> txFees.put(fee, allTxResults.stream().filter(txRes -> txRes.getFee() == fee).mapToDouble(Messages.TxLatencyResult::getLatency).average().orElse(0)));
+        // with latencyHistograms enabled, tx latency lists only contain samples
+        LatencyRecorder latencies = new LatencyRecorder(0);
+        results.values().forEach(r -> latencies.merge(r.getTxLatencyHistogramList()));
+        boolean useHistograms = !latencies.getHistograms().isEmpty();
+        if(!useHistograms) {
+            allEntries.forEach(r -> r.getTxLatencyList().forEach(tx -> latencies.record(tx.getFee(), tx.getSize(), Math.round(tx.getLatency()))));
+        }
+        Map<Double, Histogram> latencyHistograms = latencies.getHistograms();
+        Histogram all = new Histogram();
+        latencyHistograms.values().forEach(all::merge);
 
         LinkedList<Double> allLats = new LinkedList<>();
         allEntries.forEach(r -> r.getTxLatencyList().forEach(tx -> allLats.add(tx.getLatency())));
@@ -109,6 +223,7 @@ public class Result {
             l.maxCPULoad = r.getMaxCPULoad();
             return l;
         }).collect(Collectors.toList());
+        addFidelity(results.values(), config.getLagTolerance());
 
         avgBlockSize = avg;
         fullBlocks = fullCount;
@@ -133,21 +248,179 @@ public class Result {
         avgTotalTxPerPeerPerSec = avgDouble(Messages.ResultEntry::getTotalTxPerSec);
         avgUnconfirmedTxPerPeer = avgDouble(Messages.ResultEntry::getUnconfirmedTx);
 
-        avgTxLat = allLats.stream().mapToDouble(e -> e).average().orElse(0);
-        medianTxLat = allLats.stream().sorted().skip((long) Math.max(0, Math.ceil(allLats.size()/2.0)-1)).findFirst().orElse(-1.0);
-        minTxLat = minDouble(r -> r.getTxLatencyList().stream().mapToDouble(Messages.TxLatencyResult::getLatency).min().orElse(Integer.MAX_VALUE));
-        maxTxLat = maxDouble(r -> r.getTxLatencyList().stream().mapToDouble(Messages.TxLatencyResult::getLatency).max().orElse(Integer.MIN_VALUE));
+        if(useHistograms) {
+            long count = all.getCount();
+            avgTxLat = all.getMean();
+            medianTxLat = count == 0 ? -1.0 : all.getValueAtPercentile(50);
+            minTxLat = count == 0 ? Integer.MAX_VALUE : all.getMin();
+            maxTxLat = count == 0 ? Integer.MIN_VALUE : all.getMax();
+
+            avgTxSize = count == 0 ? 0 : latencies.getBytes()/(1.0*count);
+            avgTxFee = count == 0 ? 0 : latencyHistograms.entrySet().stream().mapToDouble(e -> e.getKey()*e.getValue().getCount()).sum()/count;
+        } else {
+            avgTxLat = allLats.stream().mapToDouble(e -> e).average().orElse(0);
+            medianTxLat = allLats.stream().sorted().skip((long) Math.max(0, Math.ceil(allLats.size()/2.0)-1)).findFirst().orElse(-1.0);
+            minTxLat = minDouble(r -> r.getTxLatencyList().stream().mapToDouble(Messages.TxLatencyResult::getLatency).min().orElse(Integer.MAX_VALUE));
+            maxTxLat = maxDouble(r -> r.getTxLatencyList().stream().mapToDouble(Messages.TxLatencyResult::getLatency).max().orElse(Integer.MIN_VALUE));
+
+            avgTxSize = allEntries.stream().filter(r -> !r.getTxLatencyList().isEmpty()).mapToDouble(r -> r.getTxLatencyList().stream().mapToDouble(Messages.TxLatencyResult::getSize).average().orElse(0)).average().orElse(0);
+            avgTxFee = allEntries.stream().filter(r -> !r.getTxLatencyList().isEmpty()).mapToDouble(r -> r.getTxLatencyList().stream().mapToDouble(Messages.TxLatencyResult::getFee).average().orElse(0)).average().orElse(0);
+        }
 
-        avgTxSize = allEntries.stream().filter(r -> !r.getTxLatencyList().isEmpty()).mapToDouble(r -> r.getTxLatencyList().stream().mapToDouble(Messages.TxLatencyResult::getSize).average().orElse(0)).average().orElse(0);
-        avgTxFee = allEntries.stream().filter(r -> !r.getTxLatencyList().isEmpty()).mapToDouble(r -> r.getTxLatencyList().stream().mapToDouble(Messages.TxLatencyResult::getFee).average().orElse(0)).average().orElse(0);
+        p50TxLat = all.getValueAtPercentile(50);
+        p90TxLat = all.getValueAtPercentile(90);
+        p99TxLat = all.getValueAtPercentile(99);
+        p999TxLat = all.getValueAtPercentile(99.9);
 
-        this.txFees = txFees.entrySet().stream().map( e -> {
+        this.txFees = latencyHistograms.entrySet().stream().map( e -> {
             TxFee f = new TxFee();
-            f.count = e.getValue();
+            f.count = e.getValue().getMean();
             f.fee = e.getKey();
+            f.p50 = e.getValue().getValueAtPercentile(50);
+            f.p90 = e.getValue().getValueAtPercentile(90);
+            f.p99 = e.getValue().getValueAtPercentile(99);
+            f.p999 = e.getValue().getValueAtPercentile(99.9);
             return f;
         }).collect(Collectors.toList());
         allTxLats = allLats;
+
+        // time until each block reached 50/90/100% of all peers (-1 if it never did)
+        this.blockPropagation = new LinkedList<>();
+        TreeMap<Integer, List<Messages.Histogram>> blockDelays = new TreeMap<>();
+        results.values().forEach(r -> r.getBlockPropagationList().forEach(p -> blockDelays.computeIfAbsent(p.getBlockId(), id -> new LinkedList<>()).add(p.getDelay())));
+        Histogram allDelays = new Histogram();
+        int peers = allEntries.size();
+        blockDelays.forEach((id, hs) -> {
+            Histogram h = new Histogram();
+            hs.forEach(d -> h.merge(Histogram.fromProto(d)));
+            allDelays.merge(h);
+            BlockPropagation p = new BlockPropagation();
+            p.blockId = id;
+            p.t50 = timeToReach(h, 0.5, peers);
+            p.t90 = timeToReach(h, 0.9, peers);
+            p.t100 = timeToReach(h, 1, peers);
+            blockPropagation.add(p);
+        });
+        avgBlockProp50 = blockPropagation.stream().filter(p -> p.t50 >= 0).mapToDouble(p -> p.t50).average().orElse(-1);
+        avgBlockProp90 = blockPropagation.stream().filter(p -> p.t90 >= 0).mapToDouble(p -> p.t90).average().orElse(-1);
+        avgBlockProp100 = blockPropagation.stream().filter(p -> p.t100 >= 0).mapToDouble(p -> p.t100).average().orElse(-1);
+        blockPropDelayP50 = allDelays.getValueAtPercentile(50)/1000.0;
+        blockPropDelayP90 = allDelays.getValueAtPercentile(90)/1000.0;
+        blockPropDelayP99 = allDelays.getValueAtPercentile(99)/1000.0;
+        blockPropDelayMax = allDelays.getCount() == 0 ? 0 : allDelays.getMax()/1000.0;
+
+        // traffic per message kind on each coordinator and over all coordinators
+        this.traffic = new LinkedList<>();
+        LinkedList<Messages.Traffic> allTraffic = new LinkedList<>();
+        results.values().forEach(r -> r.getTrafficList().forEach(t -> {
+            traffic.add(toTraffic(r.getCoordAddress(), t));
+            allTraffic.add(t);
+        }));
+        Map<String, Messages.Traffic> totalTraffic = new HashMap<>();
+        TrafficCounter.sum(allTraffic).forEach(t -> {
+            traffic.add(toTraffic("all", t));
+            totalTraffic.put(t.getKind(), t);
+        });
+        // number of times each created tx/block was received by peers
+        long createdTx = allEntries.stream().mapToLong(Messages.ResultEntry::getCreatedTx).sum();
+        long createdBlocks = allEntries.stream().mapToLong(Messages.ResultEntry::getCreatedBlocks).sum();
+        txAmplification = createdTx == 0 || !totalTraffic.containsKey(TrafficCounter.Kind.TRANSACTION.name()) ? 0
+                : totalTraffic.get(TrafficCounter.Kind.TRANSACTION.name()).getReceivedMsgs()/(1.0*createdTx);
+        blockAmplification = createdBlocks == 0 || !totalTraffic.containsKey(TrafficCounter.Kind.BLOCK.name()) ? 0
+                : totalTraffic.get(TrafficCounter.Kind.BLOCK.name()).getReceivedMsgs()/(1.0*createdBlocks);
+        this.linkTraffic = new LinkedList<>();
+        results.values().forEach(r -> r.getLinkTrafficList().forEach(l -> {
+            LinkTraffic t = new LinkTraffic();
+            t.from = l.getFrom();
+            t.to = l.getTo();
+            t.sentMsgs = l.getTraffic().getSentMsgs();
+            t.sentBytes = l.getTraffic().getSentBytes();
+            t.sentSimulatedBytes = l.getTraffic().getSentSimulatedBytes();
+            linkTraffic.add(t);
+        }));
+
+        // average series per peer on each coordinator and over all coordinators
+        this.timeSeries = new LinkedList<>();
+        TreeMap<String, List<Messages.TimeSeries>> allSeries = new TreeMap<>();
+        results.values().forEach(r -> r.getSeriesList().forEach(s -> {
+            timeSeries.add(toSeries(r.getCoordAddress(), s.getName(), s.getSeries()));
+            allSeries.computeIfAbsent(s.getName(), n -> new LinkedList<>()).add(s.getSeries());
+        }));
+        allSeries.forEach((name, s) -> timeSeries.add(toSeries("all", name, WindowedSeries.average(s))));
+    }
+
+    /**
+     * Summarize the lags of scheduled actions (ms) on each coordinator and over all coordinators. The run is considered
+     * inaccurate if the 99th percentile lag of any kind of action on any coordinator exceeds the given tolerance or the
+     * CPU load of a coordinator was high.
+     * @param results the results of all coordinators
+     * @param lagTolerance the tolerated lag in ms
+     */
+    private void addFidelity(Collection<Messages.Result> results, int lagTolerance) {
+        this.schedulingLags = new LinkedList<>();
+        this.fidelityIssues = new LinkedList<>();
+        TreeMap<String, Histogram> all = new TreeMap<>();
+        for(Messages.Result r : results) {
+            if(r.getAvgCPULoad() >= 60 || r.getMaxCPULoad() >= 80) {
+                fidelityIssues.add("High CPU load on "+r.getCoordAddress()+" (avg "+r.getAvgCPULoad()+"%, max "+r.getMaxCPULoad()+"%)");
+            }
+            for(Messages.NamedHistogram h : r.getSchedulingLagList()) {
+                Histogram lag = Histogram.fromProto(h.getHistogram());
+                all.computeIfAbsent(h.getName(), n -> new Histogram()).merge(lag);
+                SchedulingLag l = toSchedulingLag(r.getCoordAddress(), h.getName(), lag);
+                schedulingLags.add(l);
+                if(l.p99 > lagTolerance) {
+                    fidelityIssues.add(h.getName()+" lag p99 of "+l.p99+"ms on "+r.getCoordAddress()+" exceeds "+lagTolerance+"ms");
+                }
+            }
+        }
+        all.forEach((name, lag) -> schedulingLags.add(toSchedulingLag("all", name, lag)));
+        fidelity = fidelityIssues.isEmpty() ? "ACCURATE" : "INACCURATE";
+    }
+
+    private static SchedulingLag toSchedulingLag(String coordinator, String category, Histogram lag) {
+        SchedulingLag l = new SchedulingLag();
+        l.coordinator = coordinator;
+        l.category = category;
+        l.count = lag.getCount();
+        l.p50 = lag.getValueAtPercentile(50)/1000.0;
+        l.p99 = lag.getValueAtPercentile(99)/1000.0;
+        l.max = lag.getCount() == 0 ? 0 : lag.getMax()/1000.0;
+        return l;
+    }
+
+    /**
+     * @param delays the delays (µs) until peers first saw a block
+     * @param share the share of peers
+     * @param peers the total number of peers
+     * @return the time (ms) until the given share of all peers saw the block, -1 if not enough peers saw it
+     */
+    private static double timeToReach(Histogram delays, double share, int peers) {
+        long rank = Math.max(1, (long) Math.ceil(share * peers));
+        return delays.getCount() < rank ? -1 : delays.getValueAtRank(rank)/1000.0;
+    }
+
+    private static Traffic toTraffic(String coordinator, Messages.Traffic t) {
+        Traffic traffic = new Traffic();
+        traffic.coordinator = coordinator;
+        traffic.kind = t.getKind();
+        traffic.sentMsgs = t.getSentMsgs();
+        traffic.sentBytes = t.getSentBytes();
+        traffic.sentSimulatedBytes = t.getSentSimulatedBytes();
+        traffic.receivedMsgs = t.getReceivedMsgs();
+        traffic.receivedBytes = t.getReceivedBytes();
+        traffic.receivedSimulatedBytes = t.getReceivedSimulatedBytes();
+        return traffic;
+    }
+
+    private static Series toSeries(String coordinator, String name, Messages.TimeSeries s) {
+        Series series = new Series();
+        series.coordinator = coordinator;
+        series.name = name;
+        series.start = s.getStart();
+        series.windowMs = s.getWindowMs();
+        series.values = s.getValuesList();
+        return series;
     }
 
     private double avgDouble(ToDoubleFunction<? super Messages.ResultEntry> mapper) {
@@ -168,6 +441,8 @@ public class Result {
 
         sb.append("\nExecution time: "+executionTime);
         sb.append("\nCPU Loads: "+cpuLoads);
+        sb.append("\nFidelity: "+fidelity+" "+fidelityIssues);
+        sb.append("\nScheduling Lags (ms): "+schedulingLags);
         sb.append("\nAvg Block Size: "+avgBlockSize);
         sb.append("\nFull Blocks Count: "+fullBlocks);
         sb.append("\nStale Blocks: "+staleBlocks);
@@ -190,12 +465,21 @@ public class Result {
         sb.append("\nMedian Tx Latency: "+medianTxLat);
         sb.append("\nMin Tx Latency: "+minTxLat);
         sb.append("\nMax Tx Latency: "+maxTxLat);
+        sb.append("\nTx Latency Percentiles (p50/p90/p99/p99.9): "+p50TxLat+"/"+p90TxLat+"/"+p99TxLat+"/"+p999TxLat);
 
         sb.append("\nAvg Tx Size: "+avgTxSize);
         sb.append("\nAvg Tx Fee: "+avgTxFee);
 
         sb.append("\nAvg Tx Latency by Fee: "+txFees);
         sb.append("\nAll Tx latencies: "+allTxLats);
+        sb.append("\nAvg time until a block reached 50/90/100% of peers: "+avgBlockProp50+"/"+avgBlockProp90+"/"+avgBlockProp100);
+        sb.append("\nBlock propagation delay percentiles (p50/p90/p99/max): "+blockPropDelayP50+"/"+blockPropDelayP90+"/"+blockPropDelayP99+"/"+blockPropDelayMax);
+        sb.append("\nBlock propagation (50/90/100%): "+blockPropagation);
+        sb.append("\nTime Series: "+timeSeries);
+        sb.append("\nTx received per created Tx: "+txAmplification);
+        sb.append("\nBlocks received per created Block: "+blockAmplification);
+        sb.append("\nTraffic (msgs/bytes/simulated bytes): "+traffic);
+        sb.append("\nLink Traffic (msgs/bytes/simulated bytes): "+linkTraffic);
 
         return sb.toString();
     }
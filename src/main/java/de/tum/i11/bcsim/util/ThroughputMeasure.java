@@ -1,32 +1,74 @@
 package de.tum.i11.bcsim.util;
 
+import de.tum.i11.bcsim.proto.Messages;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts packets registered from multiple threads without locking. The throughput is only calculated when read,
+ * based on the monotonic System.nanoTime() clock.
+ */
 public class ThroughputMeasure {
-    private int packets;
-    private int firstPacket;
-    private double throughput;
-    private long tsFirstPacket;
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final LongAdder packets = new LongAdder();
+    private final AtomicLong tsFirstPacket = new AtomicLong(UNSET);
+    private final LongAccumulator tsLastPacket = new LongAccumulator(Math::max, UNSET);
+    private volatile int firstPacket;
+    private volatile WindowedSeries series;
+
+    /**
+     * Additionally count packets per time window, e.g. to observe warm-up or saturation
+     * @param windowMs length of a window in ms
+     * @param windows number of most recent windows kept
+     */
+    public void enableWindows(int windowMs, int windows) {
+        series = new WindowedSeries(windowMs, windows, false);
+    }
 
     public void registerPackets(int amount) {
-        registerPackets(amount, System.currentTimeMillis());
+        registerPackets(amount, System.nanoTime());
     }
 
-    public synchronized void registerPackets(int amount, long time) {
+    /**
+     * @param amount the number of packets
+     * @param time the System.nanoTime() at which the packets were registered
+     */
+    public void registerPackets(int amount, long time) {
+        WindowedSeries s = series;
+        if(s != null) {
+            s.add(amount, Util.toEpochMillis(time));
+        }
         // first packet starts throughput timer but data is ignored
-        if(tsFirstPacket == 0) {
-            tsFirstPacket = time;
+        if(tsFirstPacket.get() == UNSET && tsFirstPacket.compareAndSet(UNSET, time)) {
             firstPacket = amount;
             return;
         }
-        packets += amount;
-        throughput = packets/((time- tsFirstPacket)/1000.0);
+        packets.add(amount);
+        tsLastPacket.accumulate(time);
     }
 
     public double getThroughput() {
-        return throughput;
+        long first = tsFirstPacket.get();
+        long last = tsLastPacket.get();
+        if(first == UNSET || last == UNSET || last <= first) {
+            return 0;
+        }
+        return packets.sum()/((last - first)/1000000000.0);
+    }
+
+    /**
+     * @return packets per second in each window or null if windows are disabled
+     */
+    public Messages.TimeSeries getSeries() {
+        WindowedSeries s = series;
+        return s == null ? null : s.toProto(true);
     }
 
     public int getPackets() {
-        return firstPacket+packets;
+        return (int) (firstPacket+packets.sum());
     }
 
     public String toString() {
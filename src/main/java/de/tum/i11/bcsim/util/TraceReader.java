@@ -0,0 +1,181 @@
+package de.tum.i11.bcsim.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Reads trace files written by TraceWriter and reconstructs block propagation and tx confirmation statistics.
+ * File layout (little endian): a header (long magic, int version, int record size, long record count) followed by
+ * records (long timestamp in ns since the epoch, int peer, int event, int id, int aux).
+ * Usage: java -cp bcsim.jar de.tum.i11.bcsim.util.TraceReader trace1.bin [trace2.bin ...]
+ */
+public class TraceReader {
+
+    public interface RecordConsumer {
+        void accept(long timestamp, int peer, TraceWriter.Event event, int id, int aux);
+    }
+
+    /**
+     * Pass all records of the given trace file to the consumer, in the order they were reserved
+     * @param path the trace file
+     * @param consumer the consumer
+     * @return the number of records read
+     * @throws IOException if the file cannot be read or is no trace file
+     */
+    public static long forEach(Path path, RecordConsumer consumer) throws IOException {
+        TraceWriter.Event[] events = TraceWriter.Event.values();
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buf = ByteBuffer.allocateDirect(TraceWriter.RECORD_SIZE * 4096).order(ByteOrder.LITTLE_ENDIAN);
+            buf.limit(TraceWriter.HEADER_SIZE);
+            readFully(channel, buf);
+            buf.flip();
+            if(buf.getLong() != TraceWriter.MAGIC || buf.getInt() != TraceWriter.VERSION || buf.getInt() != TraceWriter.RECORD_SIZE) {
+                throw new IOException(path+" is no trace file of version "+TraceWriter.VERSION);
+            }
+            long count = buf.getLong();
+            long read = 0;
+            while(read < count) {
+                buf.clear();
+                buf.limit((int) Math.min(buf.capacity(), (count - read) * TraceWriter.RECORD_SIZE));
+                readFully(channel, buf);
+                buf.flip();
+                while(buf.remaining() >= TraceWriter.RECORD_SIZE) {
+                    long ts = buf.getLong();
+                    int peer = buf.getInt();
+                    int event = buf.getInt();
+                    int id = buf.getInt();
+                    int aux = buf.getInt();
+                    consumer.accept(ts, peer, events[event], id, aux);
+                    read++;
+                }
+            }
+            return read;
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buf) throws IOException {
+        while(buf.hasRemaining()) {
+            if(channel.read(buf) < 0) {
+                throw new IOException("Unexpected end of trace file");
+            }
+        }
+    }
+
+    public static class Stats {
+        public final long[] events = new long[TraceWriter.Event.values().length];
+        public int peers;
+        public final Histogram blockPropagation = new Histogram(); // µs from creation until each peer first received a block
+        public final Histogram txConfirmation = new Histogram(); // µs from creation until confirmation at the creator
+        public double avgBlockProp50 = -1; // ms until a block reached 50% of all peers, averaged over blocks that did
+        public double avgBlockProp90 = -1;
+        public double avgBlockProp100 = -1;
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            for(TraceWriter.Event e : TraceWriter.Event.values()) {
+                sb.append(e).append(": ").append(events[e.ordinal()]).append('\n');
+            }
+            sb.append("Peers: ").append(peers).append('\n');
+            sb.append("Avg time until a block reached 50/90/100% of peers (ms): ")
+                    .append(avgBlockProp50).append('/').append(avgBlockProp90).append('/').append(avgBlockProp100).append('\n');
+            sb.append("Block propagation delay (ms) p50/p90/p99/max: ").append(percentiles(blockPropagation)).append('\n');
+            sb.append("Tx confirmation latency (ms) p50/p90/p99/max: ").append(percentiles(txConfirmation)).append('\n');
+            return sb.toString();
+        }
+
+        private static String percentiles(Histogram h) {
+            return h.getValueAtPercentile(50)/1000.0+"/"+h.getValueAtPercentile(90)/1000.0+"/"
+                    +h.getValueAtPercentile(99)/1000.0+"/"+(h.getCount() == 0 ? 0 : h.getMax()/1000.0);
+        }
+    }
+
+    /**
+     * Reconstruct statistics from the traces of all coordinators of a run
+     * @param paths the trace files
+     * @return the statistics
+     * @throws IOException if a file cannot be read
+     */
+    public static Stats analyze(Collection<Path> paths) throws IOException {
+        Stats stats = new Stats();
+        IntLongHashMap blockCreated = new IntLongHashMap();
+        HashMap<Integer, IntLongHashMap> blockFirstSeen = new HashMap<>();
+        IntLongHashMap txCreated = new IntLongHashMap();
+        IntLongHashMap txConfirmed = new IntLongHashMap();
+        HashSet<Integer> peers = new HashSet<>();
+        for(Path p : paths) {
+            forEach(p, (ts, peer, event, id, aux) -> {
+                stats.events[event.ordinal()]++;
+                peers.add(peer);
+                switch (event) {
+                    case BLOCK_CREATED:
+                        blockCreated.putIfAbsent(id, ts);
+                        // the creator saw the block at creation
+                    case BLOCK_RECEIVED: {
+                        IntLongHashMap seen = blockFirstSeen.computeIfAbsent(id, k -> new IntLongHashMap());
+                        if(ts < seen.get(peer, Long.MAX_VALUE)) {
+                            seen.put(peer, ts);
+                        }
+                        break;
+                    }
+                    case TX_CREATED:
+                        txCreated.putIfAbsent(id, ts);
+                        break;
+                    case TX_CONFIRMED:
+                        txConfirmed.putIfAbsent(id, ts);
+                        break;
+                    default:
+                }
+            });
+        }
+        stats.peers = peers.size();
+
+        double[] sums = new double[3];
+        int[] counts = new int[3];
+        double[] shares = {0.5, 0.9, 1};
+        blockFirstSeen.forEach((id, seen) -> {
+            long created = blockCreated.get(id, Long.MIN_VALUE);
+            if(created == Long.MIN_VALUE) {
+                return;
+            }
+            Histogram delays = new Histogram();
+            seen.forEach((peer, ts) -> delays.record(Math.max(0, ts - created)/1000));
+            stats.blockPropagation.merge(delays);
+            for(int i = 0; i < shares.length; i++) {
+                long rank = Math.max(1, (long) Math.ceil(shares[i] * stats.peers));
+                if(delays.getCount() >= rank) {
+                    sums[i] += delays.getValueAtRank(rank)/1000.0;
+                    counts[i]++;
+                }
+            }
+        });
+        stats.avgBlockProp50 = counts[0] == 0 ? -1 : sums[0]/counts[0];
+        stats.avgBlockProp90 = counts[1] == 0 ? -1 : sums[1]/counts[1];
+        stats.avgBlockProp100 = counts[2] == 0 ? -1 : sums[2]/counts[2];
+
+        txConfirmed.forEach((id, ts) -> {
+            long created = txCreated.get(id, Long.MIN_VALUE);
+            if(created != Long.MIN_VALUE) {
+                stats.txConfirmation.record(Math.max(0, ts - created)/1000);
+            }
+        });
+        return stats;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if(args.length == 0) {
+            System.out.println("java -cp bcsim.jar "+TraceReader.class.getName()+" <trace file> [<trace file> ...]");
+            return;
+        }
+        List<Path> paths = new ArrayList<>();
+        for(String a : args) {
+            paths.add(Path.of(a));
+        }
+        System.out.print(analyze(paths));
+    }
+}
@@ -0,0 +1,160 @@
+package de.tum.i11.bcsim.util;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Appends fixed-size binary event records to a memory-mapped file. Recording an event does not allocate: writers
+ * reserve a slot with an atomic increment and write it with absolute puts, only mapping the next chunk of the
+ * file is synchronized. See TraceReader for the file layout.
+ */
+public class TraceWriter implements AutoCloseable {
+
+    public enum Event {
+        BLOCK_CREATED,  // id = block id, aux = height
+        BLOCK_RECEIVED, // id = block id, aux = id of the sending peer or -1
+        FORK_SWITCH,    // id = block id of the tip chosen as main branch, aux = number of tips chosen from
+        TX_CREATED,     // id = tx id, aux = size in byte
+        TX_CONFIRMED    // id = tx id, aux = 0, recorded by the creator of the tx
+    }
+
+    static final long MAGIC = 0x4243_5349_4D54_5243L; // "BCSIMTRC"
+    static final int VERSION = 1;
+    // record: long timestamp (ns since epoch), int peer, int event, int id, int aux
+    public static final int RECORD_SIZE = 24;
+    // the header has the size of one record: long magic, int version, int record size, long record count
+    static final int HEADER_SIZE = RECORD_SIZE;
+    private static final int CHUNK_RECORDS = 1 << 20;
+    private static final long CHUNK_SIZE = (long) CHUNK_RECORDS * RECORD_SIZE;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final AtomicLong next = new AtomicLong();
+    private final AtomicInteger writers = new AtomicInteger(); // threads currently writing a record
+    private volatile MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+    private volatile boolean closed;
+
+    /**
+     * Create a trace file, replacing any existing file at the given path
+     * @param path the file path
+     * @throws IOException if the file cannot be created
+     */
+    public TraceWriter(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer header = chunk(0);
+        header.putLong(0, MAGIC);
+        header.putInt(8, VERSION);
+        header.putInt(12, RECORD_SIZE);
+        header.putLong(16, 0);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Append a record with the current time. Events recorded after close are dropped.
+     * @param event the event type
+     * @param peer the id of the peer the event occurred at
+     * @param id the block or tx id
+     * @param aux additional information depending on the event type
+     */
+    public void record(Event event, int peer, int id, int aux) {
+        record(Util.epochNanos(), event, peer, id, aux);
+    }
+
+    /**
+     * Append a record. Events recorded after close are dropped.
+     * @param timestamp the time in ns since the epoch
+     * @param event the event type
+     * @param peer the id of the peer the event occurred at
+     * @param id the block or tx id
+     * @param aux additional information depending on the event type
+     */
+    public void record(long timestamp, Event event, int peer, int id, int aux) {
+        writers.incrementAndGet();
+        try {
+            if(closed) {
+                return;
+            }
+            long offset = HEADER_SIZE + next.getAndIncrement() * RECORD_SIZE;
+            MappedByteBuffer chunk = chunk((int) (offset / CHUNK_SIZE));
+            int pos = (int) (offset % CHUNK_SIZE);
+            chunk.putLong(pos, timestamp);
+            chunk.putInt(pos + 8, peer);
+            chunk.putInt(pos + 12, event.ordinal());
+            chunk.putInt(pos + 16, id);
+            chunk.putInt(pos + 20, aux);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not extend trace file "+path, e);
+        } finally {
+            writers.decrementAndGet();
+        }
+    }
+
+    private MappedByteBuffer chunk(int index) throws IOException {
+        MappedByteBuffer[] cs = chunks;
+        if(index < cs.length) {
+            return cs[index];
+        }
+        synchronized (this) {
+            cs = chunks;
+            if(index >= cs.length) {
+                cs = Arrays.copyOf(cs, index + 1);
+                for(int i = chunks.length; i <= index; i++) {
+                    cs[i] = channel.map(FileChannel.MapMode.READ_WRITE, i * CHUNK_SIZE, CHUNK_SIZE);
+                    cs[i].order(ByteOrder.LITTLE_ENDIAN);
+                }
+                chunks = cs;
+            }
+            return cs[index];
+        }
+    }
+
+    /**
+     * @return the number of records reserved so far
+     */
+    public long getRecordCount() {
+        return next.get();
+    }
+
+    /**
+     * Stop recording, write the record count into the header, flush the file and cut off unused space of the last chunk
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if(closed) {
+                return;
+            }
+            closed = true;
+        }
+        // wait for records in progress (which may need to map a chunk), later records are dropped
+        while(writers.get() > 0) {
+            Thread.onSpinWait();
+        }
+        synchronized (this) {
+            long count = next.get();
+            chunks[0].putLong(16, count);
+            for(MappedByteBuffer c : chunks) {
+                c.force();
+            }
+            try {
+                channel.truncate(HEADER_SIZE + count * RECORD_SIZE);
+            } catch (IOException ignored) {
+                // some platforms do not allow truncating mapped files, readers rely on the count in the header
+            }
+            channel.close();
+        }
+    }
+}
@@ -7,6 +7,9 @@ import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class Util {
+    // offset between System.nanoTime() and the epoch, to get high resolution timestamps from the monotonic clock
+    private static final long EPOCH_OFFSET_NANOS = System.currentTimeMillis()*1000000L - System.nanoTime();
+
     public static byte[] rndBytes(int length) {
         byte[] bytes = new byte[length];
         ThreadLocalRandom.current().nextBytes(bytes);
@@ -56,11 +59,34 @@ public class Util {
         return fees.get(fees.size()-1).fee;
     }
 
+    /**
+     * @return the current time in ns since the epoch, based on the monotonic System.nanoTime() clock
+     */
+    public static long epochNanos() {
+        return EPOCH_OFFSET_NANOS + System.nanoTime();
+    }
+
+    /**
+     * @param nanoTime a value of System.nanoTime()
+     * @return the corresponding time in ms since the epoch
+     */
+    public static long toEpochMillis(long nanoTime) {
+        return (EPOCH_OFFSET_NANOS + nanoTime) / 1000000L;
+    }
+
     public static Timestamp getTimestamp() {
-        long millis = System.currentTimeMillis();
+        long nanos = epochNanos();
+
+        return Timestamp.newBuilder().setSeconds(nanos / 1000000000L)
+                .setNanos((int) (nanos % 1000000000L)).build();
+    }
 
-        return Timestamp.newBuilder().setSeconds(millis / 1000)
-                .setNanos((int) ((millis % 1000) * 1000000)).build();
+    /**
+     * @param ts the timestamp
+     * @return the timestamp in µs since the epoch
+     */
+    public static long toMicros(Timestamp ts) {
+        return ts.getSeconds()*1000000L + ts.getNanos()/1000;
     }
 
     public static int getIdInRound(List<Integer> ids, long roundLength) {
@@ -0,0 +1,157 @@
+package de.tum.i11.bcsim.util;
+
+import de.tum.i11.bcsim.proto.Messages;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Ring buffer of the values of the last [windows] time windows of [windowMs] each. Windows are aligned to the epoch,
+ * so series of different peers and coordinators (with synchronized clocks) can be merged window by window.
+ * A series either sums up all values added in a window (e.g. confirmed tx) or keeps the last value set in a window (gauge, e.g. pool size).
+ * Values are added without locking, only moving a slot of the ring buffer to a new window is synchronized.
+ * Values of windows older than all windows in the ring buffer are dropped.
+ */
+public class WindowedSeries {
+    private final int windowMs;
+    private final boolean gauge;
+    private final AtomicLongArray values;
+    private final AtomicLongArray windowIds;
+    private final LongAccumulator firstWindow = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator lastWindow = new LongAccumulator(Math::max, -1);
+
+    /**
+     * @param windowMs length of a single window in ms
+     * @param windows number of windows kept, older windows are overwritten
+     * @param gauge true - keep last value per window, false - sum up values per window
+     */
+    public WindowedSeries(int windowMs, int windows, boolean gauge) {
+        if(windowMs <= 0 || windows <= 0) {
+            throw new IllegalArgumentException("Window length and number of windows must be positive");
+        }
+        this.windowMs = windowMs;
+        this.gauge = gauge;
+        this.values = new AtomicLongArray(windows);
+        this.windowIds = new AtomicLongArray(windows);
+        for(int i = 0; i < windows; i++) {
+            windowIds.set(i, -1);
+        }
+    }
+
+    // slot of the window containing the given time, -1 if the window is too old to be kept
+    private int slot(long time) {
+        long window = time / windowMs;
+        if(window <= lastWindow.get() - values.length()) {
+            return -1;
+        }
+        int slot = (int) (window % values.length());
+        if(windowIds.get(slot) != window) {
+            synchronized (this) {
+                if(windowIds.get(slot) > window) {
+                    return -1; // the slot already holds a newer window
+                }
+                if(windowIds.get(slot) != window) {
+                    // reset value before publishing the new window
+                    values.set(slot, 0);
+                    windowIds.set(slot, window);
+                }
+            }
+        }
+        firstWindow.accumulate(window);
+        lastWindow.accumulate(window);
+        return slot;
+    }
+
+    /**
+     * Add the given amount to the window containing the given time, unless the window is no longer kept
+     * @param amount the amount
+     * @param time the time in ms since the epoch
+     */
+    public void add(long amount, long time) {
+        int slot = slot(time);
+        if(slot >= 0) {
+            values.addAndGet(slot, amount);
+        }
+    }
+
+    /**
+     * Set the value of the window containing the given time, unless the window is no longer kept
+     * @param value the value
+     * @param time the time in ms since the epoch
+     */
+    public void set(long value, long time) {
+        int slot = slot(time);
+        if(slot >= 0) {
+            values.set(slot, value);
+        }
+    }
+
+    public int getWindowMs() {
+        return windowMs;
+    }
+
+    /**
+     * Export all windows still in the ring buffer. Windows without any value are 0 or, in case of a gauge, hold the previous value.
+     * @param perSecond true - convert window sums to rates per second
+     * @return the series
+     */
+    public synchronized Messages.TimeSeries toProto(boolean perSecond) {
+        var b = Messages.TimeSeries.newBuilder().setWindowMs(windowMs);
+        long first = firstWindow.get();
+        long last = lastWindow.get();
+        if(first > last) {
+            return b.setStart(0).build();
+        }
+        long start = Math.max(first, last - values.length() + 1);
+        b.setStart(start * windowMs);
+        double previous = 0;
+        for(long w = start; w <= last; w++) {
+            int slot = (int) (w % values.length());
+            double v = windowIds.get(slot) == w ? values.get(slot) : (gauge ? previous : 0);
+            previous = v;
+            b.addValues(perSecond && !gauge ? v * 1000.0 / windowMs : v);
+        }
+        return b.build();
+    }
+
+    /**
+     * Merge series of the same window length into their average per window. Windows missing in a series count as 0.
+     * Series that are themselves averages are weighted by the number of series they were merged from.
+     * @param series the series to be merged
+     * @return the averaged series, or an empty series if no series was given
+     */
+    public static Messages.TimeSeries average(Collection<Messages.TimeSeries> series) {
+        long start = Long.MAX_VALUE;
+        long end = Long.MIN_VALUE;
+        int windowMs = 0;
+        int peers = 0;
+        for(Messages.TimeSeries s : series) {
+            peers += s.getPeers();
+            windowMs = s.getWindowMs();
+            if(s.getValuesCount() > 0) {
+                start = Math.min(start, s.getStart());
+                end = Math.max(end, s.getStart() + (long) s.getValuesCount() * s.getWindowMs());
+            }
+        }
+        var b = Messages.TimeSeries.newBuilder().setWindowMs(windowMs).setPeers(peers);
+        if(peers == 0 || start > end) {
+            return b.setStart(0).build();
+        }
+        double[] sums = new double[(int) ((end - start) / windowMs)];
+        for(Messages.TimeSeries s : series) {
+            if(s.getWindowMs() != windowMs) {
+                throw new IllegalArgumentException("Cannot merge series with different window lengths");
+            }
+            int offset = (int) ((s.getStart() - start) / windowMs);
+            for(int i = 0; i < s.getValuesCount(); i++) {
+                sums[offset + i] += s.getValues(i) * s.getPeers();
+            }
+        }
+        b.setStart(start);
+        for(double sum : sums) {
+            b.addValues(sum / peers);
+        }
+        return b.build();
+    }
+}
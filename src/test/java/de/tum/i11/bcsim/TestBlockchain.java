@@ -9,6 +9,9 @@ import de.tum.i11.bcsim.proto.Messages.*;
 import de.tum.i11.bcsim.config.ConfigYAML;
 import de.tum.i11.bcsim.util.LogSetup;
 import de.tum.i11.bcsim.util.Util;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.*;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
@@ -364,6 +367,42 @@ public class TestBlockchain {
         assertTrue(pid == 15 || pid == 18);
     }
 
+    @Test
+    void testJfrEvents() throws IOException {
+        Path file = Files.createTempFile("bcsim", ".jfr");
+        try(Recording r = new Recording()) {
+            r.enable("bcsim.BlockAdded");
+            r.enable("bcsim.ForkChoice");
+            r.enable("bcsim.FillBlock");
+            r.enable("bcsim.SwitchForks");
+            r.start();
+
+            Blockchain bc = new LCRBlockchain(10, 100, 6, 20, false);
+            bc.addBlock(block(1, 0, 1, 10));
+            bc.addBlock(block(2, 0, 11, 20));
+            bc.addNewBlock(blockBuilder(3));
+            bc.addBlock(block(5, 4, 0, 0));
+            bc.addBlock(block(4, 3, 0, 0));
+
+            r.stop();
+            r.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        Map<String, List<RecordedEvent>> byName = events.stream().collect(Collectors.groupingBy(e -> e.getEventType().getName()));
+
+        List<RecordedEvent> added = byName.get("bcsim.BlockAdded");
+        assertThat(added.size(), is(6));
+        assertThat(added.stream().filter(e -> e.getInt("blockId") == 1).findFirst().get().getInt("txCount"), is(10));
+        // block 5 is first added as orphan, then attached once block 4 arrived
+        assertThat(added.stream().filter(e -> e.getInt("blockId") == 5).map(e -> e.getInt("height")).collect(Collectors.toList()),
+                containsInAnyOrder(-1, 5));
+
+        assertTrue(byName.get("bcsim.ForkChoice").stream().anyMatch(e -> e.getInt("forks") == 2));
+        assertFalse(byName.get("bcsim.SwitchForks").isEmpty());
+        assertThat(byName.get("bcsim.FillBlock").size(), is(1));
+    }
+
     void longestChainLengthFromTest(Function<Integer, Blockchain> bcSupplier) {
         Blockchain bc = bcSupplier.apply(1);
         Blockchain bc2 = bcSupplier.apply(2);
@@ -2,20 +2,37 @@ package de.tum.i11.bcsim;
 
 import de.tum.i11.bcsim.coordinator.Coordinator;
 import de.tum.i11.bcsim.graph.*;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
+import de.tum.i11.bcsim.node.CompactP2PCodec;
+import de.tum.i11.bcsim.node.MetricsServer;
 import de.tum.i11.bcsim.peer.Peer;
 import de.tum.i11.bcsim.proto.Messages;
 import de.tum.i11.bcsim.config.Config;
 import de.tum.i11.bcsim.config.ConfigYAML;
+import de.tum.i11.bcsim.util.Pair;
 import de.tum.i11.bcsim.util.Util;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
+import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
 import java.io.FileWriter;
+import java.io.InputStream;
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.HttpURLConnection;
 import java.net.InetSocketAddress;
 import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 import java.util.*;
 
@@ -53,6 +70,85 @@ public class TestNetwork {
         protected void onMessage(ChannelHandlerContext ctx, Messages.CoordinatorMessage message) {}
     }
 
+    @Test
+    void testMetricsServer() throws IOException {
+        MetricsServer server = new MetricsServer(new InetSocketAddress("127.0.0.1", 0), () -> "bcsim_peers 3\n");
+        try {
+            String base = "http://127.0.0.1:"+server.getListenAddr().getPort();
+            HttpURLConnection c = (HttpURLConnection) new URL(base+"/metrics").openConnection();
+            assertEquals(200, c.getResponseCode());
+            assertTrue(c.getContentType().startsWith("text/plain"));
+            try(InputStream in = c.getInputStream()) {
+                assertEquals("bcsim_peers 3\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            c = (HttpURLConnection) new URL(base+"/other").openConnection();
+            assertEquals(404, c.getResponseCode());
+
+            // port already in use
+            assertThrows(IllegalStateException.class, () -> new MetricsServer(server.getListenAddr(), () -> ""));
+        } finally {
+            server.close().join();
+        }
+    }
+
+    @Test
+    void testCompactCodec() throws IOException {
+        byte[] payloadA = Util.rndBytes(100);
+        byte[] payloadB = Util.rndBytes(50);
+        Messages.Block.Builder block = Messages.Block.newBuilder().setBlockId(7).setParentId(3).setCreator(2)
+                .setTs(Timestamp.newBuilder().setSeconds(1600000000).setNanos(123456789));
+        for(int i = 0; i < 100; i++) {
+            var tx = Messages.Transaction.newBuilder().setTxId(2000000+i).setTxFee(i % 3 - 1)
+                    .setTs(Timestamp.newBuilder().setSeconds(1600000000-i).setNanos(i*1000));
+            if(i % 10 != 0) {
+                tx.setData(ByteString.copyFrom(i % 2 == 0 ? payloadA : payloadB));
+            }
+            block.addTransaction(tx);
+        }
+        List<Messages.P2PMessage> msgs = List.of(
+                Messages.P2PMessage.newBuilder().setBlock(block).build(),
+                Messages.P2PMessage.newBuilder().setBlock(Messages.Block.newBuilder(block.build()).clearTransaction()).build(),
+                Messages.P2PMessage.newBuilder().setProposal(Messages.BlockProposal.newBuilder().setBlock(block)).build(),
+                Messages.P2PMessage.newBuilder().setTransaction(block.getTransaction(1)).build(),
+                Messages.P2PMessage.newBuilder().setTransaction(block.getTransaction(0)).build(),
+                Messages.P2PMessage.newBuilder().setInv(Messages.Inventory.newBuilder().setSender(1).setId(7)).build(),
+                Messages.P2PMessage.newBuilder().setAnnounce(Messages.AnnouncePeer.newBuilder().setNodeId(4)).build(),
+                // messages with several payloads fall back to protobuf
+                Messages.P2PMessage.newBuilder().setTransaction(block.getTransaction(1)).setBlock(block).build(),
+                Messages.P2PMessage.newBuilder().setProposal(Messages.BlockProposal.newBuilder().setBlock(block))
+                        .setBlock(Messages.Block.newBuilder(block.build()).clearTransaction()).build()
+        );
+        for(Messages.P2PMessage msg : msgs) {
+            ByteBuf buf = Unpooled.buffer();
+            CompactP2PCodec.encode(msg, buf);
+            assertEquals(msg, CompactP2PCodec.decode(buf));
+            assertFalse(buf.isReadable());
+        }
+        // payloads are written once per block
+        ByteBuf buf = Unpooled.buffer();
+        CompactP2PCodec.encode(msgs.get(0), buf);
+        assertTrue(buf.readableBytes() < msgs.get(0).getSerializedSize()/2);
+
+        // through a channel pipeline with length prefix
+        EmbeddedChannel ch = new EmbeddedChannel(new ProtobufVarint32FrameDecoder(), new ProtobufVarint32LengthFieldPrepender(), new CompactP2PCodec());
+        for(Messages.P2PMessage msg : msgs) {
+            assertTrue(ch.writeOutbound(msg));
+            ByteBuf frame = ch.readOutbound();
+            assertTrue(ch.writeInbound(frame));
+            assertEquals(msg, ch.readInbound());
+        }
+        assertFalse(ch.finish());
+
+        assertThrows(CorruptedFrameException.class, () -> CompactP2PCodec.decode(Unpooled.wrappedBuffer(new byte[]{1, 0, 0})));
+        assertThrows(CorruptedFrameException.class, () -> CompactP2PCodec.decode(Unpooled.wrappedBuffer(new byte[]{9})));
+        // negative payload count and data length
+        byte[] negative = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+        ByteBuf negativeCount = Unpooled.buffer().writeByte(1).writeZero(20).writeBytes(negative);
+        assertThrows(CorruptedFrameException.class, () -> CompactP2PCodec.decode(negativeCount));
+        ByteBuf negativeLength = Unpooled.buffer().writeByte(3).writeZero(4).writeByte(0).writeZero(8).writeBytes(negative);
+        assertThrows(CorruptedFrameException.class, () -> CompactP2PCodec.decode(negativeLength));
+    }
+
     @Test
     void testSingle() {
         assertDoesNotThrow(() -> testGraphStrategy(new RndGraphStrategy(1, 10, 0.8, 2000), 1));
@@ -98,6 +194,34 @@ public class TestNetwork {
         }
     }
 
+    @Test
+    void testScaleFreeStructure() {
+        int[][] params = {{20000, 3}, {100, 1}, {50, 5}, {5, 5}, {1, 2}, {0, 2}};
+        for(int[] p : params) {
+            int n = p[0], m = Math.min(p[0], p[1]);
+            var graph = new ScaleFreeStrategy(n, p[1], 100, 2000).getEdges();
+            assertEquals(n, graph.size());
+            // m-1 edges between the first m nodes, m edges from every other node
+            int edges = 0;
+            HashSet<Pair<Integer, Integer>> distinct = new HashSet<>();
+            for(int i = 0; i < n; i++) {
+                for(Edge e : graph.get(i)) {
+                    assertEquals(i, e.from);
+                    assertNotEquals(e.from, e.to);
+                    assertTrue(distinct.add(new Pair<>(Math.min(e.from, e.to), Math.max(e.from, e.to))));
+                    edges++;
+                }
+            }
+            assertEquals(Math.max(0, m-1) + (n-m)*m, edges);
+            if(n > 0) {
+                assertTrue(GraphUtil.isConnected(graph));
+            }
+        }
+        // preferential attachment creates hubs
+        var graph = GraphUtil.toDiGraph(new ScaleFreeStrategy(20000, 3, 100, 2000).getEdges());
+        assertTrue(GraphUtil.getMaxDegree(graph) > 100);
+    }
+
     @Test
     void testExplicit() {
         GraphStrategy gs = new ExplicitGraphStrategy(List.of(
@@ -264,6 +388,346 @@ public class TestNetwork {
         }
     }
 
+    @RepeatedTest(5)
+    void testApsp() {
+        int n = Util.getRndInt(2, 200);
+        var digraph = GraphUtil.toDiGraph(new RndGraphStrategy(n, 1000, 0.05, 2000).getEdges());
+        digraph.add(new LinkedList<>()); // unreachable node
+        n++;
+
+        // Floyd-Warshall as reference
+        int inf = Integer.MAX_VALUE/2;
+        int[][] lat = new int[n][n];
+        int[][] hops = new int[n][n];
+        for(int i = 0; i < n; i++) {
+            Arrays.fill(lat[i], inf);
+            Arrays.fill(hops[i], inf);
+            lat[i][i] = 0;
+            hops[i][i] = 0;
+            for(Edge e : digraph.get(i)) {
+                lat[i][e.to] = Math.min(lat[i][e.to], e.latency);
+                hops[i][e.to] = 1;
+            }
+        }
+        for(int k = 0; k < n; k++) {
+            for(int i = 0; i < n; i++) {
+                for(int j = 0; j < n; j++) {
+                    lat[i][j] = Math.min(lat[i][j], lat[i][k] + lat[k][j]);
+                    hops[i][j] = Math.min(hops[i][j], hops[i][k] + hops[k][j]);
+                }
+            }
+        }
+
+        int[][] apsp = GraphUtil.apsp(digraph);
+        int[][] apspHops = GraphUtil.apspHops(digraph);
+        for(int i = 0; i < n; i++) {
+            assertArrayEquals(apsp[i], GraphUtil.dijkstra(digraph, i));
+            for(int j = 0; j < n; j++) {
+                assertEquals(lat[i][j] == inf ? -1 : lat[i][j], apsp[i][j]);
+                assertEquals(hops[i][j] == inf ? -1 : hops[i][j], apspHops[i][j]);
+            }
+        }
+    }
+
+    @Test
+    void testCSRGraph() {
+        var ugraph = new RndGraphStrategy(300, 100, 0.02, 2000).getEdges();
+        var digraph = GraphUtil.toDiGraph(ugraph);
+        CSRGraph graph = CSRGraph.of(ugraph);
+        assertEquals(300, graph.size());
+        assertEquals(digraph.stream().mapToInt(List::size).sum(), graph.edgeCount());
+        assertTrue(graph.isConnected());
+
+        // same directed edges as the adjacency list
+        var adj = graph.toAdjList();
+        for(int i = 0; i < graph.size(); i++) {
+            assertEquals(digraph.get(i).size(), graph.degree(i));
+            HashSet<String> expected = new HashSet<>();
+            digraph.get(i).forEach(e -> expected.add(e.to+":"+e.latency));
+            HashSet<String> actual = new HashSet<>();
+            adj.get(i).forEach(e -> actual.add(e.to+":"+e.latency));
+            assertEquals(expected, actual);
+            assertArrayEquals(GraphUtil.dijkstra(digraph, i), graph.dijkstra(i));
+            assertArrayEquals(GraphUtil.dijkstraHops(digraph, i), graph.hops(i));
+        }
+        assertArrayEquals(GraphUtil.dijkstra(digraph, 0), CSRGraph.ofDirected(digraph).dijkstra(0));
+
+        // from an edge array: 0-1, 1-2, node 3 is isolated
+        CSRGraph small = CSRGraph.of(4, new int[]{0, 1, 1, 2}, new int[]{5, 7});
+        assertArrayEquals(new int[]{0, 5, 12, -1}, small.dijkstra(0));
+        assertArrayEquals(new int[]{2, 1, 0, -1}, small.hops(2));
+        assertFalse(small.isConnected());
+        assertEquals(2, small.degree(1));
+
+        // each edge once at its smaller node, same graph when converted back
+        var undirected = small.toUndirectedAdjList();
+        assertEquals(1, undirected.get(1).size());
+        assertEquals(2, undirected.get(1).get(0).to);
+        assertEquals(0, undirected.get(2).size());
+        assertArrayEquals(graph.dijkstra(7), CSRGraph.of(graph.toUndirectedAdjList()).dijkstra(7));
+
+        // renaming nodes: 0 -> 3, 3 -> 0
+        CSRGraph swapped = small.relabel(new int[]{3, 1, 2, 0});
+        assertArrayEquals(new int[]{-1, 5, 12, 0}, swapped.dijkstra(3));
+        assertEquals(0, swapped.degree(0));
+
+        // strategies creating CSR graphs directly
+        CSRGraph sf = new ScaleFreeStrategy(1000, 3, 100, 2000).getGraph();
+        assertEquals(1000, sf.size());
+        assertEquals(2*(2 + 997*3), sf.edgeCount());
+        assertTrue(sf.isConnected());
+    }
+
+    @Test
+    void testLocalClustering() {
+        // complete graph and star
+        assertEquals(1, GraphUtil.getMeanLocalClustering(GraphUtil.toDiGraph(new RndGraphStrategy(10, 100, 1, 2000).getEdges())), 1e-9);
+        CSRGraph star = CSRGraph.of(5, new int[]{0, 1, 0, 2, 0, 3, 0, 4}, new int[]{1, 1, 1, 1});
+        assertArrayEquals(new double[]{0, 0, 0, 0, 0}, star.localClustering());
+
+        // compare to counting links between neighbors with a pair-wise lookup
+        var graphs = List.of(new RndGraphStrategy(200, 100, 0.05, 2000).getEdges(),
+                new ScaleFreeStrategy(500, 3, 100, 2000).getEdges());
+        for(var ugraph : graphs) {
+            var digraph = GraphUtil.toDiGraph(ugraph);
+            double[] c = CSRGraph.of(ugraph).localClustering();
+            HashMap<Integer, double[]> perDegree = new HashMap<>();
+            double mean = 0;
+            for(int i = 0; i < digraph.size(); i++) {
+                HashSet<Integer> neighbors = new HashSet<>();
+                digraph.get(i).forEach(e -> neighbors.add(e.to));
+                int k = neighbors.size();
+                long links = 0;
+                for(int u : neighbors) {
+                    links += digraph.get(u).stream().filter(e -> neighbors.contains(e.to)).count();
+                }
+                double expected = k < 2 ? 0 : links / (double) (k*(k-1));
+                assertEquals(expected, c[i], 1e-9);
+                double[] sc = perDegree.computeIfAbsent(k, d -> new double[2]);
+                sc[0] += expected;
+                sc[1]++;
+                mean += expected / digraph.size();
+            }
+            assertEquals(mean, GraphUtil.getMeanLocalClustering(digraph), 1e-9);
+            perDegree.forEach((k, sc) -> assertEquals(k < 2 ? 0 : sc[0]/sc[1], GraphUtil.getLocalClustering(digraph, k), 1e-9));
+        }
+    }
+
+    @Test
+    void testGraphCache() throws IOException {
+        Path dir = Files.createTempDirectory("graphs");
+
+        // file round trip with labels
+        CSRGraph graph = new ScaleFreeStrategy(2000, 3, 100, 2000).getGraph();
+        List<String> labels = new ArrayList<>();
+        for(int i = 0; i < graph.size(); i++) {
+            labels.add("node"+i);
+        }
+        Path path = dir.resolve("test.graph");
+        new GraphFile("key", graph, labels).save(path);
+        GraphFile f = GraphFile.load(path);
+        assertEquals("key", f.getKey());
+        assertEquals(labels, f.getLabels());
+        assertEquals(graph.toAdjList().toString(), f.getGraph().toAdjList().toString());
+        new GraphFile("", graph, null).save(path);
+        assertNull(GraphFile.load(path).getLabels());
+        Files.write(path, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> GraphFile.load(path));
+
+        // the first strategy creates and saves the graph, the second one loads it
+        var first = new CachedGraphStrategy(dir, "sf 500", () -> new ScaleFreeStrategy(500, 2, 100, 2000), 2000);
+        assertEquals(500, first.getNodes());
+        var edges = first.getEdges();
+        double maxLatency = first.getMaxLatency();
+        assertEquals(edges.stream().flatMap(List::stream).mapToInt(e -> e.latency).max().getAsInt(), maxLatency);
+        assertFalse(first.isCached());
+        assertTrue(Files.exists(first.getFile()));
+        var second = new CachedGraphStrategy(dir, "sf 500", () -> { throw new AssertionError("Graph was not cached"); }, 2000);
+        assertEquals(500, second.getNodes());
+        assertEquals(edges.toString(), second.getEdges().toString());
+        assertTrue(second.isCached());
+        assertEquals(maxLatency, second.getMaxLatency());
+        assertEquals(2*(1 + 498*2), second.getGraph().edgeCount());
+        assertEquals(GraphUtil.getAvgPropDelay(edges), GraphUtil.getAvgPropDelay(second.getEdges()));
+
+        // explicit graphs keep their labels
+        var explicit = new CachedGraphStrategy(dir, "cloud", () -> new ExplicitGraphStrategy("src/test/java/de/tum/i11/bcsim/cloudGraph.txt", 2000), 2000);
+        List<String> cloudLabels = explicit.getLabels();
+        assertEquals(2695, cloudLabels.size());
+        assertEquals("57344", cloudLabels.get(0));
+        var cloud = new CachedGraphStrategy(dir, "cloud", () -> null, 2000);
+        assertEquals(cloudLabels, cloud.getLabels());
+        assertTrue(GraphUtil.isConnected(cloud.getEdges()));
+    }
+
+    @Test
+    void testEdgeListParser() throws IOException {
+        Path path = Files.createTempFile("edges", ".txt");
+        StringBuilder sb = new StringBuilder("a b 10\r\n\n  b\tc  20 extra\nc a -3\nd a 4");
+        Random rnd = new Random(1);
+        for(int i = 0; i < 5000; i++) {
+            sb.append('\n').append("n").append(rnd.nextInt(800)).append(' ').append("n").append(rnd.nextInt(800)).append(' ').append(i);
+        }
+        Files.writeString(path, sb);
+
+        // reference: sequential parsing with Strings
+        LinkedHashMap<String, Integer> ids = new LinkedHashMap<>();
+        List<int[]> edges = new ArrayList<>();
+        for(String line : Files.readAllLines(path)) {
+            String[] t = line.trim().split("\\s+");
+            if(t.length >= 3) {
+                int a = ids.computeIfAbsent(t[0], k -> ids.size());
+                int b = ids.computeIfAbsent(t[1], k -> ids.size());
+                edges.add(new int[]{a, b, Integer.parseInt(t[2])});
+            }
+        }
+        for(long chunkSize : new long[]{EdgeListParser.CHUNK_SIZE, 1000, 1}) {
+            EdgeListParser p = EdgeListParser.parse(path, chunkSize);
+            assertEquals(new ArrayList<>(ids.keySet()), p.labels);
+            assertEquals(edges.size(), p.from.length);
+            for(int k = 0; k < edges.size(); k++) {
+                assertArrayEquals(edges.get(k), new int[]{p.from[k], p.to[k], p.latencies[k]});
+            }
+        }
+
+        Files.writeString(path, "a b 1\na b\n");
+        assertThrows(IOException.class, () -> EdgeListParser.parse(path));
+        Files.writeString(path, "a b 1x\n");
+        assertThrows(IOException.class, () -> EdgeListParser.parse(path));
+
+        // opposite directed edges form one undirected edge
+        Files.writeString(path, "x y 5\ny x 7\ny z 3\n");
+        var gs = new ExplicitGraphStrategy(path.toString(), 2000);
+        assertEquals(List.of("x", "y", "z"), gs.getLabels());
+        assertEquals("[[(from: 0, to: 1, lat: 5)], [(from: 1, to: 2, lat: 3)], []]", gs.getEdges().toString());
+        assertEquals(4, gs.getGraph().edgeCount());
+        assertEquals(7, gs.getMaxLatency());
+    }
+
+    @Test
+    void testGeoGraph() throws IOException {
+        int n = 100000;
+        var gs = new GeoGraphStrategy(n, 2, "src/config/regions.csv", "src/config/rtt.csv", 0, 2000);
+        assertNull(gs.getLabels());
+        CSRGraph graph = gs.getGraph();
+        assertEquals(2*(1 + (n-2)*2), graph.edgeCount());
+        assertTrue(graph.isConnected());
+
+        // peers are distributed by region weight, latencies are half the round trip time between regions
+        List<String> regions = gs.getRegionNames();
+        assertEquals(10, regions.size());
+        List<String> labels = gs.getLabels();
+        int[] count = new int[regions.size()];
+        labels.forEach(l -> count[regions.indexOf(l)]++);
+        assertEquals(n, Arrays.stream(count).sum());
+        assertEquals(0.20*n, count[regions.indexOf("us-east")], 1);
+        assertEquals(0.04*n, count[regions.indexOf("af-south")], 1);
+        for(int i = 0; i < n; i += 97) {
+            for(int e = graph.begin(i); e < graph.end(i); e++) {
+                int a = regions.indexOf(labels.get(i)), b = regions.indexOf(labels.get(graph.target(e)));
+                assertEquals((int) (gs.getRtt(a, b)*1000/2), graph.latency(e));
+            }
+        }
+        assertEquals(6, gs.getRtt(0, 0));
+        assertEquals(gs.getRtt(1, 4), gs.getRtt(4, 1));
+
+        // missing round trip times are mirrored or estimated from coordinates
+        Path regionsFile = Files.createTempFile("regions", ".csv");
+        Path rttFile = Files.createTempFile("rtt", ".csv");
+        Files.writeString(regionsFile, "# name,lat,lon,weight\na,0,0,1\nb,0,1,1\nc,0,90,0\n");
+        Files.writeString(rttFile, "region,a,b\na,,30\nb,,\n");
+        var small = new GeoGraphStrategy(50, 1, regionsFile.toString(), rttFile.toString(), 0.1, 2000);
+        assertEquals(30, small.getRtt(0, 1));
+        assertEquals(30, small.getRtt(1, 0));
+        assertEquals(GeoGraphStrategy.MIN_RTT, small.getRtt(0, 0));
+        assertEquals(150, small.getRtt(0, 2), 1);
+        var edges = small.getEdges();
+        assertTrue(GraphUtil.isConnected(edges));
+        assertFalse(small.getLabels().contains("c"));
+        Files.writeString(rttFile, "region,a,x\n");
+        assertThrows(IllegalArgumentException.class, () -> new GeoGraphStrategy(50, 1, regionsFile.toString(), rttFile.toString(), 0.1, 2000));
+
+        Config c = new Config("src/test/java/de/tum/i11/bcsim/config.yaml");
+        c.getConfigYAML().networkType = "geo";
+        c.setGraphStrategy();
+        assertTrue(c.getGraphStrategy() instanceof GeoGraphStrategy);
+    }
+
+    @Test
+    void testCreateRndGraph() {
+        // sparse and dense graphs, dense ones are created by sampling the left out edges
+        int[] nodes = {20000, 300, 60, 60, 1};
+        double[] densities = {0.001, 0.3, 0.9, 1, 0.5};
+        for(int k = 0; k < nodes.length; k++) {
+            int n = nodes[k];
+            var edges = GraphUtil.create(n, densities[k]);
+            assertEquals(Math.max(n-1, (long) (densities[k]*n*(n-1))/2), edges.size());
+            HashSet<Pair<Integer, Integer>> distinct = new HashSet<>();
+            for(Pair<Integer, Integer> e : edges) {
+                assertNotEquals(e._1, e._2);
+                assertTrue(distinct.add(new Pair<>(Math.min(e._1, e._2), Math.max(e._1, e._2))));
+            }
+            assertTrue(GraphUtil.isConnected(GraphUtil.toAdjList(n, 100, edges)));
+        }
+    }
+
+    @Test
+    void testScaleToAvgPropDelay() {
+        var graph = new RndGraphStrategy(200, 10000, 0.05, 2000).getEdges();
+        GraphAnalysis scaled = GraphUtil.scaleToAvgPropDelay(graph, 300);
+        assertEquals(300, scaled.getAvgPropDelay(), 1);
+        // same topology
+        for(int i = 0; i < graph.size(); i++) {
+            assertEquals(graph.get(i).size(), scaled.getGraph().get(i).size());
+            for(int j = 0; j < graph.get(i).size(); j++) {
+                assertEquals(graph.get(i).get(j).to, scaled.getGraph().get(i).get(j).to);
+            }
+        }
+    }
+
+    @Test
+    void testGraphAnalysis() {
+        var graph = new ScaleFreeStrategy(300, 3, 1000, 2000).getEdges();
+        for(boolean offHeap : new boolean[]{false, true}) {
+            GraphAnalysis analysis = new GraphAnalysis(graph, offHeap);
+            for(int round = 0; round < 2; round++) {
+                int[][] lat = GraphUtil.apsp(GraphUtil.toDiGraph(graph));
+                int[][] hops = GraphUtil.apspHops(GraphUtil.toDiGraph(graph));
+                int n = lat.length;
+                double latSum = 0, hopSum = 0;
+                int maxLat = 0, maxHops = 0;
+                ArrayList<Integer> all = new ArrayList<>();
+                for(int i = 0; i < n; i++) {
+                    for(int j = 0; j < n; j++) {
+                        assertEquals(lat[i][j], analysis.getLatency(i, j));
+                        assertEquals(hops[i][j], analysis.getHops(i, j));
+                        latSum += lat[i][j];
+                        hopSum += hops[i][j];
+                        maxLat = Math.max(maxLat, lat[i][j]);
+                        maxHops = Math.max(maxHops, hops[i][j]);
+                        if(i != j) {
+                            all.add(lat[i][j]);
+                        }
+                    }
+                }
+                Collections.sort(all);
+                assertEquals(latSum/n/(n-1), analysis.getAvgPropDelay(), 1e-6);
+                assertEquals(hopSum/n/(n-1), analysis.getAvgHops(), 1e-6);
+                assertEquals(maxLat, analysis.getMaxLatency());
+                assertEquals(maxHops, analysis.getMaxHops());
+                assertEquals((all.get(all.size()/2-1)+all.get(all.size()/2))/2.0, analysis.getMedianPropDelay());
+                assertEquals(n*(n-1)/2, analysis.getPropDelayDistribution().size());
+                assertEquals((lat[3][7]+lat[7][3]+lat[3][9]+lat[9][3]+lat[7][9]+lat[9][7])/6.0,
+                        analysis.getAvgPropDelayBetweenNodes(List.of(3, 7, 9)), 1e-6);
+                assertArrayEquals(new int[]{0, lat[3][7]}, analysis.getLatencies(List.of(3, 7))[0]);
+
+                // distance matrices are recomputed after invalidating them
+                GraphUtil.swap(0, 299, graph);
+                analysis.invalidate();
+            }
+        }
+    }
+
     @Test
     void testTSM() {
         RndGraphStrategy s = new RndGraphStrategy(100, 10, 0.3, 2000);
@@ -281,6 +745,45 @@ public class TestNetwork {
         assertEquals(min, GraphUtil.getDistance(weights, GraphUtil.tsm(weights, l)));
     }
 
+    @Test
+    void testTourOptimizer() {
+        Random rnd = new Random(3);
+        // shortest path latencies of a random graph
+        int[][] weights = GraphUtil.apsp(GraphUtil.toDiGraph(new RndGraphStrategy(400, 100, 0.02, 2000).getEdges()));
+
+        // optimal for small tours
+        for(int n = 1; n <= 8; n++) {
+            List<Integer> ids = new ArrayList<>(Util.getUniqueRndInts(0, weights.length, n));
+            int min = Integer.MAX_VALUE;
+            for(int i = 0; i < 20000; i++) {
+                Collections.shuffle(ids, rnd);
+                min = Math.min(min, GraphUtil.getDistance(weights, ids));
+            }
+            var tour = GraphUtil.tsm(weights, ids);
+            assertEquals(new HashSet<>(ids), new HashSet<>(tour));
+            assertEquals(min, GraphUtil.getDistance(weights, tour));
+        }
+
+        // larger tours visit each node once and cannot be improved by reversing a section
+        List<Integer> ids = new ArrayList<>(Util.getUniqueRndInts(0, weights.length, 300));
+        var tour = GraphUtil.tsm(weights, ids);
+        assertEquals(300, tour.size());
+        assertEquals(new HashSet<>(ids), new HashSet<>(tour));
+        int n = tour.size();
+        for(int i = 0; i < n - 2; i++) {
+            for(int j = i + 2; j < n; j++) {
+                int a = tour.get(i), b = tour.get(i+1), c = tour.get(j), d = tour.get((j + 1) % n);
+                assertTrue(weights[a][c] + weights[b][d] >= weights[a][b] + weights[c][d]);
+            }
+        }
+        double random = 0;
+        for(int i = 0; i < 10; i++) {
+            Collections.shuffle(ids, rnd);
+            random += GraphUtil.getDistance(weights, ids) / 10.0;
+        }
+        assertTrue(GraphUtil.getDistance(weights, tour) < random / 2);
+    }
+
     @RepeatedTest(10)
     void testAvgPropagationDelayRndGraph() {
         int avgLat = Util.getRndInt(100, 10000);
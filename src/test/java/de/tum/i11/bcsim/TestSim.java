@@ -6,13 +6,19 @@ import de.tum.i11.bcsim.peer.BlockchainPeer;
 import de.tum.i11.bcsim.peer.DPoSPeer;
 import de.tum.i11.bcsim.coordinator.ProofBasedCoordinator;
 import de.tum.i11.bcsim.peer.ProofBasedPeer;
+import de.tum.i11.bcsim.node.WireFormat;
 import de.tum.i11.bcsim.config.Config;
 import de.tum.i11.bcsim.util.LogSetup;
 import de.tum.i11.bcsim.util.Result;
+import de.tum.i11.bcsim.util.TraceReader;
+import de.tum.i11.bcsim.util.TraceWriter;
 import org.junit.jupiter.api.*;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
@@ -21,7 +27,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class TestSim {
@@ -126,6 +132,65 @@ public class TestSim {
         }
     }
 
+    @Test
+    void testProofBasedSimTrace() throws IOException {
+        Config c = new Config("src/test/java/de/tum/i11/bcsim/config.yaml");
+        c.getConfigYAML().random.nodes = 30;
+        c.getConfigYAML().traceEvents = true;
+        Path traceDir = Files.createTempDirectory("trace");
+        c.prefix = traceDir.resolve("sim").toString();
+        c.setGraphStrategy();
+        c.createProofBasedPeerConfigs();
+
+        InetSocketAddress[] ads = new InetSocketAddress[] {
+                new InetSocketAddress("127.0.0.1", 5151),
+                new InetSocketAddress("127.0.0.1", 5152),
+                new InetSocketAddress("127.0.0.1", 5153)
+        };
+        ProofBasedCoordinator[] cs = new ProofBasedCoordinator[]{
+                new ProofBasedCoordinator(ads[0], c),
+                new ProofBasedCoordinator(ads[1], c),
+                new ProofBasedCoordinator(ads[2], c)
+        };
+        CompletableFuture[] cfs = new CompletableFuture[] {
+                cs[0].closedFuture(),
+                cs[1].closedFuture(),
+                cs[2].closedFuture()
+        };
+
+        cs[0].startAsOrchestrator();
+
+        CompletableFuture.allOf(cfs).join();
+
+        Blockchain bc = cs[0].getPeers().values().stream().map(BlockchainPeer::getBlockchain).max(Comparator.comparingInt(Blockchain::getTotalBlockNum)).get();
+        assertResult(bc, cs[0].getResult().join(), c, false);
+
+        List<Path> traces = new LinkedList<>();
+        for(InetSocketAddress a : ads) {
+            traces.add(Path.of(c.prefix+"_"+a.getPort()+"_trace.bin"));
+        }
+        TraceReader.Stats stats = TraceReader.analyze(traces);
+        long createdBlocks = Arrays.stream(cs).flatMap(co -> co.getPeers().values().stream()).mapToLong(p -> p.getCreatedBlocks().getPackets()).sum();
+        assertEquals(30, stats.peers);
+        assertThat(stats.events[TraceWriter.Event.BLOCK_CREATED.ordinal()], allOf(greaterThan(0L), lessThanOrEqualTo(createdBlocks)));
+        assertThat(stats.events[TraceWriter.Event.BLOCK_RECEIVED.ordinal()], greaterThan(0L));
+        assertThat(stats.events[TraceWriter.Event.TX_CREATED.ordinal()], greaterThan(0L));
+        assertThat(stats.txConfirmation.getCount(), greaterThan(0L));
+        assertThat(stats.blockPropagation.getCount(), greaterThan(0L));
+        assertThat(stats.avgBlockProp90, greaterThanOrEqualTo(stats.avgBlockProp50));
+        for(Path p : traces) {
+            Files.delete(p);
+        }
+
+        for(ProofBasedCoordinator coord : cs) {
+            for(ProofBasedPeer peer : coord.getPeers().values()) {
+                assertTrue(TestBlockchain.equals(bc, peer.getBlockchain()));
+                assertTrue(peer.isClosed());
+            }
+            assertTrue(coord.isClosed());
+        }
+    }
+
     @Test
     void testProofBasedSimLCR() throws IOException {
         Config c = new Config("src/test/java/de/tum/i11/bcsim/config.yaml");
@@ -362,6 +427,7 @@ public class TestSim {
         c.getConfigYAML().blockchainDefaults.txDistribution = "uniform";
         c.getConfigYAML().proofBased.miningDistribution.type = "uniform";
         c.getConfigYAML().random.perEdge = false;
+        c.getConfigYAML().linkTraffic = true;
         c.setGraphStrategy();
         c.createProofBasedPeerConfigs();
         c.validate();
@@ -387,7 +453,73 @@ public class TestSim {
         CompletableFuture.allOf(cfs).join();
 
         Blockchain bc = cs[0].getPeers().values().stream().map(BlockchainPeer::getBlockchain).max(Comparator.comparingInt(Blockchain::getTotalBlockNum)).get();
-        assertResult(bc, cs[0].getResult().join(), c, false);
+        Result r = cs[0].getResult().join();
+        assertResult(bc, r, c, false);
+        assertThat(r.avgTxLat, greaterThan(0.0));
+        assertThat(r.medianTxLat, greaterThanOrEqualTo(r.minTxLat));
+        assertThat(r.maxTxLat, greaterThanOrEqualTo(r.medianTxLat));
+        assertFalse(r.txFees.isEmpty());
+        for(String kind : List.of("INV", "GET_DATA", "BLOCK", "TRANSACTION")) {
+            var t = r.traffic.stream().filter(tr -> "all".equals(tr.coordinator) && kind.equals(tr.kind)).findFirst();
+            assertTrue(t.isPresent());
+            assertThat(t.get().receivedMsgs, greaterThan(0L));
+            assertThat(t.get().receivedMsgs, lessThanOrEqualTo(t.get().sentMsgs));
+            assertThat(t.get().sentBytes, greaterThan(t.get().sentMsgs));
+        }
+        assertThat(r.txAmplification, greaterThan(0.0));
+        assertFalse(r.linkTraffic.isEmpty());
+
+        for(ProofBasedCoordinator coord : cs) {
+            for(ProofBasedPeer peer : coord.getPeers().values()) {
+                assertTrue(TestBlockchain.equals(bc, peer.getBlockchain()));
+                assertTrue(TestBlockchain.isValidBlockchain(peer.getBlockchain()));
+                assertDoesNotThrow(peer::getResultEntry);
+                assertTrue(peer.isClosed());
+                assertTrue(peer.close().isDone());
+            }
+            assertTrue(coord.isClosed());
+        }
+    }
+
+    @Test
+    void testProofBasedLatencyHistograms() throws IOException {
+        Config c = new Config("src/test/java/de/tum/i11/bcsim/config.yaml");
+        c.getConfigYAML().latencyHistograms = true;
+        c.getConfigYAML().latencySamples = 10;
+        c.setGraphStrategy();
+        c.createProofBasedPeerConfigs();
+        c.validate();
+
+        InetSocketAddress[] ads = new InetSocketAddress[] {
+                new InetSocketAddress("127.0.0.1", 5151),
+                new InetSocketAddress("127.0.0.1", 5152),
+                new InetSocketAddress("127.0.0.1", 5153)
+        };
+        ProofBasedCoordinator[] cs = new ProofBasedCoordinator[]{
+                new ProofBasedCoordinator(ads[0], c),
+                new ProofBasedCoordinator(ads[1], c),
+                new ProofBasedCoordinator(ads[2], c)
+        };
+        CompletableFuture[] cfs = new CompletableFuture[] {
+                cs[0].closedFuture(),
+                cs[1].closedFuture(),
+                cs[2].closedFuture()
+        };
+
+        cs[0].startAsOrchestrator();
+
+        CompletableFuture.allOf(cfs).join();
+
+        Blockchain bc = cs[0].getPeers().values().stream().map(BlockchainPeer::getBlockchain).max(Comparator.comparingInt(Blockchain::getTotalBlockNum)).get();
+        Result r = cs[0].getResult().join();
+        assertResult(bc, r, c, false);
+        // only a sample of raw latencies is exported, statistics are computed from the merged histograms
+        int peers = Arrays.stream(cs).mapToInt(coord -> coord.getPeers().size()).sum();
+        assertThat(r.allTxLats.size(), lessThanOrEqualTo(peers*10));
+        assertThat(r.avgTxLat, greaterThan(0.0));
+        assertThat(r.medianTxLat, greaterThanOrEqualTo(r.minTxLat));
+        assertThat(r.maxTxLat, greaterThanOrEqualTo(r.medianTxLat));
+        assertFalse(r.txFees.isEmpty());
 
         for(ProofBasedCoordinator coord : cs) {
             for(ProofBasedPeer peer : coord.getPeers().values()) {
@@ -408,6 +540,8 @@ public class TestSim {
         c.getConfigYAML().proofBased.miningDistribution.type = "exponential";
         c.getConfigYAML().blockchainDefaults.verificationTime = 0;
         c.getConfigYAML().blockchainDefaults.simulateFullBlocks = true;
+        c.getConfigYAML().throughputWindow = 1000;
+        c.getConfigYAML().metricsPortOffset = 1000;
         c.createProofBasedPeerConfigs();
         c.validate();
 
@@ -424,10 +558,24 @@ public class TestSim {
 
         cs[0].startAsOrchestrator();
 
+        cs[0].startedFuture().join();
+        try(InputStream in = new URL("http://127.0.0.1:6151/metrics").openStream()) {
+            String metrics = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(metrics, containsString("bcsim_running 1"));
+            assertThat(metrics, containsString("bcsim_block_height{stat=\"max\"}"));
+            assertThat(metrics, containsString("bcsim_cpu_load_percent"));
+        }
+
         CompletableFuture.allOf(cfs).join();
 
         Blockchain bc = cs[0].getPeers().values().stream().map(BlockchainPeer::getBlockchain).max(Comparator.comparingInt(Blockchain::getTotalBlockNum)).get();
-        assertResult(bc, cs[0].getResult().join(), c, false);
+        Result r = cs[0].getResult().join();
+        assertResult(bc, r, c, false);
+        var confirmedTx = r.timeSeries.stream().filter(ts -> "all".equals(ts.coordinator) && "confirmedTxPerSec".equals(ts.name)).findFirst();
+        assertTrue(confirmedTx.isPresent());
+        assertFalse(confirmedTx.get().values.isEmpty());
+        assertEquals(1000, confirmedTx.get().windowMs);
+        assertTrue(r.timeSeries.stream().anyMatch(ts -> "poolSize".equals(ts.name)));
 
         for(ProofBasedCoordinator coord : cs) {
             for(ProofBasedPeer peer : coord.getPeers().values()) {
@@ -483,10 +631,74 @@ public class TestSim {
         }
     }
 
+    @Test
+    void testProofBasedCompactWireFormat() throws IOException {
+        Config c = new Config("src/test/java/de/tum/i11/bcsim/config.yaml");
+        c.getConfigYAML().blockchainDefaults.simulateFullBlocks = true;
+        c.getConfigYAML().wireFormat = "compact";
+        c.setGraphStrategy();
+        c.createProofBasedPeerConfigs();
+        c.validate();
+
+        InetSocketAddress[] ads = new InetSocketAddress[] {
+                new InetSocketAddress("127.0.0.1", 5151),
+                new InetSocketAddress("127.0.0.1", 5152),
+                new InetSocketAddress("127.0.0.1", 5153)
+        };
+        ProofBasedCoordinator[] cs = new ProofBasedCoordinator[]{
+                new ProofBasedCoordinator(ads[0], c),
+                new ProofBasedCoordinator(ads[1], c),
+                new ProofBasedCoordinator(ads[2], c)
+        };
+        CompletableFuture[] cfs = new CompletableFuture[] {
+                cs[0].closedFuture(),
+                cs[1].closedFuture(),
+                cs[2].closedFuture()
+        };
+
+        cs[0].startAsOrchestrator();
+
+        CompletableFuture.allOf(cfs).join();
+
+        Blockchain bc = cs[0].getPeers().values().stream().map(BlockchainPeer::getBlockchain).max(Comparator.comparingInt(Blockchain::getTotalBlockNum)).get();
+        assertResult(bc, cs[0].getResult().join(), c, false);
+
+        for(ProofBasedCoordinator coord : cs) {
+            assertEquals(WireFormat.COMPACT, coord.getWireFormat());
+            for(ProofBasedPeer peer : coord.getPeers().values()) {
+                assertTrue(TestBlockchain.equals(bc, peer.getBlockchain()));
+                assertTrue(TestBlockchain.isValidBlockchain(peer.getBlockchain()));
+                assertDoesNotThrow(peer::getResultEntry);
+                assertTrue(peer.isClosed());
+                assertTrue(peer.close().isDone());
+            }
+            assertTrue(coord.isClosed());
+        }
+    }
+
     public void assertResult(Blockchain bc, Result r, Config c, boolean dpos) {
         assertTrue(bc.getTotalBlockNum() >= c.getBlockchainDefaults().blocks);
         assertWithin(r.avgTotalBlocksPerPeerPerSec, c.getBlockchainDefaults().miningRate, 1.5+(dpos?c.getDPoSStrat().skipLastBlocks:0));
         assertWithin(r.avgTotalTxPerPeerPerSec, c.getBlockchainDefaults().txRate, 10);
+        assertThat(r.p90TxLat, greaterThanOrEqualTo(r.p50TxLat));
+        assertThat(r.p99TxLat, greaterThanOrEqualTo(r.p90TxLat));
+        assertThat(r.p999TxLat, greaterThanOrEqualTo(r.p99TxLat));
+        r.txFees.forEach(f -> assertThat(f.p99, greaterThanOrEqualTo(f.p50)));
+        assertFalse(r.blockPropagation.isEmpty());
+        r.blockPropagation.stream().filter(p -> p.t100 >= 0).forEach(p -> {
+            assertThat(p.t90, greaterThanOrEqualTo(p.t50));
+            assertThat(p.t100, greaterThanOrEqualTo(p.t90));
+        });
+        assertThat(r.blockPropDelayMax, greaterThanOrEqualTo(r.blockPropDelayP50));
+        assertThat(r.fidelity, oneOf("ACCURATE", "INACCURATE"));
+        assertEquals(r.fidelityIssues.isEmpty(), "ACCURATE".equals(r.fidelity));
+        for(String category : List.of("SEND", "PROCESS", "EVENT_LOOP")) {
+            assertTrue(r.schedulingLags.stream().anyMatch(l -> "all".equals(l.coordinator) && category.equals(l.category) && l.count > 0), category);
+        }
+        r.schedulingLags.forEach(l -> {
+            assertThat(l.p99, greaterThanOrEqualTo(l.p50));
+            assertThat(l.max, greaterThanOrEqualTo(l.p99));
+        });
     }
 
     public void assertWithin(double a, double b, double e) {
@@ -0,0 +1,309 @@
+package de.tum.i11.bcsim;
+
+import de.tum.i11.bcsim.task.ConstantRateTask;
+import de.tum.i11.bcsim.task.RepeatingTask;
+import de.tum.i11.bcsim.util.FidelityMonitor;
+import de.tum.i11.bcsim.util.Histogram;
+import de.tum.i11.bcsim.util.IntLongHashMap;
+import de.tum.i11.bcsim.util.LatencyRecorder;
+import de.tum.i11.bcsim.util.LogSetup;
+import de.tum.i11.bcsim.util.MetricsWriter;
+import de.tum.i11.bcsim.util.ThroughputMeasure;
+import de.tum.i11.bcsim.util.TraceReader;
+import de.tum.i11.bcsim.util.TraceWriter;
+import de.tum.i11.bcsim.util.Util;
+import de.tum.i11.bcsim.util.WindowedSeries;
+import de.tum.i11.bcsim.proto.Messages;
+import org.junit.jupiter.api.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+public class TestUtil {
+    private static final Logger LOGGER = Logger.getLogger(TestUtil.class.getName());
+
+    @BeforeAll
+    static void initAll() {
+        LogSetup.setupLogging(null, Level.INFO);
+    }
+
+    @Test
+    void testHistogramExact() {
+        Histogram h = new Histogram();
+        for(int i = 1; i <= 100; i++) {
+            h.record(i);
+        }
+        assertEquals(100, h.getCount());
+        assertEquals(1, h.getMin());
+        assertEquals(100, h.getMax());
+        assertEquals(50.5, h.getMean(), 1e-9);
+        assertEquals(50, h.getValueAtPercentile(50), 1e-9);
+        assertEquals(99, h.getValueAtPercentile(99), 1e-9);
+        assertEquals(100, h.getValueAtPercentile(100), 1e-9);
+    }
+
+    @RepeatedTest(5)
+    void testHistogramPrecision() {
+        Histogram h = new Histogram();
+        List<Long> values = new ArrayList<>();
+        for(int i = 0; i < 100000; i++) {
+            long v = (long) (ThreadLocalRandom.current().nextDouble() * ThreadLocalRandom.current().nextInt(1, 10000000));
+            values.add(v);
+            h.record(v);
+        }
+        Collections.sort(values);
+        for(double p : new double[]{1, 10, 50, 90, 99, 99.9}) {
+            long exact = values.get((int) Math.ceil(p/100.0*values.size())-1);
+            assertThat(h.getValueAtPercentile(p), closeTo(exact, Math.max(1, exact*0.01)));
+        }
+        assertEquals(values.get(0), h.getMin());
+        assertEquals(values.get(values.size()-1), h.getMax());
+    }
+
+    @Test
+    void testHistogramMerge() {
+        Histogram a = new Histogram();
+        Histogram b = new Histogram();
+        Histogram all = new Histogram();
+        for(int i = 0; i < 10000; i++) {
+            long v = ThreadLocalRandom.current().nextLong(1000000);
+            (i % 2 == 0 ? a : b).record(v);
+            all.record(v);
+        }
+        Histogram merged = Histogram.fromProto(a.toProto());
+        merged.merge(Histogram.fromProto(b.toProto()));
+        assertEquals(all.getCount(), merged.getCount());
+        assertEquals(all.getMin(), merged.getMin());
+        assertEquals(all.getMax(), merged.getMax());
+        assertEquals(all.getSum(), merged.getSum(), 1e-6);
+        for(double p : new double[]{0, 25, 50, 75, 99, 100}) {
+            assertEquals(all.getValueAtPercentile(p), merged.getValueAtPercentile(p), 1e-9);
+        }
+    }
+
+    @Test
+    void testLatencyRecorder() {
+        LatencyRecorder r1 = new LatencyRecorder(10);
+        LatencyRecorder r2 = new LatencyRecorder(10);
+        for(int i = 0; i < 1000; i++) {
+            r1.record(1, 100, i);
+            r2.record(i % 2 == 0 ? 1 : 2, 200, i);
+        }
+        assertEquals(10, r1.getSamples().size());
+        r1.merge(r2);
+        var h = r1.getHistograms();
+        assertEquals(Set.of(1.0, 2.0), h.keySet());
+        assertEquals(1500, h.get(1.0).getCount());
+        assertEquals(500, h.get(2.0).getCount());
+        assertEquals(1000*100+1000*200, r1.getBytes());
+    }
+
+    @Test
+    void testWindowedSeries() {
+        WindowedSeries sum = new WindowedSeries(1000, 3, false);
+        sum.add(1, 10500);
+        sum.add(2, 10900);
+        sum.add(4, 12000);
+        var s = sum.toProto(true);
+        assertEquals(10000, s.getStart());
+        assertEquals(List.of(3.0, 0.0, 4.0), s.getValuesList());
+
+        // oldest window is overwritten
+        sum.add(1, 13000);
+        s = sum.toProto(false);
+        assertEquals(11000, s.getStart());
+        assertEquals(List.of(0.0, 4.0, 1.0), s.getValuesList());
+
+        // samples older than the ring buffer are dropped instead of overwriting newer windows
+        sum.add(8, 10000);
+        sum.add(8, 9000);
+        s = sum.toProto(false);
+        assertEquals(11000, s.getStart());
+        assertEquals(List.of(0.0, 4.0, 1.0), s.getValuesList());
+
+        WindowedSeries gauge = new WindowedSeries(500, 10, true);
+        gauge.set(5, 1000);
+        gauge.set(7, 1200);
+        gauge.set(2, 2000);
+        s = gauge.toProto(true);
+        assertEquals(1000, s.getStart());
+        assertEquals(List.of(7.0, 7.0, 2.0), s.getValuesList());
+    }
+
+    @Test
+    void testWindowedSeriesAverage() {
+        Messages.TimeSeries a = Messages.TimeSeries.newBuilder().setStart(1000).setWindowMs(1000).addAllValues(List.of(2.0, 4.0)).build();
+        Messages.TimeSeries b = Messages.TimeSeries.newBuilder().setStart(2000).setWindowMs(1000).addAllValues(List.of(6.0, 8.0)).build();
+        Messages.TimeSeries avg = WindowedSeries.average(List.of(a, b));
+        assertEquals(1000, avg.getStart());
+        assertEquals(2, avg.getPeers());
+        assertEquals(List.of(1.0, 5.0, 4.0), avg.getValuesList());
+
+        Messages.TimeSeries c = Messages.TimeSeries.newBuilder().setStart(1000).setWindowMs(1000).addAllValues(List.of(4.0)).build();
+        Messages.TimeSeries all = WindowedSeries.average(List.of(avg, c));
+        assertEquals(3, all.getPeers());
+        assertEquals(List.of(2.0, 10.0/3, 8.0/3), all.getValuesList());
+    }
+
+    @Test
+    void testThroughputMeasure() throws InterruptedException {
+        ThroughputMeasure m = new ThroughputMeasure();
+        assertEquals(0, m.getThroughput());
+        m.registerPackets(5, 0);
+        assertEquals(5, m.getPackets());
+        assertEquals(0, m.getThroughput());
+        m.registerPackets(10, 2000000000L);
+        assertEquals(15, m.getPackets());
+        assertEquals(5, m.getThroughput(), 1e-9);
+
+        ThroughputMeasure concurrent = new ThroughputMeasure();
+        concurrent.enableWindows(100, 100);
+        Thread[] threads = new Thread[8];
+        for(int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for(int j = 0; j < 100000; j++) {
+                    concurrent.registerPackets(1);
+                }
+            });
+            threads[i].start();
+        }
+        for(Thread t : threads) {
+            t.join();
+        }
+        assertEquals(threads.length*100000, concurrent.getPackets());
+        assertThat(concurrent.getThroughput(), greaterThan(0.0));
+        var series = concurrent.getSeries();
+        assertEquals(threads.length*100000, series.getValuesList().stream().mapToDouble(v -> v*series.getWindowMs()/1000.0).sum(), 1e-3);
+    }
+
+    @Test
+    void testIntLongHashMap() {
+        IntLongHashMap map = new IntLongHashMap(4);
+        HashMap<Integer, Long> expected = new HashMap<>();
+        for(int i = 0; i < 10000; i++) {
+            int key = Util.getRndInt(-100000, 100000);
+            long value = ThreadLocalRandom.current().nextLong();
+            assertEquals(!expected.containsKey(key), map.putIfAbsent(key, value));
+            expected.putIfAbsent(key, value);
+        }
+        assertEquals(expected.size(), map.size());
+        expected.forEach((k, v) -> assertEquals((long) v, map.get(k, -1)));
+        assertEquals(-1, map.get(200000, -1));
+        assertFalse(map.containsKey(200000));
+        assertEquals(expected.keySet(), Arrays.stream(map.keys()).boxed().collect(Collectors.toSet()));
+        map.put(expected.keySet().iterator().next(), 42);
+        assertEquals(42, map.get(expected.keySet().iterator().next(), -1));
+        assertThrows(IllegalArgumentException.class, () -> map.putIfAbsent(Integer.MIN_VALUE, 0));
+    }
+
+    @Test
+    void testFidelityMonitor() throws InterruptedException {
+        FidelityMonitor m = new FidelityMonitor(10);
+        m.record(FidelityMonitor.Category.SEND, 5000);
+        assertTrue(m.toProto().isEmpty());
+
+        m.startAfter(0, () -> m.record(FidelityMonitor.Category.EVENT_LOOP, 1));
+        m.record(FidelityMonitor.Category.SEND, 5000);
+        m.record(FidelityMonitor.Category.SEND, -10);
+        m.recordSince(FidelityMonitor.Category.VERIFICATION, System.nanoTime() - 2000000);
+        RepeatingTask task = new ConstantRateTask(() -> {}, 0, 5).setLagListener(l -> m.record(FidelityMonitor.Category.PROCESS, l))
+                .begin(System.currentTimeMillis());
+        Thread.sleep(100);
+        task.end();
+        m.stop();
+        long processTicks = m.getLags(FidelityMonitor.Category.PROCESS).getCount();
+        m.record(FidelityMonitor.Category.SEND, 5000);
+
+        Histogram send = m.getLags(FidelityMonitor.Category.SEND);
+        assertEquals(2, send.getCount());
+        assertEquals(0, send.getMin());
+        assertEquals(5000, send.getMax());
+        assertThat(m.getLags(FidelityMonitor.Category.VERIFICATION).getMin(), greaterThanOrEqualTo(2000L));
+        assertThat(processTicks, greaterThan(5L));
+        assertThat(m.getLags(FidelityMonitor.Category.EVENT_LOOP).getCount(), greaterThan(0L));
+        assertEquals(4, m.toProto().size());
+    }
+
+    @Test
+    void testMetricsWriter() {
+        String m = new MetricsWriter()
+                .gauge("a", "help a", 1.5, "stat", "min")
+                .gauge("a", "help a", 2, "stat", "say \"hi\"")
+                .counter("b_total", "help b", 3)
+                .toString();
+        assertEquals("# HELP a help a\n# TYPE a gauge\na{stat=\"min\"} 1.5\na{stat=\"say \\\"hi\\\"\"} 2\n" +
+                "# HELP b_total help b\n# TYPE b_total counter\nb_total 3\n", m);
+        assertThrows(IllegalArgumentException.class, () -> new MetricsWriter().gauge("c", "help", 0, "label"));
+    }
+
+    @Test
+    void testTraceWriter() throws IOException, InterruptedException {
+        Path path = Files.createTempFile("trace", ".bin");
+        TraceWriter w = new TraceWriter(path);
+        Thread[] threads = new Thread[4];
+        for(int i = 0; i < threads.length; i++) {
+            int peer = i;
+            threads[i] = new Thread(() -> {
+                for(int j = 0; j < 500000; j++) {
+                    w.record(j, TraceWriter.Event.TX_CREATED, peer, j, peer);
+                }
+            });
+            threads[i].start();
+        }
+        for(Thread t : threads) {
+            t.join();
+        }
+        w.close();
+        w.record(TraceWriter.Event.TX_CREATED, 0, 0, 0);
+        assertEquals(threads.length*500000L, w.getRecordCount());
+        assertEquals(TraceWriter.RECORD_SIZE*(threads.length*500000L+1), Files.size(path));
+
+        long[] sums = new long[threads.length];
+        long read = TraceReader.forEach(path, (ts, peer, event, id, aux) -> {
+            assertEquals(TraceWriter.Event.TX_CREATED, event);
+            assertEquals(ts, id);
+            assertEquals(peer, aux);
+            sums[peer] += id;
+        });
+        assertEquals(threads.length*500000L, read);
+        for(long sum : sums) {
+            assertEquals(499999L*500000/2, sum);
+        }
+        Files.delete(path);
+    }
+
+    @Test
+    void testTraceReaderStats() throws IOException {
+        Path path = Files.createTempFile("trace", ".bin");
+        try(TraceWriter w = new TraceWriter(path)) {
+            // block 1 created by peer 0 at 0ms, reaches peers 1 and 2 after 10ms and 20ms, peer 3 never
+            w.record(0, TraceWriter.Event.BLOCK_CREATED, 0, 1, 2);
+            w.record(20000000, TraceWriter.Event.BLOCK_RECEIVED, 2, 1, 0);
+            w.record(10000000, TraceWriter.Event.BLOCK_RECEIVED, 1, 1, 0);
+            w.record(30000000, TraceWriter.Event.BLOCK_RECEIVED, 1, 1, 2);
+            w.record(5000000, TraceWriter.Event.TX_CREATED, 3, 7, 100);
+            w.record(45000000, TraceWriter.Event.TX_CONFIRMED, 3, 7, 0);
+            w.record(50000000, TraceWriter.Event.FORK_SWITCH, 2, 1, 2);
+        }
+        TraceReader.Stats s = TraceReader.analyze(List.of(path));
+        assertEquals(4, s.peers);
+        assertEquals(3, s.events[TraceWriter.Event.BLOCK_RECEIVED.ordinal()]);
+        assertEquals(1, s.events[TraceWriter.Event.FORK_SWITCH.ordinal()]);
+        assertEquals(3, s.blockPropagation.getCount());
+        assertEquals(20000, s.blockPropagation.getMax());
+        assertEquals(10, s.avgBlockProp50, 0.1);
+        assertEquals(-1, s.avgBlockProp100);
+        assertEquals(1, s.txConfirmation.getCount());
+        assertEquals(40000, s.txConfirmation.getMax());
+        Files.delete(path);
+    }
+}